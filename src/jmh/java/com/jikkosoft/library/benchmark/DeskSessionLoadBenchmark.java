@@ -0,0 +1,160 @@
+package com.jikkosoft.library.benchmark;
+
+import com.jikkosoft.library.infrastructure.threading.ConnectionLimitingDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load test of the virtual-thread mode against the platform-thread mode: desk sessions per
+ * millisecond (Throughput) and session latency percentiles (SampleTime, see p0.99 and p0.999).
+ *
+ * Every JMH thread is a desk client submitting one session at a time to the request executor,
+ * as Tomcat would: a pool of {@code platformThreads} platform threads (Tomcat's default maximum),
+ * or one virtual thread per session behind a {@link ConnectionLimitingDataSource}. A session runs
+ * {@code queries} short transactions against a pool of {@code poolSize} connections, then makes
+ * one blocking call outside the database (mail, remote API).
+ *
+ * Requires Java 21: {@code mvn -Pvirtual-threads,benchmark verify -Djmh.args="DeskSessionLoad"}
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+@Threads(1000)
+@State(Scope.Benchmark)
+public class DeskSessionLoadBenchmark {
+
+    @Param({"PLATFORM", "VIRTUAL"})
+    public String mode;
+
+    @Param({"200"})
+    public int platformThreads;
+
+    @Param({"10"})
+    public int poolSize;
+
+    @Param({"2"})
+    public int queries;
+
+    @Param({"1"})
+    public int queryMillis;
+
+    @Param({"50"})
+    public int remoteMillis;
+
+    private Executor requests;
+    private ExecutorService platformPool;
+    private DataSource dataSource;
+
+    @Setup
+    public void setUp() {
+        SimulatedPool pool = new SimulatedPool(poolSize, Duration.ofSeconds(30));
+        if (mode.equals("VIRTUAL")) {
+            requests = new VirtualThreadTaskExecutor("request-");
+            dataSource = new ConnectionLimitingDataSource(pool, poolSize, Duration.ofSeconds(30));
+        } else {
+            platformPool = Executors.newFixedThreadPool(platformThreads);
+            requests = platformPool;
+            dataSource = pool;
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (platformPool != null) platformPool.shutdownNow();
+    }
+
+    @Benchmark
+    public void deskSession() {
+        CompletableFuture.runAsync(this::session, requests).join();
+    }
+
+    private void session() {
+        try {
+            for (int i = 0; i < queries; i++) {
+                try (Connection ignored = dataSource.getConnection()) {
+                    Thread.sleep(queryMillis);
+                }
+            }
+            Thread.sleep(remoteMillis);
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** A bounded connection pool handing out stub connections, timing out like Hikari does. */
+    private static final class SimulatedPool extends AbstractDataSource {
+
+        private final BlockingQueue<Connection> idle;
+        private final long timeoutMillis;
+
+        private SimulatedPool(int size, Duration timeout) {
+            this.idle = new ArrayBlockingQueue<>(size);
+            this.timeoutMillis = timeout.toMillis();
+            for (int i = 0; i < size; i++) idle.add(connection());
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            try {
+                Connection connection = idle.poll(timeoutMillis, TimeUnit.MILLISECONDS);
+                if (connection == null) throw new SQLTransientConnectionException("Connection is not available");
+                return connection;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLTransientConnectionException("Interrupted", e);
+            }
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return getConnection();
+        }
+
+        private Connection connection() {
+            Connection[] self = new Connection[1];
+            self[0] = (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class}, (proxy, method, args) -> switch (method.getName()) {
+                        case "close" -> {
+                            idle.add(self[0]);
+                            yield null;
+                        }
+                        case "isClosed" -> false;
+                        case "hashCode" -> System.identityHashCode(proxy);
+                        case "equals" -> proxy == args[0];
+                        default -> null;
+                    });
+            return self[0];
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.jikkosoft.library.benchmark;
+
+import com.jikkosoft.library.domain.model.Author;
+import com.jikkosoft.library.domain.model.Book;
+import com.jikkosoft.library.domain.model.BookCopy;
+import com.jikkosoft.library.domain.model.Category;
+import com.jikkosoft.library.domain.model.Library;
+import com.jikkosoft.library.domain.model.Loan;
+import com.jikkosoft.library.domain.model.Member;
+import com.jikkosoft.library.domain.vo.CopyNumber;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Construction cost of the main aggregates through their builders (validation included).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DomainModelBenchmark {
+
+    private Category category;
+    private List<Author> authors;
+    private Book book;
+    private Library library;
+    private Member member;
+    private BookCopy copy;
+
+    @Setup
+    public void setUp() {
+        category = Fixtures.category();
+        authors = List.of(Fixtures.author());
+        book = Fixtures.book(1L);
+        library = Fixtures.library();
+        member = Fixtures.member();
+        copy = Fixtures.copy(book, library, 1);
+    }
+
+    @Benchmark
+    public Book buildBook() {
+        return new Book.Builder()
+                .id(1L)
+                .isbnValue(Fixtures.ISBN_13)
+                .title("The Dispossessed")
+                .authors(authors)
+                .publicationYear(2010)
+                .category(category)
+                .build();
+    }
+
+    @Benchmark
+    public BookCopy buildBookCopy() {
+        return new BookCopy.Builder()
+                .id(1L)
+                .book(book)
+                .library(library)
+                .copyNumber(new CopyNumber(1))
+                .barcode("BC-1")
+                .shelfLocation("A-1")
+                .build();
+    }
+
+    @Benchmark
+    public Loan buildLoan() {
+        return new Loan.Builder()
+                .id(1L)
+                .bookCopy(copy)
+                .member(member)
+                .loanDate(Fixtures.LOAN_DATE)
+                .dueDate(Fixtures.LOAN_DATE.plusDays(14))
+                .build();
+    }
+}
@@ -0,0 +1,69 @@
+package com.jikkosoft.library.benchmark;
+
+import com.jikkosoft.library.domain.model.Author;
+import com.jikkosoft.library.domain.model.Book;
+import com.jikkosoft.library.domain.model.BookCopy;
+import com.jikkosoft.library.domain.model.Category;
+import com.jikkosoft.library.domain.model.Library;
+import com.jikkosoft.library.domain.model.Member;
+import com.jikkosoft.library.domain.vo.CopyNumber;
+import com.jikkosoft.library.domain.vo.Email;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Shared domain objects for the benchmarks.
+ */
+final class Fixtures {
+
+    static final String ISBN_10 = "0306406152";
+    static final String ISBN_13 = "9780306406157";
+    static final LocalDate LOAN_DATE = LocalDate.of(2025, 3, 1);
+
+    private Fixtures() {
+    }
+
+    static Category category() {
+        return new Category.Builder().id(1L).name("Fiction").maxLoanDays(14).penaltyPerDay(2).build();
+    }
+
+    static Author author() {
+        return new Author.Builder().id(1L).firstName("Ursula").lastName("Le Guin").nationality("US").build();
+    }
+
+    static Book book(long id) {
+        return new Book.Builder()
+                .id(id)
+                .isbnValue(ISBN_13)
+                .title("The Dispossessed")
+                .authors(List.of(author()))
+                .publicationYear(2010)
+                .category(category())
+                .build();
+    }
+
+    static Library library() {
+        return new Library.Builder().id(1L).name("Central Library").address("Main Street 1").build();
+    }
+
+    static BookCopy copy(Book book, Library library, int number) {
+        return new BookCopy.Builder()
+                .id((long) number)
+                .book(book)
+                .library(library)
+                .copyNumber(new CopyNumber(number))
+                .barcode("BC-" + number)
+                .shelfLocation("A-" + (number % 100))
+                .build();
+    }
+
+    static Member member() {
+        return new Member.Builder()
+                .id(1L)
+                .firstName("Ada")
+                .lastName("Lovelace")
+                .email(new Email("ada@example.com"))
+                .build();
+    }
+}
@@ -0,0 +1,68 @@
+package com.jikkosoft.library.benchmark;
+
+import com.jikkosoft.library.domain.model.Book;
+import com.jikkosoft.library.domain.model.BookCopy;
+import com.jikkosoft.library.domain.model.Library;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@code Library.addBookCopy} on a library that already holds a large inventory.
+ * Each invocation adds a new copy and an already present one.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LibraryInventoryBenchmark {
+
+    @Param({"1000", "100000"})
+    public int copies;
+
+    private Library library;
+    private Book book;
+    private BookCopy existing;
+    private BookCopy[] fresh;
+    private int next;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        library = Fixtures.library();
+        book = Fixtures.book(1L);
+        for (int i = 1; i <= copies; i++) {
+            library.addBookCopy(Fixtures.copy(book, library, i));
+        }
+        existing = Fixtures.copy(book, library, copies / 2 + 1);
+        fresh = new BookCopy[1 << 16];
+        for (int i = 0; i < fresh.length; i++) {
+            fresh[i] = Fixtures.copy(book, library, copies + 1 + i);
+        }
+        next = 0;
+    }
+
+    @Benchmark
+    public int addNewCopy() {
+        library.addBookCopy(fresh[next++ & (fresh.length - 1)]);
+        return next;
+    }
+
+    @Benchmark
+    public Library addExistingCopy() {
+        library.addBookCopy(existing);
+        return library;
+    }
+}
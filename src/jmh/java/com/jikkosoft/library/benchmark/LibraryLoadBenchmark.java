@@ -0,0 +1,62 @@
+package com.jikkosoft.library.benchmark;
+
+import com.jikkosoft.library.domain.model.Book;
+import com.jikkosoft.library.domain.model.BookCopy;
+import com.jikkosoft.library.domain.model.Library;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to load a library aggregate: hydrating its copies and inserting them into the library's set.
+ * Dominated by {@code BookCopy}/{@code Library}/{@code Category} hashing and equality.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LibraryLoadBenchmark {
+
+    @Param({"200000"})
+    public int copies;
+
+    private Library library;
+    private Book[] books;
+
+    @Setup
+    public void setUp() {
+        library = Fixtures.library();
+        books = new Book[1000];
+        for (int i = 0; i < books.length; i++) {
+            books[i] = Fixtures.book(i + 1L);
+        }
+    }
+
+    @Benchmark
+    public Library loadLibrary() {
+        Set<BookCopy> inventory = new HashSet<>();
+        for (int i = 1; i <= copies; i++) {
+            inventory.add(Fixtures.copy(books[i % books.length], library, i));
+        }
+        return new Library.Builder()
+                .id(1L)
+                .name("Central Library")
+                .address("Main Street 1")
+                .bookCopies(inventory)
+                .build();
+    }
+}
@@ -0,0 +1,61 @@
+package com.jikkosoft.library.benchmark;
+
+import com.jikkosoft.library.domain.model.Book;
+import com.jikkosoft.library.domain.model.Library;
+import com.jikkosoft.library.domain.model.Loan;
+import com.jikkosoft.library.domain.model.Member;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@code Member.calculateTotalPenaltyDays} as the loan history grows.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MemberPenaltyBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int loans;
+
+    private Member member;
+
+    @Setup
+    public void setUp() {
+        member = Fixtures.member();
+        Book book = Fixtures.book(1L);
+        Library library = Fixtures.library();
+        for (int i = 1; i <= loans; i++) {
+            Loan loan = new Loan.Builder()
+                    .id((long) i)
+                    .bookCopy(Fixtures.copy(book, library, i))
+                    .member(member)
+                    .loanDate(Fixtures.LOAN_DATE)
+                    .dueDate(Fixtures.LOAN_DATE.plusDays(14))
+                    .build();
+            if (i % 2 == 0) {
+                loan.returnBook(Fixtures.LOAN_DATE.plusDays(14 + i % 10));
+            }
+            member.addLoan(loan);
+        }
+    }
+
+    @Benchmark
+    public int calculateTotalPenaltyDays() {
+        return member.calculateTotalPenaltyDays();
+    }
+}
@@ -0,0 +1,46 @@
+package com.jikkosoft.library.benchmark;
+
+import com.jikkosoft.library.domain.vo.Email;
+import com.jikkosoft.library.domain.vo.ISBN;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validation cost of the Email and ISBN value objects.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ValueObjectBenchmark {
+
+    private String email = "John.Doe+library@Example.com";
+    private String isbn10 = Fixtures.ISBN_10;
+    private String isbn13 = Fixtures.ISBN_13;
+
+    @Benchmark
+    public Email email() {
+        return new Email(email);
+    }
+
+    @Benchmark
+    public ISBN isbn10() {
+        return new ISBN(isbn10, 2005);
+    }
+
+    @Benchmark
+    public ISBN isbn13() {
+        return new ISBN(isbn13, 2010);
+    }
+}
@@ -9,6 +9,7 @@ import lombok.Data;
  * - Provides pagination (page, size).
  * - Provides dynamic sorting (sortBy, sortDirection).
  * - Provides a generic search term (can be extended per entity).
+ * - Provides an optional keyset cursor as an alternative to page numbers.
  *
  * Notes:
  * - All entity queries should extend this class.
@@ -32,6 +33,9 @@ public abstract class BaseQuery {
     /** Generic search term (can be refined in specific queries). */
     private String searchTerm;
 
+    /** Opaque keyset continuation token (null for the first window or offset paging). */
+    private String cursor;
+
     /**
      * Protected no-args constructor for subclass flexibility.
      */
@@ -55,4 +59,13 @@ public abstract class BaseQuery {
         this.sortDirection = sortDirection;
         this.searchTerm = searchTerm;
     }
+
+    /**
+     * Builds a keyset pagination request from this query's size, sorting and cursor.
+     *
+     * @return cursor request honoring sortBy and sortDirection
+     */
+    public CursorRequest toCursorRequest() {
+        return new CursorRequest(cursor, size, sortBy, sortDirection);
+    }
 }
@@ -0,0 +1,91 @@
+package com.jikkosoft.library.application.common;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Request for a keyset (cursor) paginated window.
+ *
+ * Responsibilities:
+ * - Carries the opaque continuation token (null for the first window).
+ * - Carries page size and ordering, honoring {@link BaseQuery#getSortBy()} and
+ *   {@link BaseQuery#getSortDirection()}.
+ * - Validates that a token is only replayed against the ordering it was issued for.
+ *
+ * Notes:
+ * - Adapters should fetch {@code size + 1} rows ordered by (sortBy, id) and build the
+ *   response with {@link CursorResponse#fromWindow}.
+ *
+ * @param cursor        opaque continuation token, null for the first window
+ * @param size          number of items per window
+ * @param sortBy        field to sort by
+ * @param sortDirection ASC or DESC
+ */
+public record CursorRequest(
+        String cursor,
+        int size,
+        String sortBy,
+        String sortDirection
+) {
+
+    public CursorRequest {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Cursor page size must be greater than zero.");
+        }
+        sortBy = (sortBy == null || sortBy.isBlank()) ? "id" : sortBy;
+        sortDirection = normalizeDirection(sortDirection);
+    }
+
+    /**
+     * Creates a request for the first window ordered by ID ascending.
+     *
+     * @param size number of items per window
+     * @return first-window request
+     */
+    public static CursorRequest first(int size) {
+        return new CursorRequest(null, size, "id", "ASC");
+    }
+
+    /**
+     * Creates a request for the window that follows the given response.
+     *
+     * @param response previous window
+     * @return request for the next window
+     */
+    public CursorRequest next(CursorResponse<?> response) {
+        return new CursorRequest(response.nextCursor(), size, sortBy, sortDirection);
+    }
+
+    /**
+     * Decodes the continuation token, if any.
+     *
+     * @return decoded cursor or empty for the first window
+     * @throws IllegalArgumentException if the token is malformed or was issued for another ordering
+     */
+    public Optional<PageCursor> decodedCursor() {
+        if (cursor == null || cursor.isBlank()) {
+            return Optional.empty();
+        }
+        PageCursor decoded = PageCursor.decode(cursor);
+        if (!decoded.sortBy().equals(sortBy) || !decoded.sortDirection().equals(sortDirection)) {
+            throw new IllegalArgumentException("Cursor was issued for a different sort order.");
+        }
+        return Optional.of(decoded);
+    }
+
+    /** @return true if results are ordered descending. */
+    public boolean isDescending() {
+        return "DESC".equals(sortDirection);
+    }
+
+    static String normalizeDirection(String direction) {
+        if (direction == null || direction.isBlank()) {
+            return "ASC";
+        }
+        String upper = direction.trim().toUpperCase(Locale.ROOT);
+        if (!upper.equals("ASC") && !upper.equals("DESC")) {
+            throw new IllegalArgumentException("Sort direction must be ASC or DESC.");
+        }
+        return upper;
+    }
+}
@@ -0,0 +1,66 @@
+package com.jikkosoft.library.application.common;
+
+import lombok.Builder;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Generic response for keyset (cursor) paginated queries.
+ *
+ * Sibling of {@link PagedResponse}: instead of page numbers and totals it carries an
+ * opaque continuation token, so fetching the next window costs the same regardless
+ * of how deep the client has paged.
+ *
+ * @param <T> Type of items in the response.
+ */
+@Builder
+public record CursorResponse<T>(
+        List<T> items,
+        int size,
+        String nextCursor,
+        boolean hasNext
+) {
+
+    /**
+     * Builds a response from a window fetched with {@code size + 1} rows.
+     * The extra row (if present) only signals that another page exists and is discarded.
+     *
+     * @param window      rows fetched by the adapter (at most size + 1)
+     * @param request     cursor request that produced the window
+     * @param sortValueOf extracts the sort key value of an item (as used in the ORDER BY)
+     * @param idOf        extracts the unique identifier of an item (tie-breaker)
+     * @param <T>         item type
+     * @return cursor response with the next continuation token when more rows exist
+     */
+    public static <T> CursorResponse<T> fromWindow(List<T> window,
+                                                   CursorRequest request,
+                                                   Function<T, Object> sortValueOf,
+                                                   Function<T, Long> idOf) {
+        boolean hasNext = window.size() > request.size();
+        List<T> items = hasNext ? List.copyOf(window.subList(0, request.size())) : List.copyOf(window);
+        String nextCursor = null;
+        if (hasNext) {
+            T last = items.get(items.size() - 1);
+            Object sortValue = sortValueOf.apply(last);
+            nextCursor = new PageCursor(
+                    request.sortBy(),
+                    request.sortDirection(),
+                    sortValue != null ? sortValue.toString() : null,
+                    idOf.apply(last)
+            ).encode();
+        }
+        return new CursorResponse<>(items, request.size(), nextCursor, hasNext);
+    }
+
+    /**
+     * Returns an empty, terminal response.
+     *
+     * @param size requested page size
+     * @param <T>  item type
+     * @return response without items nor continuation token
+     */
+    public static <T> CursorResponse<T> empty(int size) {
+        return new CursorResponse<>(List.of(), size, null, false);
+    }
+}
@@ -0,0 +1,17 @@
+package com.jikkosoft.library.application.common;
+
+import java.util.List;
+
+/**
+ * Flat row produced by the streaming exports.
+ *
+ * Notes:
+ * - {@link #values()} follows the order of the row type's column names.
+ * - Values are written as is: numbers and booleans unquoted, enums by name, anything else
+ *   through {@code toString()} (ISO-8601 for dates).
+ */
+public interface ExportRow {
+
+    /** Returns the column values of this row. */
+    List<Object> values();
+}
@@ -0,0 +1,93 @@
+package com.jikkosoft.library.application.common;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Decoded form of an opaque keyset pagination token.
+ *
+ * Responsibilities:
+ * - Captures the position of the last item returned: its sort key value plus its ID.
+ * - Remembers the sort field and direction the token was issued for, so it cannot be
+ *   replayed against a different ordering.
+ * - Encodes/decodes itself as a URL-safe Base64 string that clients treat as opaque.
+ *
+ * Notes:
+ * - The ID acts as a tie-breaker, so ordering is always (sortBy, id) and strictly total.
+ * - When sortBy is "id", sortValue is redundant and left null.
+ *
+ * @param sortBy        field the results are ordered by
+ * @param sortDirection ASC or DESC
+ * @param sortValue     string form of the last item's sort key (nullable)
+ * @param id            ID of the last item returned
+ */
+public record PageCursor(
+        String sortBy,
+        String sortDirection,
+        String sortValue,
+        Long id
+) {
+
+    private static final String VERSION = "v1";
+    private static final char SEPARATOR = '\u001F';
+    private static final String NULL_MARKER = "\u0000";
+
+    public PageCursor {
+        if (sortBy == null || sortBy.isBlank()) {
+            throw new IllegalArgumentException("Cursor sortBy must not be null or blank.");
+        }
+        if (id == null) {
+            throw new IllegalArgumentException("Cursor id must not be null.");
+        }
+        sortDirection = CursorRequest.normalizeDirection(sortDirection);
+    }
+
+    /**
+     * Encodes this cursor as an opaque, URL-safe token.
+     *
+     * @return continuation token
+     */
+    public String encode() {
+        String raw = VERSION + SEPARATOR + sortBy + SEPARATOR + sortDirection + SEPARATOR
+                + (sortValue != null ? sortValue : NULL_MARKER) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token previously produced by {@link #encode()}.
+     *
+     * @param token opaque continuation token
+     * @return decoded cursor
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static PageCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("Cursor must not be null or blank.");
+        }
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Malformed cursor.", e);
+        }
+        String[] parts = raw.split(String.valueOf(SEPARATOR), -1);
+        if (parts.length != 5 || !VERSION.equals(parts[0])) {
+            throw new IllegalArgumentException("Malformed cursor.");
+        }
+        try {
+            return new PageCursor(
+                    parts[1],
+                    parts[2],
+                    NULL_MARKER.equals(parts[3]) ? null : parts[3],
+                    Long.valueOf(parts[4])
+            );
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed cursor.", e);
+        }
+    }
+
+    /** @return true if results are ordered descending. */
+    public boolean isDescending() {
+        return "DESC".equals(sortDirection);
+    }
+}
@@ -0,0 +1,41 @@
+package com.jikkosoft.library.application.dto.auditlog.dto;
+
+import com.jikkosoft.library.application.common.ExportRow;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Export row for AuditLog.
+ *
+ * Responsibilities:
+ * - Carries the audit columns of the reporting export.
+ *
+ * Notes:
+ * - Before/after snapshots are left out; they are large and rarely needed in bulk.
+ * - {@code performedById} is null for entries recorded without an actor.
+ */
+public record AuditLogExportRow(
+        Long id,
+        LocalDateTime occurredAt,
+        Long performedById,
+        String performedByEmail,
+        String action,
+        String entityType,
+        String entityId,
+        boolean success,
+        String message,
+        String correlationId
+) implements ExportRow {
+
+    /** Column names, in {@link #values()} order. */
+    public static final List<String> COLUMNS = List.of("id", "occurred_at", "performed_by_id",
+            "performed_by_email", "action", "entity_type", "entity_id", "success", "message", "correlation_id");
+
+    @Override
+    public List<Object> values() {
+        return Arrays.asList(id, occurredAt, performedById, performedByEmail, action, entityType, entityId,
+                success, message, correlationId);
+    }
+}
@@ -0,0 +1,26 @@
+package com.jikkosoft.library.application.dto.loan.command;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Command to create several Loans at once (e.g., a school group checkout).
+ *
+ * Responsibilities:
+ * - Groups individual {@link CreateLoanCommand}s processed in a single transaction.
+ * - Ensures validation at the boundary using Jakarta Validation.
+ */
+@Data
+@Builder
+public class BulkCreateLoansCommand {
+
+    /** Loans to create, processed in order (required, at most 500). */
+    @NotEmpty(message = "At least one loan is required")
+    @Size(max = 500, message = "A bulk checkout must not exceed 500 loans")
+    private List<@Valid CreateLoanCommand> loans;
+}
@@ -0,0 +1,31 @@
+package com.jikkosoft.library.application.dto.loan.command;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Command to return several Loans at once (e.g., emptying a book drop).
+ *
+ * Responsibilities:
+ * - Groups the loans returned on the same date, processed in a single transaction.
+ * - Ensures validation at the boundary using Jakarta Validation.
+ */
+@Data
+@Builder
+public class BulkReturnLoansCommand {
+
+    /** Identifiers of the loans to return, processed in order (required, at most 500). */
+    @NotEmpty(message = "At least one loan ID is required")
+    @Size(max = 500, message = "A bulk return must not exceed 500 loans")
+    private List<@NotNull(message = "Loan ID is required") Long> loanIds;
+
+    /** Date the copies were returned (required). */
+    @NotNull(message = "Return date is required")
+    private LocalDate returnDate;
+}
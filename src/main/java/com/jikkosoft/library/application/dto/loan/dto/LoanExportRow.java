@@ -0,0 +1,43 @@
+package com.jikkosoft.library.application.dto.loan.dto;
+
+import com.jikkosoft.library.application.common.ExportRow;
+import com.jikkosoft.library.domain.enums.LoanStatus;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Export row for Loan.
+ *
+ * Responsibilities:
+ * - Carries the loan columns of the reporting export, with the member, copy and book they refer to.
+ * - Excludes audit fields.
+ */
+public record LoanExportRow(
+        Long loanId,
+        Long memberId,
+        String memberName,
+        Long bookCopyId,
+        String barcode,
+        Long bookId,
+        String bookTitle,
+        Long libraryId,
+        LoanStatus status,
+        LocalDate loanDate,
+        LocalDate dueDate,
+        LocalDate returnDate,
+        int penaltyDays
+) implements ExportRow {
+
+    /** Column names, in {@link #values()} order. */
+    public static final List<String> COLUMNS = List.of("loan_id", "member_id", "member_name", "book_copy_id",
+            "barcode", "book_id", "book_title", "library_id", "status", "loan_date", "due_date", "return_date",
+            "penalty_days");
+
+    @Override
+    public List<Object> values() {
+        return Arrays.asList(loanId, memberId, memberName, bookCopyId, barcode, bookId, bookTitle, libraryId,
+                status, loanDate, dueDate, returnDate, penaltyDays);
+    }
+}
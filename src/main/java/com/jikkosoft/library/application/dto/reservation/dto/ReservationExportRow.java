@@ -0,0 +1,38 @@
+package com.jikkosoft.library.application.dto.reservation.dto;
+
+import com.jikkosoft.library.application.common.ExportRow;
+import com.jikkosoft.library.domain.enums.ReservationStatus;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Export row for Reservation.
+ *
+ * Responsibilities:
+ * - Carries the reservation columns of the reporting export, with the member and book they refer to.
+ * - Excludes audit fields.
+ */
+public record ReservationExportRow(
+        Long reservationId,
+        Long memberId,
+        String memberName,
+        Long bookCopyId,
+        Long bookId,
+        String bookTitle,
+        ReservationStatus status,
+        LocalDate reservedAt,
+        LocalDate expiresAt
+) implements ExportRow {
+
+    /** Column names, in {@link #values()} order. */
+    public static final List<String> COLUMNS = List.of("reservation_id", "member_id", "member_name",
+            "book_copy_id", "book_id", "book_title", "status", "reserved_at", "expires_at");
+
+    @Override
+    public List<Object> values() {
+        return Arrays.asList(reservationId, memberId, memberName, bookCopyId, bookId, bookTitle, status,
+                reservedAt, expiresAt);
+    }
+}
@@ -1,5 +1,7 @@
 package com.jikkosoft.library.application.port.persistence;
 
+import com.jikkosoft.library.application.common.CursorRequest;
+import com.jikkosoft.library.application.common.CursorResponse;
 import com.jikkosoft.library.shared.common.AuditLog;
 import com.jikkosoft.library.domain.enums.AuditAction;
 import com.jikkosoft.library.application.common.PagedResponse;
@@ -62,4 +64,22 @@ public interface AuditLogRepository {
      * @return paginated response of audit logs matching filters
      */
     PagedResponse<AuditLog> findByActionAndUser(AuditAction action, Long performedById, int page, int size);
+
+    /**
+     * Retrieves AuditLog entries using keyset pagination.
+     *
+     * @param request cursor, window size and ordering
+     * @return window of audit logs with the continuation token for the next one
+     */
+    CursorResponse<AuditLog> findAll(CursorRequest request);
+
+    /**
+     * Retrieves AuditLog entries filtered by action type and/or user ID using keyset pagination.
+     *
+     * @param action        optional action type filter
+     * @param performedById optional user ID filter
+     * @param request       cursor, window size and ordering
+     * @return window of audit logs matching filters
+     */
+    CursorResponse<AuditLog> findByActionAndUser(AuditAction action, Long performedById, CursorRequest request);
 }
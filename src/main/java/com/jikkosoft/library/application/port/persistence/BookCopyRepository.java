@@ -1,10 +1,14 @@
 package com.jikkosoft.library.application.port.persistence;
 
+import com.jikkosoft.library.application.common.CursorRequest;
+import com.jikkosoft.library.application.common.CursorResponse;
 import com.jikkosoft.library.domain.enums.BookStatus;
 import com.jikkosoft.library.domain.model.BookCopy;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Port interface for BookCopy persistence with pagination support.
@@ -52,9 +56,12 @@ public interface BookCopyRepository {
 
     /**
      * Saves or updates a BookCopy entity.
+     * Updates are optimistic: they only apply if the stored version still equals {@code copy.getVersion()}.
      *
      * @param copy the BookCopy entity to persist
-     * @return the persisted BookCopy entity with ID populated
+     * @return the persisted BookCopy entity with ID populated and version advanced
+     * @throws com.jikkosoft.library.domain.exception.ConcurrencyConflictException if the copy was
+     *         modified concurrently
      */
     BookCopy save(BookCopy copy);
 
@@ -92,6 +99,68 @@ public interface BookCopyRepository {
         throw new UnsupportedOperationException("Method not implemented");
     }
 
+    /**
+     * Returns copies of a specific book in a given library filtered by status, using keyset pagination.
+     *
+     * @param bookId    unique identifier of the Book
+     * @param libraryId unique identifier of the Library
+     * @param status    status of the copies to filter
+     * @param request   cursor, window size and ordering
+     * @return window of BookCopy entities matching the criteria
+     */
+    CursorResponse<BookCopy> findByBookIdAndLibraryIdAndStatus(Long bookId, Long libraryId, BookStatus status, CursorRequest request);
+
+    /**
+     * Returns copies of a specific book regardless of their status, using keyset pagination.
+     *
+     * @param bookId  unique identifier of the Book
+     * @param request cursor, window size and ordering
+     * @return window of BookCopy entities for the book
+     */
+    CursorResponse<BookCopy> findByBookId(Long bookId, CursorRequest request);
+
+    /**
+     * Retrieves the copies with the given IDs. Missing IDs are skipped; order is not guaranteed.
+     * Adapters should override this with a single query.
+     *
+     * @param ids unique identifiers of the copies
+     * @return copies found
+     */
+    default List<BookCopy> findAllByIds(Collection<Long> ids) {
+        return ids.stream().map(this::findById).flatMap(Optional::stream).toList();
+    }
+
+    /**
+     * Saves several copies. Adapters should override this with a batched write.
+     * Version checks apply to every copy as in {@link #save(BookCopy)}.
+     *
+     * @param copies copies to persist
+     * @return persisted copies, in the same order
+     */
+    default List<BookCopy> saveAll(List<BookCopy> copies) {
+        return copies.stream().map(this::save).toList();
+    }
+
+    /**
+     * Streams the status of every non-deleted copy, without materializing BookCopy aggregates.
+     * Intended for bulk loads such as rebuilding in-memory indexes on startup.
+     *
+     * @param consumer receives one row per copy
+     */
+    default void forEachStatusRow(Consumer<StatusRow> consumer) {
+        throw new UnsupportedOperationException("Method not implemented");
+    }
+
+    /**
+     * Lightweight projection of a copy's identity and status.
+     *
+     * @param copyId    unique identifier of the BookCopy
+     * @param bookId    unique identifier of the Book
+     * @param libraryId unique identifier of the Library
+     * @param status    current status of the copy
+     */
+    record StatusRow(Long copyId, Long bookId, Long libraryId, BookStatus status) {}
+
     /**
      * Generic container for paginated results.
      *
@@ -130,4 +199,5 @@ public interface BookCopyRepository {
             return (int) Math.ceil((double) totalElements / size);
         }
     }
+
 }
@@ -1,8 +1,13 @@
 package com.jikkosoft.library.application.port.persistence;
 
+import com.jikkosoft.library.application.common.CursorRequest;
+import com.jikkosoft.library.application.common.CursorResponse;
 import com.jikkosoft.library.domain.model.Book;
 import com.jikkosoft.library.application.common.PagedResponse;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -65,4 +70,64 @@ public interface BookRepository {
      * @return paginated response of all books
      */
     PagedResponse<Book> findAll(int page, int size);
+
+    /**
+     * Retrieves books with titles matching the given text (case-insensitive) using keyset pagination.
+     *
+     * @param text    text to search in book titles
+     * @param request cursor, window size and ordering
+     * @return window of books matching the title search
+     */
+    CursorResponse<Book> findByTitleLike(String text, CursorRequest request);
+
+    /**
+     * Retrieves all books using keyset pagination.
+     *
+     * @param request cursor, window size and ordering
+     * @return window of books
+     */
+    CursorResponse<Book> findAll(CursorRequest request);
+
+    /**
+     * Retrieves the books with the given IDs. Missing IDs are skipped; order is not guaranteed.
+     * Adapters should override this with a single query.
+     *
+     * @param ids unique identifiers of the books
+     * @return books found
+     */
+    default List<Book> findAllByIds(Collection<Long> ids) {
+        return ids.stream().map(this::findById).flatMap(Optional::stream).toList();
+    }
+
+    /**
+     * Ranked full-text search over titles and author names (any term, best match first).
+     * Unlike {@link #findByTitleLike(String, int, int)}, terms are matched whole, not as substrings.
+     * Adapters without a search engine fall back to the title substring match.
+     *
+     * @param text free text to search for
+     * @param page zero-based page index
+     * @param size number of items per page
+     * @return paginated response of matching books, best match first
+     */
+    default PagedResponse<Book> searchCatalog(String text, int page, int size) {
+        return findByTitleLike(text, page, size);
+    }
+
+    /**
+     * Summarizes the non-deleted catalog, so in-memory copies of it can tell whether they are stale.
+     *
+     * @return count, highest ID and latest update of the non-deleted books
+     */
+    default CatalogWatermark watermark() {
+        throw new UnsupportedOperationException("Method not implemented");
+    }
+
+    /**
+     * Change markers of the catalog.
+     *
+     * @param count         number of non-deleted books
+     * @param maxId         highest book ID (null when empty)
+     * @param lastUpdatedAt latest creation or update time (null when empty)
+     */
+    record CatalogWatermark(long count, Long maxId, LocalDateTime lastUpdatedAt) {}
 }
@@ -1,5 +1,7 @@
 package com.jikkosoft.library.application.port.persistence;
 
+import com.jikkosoft.library.application.common.CursorRequest;
+import com.jikkosoft.library.application.common.CursorResponse;
 import com.jikkosoft.library.domain.model.Category;
 import com.jikkosoft.library.application.common.PagedResponse;
 
@@ -47,4 +49,12 @@ public interface CategoryRepository {
      * @return paginated response of categories
      */
     PagedResponse<Category> findAll(int page, int size);
+
+    /**
+     * Retrieves all categories using keyset pagination.
+     *
+     * @param request cursor, window size and ordering
+     * @return window of categories
+     */
+    CursorResponse<Category> findAll(CursorRequest request);
 }
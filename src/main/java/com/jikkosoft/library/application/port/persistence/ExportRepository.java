@@ -0,0 +1,54 @@
+package com.jikkosoft.library.application.port.persistence;
+
+import com.jikkosoft.library.application.dto.auditlog.dto.AuditLogExportRow;
+import com.jikkosoft.library.application.dto.auditlog.query.GetAllAuditLogsQuery;
+import com.jikkosoft.library.application.dto.loan.dto.LoanExportRow;
+import com.jikkosoft.library.application.dto.loan.query.GetAllLoansQuery;
+import com.jikkosoft.library.application.dto.reservation.dto.ReservationExportRow;
+import com.jikkosoft.library.application.dto.reservation.query.GetAllReservationsQuery;
+
+import java.util.function.Consumer;
+
+/**
+ * Port for streaming large result sets to exports.
+ *
+ * Responsibilities:
+ * - Applies the filters of the list queries and hands every matching row to a sink, in id order.
+ * - Reads through a server-side cursor, so memory use does not depend on the number of rows.
+ *
+ * Notes:
+ * - Page, size, sorting and cursor fields of the queries are ignored; the whole result is streamed.
+ * - The sink runs while the cursor is open: a slow sink keeps the read transaction open.
+ * - An exception thrown by the sink aborts the stream and is rethrown as is.
+ */
+public interface ExportRepository {
+
+    /**
+     * Streams the loans matching the filters of the query.
+     *
+     * @param filter memberId, bookCopyId, status, loan date range and searchTerm (book title or member name)
+     * @param sink   receives each row
+     * @return number of rows streamed
+     * @throws IllegalArgumentException if the status filter is not a loan status
+     */
+    long streamLoans(GetAllLoansQuery filter, Consumer<? super LoanExportRow> sink);
+
+    /**
+     * Streams the reservations matching the filters of the query.
+     *
+     * @param filter memberId, bookId, status, reservation date range and searchTerm (book title)
+     * @param sink   receives each row
+     * @return number of rows streamed
+     * @throws IllegalArgumentException if the status filter is not a reservation status
+     */
+    long streamReservations(GetAllReservationsQuery filter, Consumer<? super ReservationExportRow> sink);
+
+    /**
+     * Streams the audit log entries matching the filters of the query.
+     *
+     * @param filter action, performedById and searchTerm (message)
+     * @param sink   receives each row
+     * @return number of rows streamed
+     */
+    long streamAuditLogs(GetAllAuditLogsQuery filter, Consumer<? super AuditLogExportRow> sink);
+}
@@ -0,0 +1,79 @@
+package com.jikkosoft.library.application.port.persistence;
+
+import com.jikkosoft.library.application.common.Result;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Port for idempotency keys of create commands.
+ *
+ * Responsibilities:
+ * - Reserves a key for the first submission of a command; the reservation is atomic, so only one
+ *   submission (across all instances) can hold a key.
+ * - Stores the {@link Result} of the command under the key until the key expires.
+ *
+ * Notes:
+ * - An expired key behaves as if it never existed and may be reserved again.
+ * - Reservations and results are written outside of the caller's transaction.
+ */
+public interface IdempotencyRepository {
+
+    /**
+     * Reserves a key, unless a live (not expired) entry already holds it.
+     *
+     * @param key         idempotency key
+     * @param fingerprint digest of the command the key is used for
+     * @param expiresAt   when the reservation lapses if no result is stored
+     * @param now         current time
+     * @return true if the key was reserved by this call
+     */
+    boolean reserve(String key, String fingerprint, LocalDateTime expiresAt, LocalDateTime now);
+
+    /**
+     * Returns the live entry of a key.
+     *
+     * @param key      idempotency key
+     * @param dataType type of the result data
+     * @param now      current time
+     * @return the entry, or empty if the key is unknown or expired
+     */
+    <T> Optional<Entry<T>> find(String key, Class<T> dataType, LocalDateTime now);
+
+    /**
+     * Stores the result of a reserved key.
+     *
+     * @param key         idempotency key
+     * @param fingerprint digest of the command, as passed to {@link #reserve}
+     * @param result      command result; its data must be serializable as JSON
+     * @param expiresAt   until when the result is replayed
+     */
+    <T> void complete(String key, String fingerprint, Result<T> result, LocalDateTime expiresAt);
+
+    /**
+     * Drops a reservation without result, so the command may be submitted again.
+     */
+    void release(String key);
+
+    /**
+     * Deletes expired entries.
+     *
+     * @return number of deleted entries
+     */
+    int purgeExpired(LocalDateTime now);
+
+    /**
+     * State of a key.
+     *
+     * @param fingerprint digest of the command the key was reserved for
+     * @param result      stored result, {@code null} while the command is still running
+     * @param expiresAt   when the entry expires
+     * @param <T>         type of the result data
+     */
+    record Entry<T>(String fingerprint, Result<T> result, LocalDateTime expiresAt) {
+
+        public boolean completed() {
+            return result != null;
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.jikkosoft.library.application.port.persistence;
 
+import com.jikkosoft.library.application.common.CursorRequest;
+import com.jikkosoft.library.application.common.CursorResponse;
 import com.jikkosoft.library.domain.model.Library;
 import com.jikkosoft.library.application.common.PagedResponse;
 
@@ -56,4 +58,12 @@ public interface LibraryRepository {
      * @param id unique identifier of the library to delete
      */
     void logicalDeleteById(Long id);
+
+    /**
+     * Retrieves all libraries using keyset pagination.
+     *
+     * @param request cursor, window size and ordering
+     * @return window of libraries
+     */
+    CursorResponse<Library> findAll(CursorRequest request);
 }
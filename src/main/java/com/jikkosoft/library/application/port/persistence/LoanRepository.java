@@ -1,11 +1,17 @@
 package com.jikkosoft.library.application.port.persistence;
 
+import com.jikkosoft.library.application.common.CursorRequest;
+import com.jikkosoft.library.application.common.CursorResponse;
 import com.jikkosoft.library.application.common.PagedResponse;
 import com.jikkosoft.library.domain.enums.LoanStatus;
 import com.jikkosoft.library.domain.model.Loan;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Port for persisting and querying Loan aggregates.
@@ -62,4 +68,71 @@ public interface LoanRepository {
      * @return paginated response with loans
      */
     PagedResponse<Loan> findByMemberIdAndStatusPaged(Long memberId, LoanStatus status, int page, int size);
+
+    /**
+     * Retrieves loans for a given member filtered by status, using keyset pagination.
+     *
+     * @param memberId ID of the member
+     * @param status   optional status to filter by
+     * @param request  cursor, window size and ordering
+     * @return window of loans with the continuation token for the next one
+     */
+    CursorResponse<Loan> findByMemberIdAndStatusPaged(Long memberId, LoanStatus status, CursorRequest request);
+
+    /**
+     * Counts all loans (any status) grouped by book.
+     *
+     * @return map of book ID to number of loans
+     */
+    default Map<Long, Long> countLoansByBook() {
+        throw new UnsupportedOperationException("Method not implemented");
+    }
+
+    /**
+     * Counts all loans (any status) grouped by member.
+     *
+     * @return map of member ID to number of loans
+     */
+    default Map<Long, Long> countLoansByMember() {
+        throw new UnsupportedOperationException("Method not implemented");
+    }
+
+    /**
+     * Retrieves the loans with the given IDs. Missing IDs are skipped; order is not guaranteed.
+     * Adapters should override this with a single query.
+     *
+     * @param ids unique identifiers of the loans
+     * @return loans found
+     */
+    default List<Loan> findAllByIds(Collection<Long> ids) {
+        return ids.stream().map(this::findById).flatMap(Optional::stream).toList();
+    }
+
+    /**
+     * Saves several loans. Adapters should override this with a batched write.
+     *
+     * @param loans loans to persist
+     * @return persisted loans, in the same order
+     */
+    default List<Loan> saveAll(List<Loan> loans) {
+        return loans.stream().map(this::save).toList();
+    }
+
+    /**
+     * Streams the ID and due date of every ACTIVE loan, without materializing Loan aggregates.
+     * Intended for bulk loads such as rebuilding the overdue schedule on startup.
+     *
+     * @param consumer receives one row per active loan
+     */
+    default void forEachActiveDueDate(Consumer<DueDateRow> consumer) {
+        throw new UnsupportedOperationException("Method not implemented");
+    }
+
+    /**
+     * Lightweight projection of an active loan's due date.
+     *
+     * @param loanId  unique identifier of the Loan
+     * @param dueDate date the loan is due
+     */
+    record DueDateRow(Long loanId, LocalDate dueDate) {}
 }
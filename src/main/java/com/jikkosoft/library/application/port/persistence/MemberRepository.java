@@ -1,8 +1,12 @@
 package com.jikkosoft.library.application.port.persistence;
 
+import com.jikkosoft.library.application.common.CursorRequest;
+import com.jikkosoft.library.application.common.CursorResponse;
 import com.jikkosoft.library.application.common.PagedResponse;
 import com.jikkosoft.library.domain.model.Member;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -68,4 +72,55 @@ public interface MemberRepository {
      * @return paginated response with members matching the name filter
      */
     PagedResponse<Member> findByNamePaged(String name, int page, int size);
+
+    /**
+     * Retrieves members using keyset pagination.
+     *
+     * @param request cursor, window size and ordering
+     * @return window of members
+     */
+    CursorResponse<Member> findAllPaged(CursorRequest request);
+
+    /**
+     * Retrieves members filtered by name using keyset pagination.
+     *
+     * @param name    partial or full name to search
+     * @param request cursor, window size and ordering
+     * @return window of members matching the name filter
+     */
+    CursorResponse<Member> findByNamePaged(String name, CursorRequest request);
+
+    /**
+     * Retrieves the members with the given IDs. Missing IDs are skipped; order is not guaranteed.
+     * Adapters should override this with a single query.
+     *
+     * @param ids unique identifiers of the members
+     * @return members found
+     */
+    default List<Member> findAllByIds(Collection<Long> ids) {
+        return ids.stream().map(this::findById).flatMap(Optional::stream).toList();
+    }
+
+    /**
+     * Retrieves a paginated list of the members of a library.
+     *
+     * @param libraryId unique identifier of the library
+     * @param page      page number starting from 0
+     * @param size      number of items per page
+     * @return paginated response with the library's members
+     */
+    default PagedResponse<Member> findByLibraryIdPaged(Long libraryId, int page, int size) {
+        throw new UnsupportedOperationException("Method not implemented");
+    }
+
+    /**
+     * Registers a member in a library.
+     *
+     * @param libraryId unique identifier of the library
+     * @param member    member to register (must be persisted)
+     * @return true if the member was not registered in the library before
+     */
+    default boolean addToLibrary(Long libraryId, Member member) {
+        throw new UnsupportedOperationException("Method not implemented");
+    }
 }
@@ -1,10 +1,13 @@
 package com.jikkosoft.library.application.port.persistence;
 
+import com.jikkosoft.library.application.common.CursorRequest;
+import com.jikkosoft.library.application.common.CursorResponse;
 import com.jikkosoft.library.application.common.PagedResponse;
 import com.jikkosoft.library.domain.enums.ReservationStatus;
 import com.jikkosoft.library.domain.model.Reservation;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -44,6 +47,14 @@ public interface ReservationRepository {
      */
     List<Reservation> findActiveByBookIdOrderByReservedAt(Long bookId);
 
+    /**
+     * Retrieves the active reservation a copy is held for.
+     *
+     * @param copyId ID of the held copy
+     * @return the reservation holding the copy, if any
+     */
+    Optional<Reservation> findActiveByHeldCopyId(Long copyId);
+
     /**
      * Retrieves reservations filtered by status and reserved date before a threshold.
      *
@@ -79,4 +90,42 @@ public interface ReservationRepository {
      * @return paginated response with reservations matching the status filter
      */
     PagedResponse<Reservation> findByStatusPaged(ReservationStatus status, int page, int size);
+
+    /**
+     * Retrieves reservations using keyset pagination.
+     *
+     * @param request cursor, window size and ordering
+     * @return window of reservations
+     */
+    CursorResponse<Reservation> findAllPaged(CursorRequest request);
+
+    /**
+     * Retrieves reservations filtered by status using keyset pagination.
+     *
+     * @param status  reservation status to filter
+     * @param request cursor, window size and ordering
+     * @return window of reservations matching the status filter
+     */
+    CursorResponse<Reservation> findByStatusPaged(ReservationStatus status, CursorRequest request);
+
+    /**
+     * Retrieves the reservations with the given IDs. Missing IDs are skipped; order is not guaranteed.
+     * Adapters should override this with a single query.
+     *
+     * @param ids unique identifiers of the reservations
+     * @return reservations found
+     */
+    default List<Reservation> findAllByIds(Collection<Long> ids) {
+        return ids.stream().map(this::findById).flatMap(Optional::stream).toList();
+    }
+
+    /**
+     * Saves several reservations. Adapters should override this with a batched write.
+     *
+     * @param reservations reservations to persist
+     * @return persisted reservations, in the same order
+     */
+    default List<Reservation> saveAll(List<Reservation> reservations) {
+        return reservations.stream().map(this::save).toList();
+    }
 }
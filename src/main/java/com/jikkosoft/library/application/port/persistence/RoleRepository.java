@@ -1,5 +1,7 @@
 package com.jikkosoft.library.application.port.persistence;
 
+import com.jikkosoft.library.application.common.CursorRequest;
+import com.jikkosoft.library.application.common.CursorResponse;
 import com.jikkosoft.library.application.common.PagedResponse;
 import com.jikkosoft.library.domain.enums.RoleType;
 import com.jikkosoft.library.domain.model.Role;
@@ -69,4 +71,21 @@ public interface RoleRepository {
      * @return paginated response with roles matching the filter
      */
     PagedResponse<Role> findByRoleTypePaged(RoleType roleType, int page, int size);
+
+    /**
+     * Retrieves Roles using keyset pagination.
+     *
+     * @param request cursor, window size and ordering
+     * @return window of roles
+     */
+    CursorResponse<Role> findAllPaged(CursorRequest request);
+
+    /**
+     * Retrieves Roles filtered by RoleType using keyset pagination.
+     *
+     * @param roleType Role type to filter (nullable for all roles)
+     * @param request  cursor, window size and ordering
+     * @return window of roles matching the filter
+     */
+    CursorResponse<Role> findByRoleTypePaged(RoleType roleType, CursorRequest request);
 }
@@ -0,0 +1,114 @@
+package com.jikkosoft.library.application.port.persistence;
+
+import com.jikkosoft.library.application.common.PagedResponse;
+import com.jikkosoft.library.application.dto.book.dto.BookSummaryDto;
+import com.jikkosoft.library.application.dto.bookcopy.dto.BookCopySummaryDto;
+import com.jikkosoft.library.application.dto.category.dto.CategorySummaryDto;
+import com.jikkosoft.library.application.dto.library.dto.LibrarySummaryDto;
+import com.jikkosoft.library.application.dto.loan.dto.LoanSummaryDto;
+import com.jikkosoft.library.application.dto.member.dto.MemberSummaryDto;
+import com.jikkosoft.library.application.dto.reservation.dto.ReservationSummaryDto;
+import com.jikkosoft.library.domain.enums.LoanStatus;
+import com.jikkosoft.library.domain.enums.ReservationStatus;
+
+/**
+ * Read-side port that pages summary DTOs straight from storage.
+ *
+ * Responsibilities:
+ * - Serves list views that only need the columns of a {@code *SummaryDto}.
+ * - Pages are ordered by id, like the paged queries of the aggregate repositories.
+ *
+ * Notes:
+ * - Results are not domain aggregates: no invariants are checked and no domain events are raised.
+ *   Use the aggregate repositories for anything that modifies state.
+ * - Derived values are computed by the query (e.g. a member's penalty total, an author's book count).
+ */
+public interface SummaryQueryRepository {
+
+    /**
+     * Retrieves book summaries, with their authors and category.
+     *
+     * @param page page number starting from 0
+     * @param size number of items per page
+     * @return paginated response with book summaries
+     */
+    PagedResponse<BookSummaryDto> findBookSummaries(int page, int size);
+
+    /**
+     * Retrieves summaries of the books whose title contains the given text (case-insensitive).
+     *
+     * @param text text to search in titles
+     * @param page page number starting from 0
+     * @param size number of items per page
+     * @return paginated response with book summaries
+     */
+    PagedResponse<BookSummaryDto> findBookSummariesByTitle(String text, int page, int size);
+
+    /**
+     * Retrieves summaries of the copies held by a library.
+     *
+     * @param libraryId ID of the library
+     * @param page      page number starting from 0
+     * @param size      number of items per page
+     * @return paginated response with book copy summaries
+     */
+    PagedResponse<BookCopySummaryDto> findBookCopySummariesByLibrary(Long libraryId, int page, int size);
+
+    /**
+     * Retrieves category summaries.
+     *
+     * @param page page number starting from 0
+     * @param size number of items per page
+     * @return paginated response with category summaries
+     */
+    PagedResponse<CategorySummaryDto> findCategorySummaries(int page, int size);
+
+    /**
+     * Retrieves library summaries.
+     *
+     * @param page page number starting from 0
+     * @param size number of items per page
+     * @return paginated response with library summaries
+     */
+    PagedResponse<LibrarySummaryDto> findLibrarySummaries(int page, int size);
+
+    /**
+     * Retrieves summaries of a member's loans in the given status.
+     *
+     * @param memberId ID of the member
+     * @param status   loan status to filter
+     * @param page     page number starting from 0
+     * @param size     number of items per page
+     * @return paginated response with loan summaries
+     */
+    PagedResponse<LoanSummaryDto> findLoanSummariesByMember(Long memberId, LoanStatus status, int page, int size);
+
+    /**
+     * Retrieves member summaries, including each member's penalty total.
+     *
+     * @param page page number starting from 0
+     * @param size number of items per page
+     * @return paginated response with member summaries
+     */
+    PagedResponse<MemberSummaryDto> findMemberSummaries(int page, int size);
+
+    /**
+     * Retrieves summaries of the members registered in a library.
+     *
+     * @param libraryId ID of the library
+     * @param page      page number starting from 0
+     * @param size      number of items per page
+     * @return paginated response with member summaries
+     */
+    PagedResponse<MemberSummaryDto> findMemberSummariesByLibrary(Long libraryId, int page, int size);
+
+    /**
+     * Retrieves summaries of the reservations in the given status.
+     *
+     * @param status reservation status to filter
+     * @param page   page number starting from 0
+     * @param size   number of items per page
+     * @return paginated response with reservation summaries
+     */
+    PagedResponse<ReservationSummaryDto> findReservationSummariesByStatus(ReservationStatus status, int page, int size);
+}
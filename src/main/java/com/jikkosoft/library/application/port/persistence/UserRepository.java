@@ -1,5 +1,7 @@
 package com.jikkosoft.library.application.port.persistence;
 
+import com.jikkosoft.library.application.common.CursorRequest;
+import com.jikkosoft.library.application.common.CursorResponse;
 import com.jikkosoft.library.application.common.PagedResponse;
 import com.jikkosoft.library.domain.model.User;
 
@@ -66,4 +68,21 @@ public interface UserRepository {
      * @return paginated response with users matching the email filter
      */
     PagedResponse<User> findByEmailPaged(String email, int page, int size);
+
+    /**
+     * Retrieves users using keyset pagination.
+     *
+     * @param request cursor, window size and ordering
+     * @return window of users
+     */
+    CursorResponse<User> findAllPaged(CursorRequest request);
+
+    /**
+     * Retrieves users filtered by email using keyset pagination.
+     *
+     * @param email   partial or full email to filter
+     * @param request cursor, window size and ordering
+     * @return window of users matching the email filter
+     */
+    CursorResponse<User> findByEmailPaged(String email, CursorRequest request);
 }
@@ -17,4 +17,18 @@ public interface TransactionalPort {
      * Executes a function in a transaction and returns its result.
      */
     <T> T inTransactionReturning(Supplier<T> supplier);
+
+    /**
+     * Executes a function in a new, independent transaction, suspending the current one if any,
+     * and returns its result. After-commit actions must use it for database work: the
+     * transaction they follow has already committed.
+     */
+    <T> T inNewTransactionReturning(Supplier<T> supplier);
+
+    /**
+     * Runs an action once the current transaction has committed, or immediately when no
+     * transaction is active. The action is discarded if the transaction rolls back.
+     * Use it to update in-memory state that must only reflect committed data.
+     */
+    void afterCommit(Runnable action);
 }
@@ -0,0 +1,191 @@
+package com.jikkosoft.library.application.service.availability;
+
+import com.jikkosoft.library.application.port.persistence.BookCopyRepository;
+import com.jikkosoft.library.domain.enums.BookStatus;
+import com.jikkosoft.library.domain.model.BookCopy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * In-memory index of BookCopy status per (book, library).
+ *
+ * Responsibilities:
+ * - Answers "is there an AVAILABLE copy of book X in library Y" and "pick a free copy"
+ *   in O(1), without touching the database.
+ * - Holds per-{@link BookStatus} counts and a compact set of copy IDs per status.
+ * - Stays current through {@link #upsert}/{@link #remove}, called once a saved copy has been
+ *   committed (see the BookCopyRepository decorator), so rollbacks and unsaved in-memory
+ *   changes never reach it.
+ * - Rebuilds itself from a bulk load through {@link BookCopyRepository#forEachStatusRow}
+ *   once the application is ready.
+ *
+ * Notes:
+ * - Each (book, library) entry is synchronized independently, so updates on unrelated
+ *   books never contend.
+ * - A rebuild loads into a fresh map and swaps it in; updates that arrive during the scan
+ *   are recorded and replayed onto the new map first, so none is lost.
+ * - Picking a copy does not reserve it; the checkout path still transitions its status.
+ */
+@Slf4j
+public class BookAvailabilityIndex {
+
+    private static final BookStatus[] STATUSES = BookStatus.values();
+
+    private final BookCopyRepository bookCopyRepository;
+    private final Object swapLock = new Object();
+    private volatile ConcurrentMap<Key, Entry> entries = new ConcurrentHashMap<>();
+    private List<Change> changesDuringRebuild;
+
+    public BookAvailabilityIndex(BookCopyRepository bookCopyRepository) {
+        this.bookCopyRepository = bookCopyRepository;
+    }
+
+    /**
+     * Rebuilds the whole index from the repository.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (swapLock) {
+            changesDuringRebuild = new ArrayList<>();
+        }
+        ConcurrentMap<Key, Entry> loaded = new ConcurrentHashMap<>();
+        long[] count = {0};
+        try {
+            bookCopyRepository.forEachStatusRow(row -> {
+                if (row.copyId() == null || row.bookId() == null || row.libraryId() == null) return;
+                loaded.computeIfAbsent(new Key(row.bookId(), row.libraryId()), k -> new Entry())
+                        .move(row.copyId(), null, row.status());
+                count[0]++;
+            });
+            synchronized (swapLock) {
+                changesDuringRebuild.forEach(change -> change.applyTo(loaded));
+                entries = loaded;
+            }
+        } finally {
+            synchronized (swapLock) {
+                changesDuringRebuild = null;
+            }
+        }
+        log.info("Book availability index rebuilt with {} copies in {} (book, library) pairs", count[0], loaded.size());
+    }
+
+    /**
+     * Registers or refreshes a committed copy.
+     *
+     * @param copy persisted copy (copies without ID are ignored)
+     */
+    public void upsert(BookCopy copy) {
+        if (copy.getId() == null || copy.getBook().getId() == null || copy.getLibrary().getId() == null) return;
+        apply(new Change(new Key(copy.getBook().getId(), copy.getLibrary().getId()), copy.getId(), copy.getStatus()));
+    }
+
+    /**
+     * Removes a copy from the index, e.g. after its logical deletion was committed.
+     *
+     * @param copy copy to forget
+     */
+    public void remove(BookCopy copy) {
+        if (copy.getId() == null || copy.getBook().getId() == null || copy.getLibrary().getId() == null) return;
+        apply(new Change(new Key(copy.getBook().getId(), copy.getLibrary().getId()), copy.getId(), null));
+    }
+
+    /** @return true if at least one AVAILABLE copy of the book exists in the library. */
+    public boolean isAvailable(Long bookId, Long libraryId) {
+        return count(bookId, libraryId, BookStatus.AVAILABLE) > 0;
+    }
+
+    /** @return number of copies of the book in the library with the given status. */
+    public int count(Long bookId, Long libraryId, BookStatus status) {
+        Entry entry = entries.get(new Key(bookId, libraryId));
+        return entry != null ? entry.count(status) : 0;
+    }
+
+    /**
+     * Picks an AVAILABLE copy of the book in the library.
+     *
+     * @return ID of a free copy, or empty if none is available
+     */
+    public OptionalLong pickAvailable(Long bookId, Long libraryId) {
+        Entry entry = entries.get(new Key(bookId, libraryId));
+        return entry != null ? entry.any(BookStatus.AVAILABLE) : OptionalLong.empty();
+    }
+
+    /** @return IDs of the copies of the book in the library with the given status. */
+    public long[] copyIds(Long bookId, Long libraryId, BookStatus status) {
+        Entry entry = entries.get(new Key(bookId, libraryId));
+        return entry != null ? entry.ids(status) : new long[0];
+    }
+
+    private void apply(Change change) {
+        ConcurrentMap<Key, Entry> target;
+        synchronized (swapLock) {
+            if (changesDuringRebuild != null) changesDuringRebuild.add(change);
+            target = entries;
+        }
+        change.applyTo(target);
+    }
+
+    private record Key(long bookId, long libraryId) {}
+
+    /** Absolute status of one copy (null status: removed), so replaying it twice is harmless. */
+    private record Change(Key key, long copyId, BookStatus status) {
+
+        void applyTo(ConcurrentMap<Key, Entry> target) {
+            if (status == null) {
+                Entry entry = target.get(key);
+                if (entry != null) entry.move(copyId, null, null);
+            } else {
+                target.computeIfAbsent(key, k -> new Entry()).move(copyId, null, status);
+            }
+        }
+    }
+
+    /**
+     * Copies of one book in one library, bucketed by status.
+     */
+    private static final class Entry {
+        private final CopyIdSet[] byStatus = new CopyIdSet[STATUSES.length];
+
+        synchronized void move(long copyId, BookStatus from, BookStatus to) {
+            if (from == null || !bucket(from).remove(copyId)) {
+                for (CopyIdSet set : byStatus) {
+                    if (set != null && set.remove(copyId)) break;
+                }
+            }
+            if (to != null) {
+                bucket(to).add(copyId);
+            }
+        }
+
+        synchronized int count(BookStatus status) {
+            CopyIdSet set = byStatus[status.ordinal()];
+            return set != null ? set.size() : 0;
+        }
+
+        synchronized OptionalLong any(BookStatus status) {
+            CopyIdSet set = byStatus[status.ordinal()];
+            return set == null || set.isEmpty() ? OptionalLong.empty() : OptionalLong.of(set.any());
+        }
+
+        synchronized long[] ids(BookStatus status) {
+            CopyIdSet set = byStatus[status.ordinal()];
+            return set != null ? set.toArray() : new long[0];
+        }
+
+        private CopyIdSet bucket(BookStatus status) {
+            CopyIdSet set = byStatus[status.ordinal()];
+            if (set == null) {
+                set = new CopyIdSet();
+                byStatus[status.ordinal()] = set;
+            }
+            return set;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.jikkosoft.library.application.service.availability;
+
+import java.util.Arrays;
+
+/**
+ * Compact set of copy IDs backed by primitive arrays.
+ *
+ * Responsibilities:
+ * - O(1) add, remove, contains and "any element" without boxing.
+ * - Keeps IDs densely packed so picking one is a single array read.
+ *
+ * Notes:
+ * - Open addressing (linear probing, backward-shift deletion) maps an ID to its
+ *   position in the dense array; removal swaps the last element into the hole.
+ * - Not thread-safe: callers synchronize on the owning index entry.
+ */
+final class CopyIdSet {
+
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private long[] dense = new long[4];
+    private long[] keys = newTable(8);
+    private int[] positions = new int[8];
+    private int size;
+
+    boolean add(long id) {
+        int slot = find(id);
+        if (keys[slot] == id) {
+            return false;
+        }
+        if ((size + 1) * 2 > keys.length) {
+            rehash(keys.length * 2);
+            slot = find(id);
+        }
+        if (size == dense.length) {
+            dense = Arrays.copyOf(dense, size * 2);
+        }
+        dense[size] = id;
+        keys[slot] = id;
+        positions[slot] = size;
+        size++;
+        return true;
+    }
+
+    boolean remove(long id) {
+        int slot = find(id);
+        if (keys[slot] != id) {
+            return false;
+        }
+        int position = positions[slot];
+        long last = dense[size - 1];
+        dense[position] = last;
+        positions[find(last)] = position;
+        size--;
+        deleteSlot(slot);
+        return true;
+    }
+
+    boolean contains(long id) {
+        return keys[find(id)] == id;
+    }
+
+    /** @return an arbitrary element; only valid when not empty. */
+    long any() {
+        return dense[size - 1];
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    long[] toArray() {
+        return Arrays.copyOf(dense, size);
+    }
+
+    private int find(long id) {
+        int mask = keys.length - 1;
+        int slot = mix(id) & mask;
+        while (keys[slot] != EMPTY && keys[slot] != id) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void deleteSlot(int slot) {
+        int mask = keys.length - 1;
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (keys[next] != EMPTY) {
+            int home = mix(keys[next]) & mask;
+            boolean movable = hole <= next ? (home <= hole || home > next) : (home <= hole && home > next);
+            if (movable) {
+                keys[hole] = keys[next];
+                positions[hole] = positions[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[hole] = EMPTY;
+    }
+
+    private void rehash(int capacity) {
+        keys = newTable(capacity);
+        positions = new int[capacity];
+        for (int i = 0; i < size; i++) {
+            int slot = find(dense[i]);
+            keys[slot] = dense[i];
+            positions[slot] = i;
+        }
+    }
+
+    private static long[] newTable(int capacity) {
+        long[] table = new long[capacity];
+        Arrays.fill(table, EMPTY);
+        return table;
+    }
+
+    private static int mix(long id) {
+        long h = id * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
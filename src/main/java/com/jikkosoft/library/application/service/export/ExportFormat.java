@@ -0,0 +1,24 @@
+package com.jikkosoft.library.application.service.export;
+
+/**
+ * Output formats of the streaming exports.
+ */
+public enum ExportFormat {
+
+    /** RFC 4180 CSV with a header line. */
+    CSV("text/csv", "csv"),
+
+    /** One JSON object per line, keyed by column name. */
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() { return contentType; }
+    public String getExtension() { return extension; }
+}
@@ -0,0 +1,158 @@
+package com.jikkosoft.library.application.service.export;
+
+import com.jikkosoft.library.application.common.ExportRow;
+import com.jikkosoft.library.application.dto.auditlog.dto.AuditLogExportRow;
+import com.jikkosoft.library.application.dto.auditlog.query.GetAllAuditLogsQuery;
+import com.jikkosoft.library.application.dto.loan.dto.LoanExportRow;
+import com.jikkosoft.library.application.dto.loan.query.GetAllLoansQuery;
+import com.jikkosoft.library.application.dto.reservation.dto.ReservationExportRow;
+import com.jikkosoft.library.application.dto.reservation.query.GetAllReservationsQuery;
+import com.jikkosoft.library.application.port.persistence.ExportRepository;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams loans, reservations and audit logs as CSV or NDJSON.
+ *
+ * Responsibilities:
+ * - Writes rows to the target as the {@link ExportRepository} cursor produces them; memory use is
+ *   one write buffer regardless of the export size.
+ * - Optionally gzips the output.
+ * - Writes file exports through a {@link FileChannel} to a temporary sibling that is moved into
+ *   place only once the export completed.
+ *
+ * Notes:
+ * - The target stream is flushed (and the gzip trailer written) but not closed.
+ * - The gzip deflater is released whether the export succeeds or fails.
+ * - Filters follow the {@code GetAll*Query} objects; paging fields are ignored.
+ */
+@Service
+public class ExportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ExportRepository exportRepository;
+
+    public ExportService(ExportRepository exportRepository) {
+        this.exportRepository = exportRepository;
+    }
+
+    /**
+     * Writes the loans matching the query.
+     *
+     * @return number of rows written
+     */
+    public long exportLoans(GetAllLoansQuery filter, ExportFormat format, boolean gzip, OutputStream out) throws IOException {
+        return export(LoanExportRow.COLUMNS, format, gzip, out, sink -> exportRepository.streamLoans(filter, sink));
+    }
+
+    /**
+     * Writes the reservations matching the query.
+     *
+     * @return number of rows written
+     */
+    public long exportReservations(GetAllReservationsQuery filter, ExportFormat format, boolean gzip,
+                                   OutputStream out) throws IOException {
+        return export(ReservationExportRow.COLUMNS, format, gzip, out,
+                sink -> exportRepository.streamReservations(filter, sink));
+    }
+
+    /**
+     * Writes the audit log entries matching the query.
+     *
+     * @return number of rows written
+     */
+    public long exportAuditLogs(GetAllAuditLogsQuery filter, ExportFormat format, boolean gzip,
+                                OutputStream out) throws IOException {
+        return export(AuditLogExportRow.COLUMNS, format, gzip, out,
+                sink -> exportRepository.streamAuditLogs(filter, sink));
+    }
+
+    /**
+     * Runs an export into a file. The file is replaced only when the export succeeds.
+     *
+     * @param file   destination file
+     * @param export export to run, e.g. {@code out -> service.exportLoans(query, CSV, true, out)}
+     * @return number of rows written
+     */
+    public long exportToFile(Path file, Export export) throws IOException {
+        Path partial = file.resolveSibling(file.getFileName() + ".part");
+        long rows;
+        try (FileChannel channel = FileChannel.open(partial, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+             OutputStream out = Channels.newOutputStream(channel)) {
+            rows = export.writeTo(out);
+            channel.force(false);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(partial);
+            throw e;
+        }
+        Files.move(partial, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return rows;
+    }
+
+    private <R extends ExportRow> long export(List<String> columns, ExportFormat format, boolean gzip, OutputStream out,
+                                              ToLongFunction<Consumer<R>> source) throws IOException {
+        Gzip zipped = gzip ? new Gzip(out) : null;
+        try {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(zipped != null ? zipped : out,
+                    StandardCharsets.UTF_8), BUFFER_SIZE);
+            ExportWriter rows = ExportWriter.of(format, writer, columns);
+            rows.begin();
+            long count;
+            try {
+                count = source.applyAsLong(row -> {
+                    try {
+                        rows.write(row);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            writer.flush();
+            if (zipped != null) zipped.finish();
+            out.flush();
+            return count;
+        } finally {
+            if (zipped != null) zipped.release();
+        }
+    }
+
+    /** Gzip stream whose native deflater can be freed without closing the target. */
+    private static final class Gzip extends GZIPOutputStream {
+
+        private Gzip(OutputStream out) throws IOException {
+            super(out, BUFFER_SIZE);
+        }
+
+        /** Frees the deflater; nothing more is written, whether or not the export finished. */
+        private void release() {
+            def.end();
+        }
+    }
+
+    /** An export writing to an output stream. */
+    @FunctionalInterface
+    public interface Export {
+        long writeTo(OutputStream out) throws IOException;
+    }
+}
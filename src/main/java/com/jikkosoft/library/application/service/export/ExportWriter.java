@@ -0,0 +1,136 @@
+package com.jikkosoft.library.application.service.export;
+
+import com.jikkosoft.library.application.common.ExportRow;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * Writes export rows as CSV or NDJSON.
+ *
+ * Notes:
+ * - Rows are written as they arrive; buffering is left to the underlying writer.
+ * - CSV fields are quoted only when they contain a separator, a quote or a line break.
+ */
+abstract class ExportWriter {
+
+    protected final Writer out;
+    protected final List<String> columns;
+
+    private ExportWriter(Writer out, List<String> columns) {
+        this.out = out;
+        this.columns = columns;
+    }
+
+    static ExportWriter of(ExportFormat format, Writer out, List<String> columns) {
+        return switch (format) {
+            case CSV -> new Csv(out, columns);
+            case NDJSON -> new NdJson(out, columns);
+        };
+    }
+
+    /** Writes what precedes the first row (the CSV header). */
+    abstract void begin() throws IOException;
+
+    abstract void write(ExportRow row) throws IOException;
+
+    private static final class Csv extends ExportWriter {
+
+        private Csv(Writer out, List<String> columns) {
+            super(out, columns);
+        }
+
+        @Override
+        void begin() throws IOException {
+            writeLine(columns);
+        }
+
+        @Override
+        void write(ExportRow row) throws IOException {
+            writeLine(row.values());
+        }
+
+        private void writeLine(List<?> values) throws IOException {
+            for (int i = 0; i < values.size(); i++) {
+                if (i > 0) out.write(',');
+                Object value = values.get(i);
+                if (value != null) field(value instanceof Enum<?> e ? e.name() : value.toString());
+            }
+            out.write("\r\n");
+        }
+
+        private void field(String value) throws IOException {
+            boolean quote = false;
+            for (int i = 0; i < value.length() && !quote; i++) {
+                char c = value.charAt(i);
+                quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+            }
+            if (!quote) {
+                out.write(value);
+                return;
+            }
+            out.write('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"') out.write('"');
+                out.write(c);
+            }
+            out.write('"');
+        }
+    }
+
+    private static final class NdJson extends ExportWriter {
+
+        private NdJson(Writer out, List<String> columns) {
+            super(out, columns);
+        }
+
+        @Override
+        void begin() {
+            // no header
+        }
+
+        @Override
+        void write(ExportRow row) throws IOException {
+            List<Object> values = row.values();
+            out.write('{');
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) out.write(',');
+                string(columns.get(i));
+                out.write(':');
+                Object value = values.get(i);
+                if (value == null) {
+                    out.write("null");
+                } else if (value instanceof Number || value instanceof Boolean) {
+                    out.write(value.toString());
+                } else {
+                    string(value instanceof Enum<?> e ? e.name() : value.toString());
+                }
+            }
+            out.write("}\n");
+        }
+
+        private void string(String value) throws IOException {
+            out.write('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                switch (c) {
+                    case '"' -> out.write("\\\"");
+                    case '\\' -> out.write("\\\\");
+                    case '\n' -> out.write("\\n");
+                    case '\r' -> out.write("\\r");
+                    case '\t' -> out.write("\\t");
+                    default -> {
+                        if (c < 0x20) {
+                            out.write(String.format("\\u%04x", (int) c));
+                        } else {
+                            out.write(c);
+                        }
+                    }
+                }
+            }
+            out.write('"');
+        }
+    }
+}
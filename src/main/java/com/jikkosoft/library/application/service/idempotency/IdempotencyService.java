@@ -0,0 +1,168 @@
+package com.jikkosoft.library.application.service.idempotency;
+
+import com.jikkosoft.library.application.common.Result;
+import com.jikkosoft.library.application.port.persistence.IdempotencyRepository;
+import com.jikkosoft.library.application.port.service.ClockPort;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Runs create commands at most once per idempotency key.
+ *
+ * Responsibilities:
+ * - Replays the stored {@link Result} of a key without running the command again.
+ * - Lets concurrent duplicates of a command wait for the first submission in this instance and
+ *   share its result; across instances, the atomic key reservation of the
+ *   {@link IdempotencyRepository} decides which submission runs.
+ * - Rejects a key reused for a different command (compared by fingerprint).
+ *
+ * Notes:
+ * - Business failures ({@code Result.failure}) are stored and replayed like successes; an
+ *   exception releases the key, so the client may retry.
+ * - A submission that finds the key reserved by another instance gets a failure result and is
+ *   expected to retry; a reservation left by a crashed instance lapses after the pending timeout.
+ * - The result is stored after the command committed: a crash in between lets a retry run the
+ *   command again once the reservation lapsed.
+ * - Commands are fingerprinted by type and {@code toString()}, which covers every field of the
+ *   Lombok command classes.
+ */
+public class IdempotencyService {
+
+    static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyRepository repository;
+    private final ClockPort clock;
+    private final Duration ttl;
+    private final Duration pendingTimeout;
+    private final ConcurrentHashMap<String, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyService(IdempotencyRepository repository, ClockPort clock, Duration ttl, Duration pendingTimeout) {
+        this.repository = repository;
+        this.clock = clock;
+        this.ttl = ttl;
+        this.pendingTimeout = pendingTimeout;
+    }
+
+    /**
+     * Runs a command once per key.
+     *
+     * @param key      idempotency key sent by the client; {@code null} or blank runs the command unguarded
+     * @param command  the command, used to detect a key reused for another command
+     * @param dataType type of the result data, used to read stored results
+     * @param handler  executes the command
+     * @return the result of the first submission of the key
+     * @throws IllegalArgumentException if the key is too long or was used for a different command
+     */
+    public <T> Result<T> execute(String key, Object command, Class<T> dataType, Supplier<Result<T>> handler) {
+        Objects.requireNonNull(command, "Command must not be null.");
+        if (key == null || key.isBlank()) {
+            return handler.get();
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency key must not exceed " + MAX_KEY_LENGTH + " characters");
+        }
+        String fingerprint = fingerprint(command);
+        InFlight mine = new InFlight(fingerprint, new CompletableFuture<>());
+        InFlight running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            checkFingerprint(key, running.fingerprint(), fingerprint);
+            return awaitResult(running, dataType);
+        }
+        try {
+            Result<T> result = executeOnce(key, fingerprint, dataType, handler);
+            mine.result().complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            mine.result().completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * Deletes expired keys.
+     *
+     * @return number of deleted keys
+     */
+    public int purgeExpired() {
+        return repository.purgeExpired(clock.now());
+    }
+
+    private <T> Result<T> executeOnce(String key, String fingerprint, Class<T> dataType, Supplier<Result<T>> handler) {
+        LocalDateTime now = clock.now();
+        Optional<IdempotencyRepository.Entry<T>> stored = repository.find(key, dataType, now);
+        if (stored.isPresent()) {
+            return replay(key, fingerprint, stored.get());
+        }
+        if (!repository.reserve(key, fingerprint, now.plus(pendingTimeout), now)) {
+            return repository.find(key, dataType, now)
+                    .map(entry -> replay(key, fingerprint, entry))
+                    .orElseGet(() -> inProgress(key));
+        }
+        Result<T> result;
+        try {
+            result = handler.get();
+        } catch (RuntimeException e) {
+            repository.release(key);
+            throw e;
+        }
+        repository.complete(key, fingerprint, result, clock.now().plus(ttl));
+        return result;
+    }
+
+    private static <T> Result<T> replay(String key, String fingerprint, IdempotencyRepository.Entry<T> entry) {
+        checkFingerprint(key, entry.fingerprint(), fingerprint);
+        return entry.completed() ? entry.result() : inProgress(key);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Result<T> awaitResult(InFlight running, Class<T> dataType) {
+        Result<?> result;
+        try {
+            result = running.result().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+        if (result.data() != null && !dataType.isInstance(result.data())) {
+            throw new IllegalArgumentException("Stored result holds " + result.data().getClass().getSimpleName()
+                    + ", not " + dataType.getSimpleName());
+        }
+        return (Result<T>) result;
+    }
+
+    private static void checkFingerprint(String key, String stored, String submitted) {
+        if (!stored.equals(submitted)) {
+            throw new IllegalArgumentException("Idempotency key " + key + " was already used for a different request");
+        }
+    }
+
+    private static <T> Result<T> inProgress(String key) {
+        return Result.failure("A request with idempotency key " + key + " is still being processed");
+    }
+
+    static String fingerprint(Object command) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest((command.getClass().getName() + ':' + command).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private record InFlight(String fingerprint, CompletableFuture<Result<?>> result) {
+    }
+}
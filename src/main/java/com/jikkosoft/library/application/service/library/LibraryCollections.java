@@ -0,0 +1,64 @@
+package com.jikkosoft.library.application.service.library;
+
+import com.jikkosoft.library.application.port.persistence.BookCopyRepository;
+import com.jikkosoft.library.application.port.persistence.MemberRepository;
+import com.jikkosoft.library.domain.model.BookCopy;
+import com.jikkosoft.library.domain.model.Library;
+import com.jikkosoft.library.domain.model.LibraryCollection;
+import com.jikkosoft.library.domain.model.Member;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Repository-backed {@link LibraryCollection}s for hydrating {@link Library} aggregates.
+ *
+ * Responsibilities:
+ * - Pages members through {@link MemberRepository#findByLibraryIdPaged(Long, int, int)}.
+ * - Pages copies through {@link BookCopyRepository#findByLibraryId(Long, int, int)}.
+ * - Writes additions through to the repositories.
+ *
+ * Notes:
+ * - The hydrator pairs these with the member and copy counters stored on the library row.
+ */
+@Component
+public class LibraryCollections {
+
+    private final LibraryCollection<Member> members;
+    private final LibraryCollection<BookCopy> bookCopies;
+
+    public LibraryCollections(@Lazy MemberRepository memberRepository,
+                              @Lazy BookCopyRepository bookCopyRepository) {
+        this.members = new LibraryCollection<>() {
+            @Override
+            public List<Member> page(Long libraryId, int page, int size) {
+                return memberRepository.findByLibraryIdPaged(libraryId, page, size).items();
+            }
+
+            @Override
+            public boolean add(Long libraryId, Member member) {
+                return memberRepository.addToLibrary(libraryId, member);
+            }
+        };
+        this.bookCopies = new LibraryCollection<>() {
+            @Override
+            public List<BookCopy> page(Long libraryId, int page, int size) {
+                return bookCopyRepository.findByLibraryId(libraryId, page, size).getContent();
+            }
+
+            @Override
+            public boolean add(Long libraryId, BookCopy copy) {
+                if (!libraryId.equals(copy.getLibrary().getId())) {
+                    throw new IllegalArgumentException("BookCopy belongs to another library");
+                }
+                boolean isNew = copy.getId() == null;
+                bookCopyRepository.save(copy);
+                return isNew;
+            }
+        };
+    }
+
+    public LibraryCollection<Member> members() { return members; }
+    public LibraryCollection<BookCopy> bookCopies() { return bookCopies; }
+}
@@ -0,0 +1,207 @@
+package com.jikkosoft.library.application.service.loan;
+
+import com.jikkosoft.library.application.common.Result;
+import com.jikkosoft.library.application.dto.loan.command.BulkCreateLoansCommand;
+import com.jikkosoft.library.application.dto.loan.command.BulkReturnLoansCommand;
+import com.jikkosoft.library.application.dto.loan.command.CreateLoanCommand;
+import com.jikkosoft.library.application.port.persistence.BookCopyRepository;
+import com.jikkosoft.library.application.port.persistence.LoanRepository;
+import com.jikkosoft.library.application.port.persistence.MemberRepository;
+import com.jikkosoft.library.application.port.tx.TransactionalPort;
+import com.jikkosoft.library.domain.enums.BookStatus;
+import com.jikkosoft.library.domain.enums.LoanStatus;
+import com.jikkosoft.library.domain.exception.ConcurrencyConflictException;
+import com.jikkosoft.library.domain.model.BookCopy;
+import com.jikkosoft.library.domain.model.Loan;
+import com.jikkosoft.library.domain.model.Member;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Handles bulk checkouts and bulk returns (school groups, book drops).
+ *
+ * Responsibilities:
+ * - Loads every referenced BookCopy, Member or Loan with one fetch per aggregate type.
+ * - Validates each item in memory; invalid items, and items whose domain transition throws,
+ *   fail individually without affecting the rest.
+ * - Persists all valid items with batched {@code saveAll} calls inside a single transaction.
+ * - Returns one {@link Result} per item, in request order, carrying the loan ID on success.
+ *
+ * Notes:
+ * - A concurrent modification of any copy (optimistic version check) rolls back the whole batch,
+ *   which is then re-read and re-validated up to {@link CheckoutService#MAX_ATTEMPTS} times; items
+ *   taken in the meantime fail individually on the next attempt.
+ * - Bulk checkouts do not take {@link CheckoutService}'s lock stripes: holding hundreds of them at
+ *   once would serialize unrelated desks. Both paths still save copies with the version check, so
+ *   a copy is never lent twice; the loser of a race retries and then sees the copy taken.
+ * - Failures while persisting the batch (other than a version conflict) propagate and roll back
+ *   every item; no partial results are returned.
+ */
+@Service
+public class BulkLoanService {
+
+    private final BookCopyRepository bookCopyRepository;
+    private final MemberRepository memberRepository;
+    private final LoanRepository loanRepository;
+    private final TransactionalPort transactionalPort;
+
+    public BulkLoanService(BookCopyRepository bookCopyRepository,
+                           MemberRepository memberRepository,
+                           LoanRepository loanRepository,
+                           TransactionalPort transactionalPort) {
+        this.bookCopyRepository = bookCopyRepository;
+        this.memberRepository = memberRepository;
+        this.loanRepository = loanRepository;
+        this.transactionalPort = transactionalPort;
+    }
+
+    /**
+     * Creates every valid loan of the command in one transaction.
+     *
+     * @param command loans to create
+     * @return one result per requested loan, in request order
+     */
+    public List<Result<Long>> createLoans(BulkCreateLoansCommand command) {
+        List<CreateLoanCommand> items = command.getLoans();
+        return withRetry(() -> {
+            Map<Long, BookCopy> copies = byId(bookCopyRepository.findAllByIds(
+                    distinct(items, CreateLoanCommand::getBookCopyId)), BookCopy::getId);
+            Map<Long, Member> members = byId(memberRepository.findAllByIds(
+                    distinct(items, CreateLoanCommand::getMemberId)), Member::getId);
+
+            Result<Long>[] results = newResults(items.size());
+            List<Integer> positions = new ArrayList<>();
+            List<Loan> loans = new ArrayList<>();
+            List<BookCopy> lentCopies = new ArrayList<>();
+            Set<Long> claimedCopies = new HashSet<>();
+            for (int i = 0; i < items.size(); i++) {
+                CreateLoanCommand item = items.get(i);
+                BookCopy copy = copies.get(item.getBookCopyId());
+                Member member = members.get(item.getMemberId());
+                String error = validateCheckout(item, copy, member, claimedCopies);
+                if (error != null) {
+                    results[i] = Result.failure(error);
+                    continue;
+                }
+                try {
+                    loans.add(new Loan.Builder()
+                            .bookCopy(copy)
+                            .member(member)
+                            .loanDate(item.getLoanDate())
+                            .dueDate(item.getDueDate())
+                            .build());
+                } catch (RuntimeException e) {
+                    results[i] = Result.failure(e.getMessage());
+                    continue;
+                }
+                claimedCopies.add(copy.getId());
+                lentCopies.add(copy);
+                positions.add(i);
+            }
+
+            bookCopyRepository.saveAll(lentCopies);
+            List<Loan> saved = loanRepository.saveAll(loans);
+            for (int k = 0; k < saved.size(); k++) {
+                results[positions.get(k)] = Result.success(saved.get(k).getId());
+            }
+            return Arrays.asList(results);
+        });
+    }
+
+    /**
+     * Returns every valid loan of the command in one transaction.
+     *
+     * @param command loans to return and the return date
+     * @return one result per requested loan, in request order
+     */
+    public List<Result<Long>> returnLoans(BulkReturnLoansCommand command) {
+        List<Long> loanIds = command.getLoanIds();
+        return withRetry(() -> {
+            Map<Long, Loan> loans = byId(loanRepository.findAllByIds(new LinkedHashSet<>(loanIds)), Loan::getId);
+
+            Result<Long>[] results = newResults(loanIds.size());
+            List<Integer> positions = new ArrayList<>();
+            List<Loan> returned = new ArrayList<>();
+            List<BookCopy> copies = new ArrayList<>();
+            Set<Long> seen = new HashSet<>();
+            for (int i = 0; i < loanIds.size(); i++) {
+                Long loanId = loanIds.get(i);
+                Loan loan = loans.get(loanId);
+                if (loan == null || loan.isDeleted()) {
+                    results[i] = Result.failure("Loan not found: " + loanId);
+                    continue;
+                }
+                if (!seen.add(loanId)) {
+                    results[i] = Result.failure("Loan " + loanId + " is listed more than once");
+                    continue;
+                }
+                if (loan.getStatus() == LoanStatus.RETURNED) {
+                    results[i] = Result.failure("Loan " + loanId + " was already returned");
+                    continue;
+                }
+                try {
+                    loan.returnBook(command.getReturnDate());
+                } catch (RuntimeException e) {
+                    results[i] = Result.failure(e.getMessage());
+                    continue;
+                }
+                returned.add(loan);
+                copies.add(loan.getBookCopy());
+                positions.add(i);
+            }
+
+            bookCopyRepository.saveAll(copies);
+            List<Loan> saved = loanRepository.saveAll(returned);
+            for (int k = 0; k < saved.size(); k++) {
+                results[positions.get(k)] = Result.success(saved.get(k).getId());
+            }
+            return Arrays.asList(results);
+        });
+    }
+
+    private List<Result<Long>> withRetry(Supplier<List<Result<Long>>> batch) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionalPort.inTransactionReturning(batch);
+            } catch (ConcurrencyConflictException e) {
+                if (attempt >= CheckoutService.MAX_ATTEMPTS) throw e;
+            }
+        }
+    }
+
+    private static String validateCheckout(CreateLoanCommand item, BookCopy copy, Member member,
+                                           Set<Long> claimedCopies) {
+        if (copy == null || copy.isDeleted()) return "Book copy not found: " + item.getBookCopyId();
+        if (member == null || member.isDeleted()) return "Member not found: " + item.getMemberId();
+        if (claimedCopies.contains(copy.getId())) {
+            return "Book copy " + copy.getId() + " is requested more than once";
+        }
+        if (copy.getStatus() != BookStatus.AVAILABLE) {
+            return "Book copy " + copy.getId() + " is not available (" + copy.getStatus() + ")";
+        }
+        return null;
+    }
+
+    private static <T> Set<Long> distinct(List<T> items, Function<T, Long> id) {
+        return items.stream().map(id).collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private static <T> Map<Long, T> byId(List<T> rows, Function<T, Long> id) {
+        return rows.stream().collect(Collectors.toMap(id, Function.identity(), (a, b) -> a));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Result<Long>[] newResults(int size) {
+        return (Result<Long>[]) new Result[size];
+    }
+}
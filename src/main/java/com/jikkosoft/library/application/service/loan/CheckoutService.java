@@ -0,0 +1,167 @@
+package com.jikkosoft.library.application.service.loan;
+
+import com.jikkosoft.library.application.port.persistence.BookCopyRepository;
+import com.jikkosoft.library.application.port.persistence.LoanRepository;
+import com.jikkosoft.library.application.port.persistence.MemberRepository;
+import com.jikkosoft.library.application.port.persistence.ReservationRepository;
+import com.jikkosoft.library.application.port.service.ClockPort;
+import com.jikkosoft.library.application.port.tx.TransactionalPort;
+import com.jikkosoft.library.domain.enums.BookStatus;
+import com.jikkosoft.library.domain.enums.LoanStatus;
+import com.jikkosoft.library.domain.exception.BusinessException;
+import com.jikkosoft.library.domain.exception.ConcurrencyConflictException;
+import com.jikkosoft.library.domain.model.BookCopy;
+import com.jikkosoft.library.domain.model.Loan;
+import com.jikkosoft.library.domain.model.Member;
+import com.jikkosoft.library.domain.model.Reservation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Checks copies out and back in without two desks ever lending the same copy.
+ *
+ * Responsibilities:
+ * - Serializes checkout/return of the same BookCopy through a lock stripe keyed by its ID,
+ *   so unrelated copies proceed in parallel on all cores.
+ * - Re-reads the copy inside the lock and transaction, so the AVAILABLE check and the
+ *   ON_LOAN transition are atomic within this instance.
+ * - Lends a copy ON_HOLD only to the member whose reservation holds it, fulfilling that reservation.
+ * - Relies on the adapter's optimistic version check ({@link BookCopy#getVersion()}) across
+ *   instances, retrying a bounded number of times on {@link ConcurrencyConflictException}.
+ *
+ * Notes:
+ * - The lock is held until the transaction commits, never across copies, so it cannot deadlock.
+ * - The returned loan carries the copy as saved, so its version is the one now stored.
+ * - A retried return raises {@link com.jikkosoft.library.domain.event.LoanReturned} again; its
+ *   subscriber acts after commit only. Anything that counts loans does so from repository
+ *   decorators after commit, so rolled-back attempts are never counted.
+ */
+@Service
+public class CheckoutService {
+
+    static final int MAX_ATTEMPTS = 3;
+
+    private final BookCopyRepository bookCopyRepository;
+    private final MemberRepository memberRepository;
+    private final LoanRepository loanRepository;
+    private final ReservationRepository reservationRepository;
+    private final TransactionalPort transactionalPort;
+    private final ClockPort clock;
+    private final LockStripes stripes;
+
+    public CheckoutService(BookCopyRepository bookCopyRepository,
+                           MemberRepository memberRepository,
+                           LoanRepository loanRepository,
+                           ReservationRepository reservationRepository,
+                           TransactionalPort transactionalPort,
+                           ClockPort clock,
+                           @Value("${library.checkout.lock-stripes:1024}") int lockStripes) {
+        this.bookCopyRepository = bookCopyRepository;
+        this.memberRepository = memberRepository;
+        this.loanRepository = loanRepository;
+        this.reservationRepository = reservationRepository;
+        this.transactionalPort = transactionalPort;
+        this.clock = clock;
+        this.stripes = new LockStripes(lockStripes);
+    }
+
+    /**
+     * Lends a copy to a member starting today. A copy ON_HOLD is lent only to the member it is held
+     * for, and that reservation becomes FULFILLED.
+     *
+     * @param copyId   identifier of the copy to lend
+     * @param memberId identifier of the borrowing member
+     * @param dueDate  date the copy must be returned
+     * @return persisted loan
+     * @throws BusinessException if the copy or member does not exist, or the copy is neither AVAILABLE
+     *                           nor held for this member
+     */
+    public Loan checkout(Long copyId, Long memberId, LocalDate dueDate) {
+        Objects.requireNonNull(copyId, "Book copy ID must not be null.");
+        Objects.requireNonNull(memberId, "Member ID must not be null.");
+        return withCopyLock(copyId, () -> {
+            BookCopy copy = bookCopyRepository.findById(copyId)
+                    .orElseThrow(() -> new BusinessException("Book copy not found: " + copyId));
+            Reservation holding = copy.getStatus() == BookStatus.ON_HOLD ? heldFor(copyId, memberId) : null;
+            if (copy.getStatus() != BookStatus.AVAILABLE && holding == null) {
+                throw new BusinessException("Book copy " + copyId + " is not available (" + copy.getStatus() + ")");
+            }
+            Member member = memberRepository.findById(memberId)
+                    .orElseThrow(() -> new BusinessException("Member not found: " + memberId));
+
+            Loan loan = new Loan.Builder()
+                    .bookCopy(copy)
+                    .member(member)
+                    .loanDate(clock.today())
+                    .dueDate(dueDate)
+                    .build();
+            BookCopy saved = bookCopyRepository.save(copy);
+            Loan persisted = loanRepository.save(loan);
+            if (holding != null) {
+                holding.markFulfilled();
+                reservationRepository.save(holding);
+            }
+            return withCopy(persisted, saved);
+        });
+    }
+
+    /** The reservation holding the copy, when it is held for this member. */
+    private Reservation heldFor(Long copyId, Long memberId) {
+        return reservationRepository.findActiveByHeldCopyId(copyId)
+                .filter(reservation -> Objects.equals(reservation.getMember().getId(), memberId))
+                .orElse(null);
+    }
+
+    /**
+     * Closes a loan today and puts its copy back into circulation.
+     *
+     * @param loanId identifier of the loan
+     * @return persisted loan
+     * @throws BusinessException if the loan does not exist or was already returned
+     */
+    public Loan returnLoan(Long loanId) {
+        Objects.requireNonNull(loanId, "Loan ID must not be null.");
+        Long copyId = loanRepository.findById(loanId)
+                .map(loan -> loan.getBookCopy().getId())
+                .orElseThrow(() -> new BusinessException("Loan not found: " + loanId));
+        return withCopyLock(copyId, () -> {
+            Loan loan = loanRepository.findById(loanId)
+                    .orElseThrow(() -> new BusinessException("Loan not found: " + loanId));
+            if (loan.getStatus() == LoanStatus.RETURNED) {
+                throw new BusinessException("Loan " + loanId + " was already returned");
+            }
+            loan.returnBook(clock.today());
+            BookCopy saved = bookCopyRepository.save(loan.getBookCopy());
+            return withCopy(loanRepository.save(loan), saved);
+        });
+    }
+
+    /** Restores the persisted loan around the saved copy, without touching the copy or raising events. */
+    private static Loan withCopy(Loan loan, BookCopy copy) {
+        return new Loan.Builder()
+                .id(loan.getId())
+                .bookCopy(copy)
+                .member(loan.getMember())
+                .loanDate(loan.getLoanDate())
+                .dueDate(loan.getDueDate())
+                .status(loan.getStatus())
+                .returnDate(loan.getReturnDate())
+                .build();
+    }
+
+    private Loan withCopyLock(Long copyId, Supplier<Loan> action) {
+        return stripes.withLock(copyId, () -> {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    return transactionalPort.inTransactionReturning(action);
+                } catch (ConcurrencyConflictException e) {
+                    if (attempt >= MAX_ATTEMPTS) throw e;
+                }
+            }
+        });
+    }
+}
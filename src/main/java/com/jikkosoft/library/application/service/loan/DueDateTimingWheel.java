@@ -0,0 +1,134 @@
+package com.jikkosoft.library.application.service.loan;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Day-granular timing wheel of loan IDs keyed by due date.
+ *
+ * Responsibilities:
+ * - Schedules a loan in the bucket of its due date; cancels it in O(1).
+ * - Advancing to "today" returns only the loans whose due date has just passed
+ *   (dueDate &lt; today), touching only the buckets of the elapsed days.
+ *
+ * Notes:
+ * - The wheel covers {@code slots} days ahead of the cursor; farther due dates wait in an
+ *   ordered overflow map and are moved into the wheel as it turns.
+ * - Loans already past due when scheduled are returned by the next advance.
+ * - Thread-safe: all operations are synchronized (they are short and infrequent).
+ */
+public class DueDateTimingWheel {
+
+    private final List<Set<Long>> buckets;
+    private final TreeMap<Long, Set<Long>> overflow = new TreeMap<>();
+    private final Set<Long> pastDue = new HashSet<>();
+    private final Map<Long, Long> dueDayById = new HashMap<>();
+    private long lastExpiredDay;
+
+    /**
+     * @param slots       number of days covered by the wheel
+     * @param lastExpired last day whose loans are already considered overdue (usually yesterday)
+     */
+    public DueDateTimingWheel(int slots, LocalDate lastExpired) {
+        if (slots <= 0) throw new IllegalArgumentException("Timing wheel needs at least one slot");
+        this.buckets = new ArrayList<>(slots);
+        for (int i = 0; i < slots; i++) buckets.add(new HashSet<>());
+        this.lastExpiredDay = lastExpired.toEpochDay();
+    }
+
+    /**
+     * Schedules (or reschedules) a loan.
+     *
+     * @param loanId  identifier of the loan
+     * @param dueDate date the loan is due
+     */
+    public synchronized void schedule(Long loanId, LocalDate dueDate) {
+        cancel(loanId);
+        long day = dueDate.toEpochDay();
+        dueDayById.put(loanId, day);
+        if (day <= lastExpiredDay) {
+            pastDue.add(loanId);
+        } else if (day - lastExpiredDay <= buckets.size()) {
+            bucket(day).add(loanId);
+        } else {
+            overflow.computeIfAbsent(day, d -> new HashSet<>()).add(loanId);
+        }
+    }
+
+    /**
+     * Removes a loan from the schedule (e.g., returned or deleted).
+     *
+     * @param loanId identifier of the loan
+     */
+    public synchronized void cancel(Long loanId) {
+        Long day = dueDayById.remove(loanId);
+        if (day == null) return;
+        if (!pastDue.remove(loanId) && !bucket(day).remove(loanId)) {
+            Set<Long> far = overflow.get(day);
+            if (far != null && far.remove(loanId) && far.isEmpty()) overflow.remove(day);
+        }
+    }
+
+    /**
+     * Turns the wheel so that every due date before {@code today} is expired.
+     *
+     * @param today current date
+     * @return IDs of the loans that became overdue since the previous advance
+     */
+    public synchronized List<Long> advance(LocalDate today) {
+        long target = today.toEpochDay() - 1;
+        List<Long> expired = new ArrayList<>(pastDue);
+        pastDue.clear();
+        while (lastExpiredDay < target) {
+            lastExpiredDay++;
+            Set<Long> bucket = bucket(lastExpiredDay);
+            expired.addAll(bucket);
+            bucket.clear();
+            refillFromOverflow();
+        }
+        expired.forEach(dueDayById::remove);
+        return expired;
+    }
+
+    /**
+     * Puts loans returned by {@link #advance(LocalDate)} back, so the next advance returns them
+     * again (e.g. when persisting their new status failed). Loans scheduled again in the
+     * meantime keep their new due date.
+     *
+     * @param loanIds identifiers of the loans to retry
+     */
+    public synchronized void requeue(Collection<Long> loanIds) {
+        for (Long loanId : loanIds) {
+            if (dueDayById.putIfAbsent(loanId, lastExpiredDay) == null) {
+                pastDue.add(loanId);
+            }
+        }
+    }
+
+    /** @return number of scheduled loans. */
+    public synchronized int size() {
+        return dueDayById.size();
+    }
+
+    private void refillFromOverflow() {
+        long horizon = lastExpiredDay + buckets.size();
+        Iterator<Map.Entry<Long, Set<Long>>> it = overflow.headMap(horizon, true).entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Long, Set<Long>> entry = it.next();
+            bucket(entry.getKey()).addAll(entry.getValue());
+            it.remove();
+        }
+    }
+
+    private Set<Long> bucket(long day) {
+        return buckets.get((int) Math.floorMod(day, (long) buckets.size()));
+    }
+}
@@ -0,0 +1,43 @@
+package com.jikkosoft.library.application.service.loan;
+
+import com.jikkosoft.library.application.common.CursorRequest;
+import com.jikkosoft.library.application.common.PageCursor;
+import com.jikkosoft.library.application.port.persistence.LoanRepository;
+import com.jikkosoft.library.domain.enums.LoanStatus;
+import com.jikkosoft.library.domain.model.Loan;
+import com.jikkosoft.library.domain.model.LoanHistory;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Backs {@link LoanHistory} with the keyset variant of
+ * {@link LoanRepository#findByMemberIdAndStatusPaged(Long, LoanStatus, CursorRequest)}.
+ *
+ * Notes:
+ * - Windows are ordered by (returnDate, id) descending; the cursor is built from the last loan
+ *   of the previous window.
+ * - Member adapters pass this to {@code Member.Builder.loanHistorySource} when hydrating, so a
+ *   member's RETURNED loans are only read from storage when its history is accessed.
+ */
+@Component
+public class LoanHistoryLoader implements LoanHistory.Source {
+
+    private static final String SORT_BY = "returnDate";
+    private static final String DIRECTION = "DESC";
+
+    private final LoanRepository loanRepository;
+
+    public LoanHistoryLoader(@Lazy LoanRepository loanRepository) {
+        this.loanRepository = loanRepository;
+    }
+
+    @Override
+    public List<Loan> load(Long memberId, Loan after, int size) {
+        String cursor = after == null ? null
+                : new PageCursor(SORT_BY, DIRECTION, after.getReturnDate().toString(), after.getId()).encode();
+        return loanRepository.findByMemberIdAndStatusPaged(memberId, LoanStatus.RETURNED,
+                new CursorRequest(cursor, size, SORT_BY, DIRECTION)).items();
+    }
+}
@@ -0,0 +1,45 @@
+package com.jikkosoft.library.application.service.loan;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Fixed pool of locks selected by hashing an ID.
+ *
+ * Notes:
+ * - Operations on the same ID always serialize; operations on different IDs only contend
+ *   when they hash to the same stripe (probability ~1/stripes).
+ * - The stripe count is rounded up to a power of two so the index is a mask.
+ */
+class LockStripes {
+
+    private final ReentrantLock[] locks;
+    private final int mask;
+
+    LockStripes(int stripes) {
+        if (stripes <= 0) throw new IllegalArgumentException("Lock stripes must be greater than zero");
+        int size = stripes == 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        this.locks = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) locks[i] = new ReentrantLock();
+        this.mask = size - 1;
+    }
+
+    <T> T withLock(long id, Supplier<T> action) {
+        ReentrantLock lock = locks[index(id)];
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int size() {
+        return locks.length;
+    }
+
+    private int index(long id) {
+        long h = id * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,116 @@
+package com.jikkosoft.library.application.service.loan;
+
+import com.jikkosoft.library.application.port.persistence.LoanRepository;
+import com.jikkosoft.library.application.port.service.ClockPort;
+import com.jikkosoft.library.application.port.tx.TransactionalPort;
+import com.jikkosoft.library.domain.enums.LoanStatus;
+import com.jikkosoft.library.domain.model.Loan;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Marks loans as OVERDUE using a due-date index instead of scanning every loan.
+ *
+ * Responsibilities:
+ * - Keeps every ACTIVE loan in a {@link DueDateTimingWheel} keyed by {@code Loan.dueDate}.
+ * - Rebuilds the wheel on startup from a lightweight due-date scan.
+ * - On each sweep, loads only the loans whose bucket just expired, applies
+ *   {@link Loan#markOverdueIfNeeded(LocalDate)} and persists the changes in batches,
+ *   one transaction per batch. The IDs of a batch that fails are requeued, so the next
+ *   sweep retries them.
+ *
+ * Notes:
+ * - Sweep cost is O(newly overdue loans), independent of the number of active loans.
+ * - The schedule is kept current by the loan save path (see {@link #track(Loan)}), once
+ *   the saving transaction has committed.
+ */
+@Slf4j
+public class OverdueSweepService {
+
+    private final LoanRepository loanRepository;
+    private final ClockPort clock;
+    private final TransactionalPort transactionalPort;
+    private final int batchSize;
+    private final DueDateTimingWheel wheel;
+
+    public OverdueSweepService(LoanRepository loanRepository, ClockPort clock, TransactionalPort transactionalPort,
+                               int wheelDays, int batchSize) {
+        this.loanRepository = loanRepository;
+        this.clock = clock;
+        this.transactionalPort = transactionalPort;
+        this.batchSize = batchSize;
+        this.wheel = new DueDateTimingWheel(wheelDays, clock.today().minusDays(1));
+    }
+
+    /**
+     * Loads the due date of every ACTIVE loan into the wheel.
+     */
+    public void rehydrate() {
+        loanRepository.forEachActiveDueDate(row -> wheel.schedule(row.loanId(), row.dueDate()));
+        log.info("Overdue schedule rebuilt with {} active loans", wheel.size());
+    }
+
+    /**
+     * Updates the schedule after a loan was persisted.
+     *
+     * @param loan persisted loan (loans without ID are ignored)
+     */
+    public void track(Loan loan) {
+        if (loan.getId() == null) return;
+        if (loan.getStatus() == LoanStatus.ACTIVE && !loan.isDeleted()) {
+            wheel.schedule(loan.getId(), loan.getDueDate());
+        } else {
+            wheel.cancel(loan.getId());
+        }
+    }
+
+    /**
+     * Removes a loan from the schedule.
+     *
+     * @param loanId identifier of the loan
+     */
+    public void untrack(Long loanId) {
+        wheel.cancel(loanId);
+    }
+
+    /**
+     * Marks as OVERDUE every loan whose due date passed since the previous sweep.
+     *
+     * @return number of loans marked overdue
+     */
+    public int sweep() {
+        LocalDate today = clock.today();
+        List<Long> due = wheel.advance(today);
+        int marked = 0;
+        int requeued = 0;
+        for (int from = 0; from < due.size(); from += batchSize) {
+            List<Long> batch = due.subList(from, Math.min(from + batchSize, due.size()));
+            try {
+                marked += transactionalPort.inTransactionReturning(() -> markBatch(batch, today));
+            } catch (RuntimeException e) {
+                log.error("Overdue sweep batch of {} loans failed, requeued for the next sweep", batch.size(), e);
+                wheel.requeue(batch);
+                requeued += batch.size();
+            }
+        }
+        if (!due.isEmpty()) {
+            log.info("Overdue sweep for {}: {} loans due, {} marked overdue, {} requeued",
+                    today, due.size(), marked, requeued);
+        }
+        return marked;
+    }
+
+    private int markBatch(List<Long> ids, LocalDate today) {
+        List<Loan> changed = new ArrayList<>(ids.size());
+        for (Loan loan : loanRepository.findAllByIds(ids)) {
+            if (loan.getStatus() != LoanStatus.ACTIVE) continue;
+            loan.markOverdueIfNeeded(today);
+            if (loan.getStatus() == LoanStatus.OVERDUE) changed.add(loan);
+        }
+        loanRepository.saveAll(changed);
+        return changed.size();
+    }
+}
@@ -0,0 +1,170 @@
+package com.jikkosoft.library.application.service.reservation;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Hierarchical, day-granular timing wheel of IDs keyed by expiry date.
+ *
+ * Responsibilities:
+ * - Schedules an ID in O(1) and cancels it in O(1).
+ * - Advancing to "today" returns the IDs whose expiry date has passed (expiresAt &lt; today),
+ *   touching only the slots of the elapsed days.
+ *
+ * Notes:
+ * - Level {@code l} has {@value #SLOTS} slots of {@code 64^l} days each; entries are placed in the
+ *   finest level that covers their distance and cascade one level down when their coarse slot
+ *   comes due. Four levels cover ~45,000 years; anything beyond waits in an ordered overflow map.
+ * - IDs already expired when scheduled are returned by the next advance.
+ * - Thread-safe: all operations are synchronized (they are short and infrequent).
+ */
+public class ExpiryTimingWheel {
+
+    static final int SLOTS = 64;
+    private static final int BITS = 6;
+    private static final int LEVELS = 4;
+    private static final long SPAN = 1L << (BITS * LEVELS);
+
+    private final List<List<Set<Long>>> levels = new ArrayList<>(LEVELS);
+    private final TreeMap<Long, Set<Long>> overflow = new TreeMap<>();
+    private final Set<Long> expiredBacklog = new HashSet<>();
+    private final Map<Long, Timer> timers = new HashMap<>();
+    private long current;
+
+    /**
+     * @param lastExpired last day whose entries are already considered expired (usually yesterday)
+     */
+    public ExpiryTimingWheel(LocalDate lastExpired) {
+        for (int l = 0; l < LEVELS; l++) {
+            List<Set<Long>> slots = new ArrayList<>(SLOTS);
+            for (int s = 0; s < SLOTS; s++) slots.add(new HashSet<>());
+            levels.add(slots);
+        }
+        this.current = lastExpired.toEpochDay();
+    }
+
+    /**
+     * Schedules (or reschedules) an ID.
+     *
+     * @param id        identifier to schedule
+     * @param expiresAt last valid day; the ID expires once today is after it
+     */
+    public synchronized void schedule(Long id, LocalDate expiresAt) {
+        cancel(id);
+        Timer timer = new Timer(expiresAt.toEpochDay());
+        timers.put(id, timer);
+        place(id, timer);
+    }
+
+    /**
+     * Removes an ID from the schedule (e.g., cancelled or fulfilled).
+     *
+     * @param id identifier to remove
+     */
+    public synchronized void cancel(Long id) {
+        Timer timer = timers.remove(id);
+        if (timer == null) return;
+        timer.slot.remove(id);
+        if (timer.slot.isEmpty() && overflow.get(timer.day) == timer.slot) overflow.remove(timer.day);
+    }
+
+    /**
+     * Turns the wheel so that every expiry date before {@code today} is processed.
+     *
+     * @param today current date
+     * @return IDs that expired since the previous advance
+     */
+    public synchronized List<Long> advance(LocalDate today) {
+        long target = today.toEpochDay() - 1;
+        List<Long> expired = new ArrayList<>();
+        while (current < target) {
+            current++;
+            cascade();
+            Set<Long> slot = levels.get(0).get(slotIndex(current, 0));
+            expired.addAll(slot);
+            slot.clear();
+        }
+        expired.addAll(expiredBacklog);
+        expiredBacklog.clear();
+        expired.forEach(timers::remove);
+        return expired;
+    }
+
+    /**
+     * Puts IDs returned by {@link #advance(LocalDate)} back, so the next advance returns them
+     * again (e.g. when persisting their expiry failed). IDs scheduled again in the meantime
+     * keep their new expiry date.
+     *
+     * @param ids identifiers to retry
+     */
+    public synchronized void requeue(Collection<Long> ids) {
+        for (Long id : ids) {
+            if (timers.containsKey(id)) continue;
+            Timer timer = new Timer(current);
+            timers.put(id, timer);
+            place(id, timer);
+        }
+    }
+
+    /** @return number of scheduled IDs. */
+    public synchronized int size() {
+        return timers.size();
+    }
+
+    private void cascade() {
+        if ((current & (SPAN / SLOTS - 1)) == 0) drainOverflow();
+        for (int l = LEVELS - 1; l >= 1; l--) {
+            if ((current & ((1L << (BITS * l)) - 1)) != 0) continue;
+            Set<Long> slot = levels.get(l).get(slotIndex(current, l));
+            if (slot.isEmpty()) continue;
+            List<Long> ids = new ArrayList<>(slot);
+            slot.clear();
+            ids.forEach(id -> place(id, timers.get(id)));
+        }
+    }
+
+    private void drainOverflow() {
+        Iterator<Map.Entry<Long, Set<Long>>> it = overflow.headMap(current + SPAN, false).entrySet().iterator();
+        while (it.hasNext()) {
+            Set<Long> ids = it.next().getValue();
+            it.remove();
+            ids.forEach(id -> place(id, timers.get(id)));
+        }
+    }
+
+    private void place(Long id, Timer timer) {
+        long delta = timer.day - current;
+        Set<Long> slot;
+        if (delta <= 0) {
+            slot = expiredBacklog;
+        } else if (delta >= SPAN) {
+            slot = overflow.computeIfAbsent(timer.day, d -> new HashSet<>());
+        } else {
+            int level = (63 - Long.numberOfLeadingZeros(delta)) / BITS;
+            slot = levels.get(level).get(slotIndex(timer.day, level));
+        }
+        slot.add(id);
+        timer.slot = slot;
+    }
+
+    private static int slotIndex(long day, int level) {
+        return (int) ((day >> (BITS * level)) & (SLOTS - 1));
+    }
+
+    private static final class Timer {
+        private final long day;
+        private Set<Long> slot;
+
+        private Timer(long day) {
+            this.day = day;
+        }
+    }
+}
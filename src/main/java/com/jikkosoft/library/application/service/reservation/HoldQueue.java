@@ -0,0 +1,126 @@
+package com.jikkosoft.library.application.service.reservation;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * In-memory FIFO queues of ACTIVE reservations, one per book and library.
+ *
+ * Responsibilities:
+ * - Orders holds by reservation date, then by reservation ID (first come, first served).
+ * - Peeks or polls the head of a queue in O(1); enqueues and removes in O(log n) of that queue.
+ * - Keeps each library's line for a book apart, since a copy is only handed over where it was returned.
+ *
+ * Notes:
+ * - Lock-free: each queue is its own {@link ConcurrentSkipListSet}, so enqueues and dequeues on
+ *   different queues never contend, and concurrent polls on the same queue get distinct holds.
+ * - Empty queues are kept; their number is bounded by the number of reserved books per library.
+ */
+public class HoldQueue {
+
+    /**
+     * A waiting reservation.
+     *
+     * @param reservationId identifier of the reservation
+     * @param libraryId     identifier of the library holding the reserved copy
+     * @param bookId        identifier of the reserved book
+     * @param memberId      identifier of the waiting member
+     * @param reservedAt    date the reservation was made
+     */
+    public record Hold(Long reservationId, Long libraryId, Long bookId, Long memberId, LocalDate reservedAt) {
+    }
+
+    /** Identifies a queue: the waiting line for one book in one library. */
+    private record Line(Long libraryId, Long bookId) {
+    }
+
+    private static final Comparator<Hold> FIFO = Comparator.comparing(Hold::reservedAt)
+            .thenComparing(Hold::reservationId);
+
+    private final ConcurrentMap<Line, ConcurrentSkipListSet<Hold>> queues = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, Hold> holdsByReservation = new ConcurrentHashMap<>();
+
+    /**
+     * Adds (or re-positions) a hold in its queue.
+     *
+     * @param hold hold to enqueue
+     */
+    public void enqueue(Hold hold) {
+        Hold previous = holdsByReservation.put(hold.reservationId(), hold);
+        if (previous != null && !previous.equals(hold)) {
+            queue(previous).remove(previous);
+        }
+        queue(hold).add(hold);
+    }
+
+    /**
+     * Removes a hold from its queue, if present.
+     *
+     * @param reservationId identifier of the reservation
+     */
+    public void remove(Long reservationId) {
+        Hold hold = holdsByReservation.remove(reservationId);
+        if (hold != null) {
+            queue(hold).remove(hold);
+        }
+    }
+
+    /**
+     * Returns the next hold in line for a book in a library without removing it.
+     *
+     * @param libraryId identifier of the library
+     * @param bookId    identifier of the book
+     * @return head of the queue, or empty if nobody is waiting
+     */
+    public Optional<Hold> peek(Long libraryId, Long bookId) {
+        ConcurrentSkipListSet<Hold> queue = queues.get(new Line(libraryId, bookId));
+        if (queue == null) return Optional.empty();
+        Iterator<Hold> it = queue.iterator();
+        return it.hasNext() ? Optional.of(it.next()) : Optional.empty();
+    }
+
+    /**
+     * Removes and returns the next hold in line for a book in a library.
+     *
+     * @param libraryId identifier of the library
+     * @param bookId    identifier of the book
+     * @return former head of the queue, or empty if nobody is waiting
+     */
+    public Optional<Hold> poll(Long libraryId, Long bookId) {
+        ConcurrentSkipListSet<Hold> queue = queues.get(new Line(libraryId, bookId));
+        if (queue == null) return Optional.empty();
+        Hold head;
+        while ((head = queue.pollFirst()) != null) {
+            if (holdsByReservation.remove(head.reservationId(), head)) {
+                return Optional.of(head);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Counts the holds waiting for a book in a library (linear in the queue length).
+     *
+     * @param libraryId identifier of the library
+     * @param bookId    identifier of the book
+     * @return number of holds waiting for the book there
+     */
+    public int size(Long libraryId, Long bookId) {
+        ConcurrentSkipListSet<Hold> queue = queues.get(new Line(libraryId, bookId));
+        return queue != null ? queue.size() : 0;
+    }
+
+    /** @return number of holds waiting across all books and libraries. */
+    public int size() {
+        return holdsByReservation.size();
+    }
+
+    private ConcurrentSkipListSet<Hold> queue(Hold hold) {
+        return queues.computeIfAbsent(new Line(hold.libraryId(), hold.bookId()), line -> new ConcurrentSkipListSet<>(FIFO));
+    }
+}
@@ -0,0 +1,220 @@
+package com.jikkosoft.library.application.service.reservation;
+
+import com.jikkosoft.library.application.common.CursorRequest;
+import com.jikkosoft.library.application.common.CursorResponse;
+import com.jikkosoft.library.application.port.persistence.BookCopyRepository;
+import com.jikkosoft.library.application.port.persistence.ReservationRepository;
+import com.jikkosoft.library.application.port.service.NotificationPort;
+import com.jikkosoft.library.application.port.tx.TransactionalPort;
+import com.jikkosoft.library.domain.enums.BookStatus;
+import com.jikkosoft.library.domain.enums.ReservationStatus;
+import com.jikkosoft.library.domain.event.DomainEventPublisher;
+import com.jikkosoft.library.domain.event.LoanReturned;
+import com.jikkosoft.library.domain.model.BookCopy;
+import com.jikkosoft.library.domain.model.Reservation;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Keeps a {@link HoldQueue} of waiting reservations per book and library and hands returned copies
+ * to the head of the line.
+ *
+ * Responsibilities:
+ * - Rebuilds the queues on startup by paging through ACTIVE reservations.
+ * - Enqueues reservations as they are saved and drops them when a save moves them out of
+ *   ACTIVE, gives them a held copy, or they are deleted; the save path reports only committed changes.
+ * - Once a return that left its copy AVAILABLE has committed ({@link LoanReturned}), holds the
+ *   copy for the next reservation of that book in the copy's library, in a new transaction: the
+ *   copy goes ON_HOLD and the reservation records it. The member is notified after that commits.
+ * - Releases a held copy once its reservation is cancelled, expires or is deleted, and hands it
+ *   to the next member in line.
+ *
+ * Notes:
+ * - Replaces materializing {@code findActiveByBookIdOrderByReservedAt} on every return
+ *   with an O(1) head lookup plus a single reservation load.
+ * - Holds whose reservation is no longer waiting in the store are skipped.
+ * - If the hand-off fails, or the copy was lent again before it ran, the hold goes back
+ *   into the queue and the copy stays as it is.
+ * - The reservation stays ACTIVE while its copy is held; checking that copy out to the member
+ *   fulfils it. A hold lasts until the reservation's own expiry date.
+ */
+@Slf4j
+public class HoldQueueService {
+
+    private static final int REHYDRATE_PAGE_SIZE = 1000;
+
+    private final ReservationRepository reservationRepository;
+    private final BookCopyRepository bookCopyRepository;
+    private final NotificationPort notificationPort;
+    private final TransactionalPort transactionalPort;
+    private final HoldQueue queue = new HoldQueue();
+    private DomainEventPublisher.Subscription subscription;
+
+    public HoldQueueService(ReservationRepository reservationRepository, BookCopyRepository bookCopyRepository,
+                            NotificationPort notificationPort, TransactionalPort transactionalPort) {
+        this.reservationRepository = reservationRepository;
+        this.bookCopyRepository = bookCopyRepository;
+        this.notificationPort = notificationPort;
+        this.transactionalPort = transactionalPort;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        subscription = DomainEventPublisher.subscribe(LoanReturned.class, this::onLoanReturned);
+    }
+
+    @PreDestroy
+    public void unsubscribe() {
+        if (subscription != null) subscription.close();
+    }
+
+    /**
+     * Loads every ACTIVE reservation into the queues.
+     */
+    public void rehydrate() {
+        CursorRequest request = CursorRequest.first(REHYDRATE_PAGE_SIZE);
+        CursorResponse<Reservation> window;
+        do {
+            window = reservationRepository.findByStatusPaged(ReservationStatus.ACTIVE, request);
+            window.items().forEach(this::track);
+            request = request.next(window);
+        } while (window.hasNext());
+        log.info("Hold queues rebuilt with {} active reservations", queue.size());
+    }
+
+    /**
+     * Updates the queues after a reservation was persisted, and releases the copy it held once it
+     * was cancelled or expired.
+     *
+     * @param reservation persisted reservation (reservations without ID are ignored)
+     */
+    public void track(Reservation reservation) {
+        if (reservation.getId() == null) return;
+        boolean active = reservation.getStatus() == ReservationStatus.ACTIVE && !reservation.isDeleted();
+        if (active && reservation.getHeldCopy() == null) {
+            queue.enqueue(holdOf(reservation));
+            return;
+        }
+        queue.remove(reservation.getId());
+        if (!active && reservation.getHeldCopy() != null && reservation.getStatus() != ReservationStatus.FULFILLED) {
+            releaseHold(reservation.getHeldCopy().getId());
+        }
+    }
+
+    /**
+     * Removes a reservation from the queues.
+     *
+     * @param reservationId identifier of the reservation
+     */
+    public void untrack(Long reservationId) {
+        queue.remove(reservationId);
+    }
+
+    /**
+     * Returns the next hold in line for a book in a library.
+     *
+     * @param libraryId identifier of the library
+     * @param bookId    identifier of the book
+     * @return head of the queue, or empty if nobody is waiting
+     */
+    public Optional<HoldQueue.Hold> nextInLine(Long libraryId, Long bookId) {
+        return queue.peek(libraryId, bookId);
+    }
+
+    /**
+     * Holds a copy for the next reservation of its book in its library, in a new transaction,
+     * and notifies the member once it has committed.
+     *
+     * @param libraryId identifier of the library the copy is in
+     * @param bookId    identifier of the book
+     * @param copyId    identifier of the copy handed over
+     * @return reservation now holding the copy, or empty if nobody is waiting or the copy is no longer AVAILABLE
+     */
+    public Optional<Reservation> handOff(Long libraryId, Long bookId, Long copyId) {
+        AtomicReference<HoldQueue.Hold> inFlight = new AtomicReference<>();
+        Optional<Reservation> holding;
+        try {
+            holding = transactionalPort.inNewTransactionReturning(
+                    () -> holdForNext(libraryId, bookId, copyId, inFlight));
+        } catch (RuntimeException e) {
+            if (inFlight.get() != null) queue.enqueue(inFlight.get());
+            throw e;
+        }
+        holding.ifPresent(reservation -> {
+            notificationPort.notifyMember(reservation.getMember(), "Your reservation is ready",
+                    "A copy of \"" + reservation.getBookCopy().getBook().getTitle() + "\" is on hold for you.");
+            log.debug("Copy {} handed to reservation {}", copyId, reservation.getId());
+        });
+        return holding;
+    }
+
+    /**
+     * Puts a held copy back into circulation, in a new transaction, once the reservation it was held
+     * for was cancelled, expired or deleted, then hands it to the next member in line.
+     *
+     * @param copyId identifier of the held copy
+     * @return the copy, now AVAILABLE (or ON_HOLD again for the next member)
+     * @throws IllegalStateException if the copy does not exist or is not ON_HOLD
+     */
+    public BookCopy releaseHold(Long copyId) {
+        BookCopy released = transactionalPort.inNewTransactionReturning(() -> {
+            BookCopy copy = bookCopyRepository.findById(copyId)
+                    .orElseThrow(() -> new IllegalStateException("Book copy not found: " + copyId));
+            if (copy.getStatus() != BookStatus.ON_HOLD) {
+                throw new IllegalStateException("Book copy " + copyId + " is not on hold (" + copy.getStatus() + ")");
+            }
+            copy.changeStatus(BookStatus.AVAILABLE);
+            return bookCopyRepository.save(copy);
+        });
+        return handOff(released.getLibrary().getId(), released.getBook().getId(), copyId)
+                .map(Reservation::getHeldCopy)
+                .orElse(released);
+    }
+
+    /** Runs inside the hand-off transaction; {@code inFlight} holds the polled hold until it is settled. */
+    private Optional<Reservation> holdForNext(Long libraryId, Long bookId, Long copyId,
+                                              AtomicReference<HoldQueue.Hold> inFlight) {
+        Optional<HoldQueue.Hold> next;
+        while ((next = queue.poll(libraryId, bookId)).isPresent()) {
+            HoldQueue.Hold hold = next.get();
+            inFlight.set(hold);
+            Optional<Reservation> reservation = reservationRepository.findById(hold.reservationId())
+                    .filter(r -> r.getStatus() == ReservationStatus.ACTIVE && !r.isDeleted() && r.getHeldCopy() == null);
+            if (reservation.isEmpty()) {
+                inFlight.set(null);
+                continue;
+            }
+            BookCopy copy = bookCopyRepository.findById(copyId).orElse(null);
+            if (copy == null || copy.getStatus() != BookStatus.AVAILABLE) {
+                inFlight.set(null);
+                queue.enqueue(hold);
+                return Optional.empty();
+            }
+            copy.changeStatus(BookStatus.ON_HOLD);
+            BookCopy held = bookCopyRepository.save(copy);
+            Reservation holding = reservation.get();
+            holding.hold(held);
+            reservationRepository.save(holding);
+            return Optional.of(holding);
+        }
+        return Optional.empty();
+    }
+
+    private void onLoanReturned(LoanReturned event) {
+        if (event.copyStatus() != BookStatus.AVAILABLE) return;
+        transactionalPort.afterCommit(() -> handOff(event.libraryId(), event.bookId(), event.copyId()));
+    }
+
+    private static HoldQueue.Hold holdOf(Reservation reservation) {
+        return new HoldQueue.Hold(
+                reservation.getId(),
+                reservation.getBookCopy().getLibrary().getId(),
+                reservation.getBookCopy().getBook().getId(),
+                reservation.getMember().getId(),
+                reservation.getReservedAt());
+    }
+}
@@ -0,0 +1,123 @@
+package com.jikkosoft.library.application.service.reservation;
+
+import com.jikkosoft.library.application.common.CursorRequest;
+import com.jikkosoft.library.application.common.CursorResponse;
+import com.jikkosoft.library.application.port.persistence.ReservationRepository;
+import com.jikkosoft.library.application.port.service.ClockPort;
+import com.jikkosoft.library.application.port.tx.TransactionalPort;
+import com.jikkosoft.library.domain.enums.ReservationStatus;
+import com.jikkosoft.library.domain.model.Reservation;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Expires ACTIVE reservations using an {@link ExpiryTimingWheel} keyed by {@code Reservation.expiresAt}.
+ *
+ * Responsibilities:
+ * - Rebuilds the wheel on startup by paging through ACTIVE reservations.
+ * - Schedules reservations as they are saved and cancels them once a save moves them out of
+ *   ACTIVE ({@code cancel()}, {@code markFulfilled()}); the save path reports only committed
+ *   changes (see {@link #track(Reservation)}).
+ * - On each run, loads only the reservations whose expiry just passed, applies
+ *   {@link Reservation#expireIfPast(LocalDate)} and flushes each batch in one transaction.
+ *   The IDs of a batch that fails are requeued, so the next run retries them.
+ *
+ * Notes:
+ * - Replaces polling the whole ACTIVE set with work proportional to the expiring reservations.
+ * - A stale entry is harmless: reservations that are no longer ACTIVE are skipped on expiry.
+ */
+@Slf4j
+public class ReservationExpiryService {
+
+    private final ReservationRepository reservationRepository;
+    private final ClockPort clock;
+    private final TransactionalPort transactionalPort;
+    private final int batchSize;
+    private final ExpiryTimingWheel wheel;
+
+    public ReservationExpiryService(ReservationRepository reservationRepository, ClockPort clock,
+                                    TransactionalPort transactionalPort, int batchSize) {
+        this.reservationRepository = reservationRepository;
+        this.clock = clock;
+        this.transactionalPort = transactionalPort;
+        this.batchSize = batchSize;
+        this.wheel = new ExpiryTimingWheel(clock.today().minusDays(1));
+    }
+
+    /**
+     * Loads every ACTIVE reservation into the wheel.
+     */
+    public void rehydrate() {
+        CursorRequest request = CursorRequest.first(batchSize);
+        CursorResponse<Reservation> window;
+        do {
+            window = reservationRepository.findByStatusPaged(ReservationStatus.ACTIVE, request);
+            window.items().forEach(this::track);
+            request = request.next(window);
+        } while (window.hasNext());
+        log.info("Reservation expiry schedule rebuilt with {} active reservations", wheel.size());
+    }
+
+    /**
+     * Updates the schedule after a reservation was persisted.
+     *
+     * @param reservation persisted reservation (reservations without ID are ignored)
+     */
+    public void track(Reservation reservation) {
+        if (reservation.getId() == null) return;
+        if (reservation.getStatus() == ReservationStatus.ACTIVE && !reservation.isDeleted()) {
+            wheel.schedule(reservation.getId(), reservation.getExpiresAt());
+        } else {
+            wheel.cancel(reservation.getId());
+        }
+    }
+
+    /**
+     * Removes a reservation from the schedule.
+     *
+     * @param reservationId identifier of the reservation
+     */
+    public void untrack(Long reservationId) {
+        wheel.cancel(reservationId);
+    }
+
+    /**
+     * Expires every reservation whose expiry date passed since the previous run.
+     *
+     * @return number of reservations marked EXPIRED
+     */
+    public int expireDue() {
+        LocalDate today = clock.today();
+        List<Long> due = wheel.advance(today);
+        int expired = 0;
+        int requeued = 0;
+        for (int from = 0; from < due.size(); from += batchSize) {
+            List<Long> batch = due.subList(from, Math.min(from + batchSize, due.size()));
+            try {
+                expired += transactionalPort.inTransactionReturning(() -> expireBatch(batch, today));
+            } catch (RuntimeException e) {
+                log.error("Reservation expiry batch of {} failed, requeued for the next run", batch.size(), e);
+                wheel.requeue(batch);
+                requeued += batch.size();
+            }
+        }
+        if (!due.isEmpty()) {
+            log.info("Reservation expiry for {}: {} due, {} expired, {} requeued", today, due.size(), expired, requeued);
+        }
+        return expired;
+    }
+
+    private int expireBatch(List<Long> ids, LocalDate today) {
+        List<Reservation> changed = new ArrayList<>(ids.size());
+        for (Reservation reservation : reservationRepository.findAllByIds(ids)) {
+            if (reservation.getStatus() != ReservationStatus.ACTIVE) continue;
+            reservation.expireIfPast(today);
+            if (reservation.getStatus() == ReservationStatus.EXPIRED) changed.add(reservation);
+        }
+        reservationRepository.saveAll(changed);
+        return changed.size();
+    }
+}
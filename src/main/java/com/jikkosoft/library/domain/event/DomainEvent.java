@@ -0,0 +1,10 @@
+package com.jikkosoft.library.domain.event;
+
+/**
+ * Marker for facts raised by domain models when their state changes.
+ *
+ * Events are plain immutable records carrying identifiers and the before/after state,
+ * never live aggregates, so listeners cannot mutate the model that raised them.
+ */
+public interface DomainEvent {
+}
@@ -0,0 +1,75 @@
+package com.jikkosoft.library.domain.event;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Static, in-process publisher for {@link DomainEvent}s.
+ *
+ * Responsibilities:
+ * - Lets domain models announce state changes without depending on application code.
+ * - Dispatches events synchronously, on the caller's thread, to every subscriber
+ *   registered for the event type (or a supertype).
+ *
+ * Notes:
+ * - The domain stays framework-free; infrastructure subscribes on startup and closes
+ *   its {@link Subscription} on shutdown.
+ * - Listener failures propagate to the caller, exactly like any other domain side effect.
+ */
+public final class DomainEventPublisher {
+
+    private static final List<Subscription> SUBSCRIPTIONS = new CopyOnWriteArrayList<>();
+
+    private DomainEventPublisher() {
+    }
+
+    /**
+     * Registers a handler for events of the given type.
+     *
+     * @param type    event type (subtypes are delivered as well)
+     * @param handler handler invoked synchronously
+     * @param <E>     event type
+     * @return subscription to close when the handler is no longer needed
+     */
+    public static <E extends DomainEvent> Subscription subscribe(Class<E> type, Consumer<? super E> handler) {
+        Objects.requireNonNull(type, "Event type must not be null.");
+        Objects.requireNonNull(handler, "Handler must not be null.");
+        Subscription subscription = new Subscription(type, event -> handler.accept(type.cast(event)));
+        SUBSCRIPTIONS.add(subscription);
+        return subscription;
+    }
+
+    /**
+     * Publishes an event to every matching subscriber.
+     *
+     * @param event event to publish
+     */
+    public static void publish(DomainEvent event) {
+        Objects.requireNonNull(event, "Event must not be null.");
+        for (Subscription subscription : SUBSCRIPTIONS) {
+            if (subscription.type.isInstance(event)) {
+                subscription.handler.accept(event);
+            }
+        }
+    }
+
+    /**
+     * Handle returned by {@link #subscribe}; closing it stops delivery.
+     */
+    public static final class Subscription implements AutoCloseable {
+        private final Class<? extends DomainEvent> type;
+        private final Consumer<DomainEvent> handler;
+
+        private Subscription(Class<? extends DomainEvent> type, Consumer<DomainEvent> handler) {
+            this.type = type;
+            this.handler = handler;
+        }
+
+        @Override
+        public void close() {
+            SUBSCRIPTIONS.remove(this);
+        }
+    }
+}
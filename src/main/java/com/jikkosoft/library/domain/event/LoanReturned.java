@@ -0,0 +1,27 @@
+package com.jikkosoft.library.domain.event;
+
+import com.jikkosoft.library.domain.enums.BookStatus;
+
+import java.time.LocalDate;
+
+/**
+ * Raised by {@code Loan.returnBook} after the loan was closed.
+ *
+ * @param loanId     identifier of the loan
+ * @param copyId     identifier of the returned copy
+ * @param bookId     identifier of the copy's book
+ * @param libraryId  identifier of the library holding the copy
+ * @param memberId   identifier of the member who returned the copy
+ * @param returnDate date the copy was returned
+ * @param copyStatus status of the copy after the return (AVAILABLE unless LOST or DAMAGED)
+ */
+public record LoanReturned(
+        Long loanId,
+        Long copyId,
+        Long bookId,
+        Long libraryId,
+        Long memberId,
+        LocalDate returnDate,
+        BookStatus copyStatus
+) implements DomainEvent {
+}
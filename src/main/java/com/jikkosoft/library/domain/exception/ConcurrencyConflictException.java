@@ -0,0 +1,11 @@
+package com.jikkosoft.library.domain.exception;
+
+/**
+ * Raised when an aggregate was modified concurrently and the stored version
+ * no longer matches the version the caller read.
+ */
+public class ConcurrencyConflictException extends BusinessException {
+    public ConcurrencyConflictException(String message) {
+        super(message);
+    }
+}
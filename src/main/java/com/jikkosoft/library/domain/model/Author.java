@@ -2,6 +2,7 @@ package com.jikkosoft.library.domain.model;
 
 import java.time.LocalDate;
 import java.util.Objects;
+import java.util.regex.Pattern;
 
 /**
  * Domain model representing an Author of publications.
@@ -28,6 +29,8 @@ import java.util.Objects;
  */
 public class Author extends BaseEntity {
 
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+$");
+
     private final Long id;
     private final String firstName;
     private final String lastName;
@@ -78,7 +81,7 @@ public class Author extends BaseEntity {
     }
 
     private void validateEmail(String email) {
-        if (email != null && !email.isBlank() && !email.matches("^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+$")) {
+        if (email != null && !email.isBlank() && !EMAIL_PATTERN.matcher(email).matches()) {
             throw new IllegalArgumentException("Invalid email format: " + email);
         }
     }
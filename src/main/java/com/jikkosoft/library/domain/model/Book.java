@@ -6,6 +6,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
  * Domain model representing a Book.
@@ -18,6 +19,10 @@ import java.util.Objects;
  *
  * Builder pattern allows safe construction and readability.
  *
+ * Notes:
+ * - A stored book may be built with {@code storedAuthors}: its authors are loaded on first
+ *   access instead of at construction, so reads that never touch them never load them.
+ *
  * Validation rules:
  * - Title must not be null or blank.
  * - Publication year must be between 1000 and current year.
@@ -30,6 +35,7 @@ public class Book extends BaseEntity {
     private ISBN isbn;
     private String title;
     private final List<Author> authors = new ArrayList<>();
+    private Supplier<List<Author>> authorsLoader;
     private int publicationYear;
     private Category category;
 
@@ -38,15 +44,18 @@ public class Book extends BaseEntity {
         super();
         validateTitle(builder.title);
         validatePublicationYear(builder.publicationYear);
-        validateAuthors(builder.authors);
+        if (builder.authorsLoader == null) {
+            validateAuthors(builder.authors);
+        }
         validateCategory(builder.category);
 
         this.id = builder.id;
         this.title = builder.title;
         this.publicationYear = builder.publicationYear;
-        this.isbn = new ISBN(builder.isbnValue, builder.publicationYear);
+        this.isbn = builder.isbn != null ? builder.isbn : new ISBN(builder.isbnValue, builder.publicationYear);
         this.category = builder.category;
         this.authors.addAll(builder.authors);
+        this.authorsLoader = builder.authorsLoader;
     }
 
     // ======================= Validation helpers =======================
@@ -82,7 +91,13 @@ public class Book extends BaseEntity {
     public Long getId() { return id; }
     public ISBN getIsbn() { return isbn; }
     public String getTitle() { return title; }
-    public List<Author> getAuthors() { return Collections.unmodifiableList(authors); }
+    public List<Author> getAuthors() {
+        if (authorsLoader != null) {
+            authors.addAll(authorsLoader.get());
+            authorsLoader = null;
+        }
+        return Collections.unmodifiableList(authors);
+    }
     public int getPublicationYear() { return publicationYear; }
     public Category getCategory() { return category; }
 
@@ -90,6 +105,7 @@ public class Book extends BaseEntity {
 
     public void replaceAuthors(List<Author> newAuthors) {
         validateAuthors(newAuthors);
+        this.authorsLoader = null;
         this.authors.clear();
         this.authors.addAll(newAuthors);
     }
@@ -108,17 +124,23 @@ public class Book extends BaseEntity {
     public static class Builder {
         private Long id;
         private String isbnValue;
+        private ISBN isbn;
         private String title;
         private List<Author> authors = new ArrayList<>();
         private int publicationYear;
         private Category category;
+        private Supplier<List<Author>> authorsLoader;
 
         public Builder id(Long id) { this.id = id; return this; }
         public Builder isbnValue(String isbnValue) { this.isbnValue = isbnValue; return this; }
+        /** Uses an already validated ISBN (e.g., {@link ISBN#trusted(String)} when hydrating from storage). */
+        public Builder isbn(ISBN isbn) { this.isbn = isbn; return this; }
         public Builder title(String title) { this.title = title; return this; }
         public Builder authors(List<Author> authors) { this.authors = new ArrayList<>(authors); return this; }
         public Builder publicationYear(int year) { this.publicationYear = year; return this; }
         public Builder category(Category category) { this.category = category; return this; }
+        /** Defers loading the authors of a stored book until first accessed; they are not validated again. */
+        public Builder storedAuthors(Supplier<List<Author>> loader) { this.authorsLoader = loader; return this; }
 
         public Book build() { return new Book(this); }
     }
@@ -130,7 +152,7 @@ public class Book extends BaseEntity {
                 ", title='" + title + '\'' +
                 ", publicationYear=" + publicationYear +
                 ", isbn=" + isbn.getValue() +
-                ", authors=" + authors +
+                ", authors=" + (authorsLoader != null ? "<not loaded>" : authors) +
                 ", category=" + (category != null ? category.getName() : null) +
                 ", createdAt=" + getCreatedAt() +
                 ", updatedAt=" + getUpdatedAt() +
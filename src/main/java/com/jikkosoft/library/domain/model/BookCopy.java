@@ -21,6 +21,9 @@ import java.util.Objects;
  * - Builder pattern is used for clean and safe construction.
  * - Immutable fields cannot be changed after creation.
  * - Supports integration with AuditLog for before/after snapshots.
+ * - Identity fields are immutable, so the hash code is computed once at construction.
+ * - {@code version} supports optimistic concurrency: it is the version read from the store
+ *   and is advanced by the persistence adapter on every successful save.
  */
 public class BookCopy extends BaseEntity {
 
@@ -31,6 +34,8 @@ public class BookCopy extends BaseEntity {
     private final String barcode;
     private BookStatus status;
     private String shelfLocation;
+    private final long version;
+    private final int hash;
 
     // ======================= Private constructor =======================
     private BookCopy(Builder builder) {
@@ -50,6 +55,8 @@ public class BookCopy extends BaseEntity {
         this.barcode = builder.barcode;
         this.shelfLocation = builder.shelfLocation;
         this.status = builder.status != null ? builder.status : BookStatus.AVAILABLE;
+        this.version = builder.version;
+        this.hash = Objects.hash(book, library, copyNumber, barcode);
     }
 
     // ======================= Builder =======================
@@ -61,6 +68,7 @@ public class BookCopy extends BaseEntity {
         private String barcode;
         private String shelfLocation;
         private BookStatus status;
+        private long version;
 
         public Builder id(Long id) { this.id = id; return this; }
         public Builder book(Book book) { this.book = book; return this; }
@@ -69,6 +77,7 @@ public class BookCopy extends BaseEntity {
         public Builder barcode(String barcode) { this.barcode = barcode; return this; }
         public Builder shelfLocation(String shelfLocation) { this.shelfLocation = shelfLocation; return this; }
         public Builder status(BookStatus status) { this.status = status; return this; }
+        public Builder version(long version) { this.version = version; return this; }
 
         public BookCopy build() { return new BookCopy(this); }
     }
@@ -81,6 +90,7 @@ public class BookCopy extends BaseEntity {
     public String getBarcode() { return barcode; }
     public BookStatus getStatus() { return status; }
     public String getShelfLocation() { return shelfLocation; }
+    public long getVersion() { return version; }
 
     // ======================= Mutators =======================
     public void changeStatus(BookStatus newStatus) {
@@ -106,7 +116,8 @@ public class BookCopy extends BaseEntity {
         if (this == o) return true;
         if (!(o instanceof BookCopy)) return false;
         BookCopy copy = (BookCopy) o;
-        return Objects.equals(book, copy.book) &&
+        return hash == copy.hash &&
+                Objects.equals(book, copy.book) &&
                 Objects.equals(library, copy.library) &&
                 Objects.equals(copyNumber, copy.copyNumber) &&
                 Objects.equals(barcode, copy.barcode);
@@ -114,7 +125,7 @@ public class BookCopy extends BaseEntity {
 
     @Override
     public int hashCode() {
-        return Objects.hash(book, library, copyNumber, barcode);
+        return hash;
     }
 
     @Override
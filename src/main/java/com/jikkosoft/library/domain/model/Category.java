@@ -1,6 +1,6 @@
 package com.jikkosoft.library.domain.model;
 
-import java.util.Objects;
+import java.util.Locale;
 
 /**
  * Domain model representing a Book Category.
@@ -18,6 +18,7 @@ import java.util.Objects;
  * Notes:
  * - Builder pattern used for safe and clear construction.
  * - All fields are immutable after creation.
+ * - Identity is the case-insensitive name; the case-folded key and hash code are computed once.
  */
 public class Category extends BaseEntity {
 
@@ -25,6 +26,8 @@ public class Category extends BaseEntity {
     private final String name;
     private final int maxLoanDays;
     private final int penaltyPerDay;
+    private final String nameKey;
+    private final int hash;
 
     // ======================= Private constructor =======================
     private Category(Builder builder) {
@@ -43,6 +46,8 @@ public class Category extends BaseEntity {
         this.name = builder.name.trim();
         this.maxLoanDays = builder.maxLoanDays;
         this.penaltyPerDay = builder.penaltyPerDay;
+        this.nameKey = name.toLowerCase(Locale.ROOT);
+        this.hash = nameKey.hashCode();
     }
 
     // ======================= Builder =======================
@@ -72,12 +77,12 @@ public class Category extends BaseEntity {
         if (this == o) return true;
         if (!(o instanceof Category)) return false;
         Category category = (Category) o;
-        return name.equalsIgnoreCase(category.name);
+        return hash == category.hash && nameKey.equals(category.nameKey);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(name.toLowerCase());
+        return hash;
     }
 
     @Override
@@ -0,0 +1,34 @@
+package com.jikkosoft.library.domain.model;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * {@link LibraryCollection} held in a {@link LinkedHashSet}, for libraries that are not persisted.
+ */
+final class InMemoryLibraryCollection<T> implements LibraryCollection<T> {
+
+    private final Set<T> elements = new LinkedHashSet<>();
+
+    InMemoryLibraryCollection(Collection<? extends T> initial) {
+        if (initial != null) {
+            elements.addAll(initial);
+        }
+    }
+
+    @Override
+    public List<T> page(Long libraryId, int page, int size) {
+        return elements.stream().skip((long) page * size).limit(size).toList();
+    }
+
+    @Override
+    public boolean add(Long libraryId, T element) {
+        return elements.add(element);
+    }
+
+    int size() {
+        return elements.size();
+    }
+}
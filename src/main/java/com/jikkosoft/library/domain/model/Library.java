@@ -1,16 +1,18 @@
 package com.jikkosoft.library.domain.model;
 
-import java.util.Collections;
-import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Domain model representing a Library.
  *
  * Responsibilities:
  * - Tracks immutable identifiers, name, and address.
- * - Maintains collections of members and book copies (defensive copies).
+ * - Exposes its members and book copies as paged/streamed views, never as materialized sets.
+ * - Maintains member and book copy counters for cheap size queries.
  * - Integrates with audit tracking via BaseEntity.
  *
  * Validation rules:
@@ -18,15 +20,24 @@ import java.util.Set;
  *
  * Notes:
  * - Builder pattern used for flexible and safe construction.
- * - Collections exposed as unmodifiable sets to preserve encapsulation.
+ * - Members and copies live in {@link LibraryCollection}s: storage-backed when the library is
+ *   hydrated by a persistence adapter (which also supplies the counts), in memory otherwise.
+ * - addMember/addBookCopy write through to the collection and bump the counters.
+ * - Identity is the case-insensitive (name, address) pair; the case-folded keys and
+ *   hash code are computed once, since copies hash their library on every set insert.
  */
 public class Library extends BaseEntity {
 
     private final Long id;
     private final String name;
     private final String address;
-    private final Set<Member> members = new HashSet<>();
-    private final Set<BookCopy> bookCopies = new HashSet<>();
+    private final String nameKey;
+    private final String addressKey;
+    private final int hash;
+    private final LibraryCollection<Member> members;
+    private final LibraryCollection<BookCopy> bookCopies;
+    private long memberCount;
+    private long bookCopyCount;
 
     // ======================= Private constructor =======================
     private Library(Builder builder) {
@@ -41,12 +52,25 @@ public class Library extends BaseEntity {
         this.id = builder.id;
         this.name = builder.name.trim();
         this.address = builder.address.trim();
+        this.nameKey = name.toLowerCase(Locale.ROOT);
+        this.addressKey = address.toLowerCase(Locale.ROOT);
+        this.hash = 31 * nameKey.hashCode() + addressKey.hashCode();
 
-        if (builder.members != null) {
-            this.members.addAll(builder.members);
+        if (builder.memberCollection != null) {
+            this.members = builder.memberCollection;
+            this.memberCount = builder.memberCount;
+        } else {
+            InMemoryLibraryCollection<Member> inMemory = new InMemoryLibraryCollection<>(builder.members);
+            this.members = inMemory;
+            this.memberCount = inMemory.size();
         }
-        if (builder.bookCopies != null) {
-            this.bookCopies.addAll(builder.bookCopies);
+        if (builder.bookCopyCollection != null) {
+            this.bookCopies = builder.bookCopyCollection;
+            this.bookCopyCount = builder.bookCopyCount;
+        } else {
+            InMemoryLibraryCollection<BookCopy> inMemory = new InMemoryLibraryCollection<>(builder.bookCopies);
+            this.bookCopies = inMemory;
+            this.bookCopyCount = inMemory.size();
         }
     }
 
@@ -57,12 +81,30 @@ public class Library extends BaseEntity {
         private String address;
         private Set<Member> members;
         private Set<BookCopy> bookCopies;
+        private LibraryCollection<Member> memberCollection;
+        private LibraryCollection<BookCopy> bookCopyCollection;
+        private long memberCount;
+        private long bookCopyCount;
 
         public Builder id(Long id) { this.id = id; return this; }
         public Builder name(String name) { this.name = name; return this; }
         public Builder address(String address) { this.address = address; return this; }
+        /** Initial members of a library without storage-backed collection. */
         public Builder members(Set<Member> members) { this.members = members; return this; }
+        /** Initial copies of a library without storage-backed collection. */
         public Builder bookCopies(Set<BookCopy> bookCopies) { this.bookCopies = bookCopies; return this; }
+        /** Storage-backed members and their current count (hydration). */
+        public Builder members(LibraryCollection<Member> collection, long count) {
+            this.memberCollection = collection;
+            this.memberCount = count;
+            return this;
+        }
+        /** Storage-backed book copies and their current count (hydration). */
+        public Builder bookCopies(LibraryCollection<BookCopy> collection, long count) {
+            this.bookCopyCollection = collection;
+            this.bookCopyCount = count;
+            return this;
+        }
 
         public Library build() { return new Library(this); }
     }
@@ -71,29 +113,45 @@ public class Library extends BaseEntity {
     public Long getId() { return id; }
     public String getName() { return name; }
     public String getAddress() { return address; }
-    public Set<Member> getMembers() { return Collections.unmodifiableSet(members); }
-    public Set<BookCopy> getBookCopies() { return Collections.unmodifiableSet(bookCopies); }
+    public long getMemberCount() { return memberCount; }
+    public long getBookCopyCount() { return bookCopyCount; }
+
+    /** Returns one page of members. */
+    public List<Member> getMembers(int page, int size) { return members.page(id, page, size); }
+
+    /** Returns one page of book copies. */
+    public List<BookCopy> getBookCopies(int page, int size) { return bookCopies.page(id, page, size); }
+
+    /** Streams all members, loading them window by window. */
+    public Stream<Member> streamMembers() { return members.stream(id); }
+
+    /** Streams all book copies, loading them window by window. */
+    public Stream<BookCopy> streamBookCopies() { return bookCopies.stream(id); }
 
     // ======================= Domain Methods =======================
     /**
-     * Adds a member to the library.
+     * Adds a member to the library (write-through).
      * Ensures no duplicates are added.
      * @param member Member to add
      */
     public void addMember(Member member) {
         Objects.requireNonNull(member, "Member cannot be null");
-        this.members.add(member);
+        if (members.add(id, member)) {
+            memberCount++;
+        }
         markUpdated();
     }
 
     /**
-     * Adds a book copy to the library's inventory.
+     * Adds a book copy to the library's inventory (write-through).
      * Ensures no duplicates are added.
      * @param bookCopy BookCopy to add
      */
     public void addBookCopy(BookCopy bookCopy) {
         Objects.requireNonNull(bookCopy, "BookCopy cannot be null");
-        this.bookCopies.add(bookCopy);
+        if (bookCopies.add(id, bookCopy)) {
+            bookCopyCount++;
+        }
         markUpdated();
     }
 
@@ -103,12 +161,12 @@ public class Library extends BaseEntity {
         if (this == o) return true;
         if (!(o instanceof Library)) return false;
         Library library = (Library) o;
-        return name.equalsIgnoreCase(library.name) && address.equalsIgnoreCase(library.address);
+        return hash == library.hash && nameKey.equals(library.nameKey) && addressKey.equals(library.addressKey);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(name.toLowerCase(), address.toLowerCase());
+        return hash;
     }
 
     @Override
@@ -117,8 +175,8 @@ public class Library extends BaseEntity {
                 "id=" + id +
                 ", name='" + name + '\'' +
                 ", address='" + address + '\'' +
-                ", membersCount=" + members.size() +
-                ", bookCopiesCount=" + bookCopies.size() +
+                ", membersCount=" + memberCount +
+                ", bookCopiesCount=" + bookCopyCount +
                 ", createdAt=" + getCreatedAt() +
                 ", updatedAt=" + getUpdatedAt() +
                 ", deletedAt=" + getDeletedAt() +
@@ -0,0 +1,70 @@
+package com.jikkosoft.library.domain.model;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Storage-backed collection of a library's members or book copies.
+ *
+ * Responsibilities:
+ * - Reads the collection one page at a time, so a {@link Library} never materializes it.
+ * - Writes additions through to storage.
+ *
+ * Notes:
+ * - Persistence adapters provide implementations backed by repositories when hydrating a Library.
+ * - {@link #inMemory(Collection)} backs libraries that are not persisted yet (and tests).
+ *
+ * @param <T> element type (Member or BookCopy)
+ */
+public interface LibraryCollection<T> {
+
+    /** Number of elements loaded per window when streaming. */
+    int DEFAULT_WINDOW = 100;
+
+    /**
+     * Loads one page of the collection.
+     *
+     * @param libraryId identifier of the library
+     * @param page      page number starting from 0
+     * @param size      number of elements per page
+     * @return elements of the page (empty past the last page)
+     */
+    List<T> page(Long libraryId, int page, int size);
+
+    /**
+     * Adds an element, writing it through to storage.
+     *
+     * @param libraryId identifier of the library
+     * @param element   element to add
+     * @return true if the element was not part of the collection before
+     */
+    boolean add(Long libraryId, T element);
+
+    /**
+     * Streams the whole collection, loading {@value #DEFAULT_WINDOW} elements at a time.
+     *
+     * @param libraryId identifier of the library
+     * @return lazy sequential stream
+     */
+    default Stream<T> stream(Long libraryId) {
+        Iterator<T> iterator = new WindowedIterator<>((index, last, size) -> page(libraryId, index, size),
+                DEFAULT_WINDOW);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false);
+    }
+
+    /**
+     * Creates a collection held in memory, for libraries without storage.
+     *
+     * @param initial initial elements (may be null)
+     * @param <T>     element type
+     * @return in-memory collection without duplicates, in insertion order
+     */
+    static <T> LibraryCollection<T> inMemory(Collection<? extends T> initial) {
+        return new InMemoryLibraryCollection<>(initial);
+    }
+}
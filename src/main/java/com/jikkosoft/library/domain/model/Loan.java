@@ -2,6 +2,8 @@ package com.jikkosoft.library.domain.model;
 
 import com.jikkosoft.library.domain.enums.BookStatus;
 import com.jikkosoft.library.domain.enums.LoanStatus;
+import com.jikkosoft.library.domain.event.DomainEventPublisher;
+import com.jikkosoft.library.domain.event.LoanReturned;
 
 import java.time.LocalDate;
 import java.util.Objects;
@@ -24,6 +26,9 @@ import java.util.Objects;
  * - Uses Builder pattern for safe construction.
  * - Immutable fields: bookCopy, member, loanDate, dueDate.
  * - Mutable fields: returnDate, status.
+ * - Returning raises a {@link LoanReturned} event.
+ * - A loan built with a status is restored from storage: the copy is left untouched.
+ * - Status changes are reported to the member so its loan counters stay current.
  */
 public class Loan extends BaseEntity {
 
@@ -52,6 +57,14 @@ public class Loan extends BaseEntity {
         this.member = builder.member;
         this.loanDate = builder.loanDate;
         this.dueDate = builder.dueDate;
+        if (builder.status != null) {
+            if ((builder.status == LoanStatus.RETURNED) != (builder.returnDate != null)) {
+                throw new IllegalArgumentException("Return date must be set exactly when the loan is RETURNED.");
+            }
+            this.returnDate = builder.returnDate;
+            this.status = builder.status;
+            return;
+        }
         this.returnDate = null;
         this.status = LoanStatus.ACTIVE;
 
@@ -66,12 +79,17 @@ public class Loan extends BaseEntity {
         private Member member;
         private LocalDate loanDate;
         private LocalDate dueDate;
+        private LoanStatus status;
+        private LocalDate returnDate;
 
         public Builder id(Long id) { this.id = id; return this; }
         public Builder bookCopy(BookCopy bookCopy) { this.bookCopy = bookCopy; return this; }
         public Builder member(Member member) { this.member = member; return this; }
         public Builder loanDate(LocalDate loanDate) { this.loanDate = loanDate; return this; }
         public Builder dueDate(LocalDate dueDate) { this.dueDate = dueDate; return this; }
+        /** Restores a stored loan in the given status (see class notes). */
+        public Builder status(LoanStatus status) { this.status = status; return this; }
+        public Builder returnDate(LocalDate returnDate) { this.returnDate = returnDate; return this; }
 
         public Loan build() { return new Loan(this); }
     }
@@ -82,6 +100,7 @@ public class Loan extends BaseEntity {
      * - Only active loans can be returned.
      * - Return date cannot be before loan date.
      * - BookCopy status updates to AVAILABLE unless LOST or DAMAGED.
+     * - Raises {@link LoanReturned} so the copy can be handed to the next hold in line.
      */
     public void returnBook(LocalDate returnDate) {
         Objects.requireNonNull(returnDate, "Return date must not be null.");
@@ -89,6 +108,8 @@ public class Loan extends BaseEntity {
             throw new IllegalArgumentException("Return date cannot be before the loan date.");
         }
 
+        LoanStatus previousStatus = this.status;
+        int previousPenaltyDays = calculatePenaltyDays();
         this.returnDate = returnDate;
         this.status = LoanStatus.RETURNED;
 
@@ -98,15 +119,27 @@ public class Loan extends BaseEntity {
         }
 
         markUpdated();
+        member.onLoanChanged(this, previousStatus, previousPenaltyDays);
+        DomainEventPublisher.publish(new LoanReturned(
+                id,
+                bookCopy.getId(),
+                bookCopy.getBook().getId(),
+                bookCopy.getLibrary().getId(),
+                member.getId(),
+                returnDate,
+                bookCopy.getStatus()
+        ));
     }
 
     /**
      * Marks the loan as OVERDUE if today is past due and the book is not returned.
      */
     public void markOverdueIfNeeded(LocalDate today) {
-        if (this.returnDate == null && today.isAfter(dueDate)) {
+        if (this.returnDate == null && today.isAfter(dueDate) && status != LoanStatus.OVERDUE) {
+            LoanStatus previousStatus = this.status;
             this.status = LoanStatus.OVERDUE;
             markUpdated();
+            member.onLoanChanged(this, previousStatus, 0);
         }
     }
 
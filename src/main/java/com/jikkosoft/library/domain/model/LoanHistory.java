@@ -0,0 +1,80 @@
+package com.jikkosoft.library.domain.model;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazy, windowed view over a member's closed (RETURNED) loans.
+ *
+ * Responsibilities:
+ * - Loads history one window at a time from a {@link Source}, only when it is read.
+ * - Iterates the whole history while keeping a single window resident.
+ *
+ * Notes:
+ * - Nothing is cached: each read goes to the source, so the member aggregate never
+ *   holds its history on the heap.
+ * - Windows are keyed by the last loan read (return date, then ID), not by offset, so loans
+ *   returned while iterating neither shift a window nor show up twice.
+ */
+public final class LoanHistory implements Iterable<Loan> {
+
+    /** Default number of loans loaded per window when iterating. */
+    public static final int DEFAULT_WINDOW = 50;
+
+    /**
+     * Supplies windows of a member's closed loans, most recent first: by return date descending,
+     * then by ID descending.
+     */
+    @FunctionalInterface
+    public interface Source {
+
+        /**
+         * @param memberId identifier of the member
+         * @param after    last loan of the previous window, or null for the first window
+         * @param size     maximum number of loans in the window
+         * @return loans that sort after {@code after} (empty past the last window)
+         */
+        List<Loan> load(Long memberId, Loan after, int size);
+
+        /** Source of members without persisted history. */
+        Source EMPTY = (memberId, after, size) -> List.of();
+    }
+
+    private final Long memberId;
+    private final Source source;
+
+    LoanHistory(Long memberId, Source source) {
+        this.memberId = memberId;
+        this.source = Objects.requireNonNull(source, "Loan history source cannot be null");
+    }
+
+    /**
+     * Loads one window of history.
+     *
+     * @param after last loan of the previous window, or null for the most recent loans
+     * @param size  maximum number of loans in the window
+     * @return loans of the window
+     */
+    public List<Loan> window(Loan after, int size) {
+        if (size <= 0) throw new IllegalArgumentException("Window size must be greater than zero");
+        if (after != null && after.getReturnDate() == null) {
+            throw new IllegalArgumentException("History windows start after a returned loan");
+        }
+        if (memberId == null) return List.of();
+        return source.load(memberId, after, size);
+    }
+
+    /** Iterates the whole history, {@value #DEFAULT_WINDOW} loans at a time. */
+    @Override
+    public Iterator<Loan> iterator() {
+        return new WindowedIterator<>((index, last, size) -> window(last, size), DEFAULT_WINDOW);
+    }
+
+    /** @return sequential stream over the whole history, loaded window by window. */
+    public Stream<Loan> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+}
@@ -5,15 +5,19 @@ import com.jikkosoft.library.domain.vo.Email;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Domain model representing a library member.
  *
  * Responsibilities:
  * - Identifies a member with a unique ID, name, and email.
- * - Tracks all loan transactions ({@link Loan}) associated with the member.
+ * - Keeps open loans (ACTIVE/OVERDUE) resident and exposes closed loans as a lazy {@link LoanHistory}.
  * - Provides queries for active loans, overdue loans, and penalty calculations.
  *
  * Invariants:
@@ -23,6 +27,11 @@ import java.util.Objects;
  * Notes:
  * - Builder pattern is used for safe construction.
  * - Inherits from BaseEntity for audit tracking and soft deletion.
+ * - Loan queries are answered from per-status counters, buckets of open (ACTIVE/OVERDUE) loans
+ *   and a running penalty total, kept current by {@link #addLoan(Loan)} and by the loans
+ *   themselves when they are returned or become overdue. Queries are O(1) or O(open loans).
+ * - A returned loan leaves the resident set; when hydrating, the builder receives the number of
+ *   returned loans and their penalty total so the counters stay exact without loading history.
  */
 public class Member extends BaseEntity {
 
@@ -31,6 +40,12 @@ public class Member extends BaseEntity {
     private String lastName;
     private Email email;
     private final List<Loan> loans;
+    private final LoanHistory loanHistory;
+    /** Every loan counted by {@link #index(Loan)}, by identity, so none is counted twice. */
+    private final Set<Loan> trackedLoans = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Map<LoanStatus, List<Loan>> openLoans = new EnumMap<>(LoanStatus.class);
+    private final int[] loanCounts = new int[LoanStatus.values().length];
+    private int totalPenaltyDays;
 
     // ======================= Private constructor =======================
     private Member(Builder builder) {
@@ -47,6 +62,10 @@ public class Member extends BaseEntity {
         this.lastName = builder.lastName.trim();
         this.email = builder.email;
         this.loans = new ArrayList<>();
+        this.loanHistory = new LoanHistory(builder.id,
+                builder.loanHistorySource != null ? builder.loanHistorySource : LoanHistory.Source.EMPTY);
+        this.loanCounts[LoanStatus.RETURNED.ordinal()] = builder.returnedLoans;
+        this.totalPenaltyDays = builder.historicalPenaltyDays;
     }
 
     // ======================= Builder =======================
@@ -55,11 +74,17 @@ public class Member extends BaseEntity {
         private String firstName;
         private String lastName;
         private Email email;
+        private LoanHistory.Source loanHistorySource;
+        private int returnedLoans;
+        private int historicalPenaltyDays;
 
         public Builder id(Long id) { this.id = id; return this; }
         public Builder firstName(String firstName) { this.firstName = firstName; return this; }
         public Builder lastName(String lastName) { this.lastName = lastName; return this; }
         public Builder email(Email email) { this.email = email; return this; }
+        public Builder loanHistorySource(LoanHistory.Source source) { this.loanHistorySource = source; return this; }
+        public Builder returnedLoans(int count) { this.returnedLoans = count; return this; }
+        public Builder historicalPenaltyDays(int days) { this.historicalPenaltyDays = days; return this; }
 
         public Member build() { return new Member(this); }
     }
@@ -88,34 +113,84 @@ public class Member extends BaseEntity {
         markUpdated();
     }
 
+    /** Returns the resident (ACTIVE and OVERDUE) loans, in the order they were added. */
     public List<Loan> getLoans() { return Collections.unmodifiableList(loans); }
 
+    /** Returns the member's closed loans, paged in from storage on demand. */
+    public LoanHistory getLoanHistory() { return loanHistory; }
+
     // ======================= Behavior =======================
-    /** Adds a loan to this member. */
+    /**
+     * Adds a loan to this member. A loan already counted by this member is ignored;
+     * a RETURNED loan only updates the counters and is not kept resident.
+     */
     public void addLoan(Loan loan) {
         Objects.requireNonNull(loan, "Loan cannot be null");
-        loans.add(loan);
+        if (trackedLoans.contains(loan)) return;
+        index(loan);
         markUpdated();
     }
 
     /** Returns a list of currently active loans. */
     public List<Loan> getActiveLoans() {
-        return loans.stream().filter(l -> l.getStatus() == LoanStatus.ACTIVE).toList();
+        return List.copyOf(openLoans.getOrDefault(LoanStatus.ACTIVE, List.of()));
     }
 
     /** Returns a list of overdue loans. */
     public List<Loan> getOverdueLoans() {
-        return loans.stream().filter(l -> l.getStatus() == LoanStatus.OVERDUE).toList();
+        return List.copyOf(openLoans.getOrDefault(LoanStatus.OVERDUE, List.of()));
+    }
+
+    /** Returns the number of loans currently in the given status. */
+    public int countLoans(LoanStatus status) {
+        return loanCounts[status.ordinal()];
     }
 
     /** Calculates the total accumulated penalty days across all loans. */
     public int calculateTotalPenaltyDays() {
-        return loans.stream().mapToInt(Loan::calculatePenaltyDays).sum();
+        return totalPenaltyDays;
     }
 
     /** Returns true if the member has any overdue loans. */
     public boolean hasOverdueLoans() {
-        return loans.stream().anyMatch(l -> l.getStatus() == LoanStatus.OVERDUE);
+        return loanCounts[LoanStatus.OVERDUE.ordinal()] > 0;
+    }
+
+    /**
+     * Moves a tracked loan to its new status bucket and adjusts the penalty total.
+     * Called by {@link Loan} after its status or return date changed.
+     *
+     * @param loan                loan that changed
+     * @param previousStatus      status before the change
+     * @param previousPenaltyDays penalty days of the loan before the change
+     */
+    void onLoanChanged(Loan loan, LoanStatus previousStatus, int previousPenaltyDays) {
+        if (!trackedLoans.remove(loan)) return;
+        loanCounts[previousStatus.ordinal()]--;
+        removeByIdentity(openLoans.get(previousStatus), loan);
+        removeByIdentity(loans, loan);
+        totalPenaltyDays -= previousPenaltyDays;
+        index(loan);
+    }
+
+    private void index(Loan loan) {
+        LoanStatus status = loan.getStatus();
+        loanCounts[status.ordinal()]++;
+        totalPenaltyDays += loan.calculatePenaltyDays();
+        trackedLoans.add(loan);
+        if (status != LoanStatus.RETURNED) {
+            loans.add(loan);
+            openLoans.computeIfAbsent(status, s -> new ArrayList<>()).add(loan);
+        }
+    }
+
+    private static void removeByIdentity(List<Loan> list, Loan loan) {
+        for (int i = list.size() - 1; i >= 0; i--) {
+            if (list.get(i) == loan) {
+                list.remove(i);
+                return;
+            }
+        }
     }
 
     // ======================= Equals & HashCode =======================
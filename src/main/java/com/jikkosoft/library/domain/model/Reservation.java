@@ -11,6 +11,8 @@ import java.util.Objects;
  * - Tracks the reservation period and status of a BookCopy.
  * - Enforces domain invariants: valid book copy, member, and reservation dates.
  * - Supports status transitions: ACTIVE -> CANCELLED, EXPIRED, FULFILLED.
+ * - Records the copy set aside for the member ({@link #hold(BookCopy)}) while it stays ACTIVE,
+ *   until the member borrows it (FULFILLED) or the reservation is cancelled or expires.
  *
  * Notes:
  * - Builder pattern ensures safe construction with validation.
@@ -24,6 +26,7 @@ public class Reservation extends BaseEntity {
     private final LocalDate reservedAt;
     private final LocalDate expiresAt;
     private ReservationStatus status;
+    private BookCopy heldCopy;
 
     // ======================= Private constructor =======================
     private Reservation(Builder builder) {
@@ -42,6 +45,7 @@ public class Reservation extends BaseEntity {
         this.reservedAt = builder.reservedAt;
         this.expiresAt = builder.expiresAt;
         this.status = builder.status != null ? builder.status : ReservationStatus.ACTIVE;
+        this.heldCopy = builder.heldCopy;
     }
 
     // ======================= Builder =======================
@@ -52,6 +56,7 @@ public class Reservation extends BaseEntity {
         private LocalDate reservedAt;
         private LocalDate expiresAt;
         private ReservationStatus status;
+        private BookCopy heldCopy;
 
         public Builder id(Long id) { this.id = id; return this; }
         public Builder bookCopy(BookCopy bookCopy) { this.bookCopy = bookCopy; return this; }
@@ -59,6 +64,7 @@ public class Reservation extends BaseEntity {
         public Builder reservedAt(LocalDate reservedAt) { this.reservedAt = reservedAt; return this; }
         public Builder expiresAt(LocalDate expiresAt) { this.expiresAt = expiresAt; return this; }
         public Builder status(ReservationStatus status) { this.status = status; return this; }
+        public Builder heldCopy(BookCopy heldCopy) { this.heldCopy = heldCopy; return this; }
 
         public Reservation build() { return new Reservation(this); }
     }
@@ -70,6 +76,7 @@ public class Reservation extends BaseEntity {
     public LocalDate getReservedAt() { return reservedAt; }
     public LocalDate getExpiresAt() { return expiresAt; }
     public ReservationStatus getStatus() { return status; }
+    public BookCopy getHeldCopy() { return heldCopy; }
 
     /** Cancels the reservation manually, only if currently ACTIVE. */
     public void cancel() {
@@ -88,6 +95,23 @@ public class Reservation extends BaseEntity {
         }
     }
 
+    /**
+     * Sets a copy aside for the member: a copy of the reserved book, in the reserved copy's library.
+     * Only an ACTIVE reservation without a held copy can take one.
+     */
+    public void hold(BookCopy copy) {
+        Objects.requireNonNull(copy, "Held copy cannot be null");
+        if (status != ReservationStatus.ACTIVE || heldCopy != null) {
+            throw new IllegalStateException("Only ACTIVE reservations without a held copy can hold one");
+        }
+        if (!Objects.equals(copy.getBook().getId(), bookCopy.getBook().getId())
+                || !Objects.equals(copy.getLibrary().getId(), bookCopy.getLibrary().getId())) {
+            throw new IllegalArgumentException("Held copy must be of the reserved book, in the same library");
+        }
+        this.heldCopy = copy;
+        markUpdated();
+    }
+
     /** Marks the reservation as fulfilled, only if currently ACTIVE. */
     public void markFulfilled() {
         if (status != ReservationStatus.ACTIVE) {
@@ -114,6 +138,7 @@ public class Reservation extends BaseEntity {
         return "Reservation{" +
                 "id=" + id +
                 ", bookCopy=" + (bookCopy != null ? bookCopy.getBarcode() : null) +
+                ", heldCopy=" + (heldCopy != null ? heldCopy.getBarcode() : null) +
                 ", member=" + (member != null ? member.getId()  + " " +
                 " " + member.getFirstName() + " " + member.getLastName(): null) +
                 ", reservedAt=" + reservedAt +
@@ -0,0 +1,66 @@
+package com.jikkosoft.library.domain.model;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Iterator over storage-backed views that keeps a single window of elements resident.
+ *
+ * Notes:
+ * - The next window is requested only once the current one is consumed; a window shorter
+ *   than the window size ends the iteration.
+ * - Loaders receive both the window index and the last element read, so offset-paged and
+ *   keyset-paged views share it.
+ *
+ * @param <T> element type
+ */
+final class WindowedIterator<T> implements Iterator<T> {
+
+    /**
+     * Loads the window that follows the elements read so far.
+     *
+     * @param <T> element type
+     */
+    @FunctionalInterface
+    interface Loader<T> {
+
+        /**
+         * @param index number of windows loaded before this one
+         * @param last  last element of the previous window, or null for the first window
+         * @param size  maximum number of elements in the window
+         * @return elements of the window
+         */
+        List<T> load(int index, T last, int size);
+    }
+
+    private final Loader<T> loader;
+    private final int size;
+    private int index;
+    private List<T> window = List.of();
+    private int position;
+    private boolean exhausted;
+
+    WindowedIterator(Loader<T> loader, int size) {
+        if (size <= 0) throw new IllegalArgumentException("Window size must be greater than zero");
+        this.loader = Objects.requireNonNull(loader, "Window loader cannot be null");
+        this.size = size;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (position < window.size()) return true;
+        if (exhausted) return false;
+        window = loader.load(index++, window.isEmpty() ? null : window.get(window.size() - 1), size);
+        position = 0;
+        exhausted = window.size() < size;
+        return !window.isEmpty();
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        return window.get(position++);
+    }
+}
@@ -1,6 +1,6 @@
 package com.jikkosoft.library.domain.vo;
 
-import java.util.Objects;
+import java.util.Locale;
 
 /**
  * Value Object representing an email address for a system user or member.
@@ -12,7 +12,7 @@ import java.util.Objects;
  *
  * Invariants:
  * - Must not be null.
- * - Must match a simple email regex pattern.
+ * - Must be a syntactically valid address (see {@link FormatRules#isEmail(CharSequence)}).
  * - Always stored as lowercase and trimmed.
  *
  * Example usage:
@@ -21,13 +21,12 @@ import java.util.Objects;
  *
  * Notes:
  * - Equality is based on normalized email value.
+ * - {@link #trusted(String)} rebuilds an already validated value (e.g., loaded from the database)
+ *   without normalizing or validating it again.
  * - This VO can be safely used as a key in collections or maps.
  */
 public final class Email {
 
-    private static final String SIMPLE_EMAIL_REGEX =
-            "^[A-Za-z0-9._%+-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$";
-
     private final String value;
 
     /**
@@ -38,13 +37,29 @@ public final class Email {
      */
     public Email(String raw) {
         if (raw == null) throw new IllegalArgumentException("Email must not be null");
-        String normalized = raw.trim().toLowerCase();
-        if (!normalized.matches(SIMPLE_EMAIL_REGEX)) {
+        String normalized = raw.trim().toLowerCase(Locale.ROOT);
+        if (!FormatRules.isEmail(normalized)) {
             throw new IllegalArgumentException("Invalid email format");
         }
         this.value = normalized;
     }
 
+    /** Wraps a value that is already normalized and valid; the flag only sets this signature apart. */
+    private Email(String value, boolean trusted) {
+        this.value = value;
+    }
+
+    /**
+     * Rebuilds an Email from a value that was validated and normalized when it was stored.
+     *
+     * @param value stored, normalized email
+     * @return Email wrapping the value as is
+     */
+    public static Email trusted(String value) {
+        if (value == null) throw new IllegalArgumentException("Email must not be null");
+        return new Email(value, true);
+    }
+
     /**
      * Returns the normalized email string.
      *
@@ -64,7 +79,7 @@ public final class Email {
 
     @Override
     public int hashCode() {
-        return Objects.hash(value);
+        return value.hashCode();
     }
 
     @Override
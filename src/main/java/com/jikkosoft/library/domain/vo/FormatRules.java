@@ -0,0 +1,102 @@
+package com.jikkosoft.library.domain.vo;
+
+/**
+ * Allocation-free format checks shared by the value objects.
+ *
+ * Responsibilities:
+ * - Validates email addresses with a single scan instead of a regular expression.
+ * - Validates ISBN-10 and ISBN-13 values, including their check digits.
+ *
+ * Notes:
+ * - {@link #isEmail(CharSequence)} accepts exactly what {@code ^[A-Za-z0-9._%+-]+@[A-Za-z0-9.-]+\.[A-Za-z]{2,}$}
+ *   accepts: a non-empty local part, one '@', a non-empty domain and a top-level domain of at least
+ *   two letters after the last dot.
+ * - ISBN values are expected without separators (no hyphens or spaces).
+ */
+public final class FormatRules {
+
+    private FormatRules() {
+    }
+
+    /**
+     * @param value candidate email (already trimmed)
+     * @return true if the value is a syntactically valid email address
+     */
+    public static boolean isEmail(CharSequence value) {
+        int length = value.length();
+        int at = -1;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c == '@') {
+                at = i;
+                break;
+            }
+            if (!isLetterOrDigit(c) && c != '.' && c != '_' && c != '%' && c != '+' && c != '-') return false;
+        }
+        if (at <= 0) return false;
+
+        int lastDot = -1;
+        for (int i = at + 1; i < length; i++) {
+            char c = value.charAt(i);
+            if (c == '.') {
+                lastDot = i;
+            } else if (!isLetterOrDigit(c) && c != '-') {
+                return false;
+            }
+        }
+        if (lastDot <= at + 1 || length - lastDot - 1 < 2) return false;
+        for (int i = lastDot + 1; i < length; i++) {
+            if (!isLetter(value.charAt(i))) return false;
+        }
+        return true;
+    }
+
+    /**
+     * @param value candidate ISBN-10 (nine digits followed by a digit or 'X')
+     * @return true if the value has the ISBN-10 shape and a valid check digit
+     */
+    public static boolean isIsbn10(CharSequence value) {
+        if (value.length() != 10) return false;
+        int sum = 0;
+        for (int i = 0; i < 10; i++) {
+            char c = value.charAt(i);
+            int digit;
+            if (isDigit(c)) {
+                digit = c - '0';
+            } else if (i == 9 && (c == 'X' || c == 'x')) {
+                digit = 10;
+            } else {
+                return false;
+            }
+            sum += (10 - i) * digit;
+        }
+        return sum % 11 == 0;
+    }
+
+    /**
+     * @param value candidate ISBN-13 (thirteen digits)
+     * @return true if the value has the ISBN-13 shape and a valid check digit
+     */
+    public static boolean isIsbn13(CharSequence value) {
+        if (value.length() != 13) return false;
+        int sum = 0;
+        for (int i = 0; i < 13; i++) {
+            char c = value.charAt(i);
+            if (!isDigit(c)) return false;
+            sum += (i % 2 == 0 ? 1 : 3) * (c - '0');
+        }
+        return sum % 10 == 0;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isLetterOrDigit(char c) {
+        return isLetter(c) || isDigit(c);
+    }
+}
@@ -15,10 +15,15 @@ import java.util.Objects;
  * Invariants:
  * - ISBN must not be null or blank.
  * - ISBN length must match the expected format based on publication year.
+ * - The check digit must be valid (see {@link FormatRules}).
  *
  * Example usage:
- *   ISBN isbn = new ISBN("1234567890", 2005); // ISBN-10
- *   ISBN isbn2 = new ISBN("9781234567897", 2010); // ISBN-13
+ *   ISBN isbn = new ISBN("0306406152", 2005); // ISBN-10
+ *   ISBN isbn2 = new ISBN("9780306406157", 2010); // ISBN-13
+ *
+ * Notes:
+ * - {@link #trusted(String)} rebuilds an already validated value (e.g., loaded from the database)
+ *   without validating it again.
  */
 public final class ISBN {
 
@@ -36,6 +41,21 @@ public final class ISBN {
         this.value = value;
     }
 
+    private ISBN(String value) {
+        this.value = value;
+    }
+
+    /**
+     * Rebuilds an ISBN from a value that was validated when it was stored.
+     *
+     * @param value stored ISBN
+     * @return ISBN wrapping the value as is
+     */
+    public static ISBN trusted(String value) {
+        if (value == null) throw new IllegalArgumentException("ISBN cannot be null or blank.");
+        return new ISBN(value);
+    }
+
     private void validate(String value, int publicationYear) {
         if (value == null || value.isBlank()) {
             throw new IllegalArgumentException("ISBN cannot be null or blank.");
@@ -46,6 +66,9 @@ public final class ISBN {
         if (publicationYear >= 2007 && value.length() != 13) {
             throw new IllegalArgumentException("ISBN-13 required for publications from 2007 onwards.");
         }
+        if (value.length() == 10 ? !FormatRules.isIsbn10(value) : !FormatRules.isIsbn13(value)) {
+            throw new IllegalArgumentException("Invalid ISBN check digit: " + value);
+        }
     }
 
     /**
@@ -67,7 +90,7 @@ public final class ISBN {
 
     @Override
     public int hashCode() {
-        return Objects.hash(value);
+        return value.hashCode();
     }
 
     @Override
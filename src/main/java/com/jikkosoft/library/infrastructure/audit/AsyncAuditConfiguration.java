@@ -0,0 +1,54 @@
+package com.jikkosoft.library.infrastructure.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jikkosoft.library.application.port.persistence.AuditLogRepository;
+import com.jikkosoft.library.infrastructure.config.PortDecoratorPostProcessor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Wires the asynchronous audit pipeline when {@code library.audit.async.enabled=true}.
+ *
+ * Every {@link AuditLogRepository} adapter is wrapped with {@link AsyncAuditLogRepository},
+ * so callers keep using the port unchanged.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "library.audit.async", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(AsyncAuditProperties.class)
+public class AsyncAuditConfiguration {
+
+    @Bean
+    public AuditSpillFile auditSpillFile(AsyncAuditProperties properties, ObjectMapper objectMapper) {
+        return new AuditSpillFile(properties.spillDirectory(), objectMapper);
+    }
+
+    @Bean
+    public AuditRingBuffer auditRingBuffer(AsyncAuditProperties properties, AuditSpillFile spillFile) {
+        return new AuditRingBuffer(properties.capacity(), properties.backpressure(), spillFile);
+    }
+
+    @Bean
+    public AuditBatchWriter auditBatchWriter(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper,
+                                             AsyncAuditProperties properties) {
+        return new AuditBatchWriter(jdbcTemplate, objectMapper, properties.batchSize());
+    }
+
+    @Bean
+    public AuditDrainer auditDrainer(AuditRingBuffer buffer, AuditBatchWriter writer, AuditSpillFile spillFile,
+                                     AsyncAuditProperties properties) {
+        return new AuditDrainer(buffer, writer, spillFile, properties.batchSize(), properties.flushInterval());
+    }
+
+    @Bean
+    public static PortDecoratorPostProcessor<AuditLogRepository> asyncAuditLogDecorator(
+            ObjectProvider<AuditRingBuffer> buffer) {
+        return new PortDecoratorPostProcessor<>(AuditLogRepository.class,
+                delegate -> new AsyncAuditLogRepository(delegate, buffer.getObject()),
+                Ordered.HIGHEST_PRECEDENCE + 100);
+    }
+}
@@ -0,0 +1,70 @@
+package com.jikkosoft.library.infrastructure.audit;
+
+import com.jikkosoft.library.application.common.CursorRequest;
+import com.jikkosoft.library.application.common.CursorResponse;
+import com.jikkosoft.library.application.common.PagedResponse;
+import com.jikkosoft.library.application.port.persistence.AuditLogRepository;
+import com.jikkosoft.library.domain.enums.AuditAction;
+import com.jikkosoft.library.shared.common.AuditLog;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * AuditLogRepository decorator that moves audit writes off the request thread.
+ *
+ * Responsibilities:
+ * - {@code logAudit} and {@code save} enqueue a record into the {@link AuditRingBuffer}
+ *   and return immediately; the {@link AuditDrainer} persists it in a batch.
+ * - Read operations are delegated unchanged to the wrapped adapter.
+ *
+ * Notes:
+ * - Reads are eventually consistent with writes (pending records are not visible yet).
+ * - {@code save} returns the given entity as-is: the ID is assigned when the batch is flushed.
+ */
+public class AsyncAuditLogRepository implements AuditLogRepository {
+
+    private final AuditLogRepository delegate;
+    private final AuditRingBuffer buffer;
+
+    public AsyncAuditLogRepository(AuditLogRepository delegate, AuditRingBuffer buffer) {
+        this.delegate = delegate;
+        this.buffer = buffer;
+    }
+
+    @Override
+    public void logAudit(Long actorUserId, String action, String details, LocalDateTime at) {
+        buffer.publish(AuditRecord.of(actorUserId, action, details, at));
+    }
+
+    @Override
+    public AuditLog save(AuditLog auditLog) {
+        buffer.publish(AuditRecord.of(auditLog));
+        return auditLog;
+    }
+
+    @Override
+    public Optional<AuditLog> findById(Long id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public PagedResponse<AuditLog> findAll(int page, int size) {
+        return delegate.findAll(page, size);
+    }
+
+    @Override
+    public PagedResponse<AuditLog> findByActionAndUser(AuditAction action, Long performedById, int page, int size) {
+        return delegate.findByActionAndUser(action, performedById, page, size);
+    }
+
+    @Override
+    public CursorResponse<AuditLog> findAll(CursorRequest request) {
+        return delegate.findAll(request);
+    }
+
+    @Override
+    public CursorResponse<AuditLog> findByActionAndUser(AuditAction action, Long performedById, CursorRequest request) {
+        return delegate.findByActionAndUser(action, performedById, request);
+    }
+}
@@ -0,0 +1,37 @@
+package com.jikkosoft.library.infrastructure.audit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuration for the asynchronous audit pipeline ({@code library.audit.async.*}).
+ *
+ * @param enabled        whether audit writes are buffered and flushed in the background
+ * @param capacity       number of records the ring buffer can hold
+ * @param batchSize      maximum number of rows per JDBC batch
+ * @param flushInterval  maximum time a record waits before a partial batch is flushed
+ * @param backpressure   policy applied when the buffer is full
+ * @param spillDirectory directory for the spill file (SPILL_TO_DISK and failed flushes)
+ */
+@ConfigurationProperties(prefix = "library.audit.async")
+public record AsyncAuditProperties(
+        boolean enabled,
+        Integer capacity,
+        Integer batchSize,
+        Duration flushInterval,
+        BackpressurePolicy backpressure,
+        Path spillDirectory
+) {
+
+    public AsyncAuditProperties {
+        capacity = capacity != null ? capacity : 8192;
+        batchSize = batchSize != null ? batchSize : 500;
+        flushInterval = flushInterval != null ? flushInterval : Duration.ofMillis(200);
+        backpressure = backpressure != null ? backpressure : BackpressurePolicy.BLOCK;
+        spillDirectory = spillDirectory != null ? spillDirectory : Path.of(System.getProperty("java.io.tmpdir"), "library-audit");
+        if (capacity <= 0) throw new IllegalArgumentException("Audit buffer capacity must be greater than zero");
+        if (batchSize <= 0) throw new IllegalArgumentException("Audit batch size must be greater than zero");
+    }
+}
@@ -0,0 +1,72 @@
+package com.jikkosoft.library.infrastructure.audit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes audit records to the {@code audit_logs} table using multi-row JDBC batches.
+ *
+ * Notes:
+ * - Runs on the drainer thread, outside of any request transaction.
+ * - Metadata is stored as a JSON document in a single column.
+ */
+public class AuditBatchWriter {
+
+    static final String INSERT_SQL = """
+            INSERT INTO audit_logs
+                (performed_by_id, action, entity_type, entity_id, occurred_at, success,
+                 message, correlation_id, before_snapshot, after_snapshot, metadata)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+
+    public AuditBatchWriter(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Inserts all records, split into JDBC batches of at most {@code batchSize} rows.
+     *
+     * @param records rows to insert
+     */
+    public void write(List<AuditRecord> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, records, batchSize, (ps, r) -> {
+            if (r.performedById() != null) ps.setLong(1, r.performedById()); else ps.setNull(1, Types.BIGINT);
+            ps.setString(2, r.action());
+            ps.setString(3, r.entityType());
+            ps.setString(4, r.entityId());
+            ps.setTimestamp(5, Timestamp.valueOf(r.occurredAt()));
+            ps.setBoolean(6, r.success());
+            ps.setString(7, r.message());
+            ps.setString(8, r.correlationId());
+            ps.setString(9, r.before());
+            ps.setString(10, r.after());
+            ps.setString(11, toJson(r.metadata()));
+        });
+    }
+
+    private String toJson(Map<String, String> metadata) {
+        if (metadata == null || metadata.isEmpty()) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(metadata);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Audit metadata cannot be serialized", e);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.jikkosoft.library.infrastructure.audit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Background consumer that flushes buffered audit records in JDBC batches.
+ *
+ * Responsibilities:
+ * - Flushes when a batch is full or when the flush interval elapses, whichever comes first.
+ * - Diverts batches that fail to flush to the spill file instead of losing them.
+ * - Replays spilled records when the buffer is idle, backing off while the database is still down.
+ * - Flushes everything still pending on shutdown, before the DataSource is closed.
+ *
+ * Notes:
+ * - No exception escapes the worker loop: a dead drainer would leave BLOCK producers waiting forever.
+ */
+@Slf4j
+public class AuditDrainer implements SmartLifecycle {
+
+    private static final long MAX_REPLAY_BACKOFF_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final AuditRingBuffer buffer;
+    private final AuditBatchWriter writer;
+    private final AuditSpillFile spillFile;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final AtomicLong written = new AtomicLong();
+    private long replayBackoffNanos;
+    private long replayNotBefore = System.nanoTime();
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public AuditDrainer(AuditRingBuffer buffer, AuditBatchWriter writer, AuditSpillFile spillFile,
+                        int batchSize, Duration flushInterval) {
+        this.buffer = buffer;
+        this.writer = writer;
+        this.spillFile = spillFile;
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) return;
+        running = true;
+        worker = new Thread(this::run, "audit-drainer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) return;
+        running = false;
+        worker.interrupt();
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        List<AuditRecord> remaining = new ArrayList<>();
+        buffer.drainAll(remaining);
+        flush(remaining);
+        replaySpill();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /** Stops late so request handlers can still publish while the web server drains. */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 1024;
+    }
+
+    /** @return number of records written to the database since startup. */
+    public long writtenCount() {
+        return written.get();
+    }
+
+    private void run() {
+        List<AuditRecord> batch = new ArrayList<>(batchSize);
+        long deadline = System.nanoTime() + flushIntervalNanos;
+        while (running) {
+            try {
+                long wait = Math.max(0, deadline - System.nanoTime());
+                buffer.drain(batch, batchSize - batch.size(), wait, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                break; // stop() flushes whatever is left
+            }
+            boolean due = System.nanoTime() - deadline >= 0;
+            if (batch.size() >= batchSize || (due && !batch.isEmpty())) {
+                flush(batch);
+                batch = new ArrayList<>(batchSize);
+                deadline = System.nanoTime() + flushIntervalNanos;
+            } else if (due) {
+                if (spillFile.hasPending() && buffer.pending() == 0 && System.nanoTime() - replayNotBefore >= 0) {
+                    replaySpill();
+                }
+                deadline = System.nanoTime() + flushIntervalNanos;
+            }
+        }
+        flush(batch);
+    }
+
+    private void flush(List<AuditRecord> batch) {
+        if (batch.isEmpty()) return;
+        try {
+            writeOrFail(batch);
+        } catch (RuntimeException e) {
+            log.warn("Audit batch of {} records failed, spilling to disk: {}", batch.size(), e.getMessage());
+            try {
+                spillFile.append(batch);
+            } catch (RuntimeException spillFailure) {
+                log.error("Audit batch of {} records lost, spill file is not writable: {}",
+                        batch.size(), spillFailure.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Replays the spill file; on failure waits twice as long before the next attempt (up to a minute).
+     */
+    private void replaySpill() {
+        try {
+            spillFile.replay(batchSize, this::writeOrFail);
+            replayBackoffNanos = 0;
+        } catch (RuntimeException e) {
+            replayBackoffNanos = replayBackoffNanos == 0 ? flushIntervalNanos
+                    : Math.min(replayBackoffNanos * 2, MAX_REPLAY_BACKOFF_NANOS);
+            replayNotBefore = System.nanoTime() + replayBackoffNanos;
+            log.warn("Audit spill replay failed, retrying in {} ms: {}",
+                    TimeUnit.NANOSECONDS.toMillis(replayBackoffNanos), e.getMessage());
+        }
+    }
+
+    private void writeOrFail(List<AuditRecord> batch) {
+        writer.write(batch);
+        written.addAndGet(batch.size());
+    }
+}
@@ -0,0 +1,71 @@
+package com.jikkosoft.library.infrastructure.audit;
+
+import com.jikkosoft.library.shared.common.AuditLog;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Flat, immutable row queued by the asynchronous audit pipeline.
+ *
+ * Holds only column values (no domain references), so it can be buffered, spilled to
+ * disk as JSON and written with a multi-row JDBC batch.
+ */
+public record AuditRecord(
+        Long performedById,
+        String action,
+        String entityType,
+        String entityId,
+        LocalDateTime occurredAt,
+        boolean success,
+        String message,
+        String correlationId,
+        String before,
+        String after,
+        Map<String, String> metadata
+) {
+
+    /** Entity type recorded for free-form events logged through {@code logAudit}. */
+    public static final String SYSTEM_ENTITY_TYPE = "System";
+
+    /** Entity id recorded for free-form events logged through {@code logAudit}. */
+    public static final String NO_ENTITY_ID = "-";
+
+    /**
+     * Creates a record from a complete AuditLog entity (system actions have no actor).
+     */
+    static AuditRecord of(AuditLog log) {
+        return new AuditRecord(
+                log.getPerformedBy() != null ? log.getPerformedBy().getId() : null,
+                log.getAction().name(),
+                log.getEntityType(),
+                log.getEntityId(),
+                log.getTimestamp(),
+                log.isSuccess(),
+                log.getMessage(),
+                log.getCorrelationId(),
+                log.getBefore(),
+                log.getAfter(),
+                log.getMetadata()
+        );
+    }
+
+    /**
+     * Creates a record from the free-form {@code logAudit} arguments.
+     */
+    static AuditRecord of(Long actorUserId, String action, String details, LocalDateTime at) {
+        return new AuditRecord(
+                actorUserId,
+                action,
+                SYSTEM_ENTITY_TYPE,
+                NO_ENTITY_ID,
+                at != null ? at : LocalDateTime.now(),
+                true,
+                details,
+                null,
+                null,
+                null,
+                Map.of()
+        );
+    }
+}
@@ -0,0 +1,98 @@
+package com.jikkosoft.library.infrastructure.audit;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded buffer between request threads (producers) and the audit drainer (consumer).
+ *
+ * Responsibilities:
+ * - Accepts records without blocking while there is room.
+ * - Applies the configured {@link BackpressurePolicy} once full.
+ * - Tracks dropped and spilled counts for monitoring.
+ */
+public class AuditRingBuffer {
+
+    private final BlockingQueue<AuditRecord> queue;
+    private final BackpressurePolicy policy;
+    private final AuditSpillFile spillFile;
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong spilled = new AtomicLong();
+
+    public AuditRingBuffer(int capacity, BackpressurePolicy policy, AuditSpillFile spillFile) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.policy = policy;
+        this.spillFile = spillFile;
+    }
+
+    /**
+     * Enqueues a record, applying the backpressure policy when the buffer is full.
+     *
+     * @param record record to enqueue
+     */
+    public void publish(AuditRecord record) {
+        if (queue.offer(record)) {
+            return;
+        }
+        switch (policy) {
+            case BLOCK -> {
+                try {
+                    queue.put(record);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for audit buffer capacity", e);
+                }
+            }
+            case DROP_OLDEST -> {
+                while (!queue.offer(record)) {
+                    if (queue.poll() != null) {
+                        dropped.incrementAndGet();
+                    }
+                }
+            }
+            case SPILL_TO_DISK -> {
+                spillFile.append(List.of(record));
+                spilled.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Moves up to {@code max} records into the target, waiting at most {@code timeout}
+     * for the first one to arrive.
+     *
+     * @return number of records drained
+     */
+    int drain(Collection<AuditRecord> target, int max, long timeout, TimeUnit unit) throws InterruptedException {
+        AuditRecord first = queue.poll(timeout, unit);
+        if (first == null) {
+            return 0;
+        }
+        target.add(first);
+        return 1 + queue.drainTo(target, max - 1);
+    }
+
+    /** Moves every pending record into the target without waiting. */
+    int drainAll(Collection<AuditRecord> target) {
+        return queue.drainTo(target);
+    }
+
+    /** @return number of records waiting to be flushed. */
+    public int pending() {
+        return queue.size();
+    }
+
+    /** @return number of records discarded by DROP_OLDEST. */
+    public long droppedCount() {
+        return dropped.get();
+    }
+
+    /** @return number of records diverted to the spill file because the buffer was full. */
+    public long spilledCount() {
+        return spilled.get();
+    }
+}
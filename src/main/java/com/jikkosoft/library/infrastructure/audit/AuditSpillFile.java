@@ -0,0 +1,158 @@
+package com.jikkosoft.library.infrastructure.audit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Local, append-only spill file for audit records that could not be buffered or flushed.
+ *
+ * Responsibilities:
+ * - Appends records as one JSON document per line.
+ * - Replays spilled records in batches once the database is reachable again.
+ *
+ * Notes:
+ * - Replay renames the active file first, so new spills never race with the reader.
+ * - The number of replayed lines is checkpointed after every accepted batch, so a replay that
+ *   fails part-way resumes after the last accepted batch instead of inserting it again.
+ * - Delivery is at-least-once: a crash between a batch write and its checkpoint repeats that batch.
+ * - A line that does not parse (e.g., truncated by a crash mid-append) is moved to a rejected file
+ *   and skipped, so it cannot block every later replay.
+ */
+@Slf4j
+public class AuditSpillFile {
+
+    private static final String ACTIVE_FILE = "audit-spill.ndjson";
+    private static final String REPLAY_FILE = "audit-spill.replaying.ndjson";
+    private static final String OFFSET_FILE = "audit-spill.replaying.offset";
+    private static final String REJECTED_FILE = "audit-spill.rejected.ndjson";
+
+    private final Path active;
+    private final Path replaying;
+    private final Path offset;
+    private final Path rejected;
+    private final ObjectMapper objectMapper;
+
+    public AuditSpillFile(Path directory, ObjectMapper objectMapper) {
+        this.active = directory.resolve(ACTIVE_FILE);
+        this.replaying = directory.resolve(REPLAY_FILE);
+        this.offset = directory.resolve(OFFSET_FILE);
+        this.rejected = directory.resolve(REJECTED_FILE);
+        this.objectMapper = objectMapper;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Audit spill directory cannot be created: " + directory, e);
+        }
+    }
+
+    /**
+     * Appends records to the spill file.
+     *
+     * @param records records to persist locally
+     */
+    public synchronized void append(Collection<AuditRecord> records) {
+        try (BufferedWriter writer = Files.newBufferedWriter(active, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (AuditRecord record : records) {
+                writer.write(objectMapper.writeValueAsString(record));
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Audit records cannot be spilled to " + active, e);
+        }
+    }
+
+    /** @return true if there are spilled records waiting to be replayed. */
+    public boolean hasPending() {
+        return Files.exists(replaying) || Files.exists(active);
+    }
+
+    /**
+     * Replays spilled records in batches and removes the file once every batch succeeded.
+     *
+     * @param batchSize maximum records per batch
+     * @param sink      batch consumer (e.g., the JDBC batch writer)
+     * @throws RuntimeException whatever the sink throws; batches accepted before it are not replayed again
+     * @throws UncheckedIOException if the spill files cannot be read or written
+     */
+    public void replay(int batchSize, Consumer<List<AuditRecord>> sink) {
+        try {
+            synchronized (this) {
+                if (!Files.exists(replaying)) {
+                    if (!Files.exists(active)) {
+                        return;
+                    }
+                    Files.move(active, replaying, StandardCopyOption.ATOMIC_MOVE);
+                }
+            }
+            long accepted = readOffset();
+            try (BufferedReader reader = Files.newBufferedReader(replaying, StandardCharsets.UTF_8)) {
+                List<AuditRecord> batch = new ArrayList<>(batchSize);
+                long lineNumber = 0;
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (++lineNumber <= accepted || line.isBlank()) continue;
+                    AuditRecord record = parse(line, lineNumber);
+                    if (record == null) continue;
+                    batch.add(record);
+                    if (batch.size() == batchSize) {
+                        sink.accept(batch);
+                        writeOffset(lineNumber);
+                        batch = new ArrayList<>(batchSize);
+                    }
+                }
+                if (!batch.isEmpty()) {
+                    sink.accept(batch);
+                }
+            }
+            Files.delete(replaying);
+            Files.deleteIfExists(offset);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Audit spill cannot be replayed from " + replaying, e);
+        }
+    }
+
+    /** Parses a spilled line, or moves it to the rejected file and returns null if it is malformed. */
+    private AuditRecord parse(String line, long lineNumber) throws IOException {
+        try {
+            return objectMapper.readValue(line, AuditRecord.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Malformed audit spill line {} moved to {}: {}", lineNumber, rejected, e.getOriginalMessage());
+            Files.writeString(rejected, line + System.lineSeparator(), StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            return null;
+        }
+    }
+
+    private long readOffset() throws IOException {
+        if (!Files.exists(offset)) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(Files.readString(offset, StandardCharsets.UTF_8).trim());
+        } catch (NumberFormatException e) {
+            throw new IOException("Corrupt audit spill offset: " + offset, e);
+        }
+    }
+
+    private void writeOffset(long lines) throws IOException {
+        Path tmp = offset.resolveSibling(OFFSET_FILE + ".tmp");
+        Files.writeString(tmp, Long.toString(lines), StandardCharsets.UTF_8);
+        Files.move(tmp, offset, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
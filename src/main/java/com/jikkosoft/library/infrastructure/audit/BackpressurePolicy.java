@@ -0,0 +1,10 @@
+package com.jikkosoft.library.infrastructure.audit;
+
+/**
+ * Strategy applied when the asynchronous audit buffer is full.
+ */
+public enum BackpressurePolicy {
+    BLOCK,          // The producer waits until the drainer frees a slot
+    DROP_OLDEST,    // The oldest pending record is discarded to make room
+    SPILL_TO_DISK   // The record is appended to a local spill file and replayed later
+}
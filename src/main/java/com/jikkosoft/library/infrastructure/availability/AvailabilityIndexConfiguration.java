@@ -0,0 +1,36 @@
+package com.jikkosoft.library.infrastructure.availability;
+
+import com.jikkosoft.library.application.port.persistence.BookCopyRepository;
+import com.jikkosoft.library.application.port.tx.TransactionalPort;
+import com.jikkosoft.library.application.service.availability.BookAvailabilityIndex;
+import com.jikkosoft.library.infrastructure.config.PortDecoratorPostProcessor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.Ordered;
+
+/**
+ * Wires the book availability index when {@code library.availability.enabled=true}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "library.availability", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(AvailabilityIndexProperties.class)
+public class AvailabilityIndexConfiguration {
+
+    @Bean
+    public BookAvailabilityIndex bookAvailabilityIndex(@Lazy BookCopyRepository bookCopyRepository) {
+        return new BookAvailabilityIndex(bookCopyRepository);
+    }
+
+    @Bean
+    public static PortDecoratorPostProcessor<BookCopyRepository> availabilityTrackingBookCopyDecorator(
+            ObjectProvider<BookAvailabilityIndex> index, ObjectProvider<TransactionalPort> transactionalPort) {
+        return new PortDecoratorPostProcessor<>(BookCopyRepository.class,
+                delegate -> new AvailabilityTrackingBookCopyRepository(delegate, index.getObject(),
+                        transactionalPort.getObject()),
+                Ordered.HIGHEST_PRECEDENCE + 800);
+    }
+}
@@ -0,0 +1,12 @@
+package com.jikkosoft.library.infrastructure.availability;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for the in-memory book availability index ({@code library.availability.*}).
+ *
+ * @param enabled whether copy statuses are indexed in memory per (book, library)
+ */
+@ConfigurationProperties(prefix = "library.availability")
+public record AvailabilityIndexProperties(boolean enabled) {
+}
@@ -0,0 +1,102 @@
+package com.jikkosoft.library.infrastructure.availability;
+
+import com.jikkosoft.library.application.common.CursorRequest;
+import com.jikkosoft.library.application.common.CursorResponse;
+import com.jikkosoft.library.application.port.persistence.BookCopyRepository;
+import com.jikkosoft.library.application.port.tx.TransactionalPort;
+import com.jikkosoft.library.application.service.availability.BookAvailabilityIndex;
+import com.jikkosoft.library.domain.enums.BookStatus;
+import com.jikkosoft.library.domain.model.BookCopy;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * BookCopyRepository decorator that feeds committed copy writes into the {@link BookAvailabilityIndex}.
+ *
+ * Notes:
+ * - The index is updated after the surrounding transaction commits, with the saved copy,
+ *   so it only ever reflects what the database holds.
+ */
+public class AvailabilityTrackingBookCopyRepository implements BookCopyRepository {
+
+    private final BookCopyRepository delegate;
+    private final BookAvailabilityIndex index;
+    private final TransactionalPort transactionalPort;
+
+    public AvailabilityTrackingBookCopyRepository(BookCopyRepository delegate, BookAvailabilityIndex index,
+                                                  TransactionalPort transactionalPort) {
+        this.delegate = delegate;
+        this.index = index;
+        this.transactionalPort = transactionalPort;
+    }
+
+    @Override
+    public BookCopy save(BookCopy copy) {
+        BookCopy saved = delegate.save(copy);
+        transactionalPort.afterCommit(() -> index.upsert(saved));
+        return saved;
+    }
+
+    @Override
+    public List<BookCopy> saveAll(List<BookCopy> copies) {
+        List<BookCopy> saved = delegate.saveAll(copies);
+        transactionalPort.afterCommit(() -> saved.forEach(index::upsert));
+        return saved;
+    }
+
+    @Override
+    public void delete(BookCopy copy) {
+        delegate.delete(copy);
+        transactionalPort.afterCommit(() -> index.remove(copy));
+    }
+
+    @Override
+    public Optional<BookCopy> findById(Long id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public PageResult<BookCopy> findByBookIdAndLibraryIdAndStatus(Long bookId, Long libraryId, BookStatus status,
+                                                                  int page, int size) {
+        return delegate.findByBookIdAndLibraryIdAndStatus(bookId, libraryId, status, page, size);
+    }
+
+    @Override
+    public PageResult<BookCopy> findByBookId(Long bookId, int page, int size) {
+        return delegate.findByBookId(bookId, page, size);
+    }
+
+    @Override
+    public PageResult<BookCopy> findByBookIdAndStatus(Long bookId, BookStatus status, int page, int size) {
+        return delegate.findByBookIdAndStatus(bookId, status, page, size);
+    }
+
+    @Override
+    public PageResult<BookCopy> findByLibraryId(Long libraryId, int page, int size) {
+        return delegate.findByLibraryId(libraryId, page, size);
+    }
+
+    @Override
+    public CursorResponse<BookCopy> findByBookIdAndLibraryIdAndStatus(Long bookId, Long libraryId, BookStatus status,
+                                                                      CursorRequest request) {
+        return delegate.findByBookIdAndLibraryIdAndStatus(bookId, libraryId, status, request);
+    }
+
+    @Override
+    public CursorResponse<BookCopy> findByBookId(Long bookId, CursorRequest request) {
+        return delegate.findByBookId(bookId, request);
+    }
+
+    @Override
+    public List<BookCopy> findAllByIds(Collection<Long> ids) {
+        return delegate.findAllByIds(ids);
+    }
+
+    @Override
+    public void forEachStatusRow(Consumer<StatusRow> consumer) {
+        delegate.forEachStatusRow(consumer);
+    }
+}
@@ -0,0 +1,176 @@
+package com.jikkosoft.library.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.jikkosoft.library.application.common.CursorRequest;
+import com.jikkosoft.library.application.common.CursorResponse;
+import com.jikkosoft.library.application.common.PagedResponse;
+import com.jikkosoft.library.application.port.persistence.BookRepository;
+import com.jikkosoft.library.application.port.tx.TransactionalPort;
+import com.jikkosoft.library.domain.model.Book;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * BookRepository decorator that serves point lookups from the {@link CatalogCaches}.
+ *
+ * Responsibilities:
+ * - {@code findById} and {@code findAllByIds} read through the book cache.
+ * - {@code findByIsbn} resolves the ISBN to an ID through its own cache and remembers
+ *   ISBNs that matched nothing.
+ * - {@code save} and {@code logicalDeleteById} evict the affected entries, and evict them
+ *   again once the transaction commits.
+ * - Searches and listings are delegated unchanged.
+ *
+ * Notes:
+ * - The second eviction drops entries another thread reloaded from the pre-commit state
+ *   while the write was still uncommitted.
+ * - The cache holds its own copy of each book and every lookup returns a fresh copy, so a caller
+ *   mutating a returned book without saving it never changes what other callers see. Authors and
+ *   categories are immutable and are shared.
+ * - An ISBN entry is checked against the book it points to, so a book whose ISBN changed
+ *   is never returned for its old ISBN.
+ */
+public class CachingBookRepository implements BookRepository {
+
+    private final BookRepository delegate;
+    private final TransactionalPort transactionalPort;
+    private final Cache<Long, Book> books;
+    private final Cache<String, Long> bookIdsByIsbn;
+    private final Cache<String, Boolean> missingIsbns;
+
+    public CachingBookRepository(BookRepository delegate, CatalogCaches caches, TransactionalPort transactionalPort) {
+        this.delegate = delegate;
+        this.transactionalPort = transactionalPort;
+        this.books = caches.books();
+        this.bookIdsByIsbn = caches.bookIdsByIsbn();
+        this.missingIsbns = caches.missingIsbns();
+    }
+
+    @Override
+    public Optional<Book> findById(Long id) {
+        Book cached = books.getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(copyOf(cached));
+        }
+        Optional<Book> loaded = delegate.findById(id);
+        loaded.ifPresent(this::cache);
+        return loaded;
+    }
+
+    @Override
+    public Optional<Book> findByIsbn(String isbnRaw) {
+        if (isbnRaw == null) {
+            return delegate.findByIsbn(null);
+        }
+        if (missingIsbns.getIfPresent(isbnRaw) != null) {
+            return Optional.empty();
+        }
+        Long id = bookIdsByIsbn.getIfPresent(isbnRaw);
+        if (id != null) {
+            Optional<Book> book = findById(id).filter(b -> isbnRaw.equals(b.getIsbn().getValue()));
+            if (book.isPresent()) {
+                return book;
+            }
+            bookIdsByIsbn.invalidate(isbnRaw);
+        }
+        Optional<Book> loaded = delegate.findByIsbn(isbnRaw);
+        if (loaded.isPresent()) {
+            cache(loaded.get());
+            bookIdsByIsbn.put(isbnRaw, loaded.get().getId());
+        } else {
+            missingIsbns.put(isbnRaw, Boolean.TRUE);
+        }
+        return loaded;
+    }
+
+    @Override
+    public List<Book> findAllByIds(Collection<Long> ids) {
+        Map<Long, Book> found = books.getAll(ids, missing -> delegate.findAllByIds(List.copyOf(missing)).stream()
+                .collect(Collectors.toMap(Book::getId, CachingBookRepository::copyOf)));
+        return found.values().stream().map(CachingBookRepository::copyOf).toList();
+    }
+
+    @Override
+    public Book save(Book book) {
+        Book saved = delegate.save(book);
+        Runnable eviction = () -> {
+            evict(book.getId());
+            evict(saved.getId());
+            if (saved.getIsbn() != null) {
+                missingIsbns.invalidate(saved.getIsbn().getValue());
+            }
+        };
+        eviction.run();
+        transactionalPort.afterCommit(eviction);
+        return saved;
+    }
+
+    @Override
+    public void logicalDeleteById(Long id) {
+        delegate.logicalDeleteById(id);
+        evict(id);
+        transactionalPort.afterCommit(() -> evict(id));
+    }
+
+    @Override
+    public PagedResponse<Book> findByTitleLike(String text, int page, int size) {
+        return delegate.findByTitleLike(text, page, size);
+    }
+
+    @Override
+    public PagedResponse<Book> findAll(int page, int size) {
+        return delegate.findAll(page, size);
+    }
+
+    @Override
+    public CursorResponse<Book> findByTitleLike(String text, CursorRequest request) {
+        return delegate.findByTitleLike(text, request);
+    }
+
+    @Override
+    public CursorResponse<Book> findAll(CursorRequest request) {
+        return delegate.findAll(request);
+    }
+
+    private void cache(Book book) {
+        if (book.getId() != null) {
+            books.put(book.getId(), copyOf(book));
+        }
+    }
+
+    private static Book copyOf(Book book) {
+        return new Book.Builder()
+                .id(book.getId())
+                .isbn(book.getIsbn())
+                .title(book.getTitle())
+                .authors(book.getAuthors())
+                .publicationYear(book.getPublicationYear())
+                .category(book.getCategory())
+                .build();
+    }
+
+    private void evict(Long id) {
+        if (id == null) {
+            return;
+        }
+        Book previous = books.getIfPresent(id);
+        books.invalidate(id);
+        if (previous != null && previous.getIsbn() != null) {
+            bookIdsByIsbn.invalidate(previous.getIsbn().getValue());
+        }
+    }
+
+    @Override
+    public PagedResponse<Book> searchCatalog(String text, int page, int size) {
+        return delegate.searchCatalog(text, page, size);
+    }
+
+    @Override
+    public CatalogWatermark watermark() {
+        return delegate.watermark();
+    }
+}
@@ -0,0 +1,87 @@
+package com.jikkosoft.library.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.jikkosoft.library.application.common.CursorRequest;
+import com.jikkosoft.library.application.common.CursorResponse;
+import com.jikkosoft.library.application.common.PagedResponse;
+import com.jikkosoft.library.application.port.persistence.CategoryRepository;
+import com.jikkosoft.library.application.port.tx.TransactionalPort;
+import com.jikkosoft.library.domain.model.Book;
+import com.jikkosoft.library.domain.model.Category;
+
+import java.util.Optional;
+
+/**
+ * CategoryRepository decorator that serves {@code findById} from the {@link CatalogCaches}.
+ *
+ * Responsibilities:
+ * - {@code findById} reads through the category cache.
+ * - {@code save} evicts the saved category and every cached book that embeds it, and evicts
+ *   them again once the transaction commits.
+ * - Every other operation is delegated unchanged.
+ *
+ * Notes:
+ * - Books carry their category (and its penalty per day), so a book cached before the category
+ *   changed would feed stale penalties into new loans.
+ */
+public class CachingCategoryRepository implements CategoryRepository {
+
+    private final CategoryRepository delegate;
+    private final TransactionalPort transactionalPort;
+    private final Cache<Long, Category> categories;
+    private final Cache<Long, Book> books;
+
+    public CachingCategoryRepository(CategoryRepository delegate, CatalogCaches caches,
+                                     TransactionalPort transactionalPort) {
+        this.delegate = delegate;
+        this.transactionalPort = transactionalPort;
+        this.categories = caches.categories();
+        this.books = caches.books();
+    }
+
+    @Override
+    public Optional<Category> findById(Long id) {
+        Category cached = categories.getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<Category> loaded = delegate.findById(id);
+        loaded.ifPresent(category -> categories.put(id, category));
+        return loaded;
+    }
+
+    @Override
+    public Category save(Category category) {
+        Category saved = delegate.save(category);
+        Runnable eviction = () -> {
+            evict(category.getId());
+            evict(saved.getId());
+        };
+        eviction.run();
+        transactionalPort.afterCommit(eviction);
+        return saved;
+    }
+
+    private void evict(Long id) {
+        if (id == null) {
+            return;
+        }
+        categories.invalidate(id);
+        books.asMap().values().removeIf(book -> id.equals(book.getCategory().getId()));
+    }
+
+    @Override
+    public Optional<Category> findByNameIgnoreCase(String name) {
+        return delegate.findByNameIgnoreCase(name);
+    }
+
+    @Override
+    public PagedResponse<Category> findAll(int page, int size) {
+        return delegate.findAll(page, size);
+    }
+
+    @Override
+    public CursorResponse<Category> findAll(CursorRequest request) {
+        return delegate.findAll(request);
+    }
+}
@@ -0,0 +1,54 @@
+package com.jikkosoft.library.infrastructure.cache;
+
+import com.jikkosoft.library.application.port.persistence.BookRepository;
+import com.jikkosoft.library.application.port.persistence.CategoryRepository;
+import com.jikkosoft.library.application.port.tx.TransactionalPort;
+import com.jikkosoft.library.infrastructure.config.PortDecoratorPostProcessor;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Wires the catalog read-through cache when {@code library.catalog-cache.enabled=true}.
+ *
+ * Notes:
+ * - The book decorator sits below the search index decorator, so search result pages are
+ *   also loaded through the cache.
+ * - Cache statistics are published to Micrometer as {@code cache.*} meters tagged with the
+ *   cache name.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "library.catalog-cache", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(CatalogCacheProperties.class)
+public class CatalogCacheConfiguration {
+
+    @Bean
+    public CatalogCaches catalogCaches(CatalogCacheProperties properties) {
+        return new CatalogCaches(properties);
+    }
+
+    @Bean
+    public MeterBinder catalogCacheMetrics(CatalogCaches caches) {
+        return caches::bindTo;
+    }
+
+    @Bean
+    public static PortDecoratorPostProcessor<BookRepository> cachingBookDecorator(
+            ObjectProvider<CatalogCaches> caches, ObjectProvider<TransactionalPort> transactionalPort) {
+        return new PortDecoratorPostProcessor<>(BookRepository.class,
+                delegate -> new CachingBookRepository(delegate, caches.getObject(), transactionalPort.getObject()),
+                Ordered.HIGHEST_PRECEDENCE + 150);
+    }
+
+    @Bean
+    public static PortDecoratorPostProcessor<CategoryRepository> cachingCategoryDecorator(
+            ObjectProvider<CatalogCaches> caches, ObjectProvider<TransactionalPort> transactionalPort) {
+        return new PortDecoratorPostProcessor<>(CategoryRepository.class,
+                delegate -> new CachingCategoryRepository(delegate, caches.getObject(), transactionalPort.getObject()),
+                Ordered.HIGHEST_PRECEDENCE + 150);
+    }
+}
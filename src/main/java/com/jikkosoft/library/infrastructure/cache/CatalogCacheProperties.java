@@ -0,0 +1,28 @@
+package com.jikkosoft.library.infrastructure.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the catalog read-through cache ({@code library.catalog-cache.*}).
+ *
+ * @param enabled     whether Book and Category lookups are cached
+ * @param maximumSize maximum number of entries per cache
+ * @param ttl         how long a cached entry is served after it was loaded
+ * @param negativeTtl how long an ISBN with no matching book is remembered as missing
+ */
+@ConfigurationProperties(prefix = "library.catalog-cache")
+public record CatalogCacheProperties(
+        boolean enabled,
+        long maximumSize,
+        Duration ttl,
+        Duration negativeTtl
+) {
+
+    public CatalogCacheProperties {
+        maximumSize = maximumSize > 0 ? maximumSize : 10_000;
+        ttl = ttl != null ? ttl : Duration.ofMinutes(10);
+        negativeTtl = negativeTtl != null ? negativeTtl : Duration.ofMinutes(1);
+    }
+}
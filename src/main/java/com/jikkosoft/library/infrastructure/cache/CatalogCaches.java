@@ -0,0 +1,94 @@
+package com.jikkosoft.library.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.jikkosoft.library.domain.model.Book;
+import com.jikkosoft.library.domain.model.Category;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Holds the catalog caches shared by the caching repository decorators.
+ *
+ * Responsibilities:
+ * - Builds bounded Caffeine caches (W-TinyLFU admission and eviction) with a TTL.
+ * - Keeps a separate, short-lived cache of ISBNs known to have no book.
+ * - Exposes hit, miss and eviction statistics per cache, and binds them to a meter registry.
+ *
+ * Notes:
+ * - ISBN entries map to book IDs, so a book is held once however it was looked up.
+ */
+public class CatalogCaches {
+
+    public static final String BOOKS = "catalog.books";
+    public static final String BOOK_ISBNS = "catalog.book-isbns";
+    public static final String MISSING_ISBNS = "catalog.missing-isbns";
+    public static final String CATEGORIES = "catalog.categories";
+
+    private final Cache<Long, Book> books;
+    private final Cache<String, Long> bookIdsByIsbn;
+    private final Cache<String, Boolean> missingIsbns;
+    private final Cache<Long, Category> categories;
+
+    public CatalogCaches(CatalogCacheProperties properties) {
+        this.books = build(properties.maximumSize(), properties.ttl());
+        this.bookIdsByIsbn = build(properties.maximumSize(), properties.ttl());
+        this.missingIsbns = build(properties.maximumSize(), properties.negativeTtl());
+        this.categories = build(properties.maximumSize(), properties.ttl());
+    }
+
+    private static <K, V> Cache<K, V> build(long maximumSize, Duration ttl) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    Cache<Long, Book> books() { return books; }
+    Cache<String, Long> bookIdsByIsbn() { return bookIdsByIsbn; }
+    Cache<String, Boolean> missingIsbns() { return missingIsbns; }
+    Cache<Long, Category> categories() { return categories; }
+
+    /**
+     * Returns a snapshot of the statistics of every cache, keyed by cache name.
+     *
+     * @return hit, miss, load and eviction counters per cache
+     */
+    public Map<String, CacheStats> stats() {
+        Map<String, CacheStats> stats = new LinkedHashMap<>();
+        stats.put(BOOKS, books.stats());
+        stats.put(BOOK_ISBNS, bookIdsByIsbn.stats());
+        stats.put(MISSING_ISBNS, missingIsbns.stats());
+        stats.put(CATEGORIES, categories.stats());
+        return stats;
+    }
+
+    /**
+     * Registers the Caffeine statistics of every cache as Micrometer meters tagged with its name.
+     *
+     * @param registry registry to publish to
+     */
+    public void bindTo(MeterRegistry registry) {
+        caches().forEach((name, cache) -> CaffeineCacheMetrics.monitor(registry, cache, name));
+    }
+
+    /**
+     * Returns the caches keyed by name, for binding to a metrics registry.
+     *
+     * @return every catalog cache
+     */
+    public Map<String, Cache<?, ?>> caches() {
+        Map<String, Cache<?, ?>> caches = new LinkedHashMap<>();
+        caches.put(BOOKS, books);
+        caches.put(BOOK_ISBNS, bookIdsByIsbn);
+        caches.put(MISSING_ISBNS, missingIsbns);
+        caches.put(CATEGORIES, categories);
+        return caches;
+    }
+}
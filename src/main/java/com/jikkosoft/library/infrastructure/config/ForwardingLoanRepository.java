@@ -0,0 +1,89 @@
+package com.jikkosoft.library.infrastructure.config;
+
+import com.jikkosoft.library.application.common.CursorRequest;
+import com.jikkosoft.library.application.common.CursorResponse;
+import com.jikkosoft.library.application.common.PagedResponse;
+import com.jikkosoft.library.application.port.persistence.LoanRepository;
+import com.jikkosoft.library.domain.enums.LoanStatus;
+import com.jikkosoft.library.domain.model.Loan;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Base for LoanRepository decorators: forwards every port method to the wrapped repository.
+ *
+ * Responsibilities:
+ * - Keeps the pass-through methods in one place, so a decorator overrides only the calls it observes.
+ *
+ * Notes:
+ * - Default port methods are forwarded too, so a decorator never falls back to the port's
+ *   default implementation in place of the adapter's own.
+ */
+public abstract class ForwardingLoanRepository implements LoanRepository {
+
+    protected final LoanRepository delegate;
+
+    protected ForwardingLoanRepository(LoanRepository delegate) {
+        this.delegate = Objects.requireNonNull(delegate, "Delegate must not be null.");
+    }
+
+    @Override
+    public Loan save(Loan loan) {
+        return delegate.save(loan);
+    }
+
+    @Override
+    public List<Loan> saveAll(List<Loan> loans) {
+        return delegate.saveAll(loans);
+    }
+
+    @Override
+    public void logicalDeleteById(Long id) {
+        delegate.logicalDeleteById(id);
+    }
+
+    @Override
+    public Optional<Loan> findById(Long id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public List<Loan> findByMemberIdAndStatus(Long memberId, LoanStatus status) {
+        return delegate.findByMemberIdAndStatus(memberId, status);
+    }
+
+    @Override
+    public PagedResponse<Loan> findByMemberIdAndStatusPaged(Long memberId, LoanStatus status, int page, int size) {
+        return delegate.findByMemberIdAndStatusPaged(memberId, status, page, size);
+    }
+
+    @Override
+    public CursorResponse<Loan> findByMemberIdAndStatusPaged(Long memberId, LoanStatus status, CursorRequest request) {
+        return delegate.findByMemberIdAndStatusPaged(memberId, status, request);
+    }
+
+    @Override
+    public Map<Long, Long> countLoansByBook() {
+        return delegate.countLoansByBook();
+    }
+
+    @Override
+    public Map<Long, Long> countLoansByMember() {
+        return delegate.countLoansByMember();
+    }
+
+    @Override
+    public List<Loan> findAllByIds(Collection<Long> ids) {
+        return delegate.findAllByIds(ids);
+    }
+
+    @Override
+    public void forEachActiveDueDate(Consumer<DueDateRow> consumer) {
+        delegate.forEachActiveDueDate(consumer);
+    }
+}
@@ -0,0 +1,49 @@
+package com.jikkosoft.library.infrastructure.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+
+import java.util.Objects;
+import java.util.function.UnaryOperator;
+
+/**
+ * Bean post-processor that wraps every bean implementing a given port with a decorator.
+ *
+ * Responsibilities:
+ * - Lets infrastructure concerns (async writes, caching, metrics) stack on top of the
+ *   persistence adapters without the adapters knowing about them.
+ * - Applies decorators in a deterministic order through {@link Ordered}.
+ *
+ * Notes:
+ * - Declare instances as {@code static} {@code @Bean} methods so they are registered
+ *   before regular beans are created.
+ * - The decorator function is invoked lazily, once per matching bean, so it may look
+ *   up collaborators through an {@code ObjectProvider}.
+ *
+ * @param <T> port type to decorate
+ */
+public class PortDecoratorPostProcessor<T> implements BeanPostProcessor, Ordered {
+
+    private final Class<T> portType;
+    private final UnaryOperator<T> decorator;
+    private final int order;
+
+    public PortDecoratorPostProcessor(Class<T> portType, UnaryOperator<T> decorator, int order) {
+        this.portType = Objects.requireNonNull(portType, "Port type must not be null.");
+        this.decorator = Objects.requireNonNull(decorator, "Decorator must not be null.");
+        this.order = order;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (portType.isInstance(bean)) {
+            return decorator.apply(portType.cast(bean));
+        }
+        return bean;
+    }
+
+    @Override
+    public int getOrder() {
+        return order;
+    }
+}
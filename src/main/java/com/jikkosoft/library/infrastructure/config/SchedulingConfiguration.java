@@ -0,0 +1,12 @@
+package com.jikkosoft.library.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} background jobs (index snapshots, sweeps, dispatchers).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfiguration {
+}
@@ -0,0 +1,98 @@
+package com.jikkosoft.library.infrastructure.export;
+
+import com.jikkosoft.library.application.dto.auditlog.query.GetAllAuditLogsQuery;
+import com.jikkosoft.library.application.dto.loan.query.GetAllLoansQuery;
+import com.jikkosoft.library.application.dto.reservation.query.GetAllReservationsQuery;
+import com.jikkosoft.library.application.service.export.ExportFormat;
+import com.jikkosoft.library.application.service.export.ExportService;
+import com.jikkosoft.library.domain.enums.LoanStatus;
+import com.jikkosoft.library.domain.enums.ReservationStatus;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Locale;
+
+/**
+ * Streams reporting exports over HTTP when {@code library.export.enabled=true}.
+ *
+ * Responsibilities:
+ * - Binds the {@code GetAll*Query} filters from request parameters.
+ * - Writes rows to the response as they are read; nothing is buffered beyond the write buffer.
+ *
+ * Notes:
+ * - Filters are checked before the response is committed; an unknown status or an inverted date range
+ *   gives 400 instead of a 200 with a truncated body.
+ * - {@code gzip=true} returns a {@code .gz} attachment ({@code application/gzip}).
+ * - Exports run on an async request; {@code spring.mvc.async.request-timeout} bounds their duration.
+ */
+@RestController
+@RequestMapping("/api/exports")
+@ConditionalOnProperty(prefix = "library.export", name = "enabled", havingValue = "true")
+public class ExportController {
+
+    private final ExportService exportService;
+
+    public ExportController(ExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    @GetMapping("/loans")
+    public ResponseEntity<StreamingResponseBody> loans(@ModelAttribute GetAllLoansQuery query,
+                                                       @RequestParam(defaultValue = "CSV") ExportFormat format,
+                                                       @RequestParam(defaultValue = "false") boolean gzip) {
+        requireStatus(LoanStatus.class, query.getStatus());
+        requireRange(query.getLoanDateFrom(), query.getLoanDateTo(), "loanDateFrom", "loanDateTo");
+        return attachment("loans", format, gzip, out -> exportService.exportLoans(query, format, gzip, out));
+    }
+
+    @GetMapping("/reservations")
+    public ResponseEntity<StreamingResponseBody> reservations(@ModelAttribute GetAllReservationsQuery query,
+                                                              @RequestParam(defaultValue = "CSV") ExportFormat format,
+                                                              @RequestParam(defaultValue = "false") boolean gzip) {
+        requireStatus(ReservationStatus.class, query.getStatus());
+        requireRange(query.getReservedFrom(), query.getReservedTo(), "reservedFrom", "reservedTo");
+        return attachment("reservations", format, gzip, out -> exportService.exportReservations(query, format, gzip, out));
+    }
+
+    @GetMapping("/audit-logs")
+    public ResponseEntity<StreamingResponseBody> auditLogs(@ModelAttribute GetAllAuditLogsQuery query,
+                                                           @RequestParam(defaultValue = "CSV") ExportFormat format,
+                                                           @RequestParam(defaultValue = "false") boolean gzip) {
+        return attachment("audit-logs", format, gzip, out -> exportService.exportAuditLogs(query, format, gzip, out));
+    }
+
+    private static ResponseEntity<StreamingResponseBody> attachment(String name, ExportFormat format, boolean gzip,
+                                                                    StreamingResponseBody body) {
+        String fileName = name + "." + format.getExtension() + (gzip ? ".gz" : "");
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(gzip ? "application/gzip" : format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(body);
+    }
+
+    private static <E extends Enum<E>> void requireStatus(Class<E> type, String value) {
+        if (value == null) return;
+        try {
+            Enum.valueOf(type, value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown " + type.getSimpleName() + ": " + value);
+        }
+    }
+
+    private static <T extends Comparable<? super T>> void requireRange(T from, T to, String fromName, String toName) {
+        if (from != null && to != null && from.compareTo(to) > 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, fromName + " must not be after " + toName);
+        }
+    }
+}
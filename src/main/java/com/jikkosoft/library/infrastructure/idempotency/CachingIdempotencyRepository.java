@@ -0,0 +1,73 @@
+package com.jikkosoft.library.infrastructure.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jikkosoft.library.application.common.Result;
+import com.jikkosoft.library.application.port.persistence.IdempotencyRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * In-memory tier in front of an {@link IdempotencyRepository}.
+ *
+ * Responsibilities:
+ * - Keeps completed keys in a bounded Caffeine cache, so a replayed key is answered without a
+ *   database round-trip.
+ * - Sends reservations to the delegate: only the shared store can make them exclusive across
+ *   instances.
+ *
+ * Notes:
+ * - Entries are only cached once completed; a pending key is always re-read from the delegate.
+ * - Expiry is checked against the stored expiry time on every hit.
+ */
+public class CachingIdempotencyRepository implements IdempotencyRepository {
+
+    private final IdempotencyRepository delegate;
+    private final Cache<String, Entry<?>> completed;
+
+    public CachingIdempotencyRepository(IdempotencyRepository delegate, long maximumSize, Duration ttl) {
+        this.delegate = delegate;
+        this.completed = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    @Override
+    public boolean reserve(String key, String fingerprint, LocalDateTime expiresAt, LocalDateTime now) {
+        completed.invalidate(key);
+        return delegate.reserve(key, fingerprint, expiresAt, now);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Optional<Entry<T>> find(String key, Class<T> dataType, LocalDateTime now) {
+        Entry<?> cached = completed.getIfPresent(key);
+        if (cached != null && cached.expiresAt().isAfter(now)
+                && (cached.result().data() == null || dataType.isInstance(cached.result().data()))) {
+            return Optional.of((Entry<T>) cached);
+        }
+        Optional<Entry<T>> stored = delegate.find(key, dataType, now);
+        stored.filter(Entry::completed).ifPresent(entry -> completed.put(key, entry));
+        return stored;
+    }
+
+    @Override
+    public <T> void complete(String key, String fingerprint, Result<T> result, LocalDateTime expiresAt) {
+        delegate.complete(key, fingerprint, result, expiresAt);
+        completed.put(key, new Entry<>(fingerprint, result, expiresAt));
+    }
+
+    @Override
+    public void release(String key) {
+        completed.invalidate(key);
+        delegate.release(key);
+    }
+
+    @Override
+    public int purgeExpired(LocalDateTime now) {
+        return delegate.purgeExpired(now);
+    }
+}
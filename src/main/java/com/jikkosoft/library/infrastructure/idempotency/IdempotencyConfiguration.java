@@ -0,0 +1,62 @@
+package com.jikkosoft.library.infrastructure.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jikkosoft.library.application.port.persistence.IdempotencyRepository;
+import com.jikkosoft.library.application.port.service.ClockPort;
+import com.jikkosoft.library.application.service.idempotency.IdempotencyService;
+import com.jikkosoft.library.infrastructure.config.PortDecoratorPostProcessor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Wires the idempotency-key store when {@code library.idempotency.enabled=true}.
+ *
+ * Keys live in the {@code idempotency_keys} table with a bounded in-memory tier in front.
+ *
+ * Notes:
+ * - Nothing calls {@link IdempotencyService#execute} yet: this tree has no handlers for
+ *   {@code CreateLoanCommand}, {@code CreateReservationCommand} or {@code CreateBookCopyCommand}.
+ *   They are meant to wrap their work in it once they exist.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "library.idempotency", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(IdempotencyProperties.class)
+public class IdempotencyConfiguration {
+
+    private final ObjectProvider<IdempotencyService> idempotencyService;
+
+    public IdempotencyConfiguration(ObjectProvider<IdempotencyService> idempotencyService) {
+        this.idempotencyService = idempotencyService;
+    }
+
+    @Bean
+    public IdempotencyRepository idempotencyRepository(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        return new JdbcIdempotencyRepository(jdbcTemplate, objectMapper);
+    }
+
+    @Bean
+    public IdempotencyService idempotencyService(IdempotencyRepository repository, ClockPort clock,
+                                                 IdempotencyProperties properties) {
+        return new IdempotencyService(repository, clock, properties.ttl(), properties.pendingTimeout());
+    }
+
+    @Bean
+    public static PortDecoratorPostProcessor<IdempotencyRepository> cachingIdempotencyDecorator(
+            ObjectProvider<IdempotencyProperties> properties) {
+        return new PortDecoratorPostProcessor<>(IdempotencyRepository.class,
+                delegate -> new CachingIdempotencyRepository(delegate, properties.getObject().cacheSize(),
+                        properties.getObject().ttl()),
+                Ordered.HIGHEST_PRECEDENCE + 700);
+    }
+
+    @Scheduled(cron = "${library.idempotency.purge-cron:0 45 3 * * *}")
+    public void purge() {
+        idempotencyService.getObject().purgeExpired();
+    }
+}
@@ -0,0 +1,33 @@
+package com.jikkosoft.library.infrastructure.idempotency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the idempotency-key store ({@code library.idempotency.*}).
+ *
+ * @param enabled        whether create commands can be guarded by idempotency keys
+ * @param ttl            how long the result of a key is replayed
+ * @param pendingTimeout how long a key stays reserved by a submission that never stored a result
+ * @param cacheSize      completed keys held in memory
+ * @param purgeCron      when expired keys are deleted (default: every day at 03:45)
+ */
+@ConfigurationProperties(prefix = "library.idempotency")
+public record IdempotencyProperties(
+        boolean enabled,
+        Duration ttl,
+        Duration pendingTimeout,
+        Integer cacheSize,
+        String purgeCron
+) {
+
+    public IdempotencyProperties {
+        ttl = ttl != null ? ttl : Duration.ofHours(24);
+        pendingTimeout = pendingTimeout != null ? pendingTimeout : Duration.ofMinutes(2);
+        cacheSize = cacheSize != null ? cacheSize : 10_000;
+        purgeCron = purgeCron != null ? purgeCron : "0 45 3 * * *";
+        if (cacheSize <= 0) throw new IllegalArgumentException("Idempotency cache size must be greater than zero");
+        if (ttl.isNegative() || ttl.isZero()) throw new IllegalArgumentException("Idempotency TTL must be positive");
+    }
+}
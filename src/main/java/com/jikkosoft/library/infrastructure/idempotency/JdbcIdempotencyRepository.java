@@ -0,0 +1,124 @@
+package com.jikkosoft.library.infrastructure.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jikkosoft.library.application.common.Result;
+import com.jikkosoft.library.application.port.persistence.IdempotencyRepository;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JDBC adapter for {@link IdempotencyRepository} over the {@code idempotency_keys} table.
+ *
+ * Notes:
+ * - A reservation is a plain insert: the primary key lets exactly one concurrent insert succeed.
+ *   An expired row for the key is deleted first.
+ * - Must run outside of a transaction (each statement auto-commits): a rejected insert would
+ *   otherwise abort the caller's transaction on PostgreSQL.
+ * - Result data is stored as JSON.
+ */
+public class JdbcIdempotencyRepository implements IdempotencyRepository {
+
+    private static final String DELETE_EXPIRED_KEY_SQL =
+            "DELETE FROM idempotency_keys WHERE idempotency_key = ? AND expires_at <= ?";
+
+    private static final String INSERT_SQL = """
+            INSERT INTO idempotency_keys (idempotency_key, fingerprint, created_at, expires_at)
+            VALUES (?, ?, ?, ?)
+            """;
+
+    private static final String SELECT_SQL = """
+            SELECT fingerprint, success, message, data, expires_at FROM idempotency_keys
+            WHERE idempotency_key = ? AND expires_at > ?
+            """;
+
+    private static final String COMPLETE_SQL = """
+            UPDATE idempotency_keys SET success = ?, message = ?, data = ?, expires_at = ?
+            WHERE idempotency_key = ? AND fingerprint = ?
+            """;
+
+    private static final String RELEASE_SQL =
+            "DELETE FROM idempotency_keys WHERE idempotency_key = ? AND success IS NULL";
+
+    private static final String PURGE_SQL = "DELETE FROM idempotency_keys WHERE expires_at <= ?";
+
+    private static final int MAX_MESSAGE_LENGTH = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public JdbcIdempotencyRepository(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public boolean reserve(String key, String fingerprint, LocalDateTime expiresAt, LocalDateTime now) {
+        jdbcTemplate.update(DELETE_EXPIRED_KEY_SQL, key, Timestamp.valueOf(now));
+        try {
+            jdbcTemplate.update(INSERT_SQL, key, fingerprint, Timestamp.valueOf(now), Timestamp.valueOf(expiresAt));
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public <T> Optional<Entry<T>> find(String key, Class<T> dataType, LocalDateTime now) {
+        List<Entry<T>> rows = jdbcTemplate.query(SELECT_SQL, (rs, i) -> {
+            boolean success = rs.getBoolean("success");
+            Result<T> result = rs.wasNull() ? null
+                    : new Result<>(success, rs.getString("message"), fromJson(rs.getString("data"), dataType));
+            return new Entry<>(rs.getString("fingerprint"), result, rs.getTimestamp("expires_at").toLocalDateTime());
+        }, key, Timestamp.valueOf(now));
+        return rows.stream().findFirst();
+    }
+
+    @Override
+    public <T> void complete(String key, String fingerprint, Result<T> result, LocalDateTime expiresAt) {
+        String message = result.message() != null && result.message().length() > MAX_MESSAGE_LENGTH
+                ? result.message().substring(0, MAX_MESSAGE_LENGTH) : result.message();
+        int updated = jdbcTemplate.update(COMPLETE_SQL, result.success(), message, toJson(result.data()),
+                Timestamp.valueOf(expiresAt), key, fingerprint);
+        if (updated == 0) {
+            throw new IllegalStateException("Idempotency key " + key + " is no longer reserved");
+        }
+    }
+
+    @Override
+    public void release(String key) {
+        jdbcTemplate.update(RELEASE_SQL, key);
+    }
+
+    @Override
+    public int purgeExpired(LocalDateTime now) {
+        return jdbcTemplate.update(PURGE_SQL, Timestamp.valueOf(now));
+    }
+
+    private String toJson(Object data) {
+        if (data == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Result data cannot be serialized", e);
+        }
+    }
+
+    private <T> T fromJson(String json, Class<T> dataType) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, dataType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Stored result data is not a " + dataType.getSimpleName(), e);
+        }
+    }
+}
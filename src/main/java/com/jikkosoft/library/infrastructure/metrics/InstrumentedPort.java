@@ -0,0 +1,78 @@
+package com.jikkosoft.library.infrastructure.metrics;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Dynamic-proxy decorator that times every call of a port.
+ *
+ * Notes:
+ * - One handler serves any port interface, so new ports and new port methods are instrumented
+ *   without code changes.
+ * - Exceptions thrown by the delegate are recorded and rethrown unchanged.
+ * - {@code Object} methods are not timed.
+ */
+final class InstrumentedPort implements InvocationHandler {
+
+    private final Object delegate;
+    private final Map<Method, PortMetrics.MethodMeters> meters;
+
+    private InstrumentedPort(Object delegate, Map<Method, PortMetrics.MethodMeters> meters) {
+        this.delegate = delegate;
+        this.meters = meters;
+    }
+
+    /**
+     * Wraps a port implementation.
+     *
+     * @param port     port interface
+     * @param delegate implementation to time
+     * @param metrics  meters to record into
+     * @return proxy implementing only {@code port}
+     */
+    static <T> T wrap(Class<T> port, T delegate, PortMetrics metrics) {
+        Map<Method, PortMetrics.MethodMeters> meters = new HashMap<>();
+        for (Method method : port.getMethods()) {
+            if (!method.isSynthetic() && !Modifier.isStatic(method.getModifiers())) {
+                meters.put(method, metrics.register(port, method));
+            }
+        }
+        return port.cast(Proxy.newProxyInstance(port.getClassLoader(), new Class<?>[]{port},
+                new InstrumentedPort(delegate, meters)));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        PortMetrics.MethodMeters timed = meters.get(method);
+        if (timed == null) return objectMethod(proxy, method, args);
+        long start = System.nanoTime();
+        try {
+            Object result = method.invoke(delegate, args);
+            timed.success(result, System.nanoTime() - start);
+            return result;
+        } catch (InvocationTargetException e) {
+            timed.failure(e.getCause(), System.nanoTime() - start);
+            throw e.getCause();
+        }
+    }
+
+    private Object objectMethod(Object proxy, Method method, Object[] args) throws Throwable {
+        return switch (method.getName()) {
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "toString" -> "Instrumented(" + delegate + ")";
+            default -> {
+                try {
+                    yield method.invoke(delegate, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            }
+        };
+    }
+}
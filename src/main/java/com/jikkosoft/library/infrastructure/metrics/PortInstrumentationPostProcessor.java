@@ -0,0 +1,44 @@
+package com.jikkosoft.library.infrastructure.metrics;
+
+import com.jikkosoft.library.infrastructure.config.PortDecoratorPostProcessor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+
+import java.util.List;
+
+/**
+ * Installs {@link InstrumentedPort} on every bean implementing one of the instrumented ports.
+ *
+ * Notes:
+ * - Holds one {@link PortDecoratorPostProcessor} per port; a bean is wrapped for the first port it
+ *   implements.
+ */
+public class PortInstrumentationPostProcessor implements BeanPostProcessor, Ordered {
+
+    private final List<PortDecoratorPostProcessor<?>> decorators;
+    private final int order;
+
+    public PortInstrumentationPostProcessor(List<Class<?>> ports, ObjectProvider<PortMetrics> metrics, int order) {
+        this.decorators = ports.stream().<PortDecoratorPostProcessor<?>>map(port -> decorator(port, metrics, order)).toList();
+        this.order = order;
+    }
+
+    private static <T> PortDecoratorPostProcessor<T> decorator(Class<T> port, ObjectProvider<PortMetrics> metrics, int order) {
+        return new PortDecoratorPostProcessor<>(port, delegate -> InstrumentedPort.wrap(port, delegate, metrics.getObject()), order);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        for (PortDecoratorPostProcessor<?> decorator : decorators) {
+            Object decorated = decorator.postProcessAfterInitialization(bean, beanName);
+            if (decorated != bean) return decorated;
+        }
+        return bean;
+    }
+
+    @Override
+    public int getOrder() {
+        return order;
+    }
+}
@@ -0,0 +1,189 @@
+package com.jikkosoft.library.infrastructure.metrics;
+
+import com.jikkosoft.library.application.common.CursorResponse;
+import com.jikkosoft.library.application.common.PagedResponse;
+import com.jikkosoft.library.application.port.persistence.BookCopyRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Meters of the instrumented port methods.
+ *
+ * Responsibilities:
+ * - Creates one timer per port method ({@code library.port.calls}, tagged port/method) with the
+ *   configured percentiles; its count is the call rate.
+ * - Counts failures per exception type ({@code library.port.errors}).
+ * - Records result sizes ({@code library.port.result.size}) for methods returning pages,
+ *   collections, maps or optionals.
+ * - Summarizes all methods for the {@code ports} actuator endpoint.
+ *
+ * Notes:
+ * - Meters are created when a port is wrapped, so the call path only records.
+ */
+public class PortMetrics {
+
+    static final String CALLS = "library.port.calls";
+    static final String ERRORS = "library.port.errors";
+    static final String RESULT_SIZE = "library.port.result.size";
+
+    private final MeterRegistry registry;
+    private final PortMetricsProperties properties;
+    private final long startedAt = System.nanoTime();
+    private final List<MethodMeters> methods = new CopyOnWriteArrayList<>();
+
+    public PortMetrics(MeterRegistry registry, PortMetricsProperties properties) {
+        this.registry = registry;
+        this.properties = properties;
+    }
+
+    /**
+     * Creates the meters of one port method.
+     *
+     * @param port   port interface
+     * @param method method of the port
+     * @return meters to record calls of the method with
+     */
+    MethodMeters register(Class<?> port, Method method) {
+        Tags tags = Tags.of("port", port.getSimpleName(), "method", methodTag(port, method));
+        double[] percentiles = properties.percentiles().stream().mapToDouble(Double::doubleValue).toArray();
+        Timer timer = Timer.builder(CALLS)
+                .description("Latency of port calls")
+                .tags(tags)
+                .publishPercentiles(percentiles)
+                .publishPercentileHistogram(properties.histogram())
+                .register(registry);
+        ToIntFunction<Object> sizeOf = sizeOf(method.getReturnType());
+        DistributionSummary resultSize = sizeOf == null ? null : DistributionSummary.builder(RESULT_SIZE)
+                .description("Number of items returned by port calls")
+                .tags(tags)
+                .register(registry);
+        MethodMeters meters = new MethodMeters(port.getSimpleName(), methodTag(port, method), tags, timer, resultSize, sizeOf);
+        methods.add(meters);
+        return meters;
+    }
+
+    /** Per-method statistics, slowest total time first. */
+    public List<MethodStats> snapshot() {
+        double uptimeSeconds = Math.max(1e-9, (System.nanoTime() - startedAt) / 1e9);
+        return methods.stream()
+                .filter(m -> m.timer.count() > 0 || m.errors.sum() > 0)
+                .map(m -> m.stats(uptimeSeconds))
+                .sorted(Comparator.comparingDouble(MethodStats::totalMillis).reversed())
+                .toList();
+    }
+
+    /** Method name, with parameter types when the port overloads it. */
+    private static String methodTag(Class<?> port, Method method) {
+        long sameName = Arrays.stream(port.getMethods()).filter(m -> m.getName().equals(method.getName())).count();
+        if (sameName == 1) return method.getName();
+        return method.getName() + Arrays.stream(method.getParameterTypes())
+                .map(Class::getSimpleName)
+                .collect(Collectors.joining(",", "(", ")"));
+    }
+
+    private static ToIntFunction<Object> sizeOf(Class<?> type) {
+        if (PagedResponse.class.isAssignableFrom(type)) return r -> ((PagedResponse<?>) r).items().size();
+        if (CursorResponse.class.isAssignableFrom(type)) return r -> ((CursorResponse<?>) r).items().size();
+        if (BookCopyRepository.PageResult.class.isAssignableFrom(type)) {
+            return r -> ((BookCopyRepository.PageResult<?>) r).getContent().size();
+        }
+        if (Collection.class.isAssignableFrom(type)) return r -> ((Collection<?>) r).size();
+        if (Map.class.isAssignableFrom(type)) return r -> ((Map<?, ?>) r).size();
+        if (Optional.class.isAssignableFrom(type)) return r -> ((Optional<?>) r).isPresent() ? 1 : 0;
+        return null;
+    }
+
+    /**
+     * Meters of one port method.
+     */
+    final class MethodMeters {
+
+        private final String port;
+        private final String method;
+        private final Tags tags;
+        private final Timer timer;
+        private final DistributionSummary resultSize;
+        private final ToIntFunction<Object> sizeOf;
+        private final LongAdder errors = new LongAdder();
+
+        private MethodMeters(String port, String method, Tags tags, Timer timer,
+                             DistributionSummary resultSize, ToIntFunction<Object> sizeOf) {
+            this.port = port;
+            this.method = method;
+            this.tags = tags;
+            this.timer = timer;
+            this.resultSize = resultSize;
+            this.sizeOf = sizeOf;
+        }
+
+        void success(Object result, long nanos) {
+            timer.record(nanos, TimeUnit.NANOSECONDS);
+            if (sizeOf != null && result != null) resultSize.record(sizeOf.applyAsInt(result));
+        }
+
+        void failure(Throwable error, long nanos) {
+            timer.record(nanos, TimeUnit.NANOSECONDS);
+            errors.increment();
+            Counter.builder(ERRORS)
+                    .description("Port calls that threw")
+                    .tags(tags)
+                    .tag("exception", error.getClass().getSimpleName())
+                    .register(registry)
+                    .increment();
+        }
+
+        private MethodStats stats(double uptimeSeconds) {
+            HistogramSnapshot snapshot = timer.takeSnapshot();
+            Map<String, Double> percentiles = Arrays.stream(snapshot.percentileValues())
+                    .collect(Collectors.toMap(p -> "p" + percentileLabel(p.percentile()),
+                            p -> p.value(TimeUnit.MILLISECONDS), (a, b) -> a, LinkedHashMap::new));
+            return new MethodStats(port, method, snapshot.count(), errors.sum(), snapshot.count() / uptimeSeconds,
+                    snapshot.total(TimeUnit.MILLISECONDS), snapshot.mean(TimeUnit.MILLISECONDS),
+                    snapshot.max(TimeUnit.MILLISECONDS), percentiles,
+                    resultSize != null ? resultSize.mean() : null);
+        }
+    }
+
+    private static String percentileLabel(double percentile) {
+        String digits = Double.toString(percentile).substring(2);
+        return digits.length() == 1 ? digits + "0" : digits;
+    }
+
+    /**
+     * Statistics of one port method, in milliseconds.
+     *
+     * @param callsPerSecond average call rate since the application started
+     * @param percentiles    latency percentiles over the recent window (e.g. {@code p50}, {@code p999})
+     * @param meanResultSize mean number of returned items, or null when the method returns no collection
+     */
+    public record MethodStats(
+            String port,
+            String method,
+            long calls,
+            long errors,
+            double callsPerSecond,
+            double totalMillis,
+            double meanMillis,
+            double maxMillis,
+            Map<String, Double> percentiles,
+            Double meanResultSize
+    ) {}
+}
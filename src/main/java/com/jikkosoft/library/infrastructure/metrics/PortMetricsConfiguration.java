@@ -0,0 +1,66 @@
+package com.jikkosoft.library.infrastructure.metrics;
+
+import com.jikkosoft.library.application.port.persistence.BookRepository;
+import com.jikkosoft.library.application.port.service.NotificationPort;
+import com.jikkosoft.library.application.port.tx.TransactionalPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.util.ClassUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Wires the port instrumentation when {@code library.port-metrics.enabled=true}.
+ *
+ * Notes:
+ * - Instruments every interface of the persistence port package, plus {@link NotificationPort}
+ *   and {@link TransactionalPort}.
+ * - The decorator is the outermost one, so timings include caches, indexes and async writes:
+ *   they are what callers see.
+ * - When disabled nothing is installed and port calls are not intercepted.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "library.port-metrics", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(PortMetricsProperties.class)
+public class PortMetricsConfiguration {
+
+    @Bean
+    public PortMetrics portMetrics(MeterRegistry registry, PortMetricsProperties properties) {
+        return new PortMetrics(registry, properties);
+    }
+
+    @Bean
+    public PortMetricsEndpoint portMetricsEndpoint(PortMetrics portMetrics) {
+        return new PortMetricsEndpoint(portMetrics);
+    }
+
+    @Bean
+    public static PortInstrumentationPostProcessor portInstrumentation(ObjectProvider<PortMetrics> portMetrics) {
+        return new PortInstrumentationPostProcessor(instrumentedPorts(), portMetrics, Ordered.HIGHEST_PRECEDENCE + 1000);
+    }
+
+    static List<Class<?>> instrumentedPorts() {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition definition) {
+                return definition.getMetadata().isInterface() && !definition.getMetadata().hasEnclosingClass();
+            }
+        };
+        scanner.addIncludeFilter((reader, factory) -> true);
+        ClassLoader classLoader = PortMetricsConfiguration.class.getClassLoader();
+        List<Class<?>> ports = new ArrayList<>();
+        scanner.findCandidateComponents(BookRepository.class.getPackageName()).forEach(definition ->
+                ports.add(ClassUtils.resolveClassName(definition.getBeanClassName(), classLoader)));
+        ports.add(NotificationPort.class);
+        ports.add(TransactionalPort.class);
+        return List.copyOf(ports);
+    }
+}
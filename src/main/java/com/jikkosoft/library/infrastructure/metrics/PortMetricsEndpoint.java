@@ -0,0 +1,30 @@
+package com.jikkosoft.library.infrastructure.metrics;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+
+import java.util.List;
+
+/**
+ * Actuator endpoint ({@code /actuator/ports}) listing port call statistics, slowest total time first.
+ */
+@Endpoint(id = "ports")
+public class PortMetricsEndpoint {
+
+    private final PortMetrics metrics;
+
+    public PortMetricsEndpoint(PortMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @ReadOperation
+    public List<PortMetrics.MethodStats> ports() {
+        return metrics.snapshot();
+    }
+
+    @ReadOperation
+    public List<PortMetrics.MethodStats> port(@Selector String port) {
+        return metrics.snapshot().stream().filter(stats -> stats.port().equals(port)).toList();
+    }
+}
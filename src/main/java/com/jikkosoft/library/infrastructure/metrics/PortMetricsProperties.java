@@ -0,0 +1,25 @@
+package com.jikkosoft.library.infrastructure.metrics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+/**
+ * Configuration for the port instrumentation ({@code library.port-metrics.*}).
+ *
+ * @param enabled     whether port calls are timed; when false no decorator is installed
+ * @param percentiles latency percentiles computed in-process (also shown by the {@code ports} endpoint)
+ * @param histogram   whether latency histogram buckets are published, for percentiles computed
+ *                    by the monitoring system across instances
+ */
+@ConfigurationProperties(prefix = "library.port-metrics")
+public record PortMetricsProperties(
+        boolean enabled,
+        List<Double> percentiles,
+        boolean histogram
+) {
+
+    public PortMetricsProperties {
+        percentiles = percentiles != null && !percentiles.isEmpty() ? List.copyOf(percentiles) : List.of(0.5, 0.99, 0.999);
+    }
+}
@@ -0,0 +1,44 @@
+package com.jikkosoft.library.infrastructure.notification;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import org.springframework.mail.MailPreparationException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+
+import java.io.UnsupportedEncodingException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@link NotificationSender} delivering plain-text mails through a {@link JavaMailSender}.
+ *
+ * Notes:
+ * - The SMTP server is configured with the standard {@code spring.mail.*} properties; any local
+ *   SMTP stand-in (MailHog, GreenMail, ...) works for development and tests.
+ */
+public class MailNotificationSender implements NotificationSender {
+
+    private final JavaMailSender mailSender;
+    private final String from;
+
+    public MailNotificationSender(JavaMailSender mailSender, String from) {
+        this.mailSender = mailSender;
+        this.from = from;
+    }
+
+    @Override
+    public void send(String recipient, String recipientName, String subject, String body) {
+        MimeMessage mail = mailSender.createMimeMessage();
+        try {
+            MimeMessageHelper helper = new MimeMessageHelper(mail, StandardCharsets.UTF_8.name());
+            helper.setFrom(from);
+            helper.setTo(new InternetAddress(recipient, recipientName, StandardCharsets.UTF_8.name()));
+            helper.setSubject(subject);
+            helper.setText(body);
+        } catch (MessagingException | UnsupportedEncodingException e) {
+            throw new MailPreparationException("Cannot build notification mail for " + recipient, e);
+        }
+        mailSender.send(mail);
+    }
+}
@@ -0,0 +1,183 @@
+package com.jikkosoft.library.infrastructure.notification;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JDBC access to the {@code notification_outbox} table.
+ *
+ * Responsibilities:
+ * - Appends messages on the caller's connection, so they commit or roll back with the caller's
+ *   transaction.
+ * - Claims the pending messages of due members with a single conditional update; concurrent
+ *   dispatchers never claim the same row.
+ * - Records the outcome of a delivery: sent, rescheduled or failed.
+ *
+ * Notes:
+ * - A member is due once its oldest pending message is older than the coalesce window and none
+ *   of its pending messages is waiting for a retry.
+ * - Claimed rows stay in SENDING until their outcome is recorded; {@link #releaseExpiredClaims}
+ *   returns the rows of a crashed dispatcher to PENDING, which makes delivery at-least-once.
+ */
+public class NotificationOutbox {
+
+    static final String PENDING = "PENDING";
+    static final String SENDING = "SENDING";
+    static final String SENT = "SENT";
+    static final String FAILED = "FAILED";
+
+    private static final String INSERT_SQL = """
+            INSERT INTO notification_outbox
+                (member_id, recipient, recipient_name, subject, body, status, attempts, created_at, next_attempt_at)
+            VALUES (?, ?, ?, ?, ?, 'PENDING', 0, ?, ?)
+            """;
+
+    private static final String DUE_MEMBERS_SQL = """
+            SELECT member_id FROM notification_outbox
+            WHERE status = 'PENDING'
+            GROUP BY member_id
+            HAVING MIN(created_at) <= ? AND MAX(next_attempt_at) <= ?
+            ORDER BY MIN(created_at)
+            LIMIT ?
+            """;
+
+    private static final String CLAIM_SQL = """
+            UPDATE notification_outbox SET status = 'SENDING', claim_token = :token, claimed_at = :now
+            WHERE status = 'PENDING' AND member_id IN (:members)
+            """;
+
+    private static final String CLAIMED_SQL = """
+            SELECT id, member_id, recipient, recipient_name, subject, body, created_at, attempts
+            FROM notification_outbox
+            WHERE claim_token = ? AND status = 'SENDING'
+            ORDER BY member_id, id
+            """;
+
+    private static final String SENT_SQL = """
+            UPDATE notification_outbox SET status = 'SENT', sent_at = ?, claim_token = NULL, last_error = NULL
+            WHERE id = ?
+            """;
+
+    private static final String RETRY_SQL = """
+            UPDATE notification_outbox
+            SET status = ?, attempts = attempts + 1, next_attempt_at = ?, last_error = ?, claim_token = NULL
+            WHERE id = ?
+            """;
+
+    private static final String RELEASE_SQL = """
+            UPDATE notification_outbox SET status = 'PENDING', claim_token = NULL
+            WHERE status = 'SENDING' AND claimed_at < ?
+            """;
+
+    private static final String PURGE_SQL = "DELETE FROM notification_outbox WHERE status = 'SENT' AND sent_at < ?";
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private static final RowMapper<OutboxMessage> ROW_MAPPER = (rs, i) -> new OutboxMessage(
+            rs.getLong("id"), rs.getLong("member_id"), rs.getString("recipient"), rs.getString("recipient_name"),
+            rs.getString("subject"), rs.getString("body"), rs.getTimestamp("created_at").toLocalDateTime(),
+            rs.getInt("attempts"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public NotificationOutbox(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    /**
+     * Writes a pending message, due for delivery from its creation time.
+     */
+    public void append(OutboxMessage message) {
+        Timestamp createdAt = Timestamp.valueOf(message.createdAt());
+        jdbcTemplate.update(INSERT_SQL, message.memberId(), message.recipient(), message.recipientName(),
+                message.subject(), message.body(), createdAt, createdAt);
+    }
+
+    /**
+     * Claims every pending message of at most {@code members} due members.
+     *
+     * @param now          current time
+     * @param windowStart  messages created at or before this instant have waited the whole coalesce window
+     * @param members      maximum number of members to claim
+     * @return the claimed messages, ordered by member and id
+     */
+    public List<OutboxMessage> claimDue(LocalDateTime now, LocalDateTime windowStart, int members) {
+        List<Long> due = jdbcTemplate.queryForList(DUE_MEMBERS_SQL, Long.class,
+                Timestamp.valueOf(windowStart), Timestamp.valueOf(now), members);
+        if (due.isEmpty()) {
+            return List.of();
+        }
+        String token = UUID.randomUUID().toString();
+        namedJdbcTemplate.update(CLAIM_SQL, new MapSqlParameterSource()
+                .addValue("token", token)
+                .addValue("now", Timestamp.valueOf(now))
+                .addValue("members", due));
+        return jdbcTemplate.query(CLAIMED_SQL, ROW_MAPPER, token);
+    }
+
+    /**
+     * Marks claimed messages as delivered.
+     */
+    public void markSent(List<Long> ids, LocalDateTime sentAt) {
+        Timestamp at = Timestamp.valueOf(sentAt);
+        jdbcTemplate.batchUpdate(SENT_SQL, ids, ids.size(), (ps, id) -> {
+            ps.setTimestamp(1, at);
+            ps.setLong(2, id);
+        });
+    }
+
+    /**
+     * Returns claimed messages to PENDING after a failed delivery.
+     *
+     * @param nextAttemptAt earliest time of the next attempt
+     * @param error         failure description, truncated to the column size
+     */
+    public void reschedule(List<Long> ids, LocalDateTime nextAttemptAt, String error) {
+        recordFailure(ids, PENDING, nextAttemptAt, error);
+    }
+
+    /**
+     * Marks claimed messages as undeliverable; they are no longer retried.
+     */
+    public void markFailed(List<Long> ids, LocalDateTime failedAt, String error) {
+        recordFailure(ids, FAILED, failedAt, error);
+    }
+
+    /**
+     * Returns messages claimed before {@code claimedBefore} to PENDING.
+     *
+     * @return number of released messages
+     */
+    public int releaseExpiredClaims(LocalDateTime claimedBefore) {
+        return jdbcTemplate.update(RELEASE_SQL, Timestamp.valueOf(claimedBefore));
+    }
+
+    /**
+     * Deletes messages delivered before {@code sentBefore}.
+     *
+     * @return number of deleted messages
+     */
+    public int purgeSent(LocalDateTime sentBefore) {
+        return jdbcTemplate.update(PURGE_SQL, Timestamp.valueOf(sentBefore));
+    }
+
+    private void recordFailure(List<Long> ids, String status, LocalDateTime nextAttemptAt, String error) {
+        Timestamp at = Timestamp.valueOf(nextAttemptAt);
+        String lastError = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        jdbcTemplate.batchUpdate(RETRY_SQL, ids, ids.size(), (ps, id) -> {
+            ps.setString(1, status);
+            ps.setTimestamp(2, at);
+            ps.setString(3, lastError);
+            ps.setLong(4, id);
+        });
+    }
+}
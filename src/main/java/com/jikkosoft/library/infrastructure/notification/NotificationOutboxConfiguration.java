@@ -0,0 +1,68 @@
+package com.jikkosoft.library.infrastructure.notification;
+
+import com.jikkosoft.library.application.port.service.ClockPort;
+import com.jikkosoft.library.application.port.service.NotificationPort;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Wires the notification outbox when {@code library.notification-outbox.enabled=true}.
+ *
+ * {@link NotificationPort} calls are written to the outbox and delivered by mail through the
+ * {@code spring.mail.*} SMTP server. In virtual-thread mode the deliveries of a batch run
+ * concurrently, one virtual thread each.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "library.notification-outbox", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(NotificationOutboxProperties.class)
+public class NotificationOutboxConfiguration {
+
+    private final ObjectProvider<OutboxDispatcher> dispatcher;
+
+    public NotificationOutboxConfiguration(ObjectProvider<OutboxDispatcher> dispatcher) {
+        this.dispatcher = dispatcher;
+    }
+
+    @Bean
+    public NotificationOutbox notificationOutbox(JdbcTemplate jdbcTemplate) {
+        return new NotificationOutbox(jdbcTemplate);
+    }
+
+    @Bean
+    public NotificationPort outboxNotificationPort(NotificationOutbox outbox, ClockPort clock) {
+        return new OutboxNotificationPort(outbox, clock);
+    }
+
+    @Bean
+    public NotificationSender mailNotificationSender(JavaMailSender mailSender, NotificationOutboxProperties properties) {
+        return new MailNotificationSender(mailSender, properties.from());
+    }
+
+    @Bean
+    public OutboxDispatcher outboxDispatcher(NotificationOutbox outbox, NotificationSender sender, ClockPort clock,
+                                             NotificationOutboxProperties properties, Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return new OutboxDispatcher(outbox, sender, clock, properties, new VirtualThreadTaskExecutor("notification-"));
+        }
+        return new OutboxDispatcher(outbox, sender, clock, properties);
+    }
+
+    @Scheduled(fixedDelayString = "${library.notification-outbox.poll-interval:1s}")
+    public void dispatch() {
+        dispatcher.getObject().dispatch();
+    }
+
+    @Scheduled(cron = "${library.notification-outbox.purge-cron:0 30 3 * * *}")
+    public void purge() {
+        dispatcher.getObject().purge();
+    }
+}
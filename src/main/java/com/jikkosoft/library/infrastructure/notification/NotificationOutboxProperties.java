@@ -0,0 +1,52 @@
+package com.jikkosoft.library.infrastructure.notification;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the notification outbox ({@code library.notification-outbox.*}).
+ *
+ * @param enabled        whether notifications are written to the outbox and dispatched by mail
+ * @param from           sender address of the delivered mails
+ * @param pollInterval   delay between two dispatcher runs
+ * @param coalesceWindow how long the oldest pending message of a member waits for others to join it
+ * @param batchSize      members claimed per dispatcher round
+ * @param maxAttempts    delivery attempts before the messages are marked FAILED
+ * @param initialBackoff delay before the first retry; doubled on every further failure
+ * @param maxBackoff     upper bound of the retry delay
+ * @param claimTimeout   age after which a claim left by a crashed dispatcher is released
+ * @param retention      how long sent messages are kept before they are purged
+ * @param purgeCron      when sent messages are purged (default: every day at 03:30)
+ */
+@ConfigurationProperties(prefix = "library.notification-outbox")
+public record NotificationOutboxProperties(
+        boolean enabled,
+        String from,
+        Duration pollInterval,
+        Duration coalesceWindow,
+        Integer batchSize,
+        Integer maxAttempts,
+        Duration initialBackoff,
+        Duration maxBackoff,
+        Duration claimTimeout,
+        Duration retention,
+        String purgeCron
+) {
+
+    public NotificationOutboxProperties {
+        from = from != null ? from : "library@localhost";
+        pollInterval = pollInterval != null ? pollInterval : Duration.ofSeconds(1);
+        coalesceWindow = coalesceWindow != null ? coalesceWindow : Duration.ofSeconds(30);
+        batchSize = batchSize != null ? batchSize : 100;
+        maxAttempts = maxAttempts != null ? maxAttempts : 8;
+        initialBackoff = initialBackoff != null ? initialBackoff : Duration.ofSeconds(10);
+        maxBackoff = maxBackoff != null ? maxBackoff : Duration.ofMinutes(30);
+        claimTimeout = claimTimeout != null ? claimTimeout : Duration.ofMinutes(5);
+        retention = retention != null ? retention : Duration.ofDays(7);
+        purgeCron = purgeCron != null ? purgeCron : "0 30 3 * * *";
+        if (batchSize <= 0) throw new IllegalArgumentException("Outbox batch size must be greater than zero");
+        if (maxAttempts <= 0) throw new IllegalArgumentException("Outbox max attempts must be greater than zero");
+        if (coalesceWindow.isNegative()) throw new IllegalArgumentException("Outbox coalesce window must not be negative");
+    }
+}
@@ -0,0 +1,12 @@
+package com.jikkosoft.library.infrastructure.notification;
+
+/**
+ * Delivers one (possibly coalesced) notification to its recipient.
+ *
+ * Notes:
+ * - Implementations throw a runtime exception when the delivery failed; the dispatcher retries it.
+ */
+public interface NotificationSender {
+
+    void send(String recipient, String recipientName, String subject, String body);
+}
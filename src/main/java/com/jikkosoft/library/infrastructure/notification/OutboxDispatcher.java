@@ -0,0 +1,154 @@
+package com.jikkosoft.library.infrastructure.notification;
+
+import com.jikkosoft.library.application.port.service.ClockPort;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Drains the notification outbox.
+ *
+ * Responsibilities:
+ * - Claims due members in batches and sends one delivery per member, coalescing every pending
+ *   message of that member.
+ * - Retries failed deliveries with exponential backoff, then marks them FAILED after
+ *   {@code maxAttempts}.
+ * - Releases claims abandoned by a crashed dispatcher and purges old sent messages.
+ *
+ * Notes:
+ * - Runs outside of any transaction: each outbox statement commits on its own, so a delivery is
+ *   recorded as soon as it happened.
+ * - Messages written while a member waits for a retry join that retry.
+ * - The deliveries of a batch run on the delivery executor (on the dispatcher thread by default,
+ *   on virtual threads in virtual-thread mode); the next batch is claimed once all completed.
+ */
+@Slf4j
+public class OutboxDispatcher {
+
+    static final String SEPARATOR = "\n\n----------------------------------------\n\n";
+
+    private final NotificationOutbox outbox;
+    private final NotificationSender sender;
+    private final ClockPort clock;
+    private final NotificationOutboxProperties properties;
+    private final Executor deliveryExecutor;
+
+    public OutboxDispatcher(NotificationOutbox outbox, NotificationSender sender, ClockPort clock,
+                            NotificationOutboxProperties properties) {
+        this(outbox, sender, clock, properties, Runnable::run);
+    }
+
+    public OutboxDispatcher(NotificationOutbox outbox, NotificationSender sender, ClockPort clock,
+                            NotificationOutboxProperties properties, Executor deliveryExecutor) {
+        this.outbox = outbox;
+        this.sender = sender;
+        this.clock = clock;
+        this.properties = properties;
+        this.deliveryExecutor = deliveryExecutor;
+    }
+
+    /**
+     * Delivers everything that is due, one batch of members at a time.
+     *
+     * @return number of deliveries attempted
+     */
+    public int dispatch() {
+        LocalDateTime now = clock.now();
+        int released = outbox.releaseExpiredClaims(now.minus(properties.claimTimeout()));
+        if (released > 0) {
+            log.warn("Released {} outbox messages left claimed by an interrupted dispatcher", released);
+        }
+        int deliveries = 0;
+        List<List<OutboxMessage>> batch;
+        do {
+            batch = groupByMember(outbox.claimDue(now, now.minus(properties.coalesceWindow()), properties.batchSize()));
+            deliverAll(batch);
+            deliveries += batch.size();
+        } while (batch.size() == properties.batchSize());
+        return deliveries;
+    }
+
+    /**
+     * Deletes messages sent longer ago than the retention period.
+     *
+     * @return number of deleted messages
+     */
+    public int purge() {
+        return outbox.purgeSent(clock.now().minus(properties.retention()));
+    }
+
+    private void deliverAll(List<List<OutboxMessage>> batch) {
+        CompletableFuture<?>[] deliveries = batch.stream()
+                .map(messages -> CompletableFuture.runAsync(() -> deliver(messages), deliveryExecutor))
+                .toArray(CompletableFuture[]::new);
+        try {
+            CompletableFuture.allOf(deliveries).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    private void deliver(List<OutboxMessage> messages) {
+        List<Long> ids = messages.stream().map(OutboxMessage::id).toList();
+        OutboxMessage latest = messages.get(messages.size() - 1);
+        try {
+            sender.send(latest.recipient(), latest.recipientName(), subject(messages), body(messages));
+            outbox.markSent(ids, clock.now());
+        } catch (RuntimeException e) {
+            int attempt = messages.stream().mapToInt(OutboxMessage::attempts).max().orElse(0) + 1;
+            String error = e.getClass().getSimpleName() + ": " + e.getMessage();
+            if (attempt >= properties.maxAttempts()) {
+                log.error("Giving up on {} notifications for member {} after {} attempts: {}",
+                        ids.size(), latest.memberId(), attempt, error);
+                outbox.markFailed(ids, clock.now(), error);
+            } else {
+                log.warn("Notification delivery to member {} failed (attempt {}): {}", latest.memberId(), attempt, error);
+                outbox.reschedule(ids, clock.now().plus(backoff(attempt)), error);
+            }
+        }
+    }
+
+    /** Retry delay after the given failed attempt: the initial backoff, doubled per attempt, capped. */
+    Duration backoff(int attempt) {
+        Duration max = properties.maxBackoff();
+        Duration delay = properties.initialBackoff();
+        for (int i = 1; i < attempt && delay.compareTo(max) < 0; i++) {
+            delay = delay.multipliedBy(2);
+        }
+        return delay.compareTo(max) < 0 ? delay : max;
+    }
+
+    static String subject(List<OutboxMessage> messages) {
+        String first = messages.get(0).subject();
+        return messages.size() == 1 ? first : first + " (+" + (messages.size() - 1) + " more)";
+    }
+
+    static String body(List<OutboxMessage> messages) {
+        if (messages.size() == 1) {
+            return messages.get(0).body();
+        }
+        StringBuilder body = new StringBuilder();
+        for (OutboxMessage message : messages) {
+            if (!body.isEmpty()) body.append(SEPARATOR);
+            body.append(message.subject()).append("\n\n").append(message.body());
+        }
+        return body.toString();
+    }
+
+    private static List<List<OutboxMessage>> groupByMember(List<OutboxMessage> messages) {
+        Map<Long, List<OutboxMessage>> byMember = new LinkedHashMap<>();
+        for (OutboxMessage message : messages) {
+            byMember.computeIfAbsent(message.memberId(), id -> new ArrayList<>()).add(message);
+        }
+        return new ArrayList<>(byMember.values());
+    }
+}
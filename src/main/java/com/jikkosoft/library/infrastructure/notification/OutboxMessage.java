@@ -0,0 +1,27 @@
+package com.jikkosoft.library.infrastructure.notification;
+
+import java.time.LocalDateTime;
+
+/**
+ * A notification stored in the outbox.
+ *
+ * @param id            row id, {@code null} before the message is appended
+ * @param memberId      addressed member
+ * @param recipient     email address at the time the message was written
+ * @param recipientName display name of the member
+ * @param subject       message subject
+ * @param body          message text
+ * @param createdAt     when the message was written
+ * @param attempts      failed delivery attempts so far
+ */
+public record OutboxMessage(
+        Long id,
+        Long memberId,
+        String recipient,
+        String recipientName,
+        String subject,
+        String body,
+        LocalDateTime createdAt,
+        int attempts
+) {
+}
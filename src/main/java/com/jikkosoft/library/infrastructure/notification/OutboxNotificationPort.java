@@ -0,0 +1,36 @@
+package com.jikkosoft.library.infrastructure.notification;
+
+import com.jikkosoft.library.application.port.service.ClockPort;
+import com.jikkosoft.library.application.port.service.NotificationPort;
+import com.jikkosoft.library.domain.model.Member;
+
+/**
+ * {@link NotificationPort} adapter that writes notifications to the outbox instead of sending them.
+ *
+ * Notes:
+ * - The row is inserted on the caller's connection: a notification raised by a use case is only
+ *   delivered if the use case commits.
+ * - Delivery happens later, on the {@link OutboxDispatcher} thread.
+ */
+public class OutboxNotificationPort implements NotificationPort {
+
+    private final NotificationOutbox outbox;
+    private final ClockPort clock;
+
+    public OutboxNotificationPort(NotificationOutbox outbox, ClockPort clock) {
+        this.outbox = outbox;
+        this.clock = clock;
+    }
+
+    @Override
+    public void notifyMember(Member member, String subject, String message) {
+        if (member == null || member.getId() == null) {
+            throw new IllegalArgumentException("Notifications require a persisted member");
+        }
+        if (member.getEmail() == null) {
+            throw new IllegalArgumentException("Member " + member.getId() + " has no email address");
+        }
+        outbox.append(new OutboxMessage(null, member.getId(), member.getEmail().getValue(),
+                member.getFirstName() + " " + member.getLastName(), subject, message, clock.now(), 0));
+    }
+}
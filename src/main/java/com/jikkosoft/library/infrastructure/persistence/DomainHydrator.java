@@ -0,0 +1,271 @@
+package com.jikkosoft.library.infrastructure.persistence;
+
+import com.jikkosoft.library.application.service.library.LibraryCollections;
+import com.jikkosoft.library.application.service.loan.LoanHistoryLoader;
+import com.jikkosoft.library.domain.enums.LoanStatus;
+import com.jikkosoft.library.domain.model.Author;
+import com.jikkosoft.library.domain.model.Book;
+import com.jikkosoft.library.domain.model.BookCopy;
+import com.jikkosoft.library.domain.model.Category;
+import com.jikkosoft.library.domain.model.Library;
+import com.jikkosoft.library.domain.model.Loan;
+import com.jikkosoft.library.domain.model.Member;
+import com.jikkosoft.library.domain.model.Reservation;
+import com.jikkosoft.library.domain.model.Role;
+import com.jikkosoft.library.domain.model.User;
+import com.jikkosoft.library.domain.vo.CopyNumber;
+import com.jikkosoft.library.domain.vo.Email;
+import com.jikkosoft.library.domain.vo.ISBN;
+import com.jikkosoft.library.infrastructure.persistence.entity.AuthorEntity;
+import com.jikkosoft.library.infrastructure.persistence.entity.BookCopyEntity;
+import com.jikkosoft.library.infrastructure.persistence.entity.BookEntity;
+import com.jikkosoft.library.infrastructure.persistence.entity.CategoryEntity;
+import com.jikkosoft.library.infrastructure.persistence.entity.LibraryEntity;
+import com.jikkosoft.library.infrastructure.persistence.entity.LoanEntity;
+import com.jikkosoft.library.infrastructure.persistence.entity.MemberEntity;
+import com.jikkosoft.library.infrastructure.persistence.entity.ReservationEntity;
+import com.jikkosoft.library.infrastructure.persistence.entity.RoleEntity;
+import com.jikkosoft.library.infrastructure.persistence.entity.UserEntity;
+import com.jikkosoft.library.infrastructure.persistence.repository.LoanJpaRepository;
+import org.hibernate.Hibernate;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Rebuilds domain aggregates from JPA entities.
+ *
+ * Responsibilities:
+ * - Maps each entity once per {@link Hydration}, so shared references (a book on several copies,
+ *   a member on several loans) become shared domain objects.
+ * - Hydrates members in bulk: open loans and returned-loan totals for a whole page of members
+ *   are read with one query each.
+ * - Rebuilds stored value objects with {@link Email#trusted(String)} and {@link ISBN#trusted(String)}.
+ *
+ * Notes:
+ * - Books reached through copies, loans and reservations read their authors lazily
+ *   (batch-fetched) on first access, which must happen within the persistence context.
+ * - Libraries get repository-backed member/copy collections and their stored counters.
+ */
+@Component
+public class DomainHydrator {
+
+    private static final List<LoanStatus> OPEN = List.of(LoanStatus.ACTIVE, LoanStatus.OVERDUE);
+
+    private final LoanJpaRepository loanJpaRepository;
+    private final LoanHistoryLoader loanHistoryLoader;
+    private final LibraryCollections libraryCollections;
+
+    public DomainHydrator(LoanJpaRepository loanJpaRepository, LoanHistoryLoader loanHistoryLoader,
+                          LibraryCollections libraryCollections) {
+        this.loanJpaRepository = loanJpaRepository;
+        this.loanHistoryLoader = loanHistoryLoader;
+        this.libraryCollections = libraryCollections;
+    }
+
+    /** Starts a hydration scope; use one per port call. */
+    public Hydration start() {
+        return new Hydration();
+    }
+
+    /**
+     * Identity map for one port call.
+     */
+    public final class Hydration {
+
+        private final Map<Long, Category> categories = new HashMap<>();
+        private final Map<Long, Author> authors = new HashMap<>();
+        private final Map<Long, Book> books = new HashMap<>();
+        private final Map<Long, Library> libraries = new HashMap<>();
+        private final Map<Long, BookCopy> copies = new HashMap<>();
+        private final Map<Long, Member> members = new HashMap<>();
+        private final Map<Long, Loan> loans = new HashMap<>();
+        private final Map<Long, Role> roles = new HashMap<>();
+
+        private Hydration() {}
+
+        public Category category(CategoryEntity e) {
+            return categories.computeIfAbsent(e.getId(), id -> new Category.Builder()
+                    .id(id)
+                    .name(e.getName())
+                    .maxLoanDays(e.getMaxLoanDays())
+                    .penaltyPerDay(e.getPenaltyPerDay())
+                    .build());
+        }
+
+        public Author author(AuthorEntity e) {
+            return authors.computeIfAbsent(e.getId(), id -> new Author.Builder()
+                    .id(id)
+                    .firstName(e.getFirstName())
+                    .lastName(e.getLastName())
+                    .nationality(e.getNationality())
+                    .dateOfBirth(e.getDateOfBirth())
+                    .biography(e.getBiography())
+                    .website(e.getWebsite())
+                    .email(e.getEmail())
+                    .affiliation(e.getAffiliation())
+                    .build());
+        }
+
+        public Book book(BookEntity e) {
+            Book cached = books.get(e.getId());
+            if (cached != null) return cached;
+            Book.Builder builder = new Book.Builder()
+                    .id(e.getId())
+                    .isbn(ISBN.trusted(e.getIsbn()))
+                    .title(e.getTitle())
+                    .publicationYear(e.getPublicationYear())
+                    .category(category(e.getCategory()));
+            if (Hibernate.isInitialized(e.getAuthors())) {
+                builder.authors(e.getAuthors().stream().map(this::author).toList());
+            } else {
+                builder.storedAuthors(() -> e.getAuthors().stream().map(this::author).toList());
+            }
+            Book book = builder.build();
+            books.put(e.getId(), book);
+            return book;
+        }
+
+        /**
+         * Hydrates books returned by the book port. Their authors are initialized here (one
+         * batch per {@code BookEntity.AUTHOR_BATCH} books), so the books stay usable outside
+         * the transaction; books reached through copies and loans keep them lazy.
+         */
+        public List<Book> books(List<BookEntity> entities) {
+            entities.forEach(e -> Hibernate.initialize(e.getAuthors()));
+            return entities.stream().map(this::book).toList();
+        }
+
+        public Library library(LibraryEntity e) {
+            return libraries.computeIfAbsent(e.getId(), id -> new Library.Builder()
+                    .id(id)
+                    .name(e.getName())
+                    .address(e.getAddress())
+                    .members(libraryCollections.members(), e.getMemberCount())
+                    .bookCopies(libraryCollections.bookCopies(), e.getBookCopyCount())
+                    .build());
+        }
+
+        public List<Library> libraries(List<LibraryEntity> entities) {
+            return entities.stream().map(this::library).toList();
+        }
+
+        public BookCopy copy(BookCopyEntity e) {
+            return copies.computeIfAbsent(e.getId(), id -> new BookCopy.Builder()
+                    .id(id)
+                    .book(book(e.getBook()))
+                    .library(library(e.getLibrary()))
+                    .copyNumber(new CopyNumber(e.getCopyNumber()))
+                    .barcode(e.getBarcode())
+                    .shelfLocation(e.getShelfLocation())
+                    .status(e.getStatus())
+                    .version(e.getVersion())
+                    .build());
+        }
+
+        public List<BookCopy> copies(List<BookCopyEntity> entities) {
+            return entities.stream().map(this::copy).toList();
+        }
+
+        public Member member(MemberEntity e) {
+            Member cached = members.get(e.getId());
+            return cached != null ? cached : members(List.of(e)).get(0);
+        }
+
+        /**
+         * Hydrates several members with two queries in total: their open loans and the totals
+         * of their returned loans.
+         */
+        public List<Member> members(List<MemberEntity> entities) {
+            Set<Long> missing = entities.stream().map(MemberEntity::getId)
+                    .filter(id -> !members.containsKey(id))
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+            if (!missing.isEmpty()) {
+                Map<Long, LoanJpaRepository.ReturnedTotals> totals = loanJpaRepository.sumReturnedByMemberIds(missing)
+                        .stream()
+                        .collect(Collectors.toMap(LoanJpaRepository.ReturnedTotals::getMemberId, t -> t));
+                for (MemberEntity e : entities) {
+                    if (!missing.contains(e.getId()) || members.containsKey(e.getId())) continue;
+                    LoanJpaRepository.ReturnedTotals returned = totals.get(e.getId());
+                    members.put(e.getId(), new Member.Builder()
+                            .id(e.getId())
+                            .firstName(e.getFirstName())
+                            .lastName(e.getLastName())
+                            .email(Email.trusted(e.getEmail()))
+                            .loanHistorySource(loanHistoryLoader)
+                            .returnedLoans(returned != null ? (int) returned.getReturnedLoans() : 0)
+                            .historicalPenaltyDays(returned != null ? (int) returned.getPenaltyDays() : 0)
+                            .build());
+                }
+                for (LoanEntity open : loanJpaRepository.findByMemberIdInAndStatusIn(missing, OPEN)) {
+                    Loan loan = loan(open);
+                    members.get(open.getMember().getId()).addLoan(loan);
+                }
+            }
+            return entities.stream().map(e -> members.get(e.getId())).toList();
+        }
+
+        public Loan loan(LoanEntity e) {
+            Loan cached = loans.get(e.getId());
+            if (cached != null) return cached;
+            // Hydrating the member may already have built this loan (it is one of its open loans).
+            Member member = member(e.getMember());
+            cached = loans.get(e.getId());
+            if (cached != null) return cached;
+            Loan loan = new Loan.Builder()
+                    .id(e.getId())
+                    .bookCopy(copy(e.getBookCopy()))
+                    .member(member)
+                    .loanDate(e.getLoanDate())
+                    .dueDate(e.getDueDate())
+                    .status(e.getStatus())
+                    .returnDate(e.getReturnDate())
+                    .build();
+            loans.put(e.getId(), loan);
+            return loan;
+        }
+
+        /** Hydrates several loans, loading their members in bulk first. */
+        public List<Loan> loans(List<LoanEntity> entities) {
+            members(entities.stream().map(LoanEntity::getMember).distinct().toList());
+            return entities.stream().map(this::loan).toList();
+        }
+
+        public Reservation reservation(ReservationEntity e) {
+            return new Reservation.Builder()
+                    .id(e.getId())
+                    .bookCopy(copy(e.getBookCopy()))
+                    .member(member(e.getMember()))
+                    .reservedAt(e.getReservedAt())
+                    .expiresAt(e.getExpiresAt())
+                    .status(e.getStatus())
+                    .heldCopy(e.getHeldCopy() != null ? copy(e.getHeldCopy()) : null)
+                    .build();
+        }
+
+        /** Hydrates several reservations, loading their members in bulk first. */
+        public List<Reservation> reservations(List<ReservationEntity> entities) {
+            members(entities.stream().map(ReservationEntity::getMember).distinct().toList());
+            return entities.stream().map(this::reservation).toList();
+        }
+
+        public Role role(RoleEntity e) {
+            return roles.computeIfAbsent(e.getId(), id -> new Role(id, e.getRoleType()));
+        }
+
+        public User user(UserEntity e) {
+            return new User.Builder()
+                    .id(e.getId())
+                    .email(e.getEmail())
+                    .password(e.getPassword())
+                    .active(e.isActive())
+                    .roles(e.getRoles().stream().map(this::role).collect(Collectors.toSet()))
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.jikkosoft.library.infrastructure.persistence;
+
+import com.jikkosoft.library.application.common.CursorRequest;
+import com.jikkosoft.library.application.common.CursorResponse;
+import com.jikkosoft.library.application.common.PageCursor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Keyset (seek) pagination over one entity type with the Criteria API.
+ *
+ * Responsibilities:
+ * - Restricts the query to rows after the cursor: {@code (sort, id) > (cursorValue, cursorId)}
+ *   (or {@code <} when descending), ordered by the sort attribute and then by id.
+ * - Fetches one row more than requested to detect whether another window exists.
+ * - Applies an entity graph as a fetch graph.
+ *
+ * Notes:
+ * - Only the attributes listed in {@code sortKeys} can be sorted on; each must be non-null.
+ *
+ * @param <E> entity type
+ */
+public final class KeysetQuery<E> {
+
+    private static final String FETCH_GRAPH = "jakarta.persistence.fetchgraph";
+
+    private final Class<E> entityType;
+    private final Map<String, Function<E, Object>> sortKeys;
+    private final Function<E, Long> idOf;
+    private final String entityGraph;
+
+    /**
+     * @param entityType  entity class
+     * @param sortKeys    sortable attribute names and how to read them from an entity
+     * @param idOf        reads the id of an entity
+     * @param entityGraph named entity graph to fetch, or null
+     */
+    public KeysetQuery(Class<E> entityType, Map<String, Function<E, Object>> sortKeys,
+                       Function<E, Long> idOf, String entityGraph) {
+        this.entityType = entityType;
+        this.sortKeys = sortKeys;
+        this.idOf = idOf;
+        this.entityGraph = entityGraph;
+    }
+
+    /**
+     * Reads one window.
+     *
+     * @param em      entity manager
+     * @param request cursor, window size and ordering
+     * @param filter  additional restrictions, or null
+     * @param mapper  maps the window's entities to domain objects
+     * @param <D>     domain type
+     * @return window of mapped items
+     */
+    public <D> CursorResponse<D> fetch(EntityManager em, CursorRequest request,
+                                       BiFunction<CriteriaBuilder, Root<E>, Predicate> filter,
+                                       Function<List<E>, List<D>> mapper) {
+        Function<E, Object> sortValueOf = sortKeys.get(request.sortBy());
+        if (sortValueOf == null) {
+            throw new IllegalArgumentException("Unsupported sort field: " + request.sortBy());
+        }
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<E> query = cb.createQuery(entityType);
+        Root<E> root = query.from(entityType);
+        Path<Comparable<Object>> sort = root.get(request.sortBy());
+        Path<Long> id = root.get("id");
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter != null) {
+            predicates.add(filter.apply(cb, root));
+        }
+        request.decodedCursor().ifPresent(cursor -> predicates.add(after(cb, sort, id, cursor, request.isDescending())));
+        query.select(root).where(predicates.toArray(Predicate[]::new));
+        if (request.isDescending()) {
+            query.orderBy(cb.desc(sort), cb.desc(id));
+        } else {
+            query.orderBy(cb.asc(sort), cb.asc(id));
+        }
+
+        TypedQuery<E> typed = em.createQuery(query).setMaxResults(request.size() + 1);
+        if (entityGraph != null) {
+            typed.setHint(FETCH_GRAPH, em.getEntityGraph(entityGraph));
+        }
+        List<E> window = typed.getResultList();
+        CursorResponse<E> entities = CursorResponse.fromWindow(window, request, sortValueOf, idOf);
+        return new CursorResponse<>(mapper.apply(entities.items()), entities.size(), entities.nextCursor(), entities.hasNext());
+    }
+
+    private static Predicate after(CriteriaBuilder cb, Path<Comparable<Object>> sort, Path<Long> id,
+                                   PageCursor cursor, boolean descending) {
+        if ("id".equals(cursor.sortBy()) || cursor.sortValue() == null) {
+            return descending ? cb.lessThan(id, cursor.id()) : cb.greaterThan(id, cursor.id());
+        }
+        Comparable<Object> value = parse(cursor.sortValue(), sort.getJavaType());
+        Expression<Comparable<Object>> literal = cb.literal(value);
+        Predicate beyond = descending ? cb.lessThan(sort, literal) : cb.greaterThan(sort, literal);
+        Predicate tieBreak = cb.and(cb.equal(sort, value),
+                descending ? cb.lessThan(id, cursor.id()) : cb.greaterThan(id, cursor.id()));
+        return cb.or(beyond, tieBreak);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Comparable<Object> parse(String value, Class<?> type) {
+        Object parsed;
+        if (type == String.class) parsed = value;
+        else if (type == Long.class || type == long.class) parsed = Long.valueOf(value);
+        else if (type == Integer.class || type == int.class) parsed = Integer.valueOf(value);
+        else if (type == LocalDate.class) parsed = LocalDate.parse(value);
+        else if (type == LocalDateTime.class) parsed = LocalDateTime.parse(value);
+        else if (type.isEnum()) parsed = Enum.valueOf((Class<? extends Enum>) type, value);
+        else throw new IllegalArgumentException("Unsupported sort type: " + type.getSimpleName());
+        return (Comparable<Object>) parsed;
+    }
+}
@@ -0,0 +1,42 @@
+package com.jikkosoft.library.infrastructure.persistence;
+
+import com.jikkosoft.library.application.common.PagedResponse;
+import com.jikkosoft.library.application.port.persistence.BookCopyRepository.PageResult;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Conversions between Spring Data pages and the port page types.
+ *
+ * Notes:
+ * - Mappers receive the whole page content, so related aggregates can be hydrated in bulk.
+ */
+public final class Pages {
+
+    private Pages() {}
+
+    /** Page request sorted by id, so offset pages are stable. */
+    public static PageRequest byId(int page, int size) {
+        return PageRequest.of(page, size, Sort.by("id"));
+    }
+
+    public static <E, D> PagedResponse<D> toPagedResponse(Page<E> page, Function<List<E>, List<D>> mapper) {
+        return PagedResponse.<D>builder()
+                .items(mapper.apply(page.getContent()))
+                .page(page.getNumber())
+                .size(page.getSize())
+                .totalElements(page.getTotalElements())
+                .totalPages(page.getTotalPages())
+                .hasNext(page.hasNext())
+                .hasPrevious(page.hasPrevious())
+                .build();
+    }
+
+    public static <E, D> PageResult<D> toPageResult(Page<E> page, Function<List<E>, List<D>> mapper) {
+        return new PageResult<>(mapper.apply(page.getContent()), page.getNumber(), page.getSize(), page.getTotalElements());
+    }
+}
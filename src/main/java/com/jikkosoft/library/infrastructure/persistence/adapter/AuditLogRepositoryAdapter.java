@@ -0,0 +1,184 @@
+package com.jikkosoft.library.infrastructure.persistence.adapter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jikkosoft.library.application.common.CursorRequest;
+import com.jikkosoft.library.application.common.CursorResponse;
+import com.jikkosoft.library.application.common.PagedResponse;
+import com.jikkosoft.library.application.port.persistence.AuditLogRepository;
+import com.jikkosoft.library.domain.enums.AuditAction;
+import com.jikkosoft.library.infrastructure.audit.AuditRecord;
+import com.jikkosoft.library.infrastructure.persistence.DomainHydrator;
+import com.jikkosoft.library.infrastructure.persistence.KeysetQuery;
+import com.jikkosoft.library.infrastructure.persistence.Pages;
+import com.jikkosoft.library.infrastructure.persistence.entity.AuditLogEntity;
+import com.jikkosoft.library.infrastructure.persistence.entity.UserEntity;
+import com.jikkosoft.library.infrastructure.persistence.repository.AuditLogJpaRepository;
+import com.jikkosoft.library.shared.common.AuditLog;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * JPA adapter for {@link AuditLogRepository}, over the table written by {@code AuditBatchWriter}.
+ *
+ * Notes:
+ * - Reads fetch the acting user with the entry; the users' roles are batch-fetched.
+ * - Entries without an actor (system jobs) or with a free-form action key from
+ *   {@link #logAudit} are stored but not returned: the AuditLog model requires an actor and an
+ *   {@link AuditAction}.
+ */
+@Repository
+@Transactional(readOnly = true)
+public class AuditLogRepositoryAdapter implements AuditLogRepository {
+
+    private static final TypeReference<Map<String, String>> METADATA = new TypeReference<>() {};
+
+    private static final Set<String> ACTIONS = Arrays.stream(AuditAction.values())
+            .map(Enum::name)
+            .collect(Collectors.toUnmodifiableSet());
+
+    private static final KeysetQuery<AuditLogEntity> KEYSET = new KeysetQuery<>(AuditLogEntity.class, Map.of(
+            "id", AuditLogEntity::getId,
+            "occurredAt", AuditLogEntity::getOccurredAt
+    ), AuditLogEntity::getId, AuditLogEntity.WITH_ACTOR);
+
+    private final AuditLogJpaRepository jpa;
+    private final DomainHydrator hydrator;
+    private final ObjectMapper objectMapper;
+    private final EntityManager em;
+
+    public AuditLogRepositoryAdapter(AuditLogJpaRepository jpa, DomainHydrator hydrator,
+                                     ObjectMapper objectMapper, EntityManager em) {
+        this.jpa = jpa;
+        this.hydrator = hydrator;
+        this.objectMapper = objectMapper;
+        this.em = em;
+    }
+
+    @Override
+    @Transactional
+    public void logAudit(Long actorUserId, String action, String details, LocalDateTime at) {
+        AuditLogEntity entity = new AuditLogEntity();
+        entity.setPerformedBy(actorUserId != null ? em.getReference(UserEntity.class, actorUserId) : null);
+        entity.setAction(action);
+        entity.setEntityType(AuditRecord.SYSTEM_ENTITY_TYPE);
+        entity.setEntityId(AuditRecord.NO_ENTITY_ID);
+        entity.setOccurredAt(at != null ? at : LocalDateTime.now());
+        entity.setSuccess(true);
+        entity.setMessage(details);
+        jpa.save(entity);
+    }
+
+    @Override
+    @Transactional
+    public AuditLog save(AuditLog auditLog) {
+        AuditLogEntity entity = new AuditLogEntity();
+        entity.setPerformedBy(em.getReference(UserEntity.class, auditLog.getPerformedBy().getId()));
+        entity.setAction(auditLog.getAction().name());
+        entity.setEntityType(auditLog.getEntityType());
+        entity.setEntityId(auditLog.getEntityId());
+        entity.setOccurredAt(auditLog.getTimestamp());
+        entity.setSuccess(auditLog.isSuccess());
+        entity.setMessage(auditLog.getMessage());
+        entity.setCorrelationId(auditLog.getCorrelationId());
+        entity.setBeforeSnapshot(auditLog.getBefore());
+        entity.setAfterSnapshot(auditLog.getAfter());
+        entity.setMetadata(toJson(auditLog.getMetadata()));
+        jpa.save(entity);
+        return new AuditLog.Builder()
+                .id(entity.getId())
+                .performedBy(auditLog.getPerformedBy())
+                .action(auditLog.getAction())
+                .entityType(auditLog.getEntityType())
+                .entityId(auditLog.getEntityId())
+                .timestamp(auditLog.getTimestamp())
+                .success(auditLog.isSuccess())
+                .message(auditLog.getMessage())
+                .correlationId(auditLog.getCorrelationId())
+                .before(auditLog.getBefore())
+                .after(auditLog.getAfter())
+                .metadata(auditLog.getMetadata())
+                .build();
+    }
+
+    @Override
+    public Optional<AuditLog> findById(Long id) {
+        return jpa.findWithActorById(id).flatMap(e -> toDomain(List.of(e)).stream().findFirst());
+    }
+
+    @Override
+    public PagedResponse<AuditLog> findAll(int page, int size) {
+        return Pages.toPagedResponse(jpa.findAllBy(Pages.byId(page, size)), this::toDomain);
+    }
+
+    @Override
+    public PagedResponse<AuditLog> findByActionAndUser(AuditAction action, Long performedById, int page, int size) {
+        return Pages.toPagedResponse(jpa.findByActionAndPerformedById(action.name(), performedById, Pages.byId(page, size)),
+                this::toDomain);
+    }
+
+    @Override
+    public CursorResponse<AuditLog> findAll(CursorRequest request) {
+        return KEYSET.fetch(em, request, null, this::toDomain);
+    }
+
+    @Override
+    public CursorResponse<AuditLog> findByActionAndUser(AuditAction action, Long performedById, CursorRequest request) {
+        return KEYSET.fetch(em, request, (cb, root) -> cb.and(
+                cb.equal(root.get("action"), action.name()),
+                cb.equal(root.get("performedBy").get("id"), performedById)), this::toDomain);
+    }
+
+    private List<AuditLog> toDomain(List<AuditLogEntity> entities) {
+        DomainHydrator.Hydration hydration = hydrator.start();
+        return entities.stream()
+                .filter(e -> e.getPerformedBy() != null && ACTIONS.contains(e.getAction()))
+                .map(e -> new AuditLog.Builder()
+                        .id(e.getId())
+                        .performedBy(hydration.user(e.getPerformedBy()))
+                        .action(AuditAction.valueOf(e.getAction()))
+                        .entityType(e.getEntityType())
+                        .entityId(e.getEntityId())
+                        .timestamp(e.getOccurredAt())
+                        .success(e.isSuccess())
+                        .message(e.getMessage())
+                        .correlationId(e.getCorrelationId())
+                        .before(e.getBeforeSnapshot())
+                        .after(e.getAfterSnapshot())
+                        .metadata(fromJson(e.getMetadata()))
+                        .build())
+                .toList();
+    }
+
+    private String toJson(Map<String, String> metadata) {
+        if (metadata == null || metadata.isEmpty()) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(metadata);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Audit metadata cannot be serialized", e);
+        }
+    }
+
+    private Map<String, String> fromJson(String json) {
+        if (json == null) {
+            return Map.of();
+        }
+        try {
+            return objectMapper.readValue(json, METADATA);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Audit metadata cannot be read", e);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.jikkosoft.library.infrastructure.persistence.adapter;
+
+import com.jikkosoft.library.domain.model.Author;
+import com.jikkosoft.library.infrastructure.persistence.entity.AuthorEntity;
+
+/**
+ * Copies Author fields onto its entity (authors have no port of their own; they are saved with books).
+ */
+final class AuthorMapping {
+
+    private AuthorMapping() {}
+
+    static AuthorEntity toEntity(Author author, AuthorEntity entity) {
+        entity.setFirstName(author.getFirstName());
+        entity.setLastName(author.getLastName());
+        entity.setNationality(author.getNationality());
+        entity.setDateOfBirth(author.getDateOfBirth());
+        entity.setBiography(author.getBiography());
+        entity.setWebsite(author.getWebsite());
+        entity.setEmail(author.getEmail());
+        entity.setAffiliation(author.getAffiliation());
+        return entity;
+    }
+}
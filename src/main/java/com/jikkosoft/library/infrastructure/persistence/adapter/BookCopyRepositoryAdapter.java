@@ -0,0 +1,220 @@
+package com.jikkosoft.library.infrastructure.persistence.adapter;
+
+import com.jikkosoft.library.application.common.CursorRequest;
+import com.jikkosoft.library.application.common.CursorResponse;
+import com.jikkosoft.library.application.port.persistence.BookCopyRepository;
+import com.jikkosoft.library.domain.enums.BookStatus;
+import com.jikkosoft.library.domain.exception.ConcurrencyConflictException;
+import com.jikkosoft.library.domain.model.BookCopy;
+import com.jikkosoft.library.infrastructure.persistence.DomainHydrator;
+import com.jikkosoft.library.infrastructure.persistence.KeysetQuery;
+import com.jikkosoft.library.infrastructure.persistence.Pages;
+import com.jikkosoft.library.infrastructure.persistence.entity.BookCopyEntity;
+import com.jikkosoft.library.infrastructure.persistence.entity.BookEntity;
+import com.jikkosoft.library.infrastructure.persistence.entity.LibraryEntity;
+import com.jikkosoft.library.infrastructure.persistence.repository.BookCopyJpaRepository;
+import com.jikkosoft.library.infrastructure.persistence.repository.LibraryJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.jikkosoft.library.infrastructure.persistence.adapter.BookRepositoryAdapter.requireId;
+
+/**
+ * JPA adapter for {@link BookCopyRepository}.
+ *
+ * Notes:
+ * - Reads fetch book, category and library with the copy ({@link BookCopyEntity#DETAIL}).
+ * - Saves check the domain copy's version against the stored one and flush, so a concurrent
+ *   update surfaces as {@link ConcurrencyConflictException} from this call.
+ * - Inserting or deleting a copy adjusts the library's stored copy counter.
+ */
+@Repository
+@Transactional(readOnly = true)
+public class BookCopyRepositoryAdapter implements BookCopyRepository {
+
+    private static final KeysetQuery<BookCopyEntity> KEYSET = new KeysetQuery<>(BookCopyEntity.class, Map.of(
+            "id", BookCopyEntity::getId,
+            "copyNumber", BookCopyEntity::getCopyNumber,
+            "barcode", BookCopyEntity::getBarcode
+    ), BookCopyEntity::getId, BookCopyEntity.DETAIL);
+
+    private final BookCopyJpaRepository jpa;
+    private final LibraryJpaRepository libraryJpa;
+    private final DomainHydrator hydrator;
+    private final EntityManager em;
+
+    public BookCopyRepositoryAdapter(BookCopyJpaRepository jpa, LibraryJpaRepository libraryJpa,
+                                     DomainHydrator hydrator, EntityManager em) {
+        this.jpa = jpa;
+        this.libraryJpa = libraryJpa;
+        this.hydrator = hydrator;
+        this.em = em;
+    }
+
+    @Override
+    public Optional<BookCopy> findById(Long id) {
+        return jpa.findDetailById(id).map(hydrator.start()::copy);
+    }
+
+    @Override
+    public PageResult<BookCopy> findByBookIdAndLibraryIdAndStatus(Long bookId, Long libraryId, BookStatus status, int page, int size) {
+        return Pages.toPageResult(jpa.findByBookIdAndLibraryIdAndStatus(bookId, libraryId, status, Pages.byId(page, size)),
+                hydrator.start()::copies);
+    }
+
+    @Override
+    public PageResult<BookCopy> findByBookId(Long bookId, int page, int size) {
+        return Pages.toPageResult(jpa.findByBookId(bookId, Pages.byId(page, size)), hydrator.start()::copies);
+    }
+
+    @Override
+    @Transactional
+    public BookCopy save(BookCopy copy) {
+        BookCopyEntity entity = apply(copy, copy.getId() == null ? null : jpa.findDetailById(copy.getId())
+                .orElseThrow(() -> new IllegalArgumentException("BookCopy not found: " + copy.getId())));
+        try {
+            jpa.flush();
+        } catch (ObjectOptimisticLockingFailureException e) {
+            throw conflict(copy);
+        }
+        adjustCounters(List.of(copy));
+        return persisted(copy, entity);
+    }
+
+    @Override
+    @Transactional
+    public List<BookCopy> saveAll(List<BookCopy> copies) {
+        List<Long> ids = copies.stream().map(BookCopy::getId).filter(id -> id != null).toList();
+        Map<Long, BookCopyEntity> stored = jpa.findByIdIn(ids).stream()
+                .collect(Collectors.toMap(BookCopyEntity::getId, Function.identity()));
+        List<BookCopyEntity> entities = new ArrayList<>(copies.size());
+        for (BookCopy copy : copies) {
+            BookCopyEntity existing = copy.getId() == null ? null : stored.get(copy.getId());
+            if (copy.getId() != null && existing == null) {
+                throw new IllegalArgumentException("BookCopy not found: " + copy.getId());
+            }
+            entities.add(apply(copy, existing));
+        }
+        try {
+            jpa.flush();
+        } catch (ObjectOptimisticLockingFailureException e) {
+            throw new ConcurrencyConflictException("A book copy was modified concurrently");
+        }
+        adjustCounters(copies);
+        List<BookCopy> saved = new ArrayList<>(copies.size());
+        for (int i = 0; i < copies.size(); i++) {
+            saved.add(persisted(copies.get(i), entities.get(i)));
+        }
+        return saved;
+    }
+
+    @Override
+    @Transactional
+    public void delete(BookCopy copy) {
+        BookCopyEntity entity = jpa.findById(requireId(copy.getId(), "BookCopy")).orElse(null);
+        if (entity == null) return;
+        entity.setDeletedAt(LocalDateTime.now());
+        libraryJpa.adjustBookCopyCount(entity.getLibrary().getId(), -1);
+    }
+
+    @Override
+    public PageResult<BookCopy> findByBookIdAndStatus(Long bookId, BookStatus status, int page, int size) {
+        return Pages.toPageResult(jpa.findByBookIdAndStatus(bookId, status, Pages.byId(page, size)), hydrator.start()::copies);
+    }
+
+    @Override
+    public PageResult<BookCopy> findByLibraryId(Long libraryId, int page, int size) {
+        return Pages.toPageResult(jpa.findByLibraryId(libraryId, Pages.byId(page, size)), hydrator.start()::copies);
+    }
+
+    @Override
+    public CursorResponse<BookCopy> findByBookIdAndLibraryIdAndStatus(Long bookId, Long libraryId, BookStatus status, CursorRequest request) {
+        return KEYSET.fetch(em, request, (cb, root) -> cb.and(
+                cb.equal(root.get("book").get("id"), bookId),
+                cb.equal(root.get("library").get("id"), libraryId),
+                cb.equal(root.get("status"), status)), hydrator.start()::copies);
+    }
+
+    @Override
+    public CursorResponse<BookCopy> findByBookId(Long bookId, CursorRequest request) {
+        return KEYSET.fetch(em, request, (cb, root) -> cb.equal(root.get("book").get("id"), bookId), hydrator.start()::copies);
+    }
+
+    @Override
+    public List<BookCopy> findAllByIds(Collection<Long> ids) {
+        return hydrator.start().copies(jpa.findByIdIn(ids));
+    }
+
+    @Override
+    public void forEachStatusRow(Consumer<StatusRow> consumer) {
+        try (Stream<BookCopyJpaRepository.StatusRowView> rows = jpa.streamStatusRows()) {
+            rows.forEach(r -> consumer.accept(new StatusRow(r.getCopyId(), r.getBookId(), r.getLibraryId(), r.getStatus())));
+        }
+    }
+
+    /**
+     * Copies the domain state onto {@code entity} after checking its version, or onto a new
+     * persisted entity when null.
+     */
+    private BookCopyEntity apply(BookCopy copy, BookCopyEntity entity) {
+        if (entity == null) {
+            entity = new BookCopyEntity();
+            entity.setBook(em.getReference(BookEntity.class, requireId(copy.getBook().getId(), "Book")));
+            entity.setLibrary(em.getReference(LibraryEntity.class, requireId(copy.getLibrary().getId(), "Library")));
+            entity.setCopyNumber(copy.getCopyNumber().getNumber());
+            entity.setBarcode(copy.getBarcode());
+            entity.setStatus(copy.getStatus());
+            entity.setShelfLocation(copy.getShelfLocation());
+            em.persist(entity);
+            return entity;
+        }
+        if (entity.getVersion() != copy.getVersion()) {
+            throw conflict(copy);
+        }
+        entity.setStatus(copy.getStatus());
+        entity.setShelfLocation(copy.getShelfLocation());
+        return entity;
+    }
+
+    /**
+     * Adds the inserted copies to their libraries' counters. Runs after the flush: a bulk update
+     * flushes pending inserts, so issuing it per copy would break JDBC batching.
+     */
+    private void adjustCounters(List<BookCopy> saved) {
+        saved.stream()
+                .filter(copy -> copy.getId() == null)
+                .collect(Collectors.groupingBy(copy -> copy.getLibrary().getId(), Collectors.counting()))
+                .forEach(libraryJpa::adjustBookCopyCount);
+    }
+
+    /** Rebuilds the saved copy with its generated id and advanced version, without reading it back. */
+    private static BookCopy persisted(BookCopy copy, BookCopyEntity entity) {
+        return new BookCopy.Builder()
+                .id(entity.getId())
+                .book(copy.getBook())
+                .library(copy.getLibrary())
+                .copyNumber(copy.getCopyNumber())
+                .barcode(copy.getBarcode())
+                .shelfLocation(copy.getShelfLocation())
+                .status(copy.getStatus())
+                .version(entity.getVersion())
+                .build();
+    }
+
+    private static ConcurrencyConflictException conflict(BookCopy copy) {
+        return new ConcurrencyConflictException("Book copy " + copy.getId() + " was modified concurrently");
+    }
+}
@@ -0,0 +1,145 @@
+package com.jikkosoft.library.infrastructure.persistence.adapter;
+
+import com.jikkosoft.library.application.common.CursorRequest;
+import com.jikkosoft.library.application.common.CursorResponse;
+import com.jikkosoft.library.application.common.PagedResponse;
+import com.jikkosoft.library.application.port.persistence.BookRepository;
+import com.jikkosoft.library.domain.model.Author;
+import com.jikkosoft.library.domain.model.Book;
+import com.jikkosoft.library.infrastructure.persistence.DomainHydrator;
+import com.jikkosoft.library.infrastructure.persistence.KeysetQuery;
+import com.jikkosoft.library.infrastructure.persistence.Pages;
+import com.jikkosoft.library.infrastructure.persistence.entity.AuthorEntity;
+import com.jikkosoft.library.infrastructure.persistence.entity.BookEntity;
+import com.jikkosoft.library.infrastructure.persistence.entity.CategoryEntity;
+import com.jikkosoft.library.infrastructure.persistence.repository.AuthorJpaRepository;
+import com.jikkosoft.library.infrastructure.persistence.repository.BookJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * JPA adapter for {@link BookRepository}.
+ *
+ * Notes:
+ * - Single-book reads fetch category and authors in one statement ({@link BookEntity#DETAIL}).
+ * - Listings fetch the category only; authors are batch-fetched if a caller touches them.
+ * - Authors that do not exist yet are inserted with the book.
+ */
+@Repository
+@Transactional(readOnly = true)
+public class BookRepositoryAdapter implements BookRepository {
+
+    private static final KeysetQuery<BookEntity> KEYSET = new KeysetQuery<>(BookEntity.class, Map.of(
+            "id", BookEntity::getId,
+            "title", BookEntity::getTitle,
+            "publicationYear", BookEntity::getPublicationYear,
+            "createdAt", BookEntity::getCreatedAt
+    ), BookEntity::getId, BookEntity.WITH_CATEGORY);
+
+    private final BookJpaRepository jpa;
+    private final AuthorJpaRepository authorJpa;
+    private final DomainHydrator hydrator;
+    private final EntityManager em;
+
+    public BookRepositoryAdapter(BookJpaRepository jpa, AuthorJpaRepository authorJpa,
+                                 DomainHydrator hydrator, EntityManager em) {
+        this.jpa = jpa;
+        this.authorJpa = authorJpa;
+        this.hydrator = hydrator;
+        this.em = em;
+    }
+
+    @Override
+    public Optional<Book> findById(Long id) {
+        return jpa.findWithAuthorsById(id).map(hydrator.start()::book);
+    }
+
+    @Override
+    public Optional<Book> findByIsbn(String isbnRaw) {
+        return jpa.findByIsbn(isbnRaw).map(hydrator.start()::book);
+    }
+
+    @Override
+    @Transactional
+    public Book save(Book book) {
+        BookEntity entity = book.getId() == null ? new BookEntity()
+                : jpa.findById(book.getId()).orElseThrow(() -> new IllegalArgumentException("Book not found: " + book.getId()));
+        entity.setIsbn(book.getIsbn().getValue());
+        entity.setTitle(book.getTitle());
+        entity.setPublicationYear(book.getPublicationYear());
+        entity.setCategory(em.getReference(CategoryEntity.class, requireId(book.getCategory().getId(), "Category")));
+        entity.getAuthors().clear();
+        entity.getAuthors().addAll(authorEntities(book.getAuthors()));
+        if (book.isDeleted() && entity.getDeletedAt() == null) {
+            entity.setDeletedAt(book.getDeletedAt());
+        }
+        return hydrator.start().book(jpa.saveAndFlush(entity));
+    }
+
+    @Override
+    public PagedResponse<Book> findByTitleLike(String text, int page, int size) {
+        return Pages.toPagedResponse(jpa.findByTitleContainingIgnoreCase(text, Pages.byId(page, size)), hydrator.start()::books);
+    }
+
+    @Override
+    @Transactional
+    public void logicalDeleteById(Long id) {
+        jpa.markDeleted(id, LocalDateTime.now());
+    }
+
+    @Override
+    public PagedResponse<Book> findAll(int page, int size) {
+        return Pages.toPagedResponse(jpa.findAllBy(Pages.byId(page, size)), hydrator.start()::books);
+    }
+
+    @Override
+    public CursorResponse<Book> findByTitleLike(String text, CursorRequest request) {
+        String pattern = "%" + text.toLowerCase(Locale.ROOT) + "%";
+        return KEYSET.fetch(em, request, (cb, root) -> cb.like(cb.lower(root.get("title")), pattern), hydrator.start()::books);
+    }
+
+    @Override
+    public CursorResponse<Book> findAll(CursorRequest request) {
+        return KEYSET.fetch(em, request, null, hydrator.start()::books);
+    }
+
+    @Override
+    public List<Book> findAllByIds(Collection<Long> ids) {
+        return hydrator.start().books(jpa.findByIdIn(ids));
+    }
+
+    @Override
+    public CatalogWatermark watermark() {
+        Object[] row = em.createQuery("select count(b), max(b.id), max(b.updatedAt) from BookEntity b", Object[].class)
+                .getSingleResult();
+        return new CatalogWatermark((Long) row[0], (Long) row[1], (LocalDateTime) row[2]);
+    }
+
+    /** Resolves stored authors with one query and maps new ones to entities to insert. */
+    private List<AuthorEntity> authorEntities(List<Author> authors) {
+        List<Long> ids = authors.stream().map(Author::getId).filter(id -> id != null).toList();
+        Map<Long, AuthorEntity> stored = authorJpa.findAllById(ids).stream()
+                .collect(Collectors.toMap(AuthorEntity::getId, Function.identity()));
+        return authors.stream().map(a -> {
+            if (a.getId() == null) return AuthorMapping.toEntity(a, new AuthorEntity());
+            AuthorEntity e = stored.get(a.getId());
+            if (e == null) throw new IllegalArgumentException("Author not found: " + a.getId());
+            return e;
+        }).toList();
+    }
+
+    static Long requireId(Long id, String what) {
+        if (id == null) throw new IllegalArgumentException(what + " must be persisted first");
+        return id;
+    }
+}
@@ -0,0 +1,75 @@
+package com.jikkosoft.library.infrastructure.persistence.adapter;
+
+import com.jikkosoft.library.application.common.CursorRequest;
+import com.jikkosoft.library.application.common.CursorResponse;
+import com.jikkosoft.library.application.common.PagedResponse;
+import com.jikkosoft.library.application.port.persistence.CategoryRepository;
+import com.jikkosoft.library.domain.model.Category;
+import com.jikkosoft.library.infrastructure.persistence.DomainHydrator;
+import com.jikkosoft.library.infrastructure.persistence.KeysetQuery;
+import com.jikkosoft.library.infrastructure.persistence.Pages;
+import com.jikkosoft.library.infrastructure.persistence.entity.CategoryEntity;
+import com.jikkosoft.library.infrastructure.persistence.repository.CategoryJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * JPA adapter for {@link CategoryRepository}.
+ */
+@Repository
+@Transactional(readOnly = true)
+public class CategoryRepositoryAdapter implements CategoryRepository {
+
+    private static final KeysetQuery<CategoryEntity> KEYSET = new KeysetQuery<>(CategoryEntity.class, Map.of(
+            "id", CategoryEntity::getId,
+            "name", CategoryEntity::getName
+    ), CategoryEntity::getId, null);
+
+    private final CategoryJpaRepository jpa;
+    private final DomainHydrator hydrator;
+    private final EntityManager em;
+
+    public CategoryRepositoryAdapter(CategoryJpaRepository jpa, DomainHydrator hydrator, EntityManager em) {
+        this.jpa = jpa;
+        this.hydrator = hydrator;
+        this.em = em;
+    }
+
+    @Override
+    public Optional<Category> findById(Long id) {
+        return jpa.findById(id).map(hydrator.start()::category);
+    }
+
+    @Override
+    public Optional<Category> findByNameIgnoreCase(String name) {
+        return jpa.findByNameIgnoreCase(name).map(hydrator.start()::category);
+    }
+
+    @Override
+    @Transactional
+    public Category save(Category category) {
+        CategoryEntity entity = category.getId() == null ? new CategoryEntity()
+                : jpa.findById(category.getId()).orElseThrow(() -> new IllegalArgumentException("Category not found: " + category.getId()));
+        entity.setName(category.getName());
+        entity.setMaxLoanDays(category.getMaxLoanDays());
+        entity.setPenaltyPerDay(category.getPenaltyPerDay());
+        return hydrator.start().category(jpa.save(entity));
+    }
+
+    @Override
+    public PagedResponse<Category> findAll(int page, int size) {
+        DomainHydrator.Hydration hydration = hydrator.start();
+        return Pages.toPagedResponse(jpa.findAll(Pages.byId(page, size)),
+                entities -> entities.stream().map(hydration::category).toList());
+    }
+
+    @Override
+    public CursorResponse<Category> findAll(CursorRequest request) {
+        DomainHydrator.Hydration hydration = hydrator.start();
+        return KEYSET.fetch(em, request, null, entities -> entities.stream().map(hydration::category).toList());
+    }
+}
@@ -0,0 +1,185 @@
+package com.jikkosoft.library.infrastructure.persistence.adapter;
+
+import com.jikkosoft.library.application.dto.auditlog.dto.AuditLogExportRow;
+import com.jikkosoft.library.application.dto.auditlog.query.GetAllAuditLogsQuery;
+import com.jikkosoft.library.application.dto.loan.dto.LoanExportRow;
+import com.jikkosoft.library.application.dto.loan.query.GetAllLoansQuery;
+import com.jikkosoft.library.application.dto.reservation.dto.ReservationExportRow;
+import com.jikkosoft.library.application.dto.reservation.query.GetAllReservationsQuery;
+import com.jikkosoft.library.application.port.persistence.ExportRepository;
+import com.jikkosoft.library.domain.enums.LoanStatus;
+import com.jikkosoft.library.domain.enums.ReservationStatus;
+import com.jikkosoft.library.infrastructure.persistence.entity.AuditLogEntity;
+import com.jikkosoft.library.infrastructure.persistence.entity.BookCopyEntity;
+import com.jikkosoft.library.infrastructure.persistence.entity.BookEntity;
+import com.jikkosoft.library.infrastructure.persistence.entity.LoanEntity;
+import com.jikkosoft.library.infrastructure.persistence.entity.MemberEntity;
+import com.jikkosoft.library.infrastructure.persistence.entity.ReservationEntity;
+import com.jikkosoft.library.infrastructure.persistence.entity.UserEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * JPA adapter for {@link ExportRepository}.
+ *
+ * Notes:
+ * - Rows are selected with Criteria constructor expressions and read through
+ *   {@code getResultStream()} with a JDBC fetch size ({@code library.export.fetch-size}), so the
+ *   driver holds one fetch window at a time and nothing enters the persistence context.
+ * - Streams run in a read-only transaction; PostgreSQL only uses a server-side cursor when
+ *   auto-commit is off.
+ * - Reservation dates are stored as dates; a date range filter keeps the dates whose start of
+ *   day falls within the range.
+ */
+@Repository
+@Transactional(readOnly = true)
+public class ExportRepositoryAdapter implements ExportRepository {
+
+    private final EntityManager em;
+    private final int fetchSize;
+
+    public ExportRepositoryAdapter(EntityManager em, @Value("${library.export.fetch-size:1000}") int fetchSize) {
+        if (fetchSize <= 0) throw new IllegalArgumentException("Export fetch size must be positive");
+        this.em = em;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public long streamLoans(GetAllLoansQuery filter, Consumer<? super LoanExportRow> sink) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<LoanExportRow> query = cb.createQuery(LoanExportRow.class);
+        Root<LoanEntity> loan = query.from(LoanEntity.class);
+        Join<LoanEntity, MemberEntity> member = loan.join("member");
+        Join<LoanEntity, BookCopyEntity> copy = loan.join("bookCopy");
+        Join<BookCopyEntity, BookEntity> book = copy.join("book");
+        Expression<String> memberName = fullName(cb, member);
+        query.select(cb.construct(LoanExportRow.class,
+                loan.get("id"), member.get("id"), memberName, copy.get("id"), copy.get("barcode"),
+                book.get("id"), book.get("title"), copy.get("library").get("id"), loan.get("status"),
+                loan.get("loanDate"), loan.get("dueDate"), loan.get("returnDate"), loan.get("penaltyDays")));
+
+        List<Predicate> where = new ArrayList<>();
+        if (filter.getMemberId() != null) where.add(cb.equal(member.get("id"), filter.getMemberId()));
+        if (filter.getBookCopyId() != null) where.add(cb.equal(copy.get("id"), filter.getBookCopyId()));
+        if (filter.getStatus() != null) where.add(cb.equal(loan.get("status"), parse(LoanStatus.class, filter.getStatus())));
+        if (filter.getLoanDateFrom() != null) where.add(cb.greaterThanOrEqualTo(loan.get("loanDate"), filter.getLoanDateFrom()));
+        if (filter.getLoanDateTo() != null) where.add(cb.lessThanOrEqualTo(loan.get("loanDate"), filter.getLoanDateTo()));
+        if (hasText(filter.getSearchTerm())) {
+            String pattern = pattern(filter.getSearchTerm());
+            where.add(cb.or(cb.like(cb.lower(book.get("title")), pattern), cb.like(cb.lower(memberName), pattern)));
+        }
+        query.where(where.toArray(Predicate[]::new)).orderBy(cb.asc(loan.get("id")));
+        return stream(query, sink);
+    }
+
+    @Override
+    public long streamReservations(GetAllReservationsQuery filter, Consumer<? super ReservationExportRow> sink) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<ReservationExportRow> query = cb.createQuery(ReservationExportRow.class);
+        Root<ReservationEntity> reservation = query.from(ReservationEntity.class);
+        Join<ReservationEntity, MemberEntity> member = reservation.join("member");
+        Join<ReservationEntity, BookCopyEntity> copy = reservation.join("bookCopy");
+        Join<BookCopyEntity, BookEntity> book = copy.join("book");
+        query.select(cb.construct(ReservationExportRow.class,
+                reservation.get("id"), member.get("id"), fullName(cb, member), copy.get("id"),
+                book.get("id"), book.get("title"), reservation.get("status"),
+                reservation.get("reservedAt"), reservation.get("expiresAt")));
+
+        List<Predicate> where = new ArrayList<>();
+        if (filter.getMemberId() != null) where.add(cb.equal(member.get("id"), filter.getMemberId()));
+        if (filter.getBookId() != null) where.add(cb.equal(book.get("id"), filter.getBookId()));
+        if (filter.getStatus() != null) {
+            where.add(cb.equal(reservation.get("status"), parse(ReservationStatus.class, filter.getStatus())));
+        }
+        if (filter.getReservedFrom() != null) {
+            where.add(cb.greaterThanOrEqualTo(reservation.get("reservedAt"), firstDayFrom(filter.getReservedFrom())));
+        }
+        if (filter.getReservedTo() != null) {
+            where.add(cb.lessThanOrEqualTo(reservation.get("reservedAt"), filter.getReservedTo().toLocalDate()));
+        }
+        if (hasText(filter.getSearchTerm())) {
+            where.add(cb.like(cb.lower(book.get("title")), pattern(filter.getSearchTerm())));
+        }
+        query.where(where.toArray(Predicate[]::new)).orderBy(cb.asc(reservation.get("id")));
+        return stream(query, sink);
+    }
+
+    @Override
+    public long streamAuditLogs(GetAllAuditLogsQuery filter, Consumer<? super AuditLogExportRow> sink) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<AuditLogExportRow> query = cb.createQuery(AuditLogExportRow.class);
+        Root<AuditLogEntity> log = query.from(AuditLogEntity.class);
+        Join<AuditLogEntity, UserEntity> actor = log.join("performedBy", JoinType.LEFT);
+        query.select(cb.construct(AuditLogExportRow.class,
+                log.get("id"), log.get("occurredAt"), actor.get("id"), actor.get("email"), log.get("action"),
+                log.get("entityType"), log.get("entityId"), log.get("success"), log.get("message"),
+                log.get("correlationId")));
+
+        List<Predicate> where = new ArrayList<>();
+        if (filter.getAction() != null) where.add(cb.equal(log.get("action"), filter.getAction().name()));
+        if (filter.getPerformedById() != null) where.add(cb.equal(actor.get("id"), filter.getPerformedById()));
+        if (hasText(filter.getSearchTerm())) {
+            where.add(cb.like(cb.lower(log.get("message")), pattern(filter.getSearchTerm())));
+        }
+        query.where(where.toArray(Predicate[]::new)).orderBy(cb.asc(log.get("id")));
+        return stream(query, sink);
+    }
+
+    private <R> long stream(CriteriaQuery<R> query, Consumer<? super R> sink) {
+        long count = 0;
+        try (Stream<R> rows = em.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()) {
+            for (var it = rows.iterator(); it.hasNext(); count++) {
+                sink.accept(it.next());
+            }
+        }
+        return count;
+    }
+
+    private static Expression<String> fullName(CriteriaBuilder cb, Join<?, MemberEntity> member) {
+        return cb.concat(cb.concat(member.get("firstName"), " "), member.<String>get("lastName"));
+    }
+
+    /** First stored date whose start of day is not before {@code from}. */
+    private static LocalDate firstDayFrom(LocalDateTime from) {
+        LocalDate day = from.toLocalDate();
+        return from.toLocalTime().equals(LocalTime.MIDNIGHT) ? day : day.plusDays(1);
+    }
+
+    private static <E extends Enum<E>> E parse(Class<E> type, String value) {
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown " + type.getSimpleName() + ": " + value);
+        }
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    private static String pattern(String text) {
+        return "%" + text.trim().toLowerCase(Locale.ROOT) + "%";
+    }
+}
@@ -0,0 +1,82 @@
+package com.jikkosoft.library.infrastructure.persistence.adapter;
+
+import com.jikkosoft.library.application.common.CursorRequest;
+import com.jikkosoft.library.application.common.CursorResponse;
+import com.jikkosoft.library.application.common.PagedResponse;
+import com.jikkosoft.library.application.port.persistence.LibraryRepository;
+import com.jikkosoft.library.domain.model.Library;
+import com.jikkosoft.library.infrastructure.persistence.DomainHydrator;
+import com.jikkosoft.library.infrastructure.persistence.KeysetQuery;
+import com.jikkosoft.library.infrastructure.persistence.Pages;
+import com.jikkosoft.library.infrastructure.persistence.entity.LibraryEntity;
+import com.jikkosoft.library.infrastructure.persistence.repository.LibraryJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * JPA adapter for {@link LibraryRepository}.
+ *
+ * Notes:
+ * - Members and copies are never loaded with a library; see {@code LibraryCollections}.
+ * - The stored member/copy counters are maintained by the member and copy adapters, not by save.
+ */
+@Repository
+@Transactional(readOnly = true)
+public class LibraryRepositoryAdapter implements LibraryRepository {
+
+    private static final KeysetQuery<LibraryEntity> KEYSET = new KeysetQuery<>(LibraryEntity.class, Map.of(
+            "id", LibraryEntity::getId,
+            "name", LibraryEntity::getName
+    ), LibraryEntity::getId, null);
+
+    private final LibraryJpaRepository jpa;
+    private final DomainHydrator hydrator;
+    private final EntityManager em;
+
+    public LibraryRepositoryAdapter(LibraryJpaRepository jpa, DomainHydrator hydrator, EntityManager em) {
+        this.jpa = jpa;
+        this.hydrator = hydrator;
+        this.em = em;
+    }
+
+    @Override
+    public Optional<Library> findById(Long id) {
+        return jpa.findById(id).map(hydrator.start()::library);
+    }
+
+    @Override
+    public Optional<Library> findByNameIgnoreCase(String name) {
+        return jpa.findFirstByNameIgnoreCase(name).map(hydrator.start()::library);
+    }
+
+    @Override
+    @Transactional
+    public Library save(Library library) {
+        LibraryEntity entity = library.getId() == null ? new LibraryEntity()
+                : jpa.findById(library.getId()).orElseThrow(() -> new IllegalArgumentException("Library not found: " + library.getId()));
+        entity.setName(library.getName());
+        entity.setAddress(library.getAddress());
+        return hydrator.start().library(jpa.save(entity));
+    }
+
+    @Override
+    public PagedResponse<Library> findAll(int page, int size) {
+        return Pages.toPagedResponse(jpa.findAll(Pages.byId(page, size)), hydrator.start()::libraries);
+    }
+
+    @Override
+    @Transactional
+    public void logicalDeleteById(Long id) {
+        jpa.markDeleted(id, LocalDateTime.now());
+    }
+
+    @Override
+    public CursorResponse<Library> findAll(CursorRequest request) {
+        return KEYSET.fetch(em, request, null, hydrator.start()::libraries);
+    }
+}
@@ -0,0 +1,190 @@
+package com.jikkosoft.library.infrastructure.persistence.adapter;
+
+import com.jikkosoft.library.application.common.CursorRequest;
+import com.jikkosoft.library.application.common.CursorResponse;
+import com.jikkosoft.library.application.common.PagedResponse;
+import com.jikkosoft.library.application.port.persistence.LoanRepository;
+import com.jikkosoft.library.domain.enums.LoanStatus;
+import com.jikkosoft.library.domain.model.Loan;
+import com.jikkosoft.library.infrastructure.persistence.DomainHydrator;
+import com.jikkosoft.library.infrastructure.persistence.KeysetQuery;
+import com.jikkosoft.library.infrastructure.persistence.Pages;
+import com.jikkosoft.library.infrastructure.persistence.entity.BookCopyEntity;
+import com.jikkosoft.library.infrastructure.persistence.entity.LoanEntity;
+import com.jikkosoft.library.infrastructure.persistence.entity.MemberEntity;
+import com.jikkosoft.library.infrastructure.persistence.repository.LoanJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.jikkosoft.library.infrastructure.persistence.adapter.BookRepositoryAdapter.requireId;
+
+/**
+ * JPA adapter for {@link LoanRepository}.
+ *
+ * Notes:
+ * - Reads use {@link LoanEntity#SUMMARY}: copy, book, category, library and member come in the
+ *   same statement and authors are not loaded, which is all a loan summary needs.
+ * - Loans are restored through {@code Loan.Builder.status}, so hydration does not touch the copy.
+ * - The penalty is stored on save so member hydration can sum it.
+ * - Keyset windows may be ordered by returnDate only for RETURNED loans, the one status where
+ *   it is always set; member history pages this way.
+ */
+@Repository
+@Transactional(readOnly = true)
+public class LoanRepositoryAdapter implements LoanRepository {
+
+    private static final KeysetQuery<LoanEntity> KEYSET = new KeysetQuery<>(LoanEntity.class, Map.of(
+            "id", LoanEntity::getId,
+            "loanDate", LoanEntity::getLoanDate,
+            "dueDate", LoanEntity::getDueDate,
+            "returnDate", LoanEntity::getReturnDate
+    ), LoanEntity::getId, LoanEntity.SUMMARY);
+
+    private final LoanJpaRepository jpa;
+    private final DomainHydrator hydrator;
+    private final EntityManager em;
+
+    public LoanRepositoryAdapter(LoanJpaRepository jpa, DomainHydrator hydrator, EntityManager em) {
+        this.jpa = jpa;
+        this.hydrator = hydrator;
+        this.em = em;
+    }
+
+    @Override
+    public Optional<Loan> findById(Long id) {
+        return jpa.findSummaryById(id).map(hydrator.start()::loan);
+    }
+
+    @Override
+    @Transactional
+    public Loan save(Loan loan) {
+        LoanEntity entity = apply(loan, loan.getId() == null ? null : load(loan.getId()));
+        return persisted(loan, entity);
+    }
+
+    @Override
+    public List<Loan> findByMemberIdAndStatus(Long memberId, LoanStatus status) {
+        return hydrator.start().loans(jpa.findByMemberIdAndStatus(memberId, status));
+    }
+
+    @Override
+    @Transactional
+    public void logicalDeleteById(Long id) {
+        jpa.markDeleted(id, LocalDateTime.now());
+    }
+
+    @Override
+    public PagedResponse<Loan> findByMemberIdAndStatusPaged(Long memberId, LoanStatus status, int page, int size) {
+        return Pages.toPagedResponse(jpa.findByMemberIdAndStatus(memberId, status, Pages.byId(page, size)),
+                hydrator.start()::loans);
+    }
+
+    @Override
+    public CursorResponse<Loan> findByMemberIdAndStatusPaged(Long memberId, LoanStatus status, CursorRequest request) {
+        return KEYSET.fetch(em, request, (cb, root) -> cb.and(
+                cb.equal(root.get("member").get("id"), memberId),
+                cb.equal(root.get("status"), status)), hydrator.start()::loans);
+    }
+
+    @Override
+    public Map<Long, Long> countLoansByBook() {
+        return toCountMap(jpa.countGroupedByBook());
+    }
+
+    @Override
+    public Map<Long, Long> countLoansByMember() {
+        return toCountMap(jpa.countGroupedByMember());
+    }
+
+    @Override
+    public List<Loan> findAllByIds(Collection<Long> ids) {
+        return hydrator.start().loans(jpa.findByIdIn(ids));
+    }
+
+    @Override
+    @Transactional
+    public List<Loan> saveAll(List<Loan> loans) {
+        List<Long> ids = loans.stream().map(Loan::getId).filter(id -> id != null).toList();
+        Map<Long, LoanEntity> stored = jpa.findByIdIn(ids).stream()
+                .collect(Collectors.toMap(LoanEntity::getId, Function.identity()));
+        List<Loan> saved = new ArrayList<>(loans.size());
+        for (Loan loan : loans) {
+            LoanEntity existing = loan.getId() == null ? null : stored.get(loan.getId());
+            if (loan.getId() != null && existing == null) {
+                throw new IllegalArgumentException("Loan not found: " + loan.getId());
+            }
+            saved.add(persisted(loan, apply(loan, existing)));
+        }
+        return saved;
+    }
+
+    @Override
+    public void forEachActiveDueDate(Consumer<DueDateRow> consumer) {
+        try (Stream<LoanJpaRepository.DueDateView> rows = jpa.streamActiveDueDates()) {
+            rows.forEach(r -> consumer.accept(new DueDateRow(r.getLoanId(), r.getDueDate())));
+        }
+    }
+
+    private LoanEntity load(Long id) {
+        return jpa.findSummaryById(id).orElseThrow(() -> new IllegalArgumentException("Loan not found: " + id));
+    }
+
+    /** Copies the loan's state onto {@code entity}, or onto a new persisted entity when null. */
+    private LoanEntity apply(Loan loan, LoanEntity entity) {
+        if (entity == null) {
+            entity = new LoanEntity();
+            entity.setBookCopy(em.getReference(BookCopyEntity.class, requireId(loan.getBookCopy().getId(), "BookCopy")));
+            entity.setMember(em.getReference(MemberEntity.class, requireId(loan.getMember().getId(), "Member")));
+            entity.setLoanDate(loan.getLoanDate());
+            entity.setDueDate(loan.getDueDate());
+            em.persist(entity);
+        }
+        entity.setStatus(loan.getStatus());
+        entity.setReturnDate(loan.getReturnDate());
+        entity.setPenaltyDays(loan.calculatePenaltyDays());
+        if (loan.isDeleted() && entity.getDeletedAt() == null) {
+            entity.setDeletedAt(loan.getDeletedAt());
+        }
+        return entity;
+    }
+
+    /**
+     * Returns the saved loan without reading it back: an update returns the loan itself, an
+     * insert a restored copy carrying the generated id and the same copy and member.
+     */
+    private static Loan persisted(Loan loan, LoanEntity entity) {
+        if (loan.getId() != null) {
+            return loan;
+        }
+        return new Loan.Builder()
+                .id(entity.getId())
+                .bookCopy(loan.getBookCopy())
+                .member(loan.getMember())
+                .loanDate(loan.getLoanDate())
+                .dueDate(loan.getDueDate())
+                .status(loan.getStatus())
+                .returnDate(loan.getReturnDate())
+                .build();
+    }
+
+    private static Map<Long, Long> toCountMap(List<Object[]> rows) {
+        Map<Long, Long> counts = new HashMap<>(rows.size() * 2);
+        for (Object[] row : rows) {
+            counts.put((Long) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,137 @@
+package com.jikkosoft.library.infrastructure.persistence.adapter;
+
+import com.jikkosoft.library.application.common.CursorRequest;
+import com.jikkosoft.library.application.common.CursorResponse;
+import com.jikkosoft.library.application.common.PagedResponse;
+import com.jikkosoft.library.application.port.persistence.MemberRepository;
+import com.jikkosoft.library.domain.model.Member;
+import com.jikkosoft.library.infrastructure.persistence.DomainHydrator;
+import com.jikkosoft.library.infrastructure.persistence.KeysetQuery;
+import com.jikkosoft.library.infrastructure.persistence.Pages;
+import com.jikkosoft.library.infrastructure.persistence.entity.LibraryEntity;
+import com.jikkosoft.library.infrastructure.persistence.entity.MemberEntity;
+import com.jikkosoft.library.infrastructure.persistence.repository.LibraryJpaRepository;
+import com.jikkosoft.library.infrastructure.persistence.repository.MemberJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.jikkosoft.library.infrastructure.persistence.adapter.BookRepositoryAdapter.requireId;
+
+/**
+ * JPA adapter for {@link MemberRepository}.
+ *
+ * Notes:
+ * - Members are hydrated page by page: open loans and returned-loan totals are read for the
+ *   whole page at once (see {@link DomainHydrator}); closed loans are paged in on demand.
+ * - Loans are not written by {@link #save(Member)}; they have their own port.
+ * - Library membership changes adjust the library's stored member counter.
+ */
+@Repository
+@Transactional(readOnly = true)
+public class MemberRepositoryAdapter implements MemberRepository {
+
+    private static final KeysetQuery<MemberEntity> KEYSET = new KeysetQuery<>(MemberEntity.class, Map.of(
+            "id", MemberEntity::getId,
+            "firstName", MemberEntity::getFirstName,
+            "lastName", MemberEntity::getLastName,
+            "email", MemberEntity::getEmail
+    ), MemberEntity::getId, null);
+
+    private final MemberJpaRepository jpa;
+    private final LibraryJpaRepository libraryJpa;
+    private final DomainHydrator hydrator;
+    private final EntityManager em;
+
+    public MemberRepositoryAdapter(MemberJpaRepository jpa, LibraryJpaRepository libraryJpa,
+                                   DomainHydrator hydrator, EntityManager em) {
+        this.jpa = jpa;
+        this.libraryJpa = libraryJpa;
+        this.hydrator = hydrator;
+        this.em = em;
+    }
+
+    @Override
+    public Optional<Member> findById(Long id) {
+        return jpa.findById(id).map(hydrator.start()::member);
+    }
+
+    @Override
+    public Optional<Member> findByEmailInLibrary(String email, Long libraryId) {
+        return jpa.findByEmailInLibrary(email, libraryId).map(hydrator.start()::member);
+    }
+
+    @Override
+    @Transactional
+    public Member save(Member member) {
+        MemberEntity entity = member.getId() == null ? new MemberEntity()
+                : jpa.findById(member.getId()).orElseThrow(() -> new IllegalArgumentException("Member not found: " + member.getId()));
+        entity.setFirstName(member.getFirstName());
+        entity.setLastName(member.getLastName());
+        entity.setEmail(member.getEmail().getValue());
+        return hydrator.start().member(jpa.save(entity));
+    }
+
+    @Override
+    @Transactional
+    public void logicalDeleteById(Long id) {
+        jpa.findById(id).ifPresent(entity -> {
+            entity.getLibraries().forEach(library -> libraryJpa.adjustMemberCount(library.getId(), -1));
+            entity.setDeletedAt(LocalDateTime.now());
+        });
+    }
+
+    @Override
+    public PagedResponse<Member> findAllPaged(int page, int size) {
+        return Pages.toPagedResponse(jpa.findAll(Pages.byId(page, size)), hydrator.start()::members);
+    }
+
+    @Override
+    public PagedResponse<Member> findByNamePaged(String name, int page, int size) {
+        return Pages.toPagedResponse(jpa.findByName(name, Pages.byId(page, size)), hydrator.start()::members);
+    }
+
+    @Override
+    public CursorResponse<Member> findAllPaged(CursorRequest request) {
+        return KEYSET.fetch(em, request, null, hydrator.start()::members);
+    }
+
+    @Override
+    public CursorResponse<Member> findByNamePaged(String name, CursorRequest request) {
+        String pattern = "%" + name.toLowerCase(Locale.ROOT) + "%";
+        return KEYSET.fetch(em, request, (cb, root) -> cb.or(
+                cb.like(cb.lower(root.get("firstName")), pattern),
+                cb.like(cb.lower(root.get("lastName")), pattern)), hydrator.start()::members);
+    }
+
+    @Override
+    public List<Member> findAllByIds(Collection<Long> ids) {
+        return hydrator.start().members(jpa.findAllById(ids));
+    }
+
+    @Override
+    public PagedResponse<Member> findByLibraryIdPaged(Long libraryId, int page, int size) {
+        return Pages.toPagedResponse(jpa.findByLibraryId(libraryId, Pages.byId(page, size)), hydrator.start()::members);
+    }
+
+    @Override
+    @Transactional
+    public boolean addToLibrary(Long libraryId, Member member) {
+        Long memberId = requireId(member.getId(), "Member");
+        if (jpa.isInLibrary(memberId, libraryId)) {
+            return false;
+        }
+        MemberEntity entity = jpa.findById(memberId)
+                .orElseThrow(() -> new IllegalArgumentException("Member not found: " + memberId));
+        entity.getLibraries().add(em.getReference(LibraryEntity.class, libraryId));
+        libraryJpa.adjustMemberCount(libraryId, 1);
+        return true;
+    }
+}
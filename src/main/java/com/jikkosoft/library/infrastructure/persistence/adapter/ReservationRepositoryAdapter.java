@@ -0,0 +1,183 @@
+package com.jikkosoft.library.infrastructure.persistence.adapter;
+
+import com.jikkosoft.library.application.common.CursorRequest;
+import com.jikkosoft.library.application.common.CursorResponse;
+import com.jikkosoft.library.application.common.PagedResponse;
+import com.jikkosoft.library.application.port.persistence.ReservationRepository;
+import com.jikkosoft.library.domain.enums.ReservationStatus;
+import com.jikkosoft.library.domain.model.BookCopy;
+import com.jikkosoft.library.domain.model.Reservation;
+import com.jikkosoft.library.infrastructure.persistence.DomainHydrator;
+import com.jikkosoft.library.infrastructure.persistence.KeysetQuery;
+import com.jikkosoft.library.infrastructure.persistence.Pages;
+import com.jikkosoft.library.infrastructure.persistence.entity.BookCopyEntity;
+import com.jikkosoft.library.infrastructure.persistence.entity.MemberEntity;
+import com.jikkosoft.library.infrastructure.persistence.entity.ReservationEntity;
+import com.jikkosoft.library.infrastructure.persistence.repository.ReservationJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.jikkosoft.library.infrastructure.persistence.adapter.BookRepositoryAdapter.requireId;
+
+/**
+ * JPA adapter for {@link ReservationRepository}.
+ *
+ * Notes:
+ * - Reads use {@link ReservationEntity#DETAIL} (copies, book, category, library, member); authors
+ *   stay lazy and members are hydrated in bulk.
+ * - Saves do not read the reservation back.
+ */
+@Repository
+@Transactional(readOnly = true)
+public class ReservationRepositoryAdapter implements ReservationRepository {
+
+    private static final KeysetQuery<ReservationEntity> KEYSET = new KeysetQuery<>(ReservationEntity.class, Map.of(
+            "id", ReservationEntity::getId,
+            "reservedAt", ReservationEntity::getReservedAt,
+            "expiresAt", ReservationEntity::getExpiresAt
+    ), ReservationEntity::getId, ReservationEntity.DETAIL);
+
+    private final ReservationJpaRepository jpa;
+    private final DomainHydrator hydrator;
+    private final EntityManager em;
+
+    public ReservationRepositoryAdapter(ReservationJpaRepository jpa, DomainHydrator hydrator, EntityManager em) {
+        this.jpa = jpa;
+        this.hydrator = hydrator;
+        this.em = em;
+    }
+
+    @Override
+    public Optional<Reservation> findById(Long id) {
+        return jpa.findDetailById(id).map(hydrator.start()::reservation);
+    }
+
+    @Override
+    @Transactional
+    public Reservation save(Reservation reservation) {
+        ReservationEntity entity = reservation.getId() == null ? null : jpa.findById(reservation.getId())
+                .orElseThrow(() -> new IllegalArgumentException("Reservation not found: " + reservation.getId()));
+        return persisted(reservation, apply(reservation, entity));
+    }
+
+    @Override
+    public List<Reservation> findActiveByBookIdOrderByReservedAt(Long bookId) {
+        return hydrator.start().reservations(
+                jpa.findByBookCopyBookIdAndStatusOrderByReservedAtAscIdAsc(bookId, ReservationStatus.ACTIVE));
+    }
+
+    @Override
+    public Optional<Reservation> findActiveByHeldCopyId(Long copyId) {
+        return jpa.findFirstByHeldCopyIdAndStatus(copyId, ReservationStatus.ACTIVE).map(hydrator.start()::reservation);
+    }
+
+    @Override
+    public List<Reservation> findByStatusAndReservedAtBefore(ReservationStatus status, LocalDateTime threshold) {
+        // reservedAt is a date: it is before the threshold when its start of day is.
+        LocalDate firstExcluded = threshold.toLocalTime().equals(LocalTime.MIDNIGHT)
+                ? threshold.toLocalDate() : threshold.toLocalDate().plusDays(1);
+        return hydrator.start().reservations(jpa.findByStatusAndReservedAtBefore(status, firstExcluded));
+    }
+
+    @Override
+    @Transactional
+    public void logicalDeleteById(Long id) {
+        jpa.markDeleted(id, LocalDateTime.now());
+    }
+
+    @Override
+    public PagedResponse<Reservation> findAllPaged(int page, int size) {
+        return Pages.toPagedResponse(jpa.findAllBy(Pages.byId(page, size)), hydrator.start()::reservations);
+    }
+
+    @Override
+    public PagedResponse<Reservation> findByStatusPaged(ReservationStatus status, int page, int size) {
+        return Pages.toPagedResponse(jpa.findByStatus(status, Pages.byId(page, size)), hydrator.start()::reservations);
+    }
+
+    @Override
+    public CursorResponse<Reservation> findAllPaged(CursorRequest request) {
+        return KEYSET.fetch(em, request, null, hydrator.start()::reservations);
+    }
+
+    @Override
+    public CursorResponse<Reservation> findByStatusPaged(ReservationStatus status, CursorRequest request) {
+        return KEYSET.fetch(em, request, (cb, root) -> cb.equal(root.get("status"), status), hydrator.start()::reservations);
+    }
+
+    @Override
+    public List<Reservation> findAllByIds(Collection<Long> ids) {
+        return hydrator.start().reservations(jpa.findByIdIn(ids));
+    }
+
+    @Override
+    @Transactional
+    public List<Reservation> saveAll(List<Reservation> reservations) {
+        List<Long> ids = reservations.stream().map(Reservation::getId).filter(id -> id != null).toList();
+        Map<Long, ReservationEntity> stored = jpa.findAllById(ids).stream()
+                .collect(Collectors.toMap(ReservationEntity::getId, Function.identity()));
+        List<Reservation> saved = new ArrayList<>(reservations.size());
+        for (Reservation reservation : reservations) {
+            ReservationEntity existing = reservation.getId() == null ? null : stored.get(reservation.getId());
+            if (reservation.getId() != null && existing == null) {
+                throw new IllegalArgumentException("Reservation not found: " + reservation.getId());
+            }
+            saved.add(persisted(reservation, apply(reservation, existing)));
+        }
+        return saved;
+    }
+
+    /** Copies the reservation's state onto {@code entity}, or onto a new persisted entity when null. */
+    private ReservationEntity apply(Reservation reservation, ReservationEntity entity) {
+        if (entity == null) {
+            entity = new ReservationEntity();
+            entity.setBookCopy(em.getReference(BookCopyEntity.class, requireId(reservation.getBookCopy().getId(), "BookCopy")));
+            entity.setMember(em.getReference(MemberEntity.class, requireId(reservation.getMember().getId(), "Member")));
+            entity.setReservedAt(reservation.getReservedAt());
+            entity.setExpiresAt(reservation.getExpiresAt());
+            entity.setStatus(reservation.getStatus());
+            entity.setHeldCopy(heldCopyOf(reservation));
+            em.persist(entity);
+            return entity;
+        }
+        entity.setStatus(reservation.getStatus());
+        entity.setHeldCopy(heldCopyOf(reservation));
+        if (reservation.isDeleted() && entity.getDeletedAt() == null) {
+            entity.setDeletedAt(reservation.getDeletedAt());
+        }
+        return entity;
+    }
+
+    private BookCopyEntity heldCopyOf(Reservation reservation) {
+        BookCopy held = reservation.getHeldCopy();
+        return held == null ? null : em.getReference(BookCopyEntity.class, requireId(held.getId(), "BookCopy"));
+    }
+
+    /** An update returns the reservation itself; an insert a copy carrying the generated id. */
+    private static Reservation persisted(Reservation reservation, ReservationEntity entity) {
+        if (reservation.getId() != null) {
+            return reservation;
+        }
+        return new Reservation.Builder()
+                .id(entity.getId())
+                .bookCopy(reservation.getBookCopy())
+                .member(reservation.getMember())
+                .reservedAt(reservation.getReservedAt())
+                .expiresAt(reservation.getExpiresAt())
+                .status(reservation.getStatus())
+                .heldCopy(reservation.getHeldCopy())
+                .build();
+    }
+}
@@ -0,0 +1,94 @@
+package com.jikkosoft.library.infrastructure.persistence.adapter;
+
+import com.jikkosoft.library.application.common.CursorRequest;
+import com.jikkosoft.library.application.common.CursorResponse;
+import com.jikkosoft.library.application.common.PagedResponse;
+import com.jikkosoft.library.application.port.persistence.RoleRepository;
+import com.jikkosoft.library.domain.enums.RoleType;
+import com.jikkosoft.library.domain.model.Role;
+import com.jikkosoft.library.infrastructure.persistence.DomainHydrator;
+import com.jikkosoft.library.infrastructure.persistence.KeysetQuery;
+import com.jikkosoft.library.infrastructure.persistence.Pages;
+import com.jikkosoft.library.infrastructure.persistence.entity.RoleEntity;
+import com.jikkosoft.library.infrastructure.persistence.repository.RoleJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * JPA adapter for {@link RoleRepository}.
+ */
+@Repository
+@Transactional(readOnly = true)
+public class RoleRepositoryAdapter implements RoleRepository {
+
+    private static final KeysetQuery<RoleEntity> KEYSET = new KeysetQuery<>(RoleEntity.class, Map.of(
+            "id", RoleEntity::getId,
+            "roleType", RoleEntity::getRoleType
+    ), RoleEntity::getId, null);
+
+    private final RoleJpaRepository jpa;
+    private final DomainHydrator hydrator;
+    private final EntityManager em;
+
+    public RoleRepositoryAdapter(RoleJpaRepository jpa, DomainHydrator hydrator, EntityManager em) {
+        this.jpa = jpa;
+        this.hydrator = hydrator;
+        this.em = em;
+    }
+
+    @Override
+    public Optional<Role> findById(Long id) {
+        return jpa.findById(id).map(hydrator.start()::role);
+    }
+
+    @Override
+    public Optional<Role> findByRoleType(RoleType roleType) {
+        return jpa.findByRoleType(roleType).map(hydrator.start()::role);
+    }
+
+    @Override
+    @Transactional
+    public Role save(Role role) {
+        RoleEntity entity = role.getId() == null ? new RoleEntity()
+                : jpa.findById(role.getId()).orElseThrow(() -> new IllegalArgumentException("Role not found: " + role.getId()));
+        entity.setRoleType(role.getRoleType());
+        return hydrator.start().role(jpa.save(entity));
+    }
+
+    @Override
+    @Transactional
+    public void logicalDeleteById(Long id) {
+        jpa.markDeleted(id, LocalDateTime.now());
+    }
+
+    @Override
+    public PagedResponse<Role> findAllPaged(int page, int size) {
+        return Pages.toPagedResponse(jpa.findAll(Pages.byId(page, size)), this::toDomain);
+    }
+
+    @Override
+    public PagedResponse<Role> findByRoleTypePaged(RoleType roleType, int page, int size) {
+        return Pages.toPagedResponse(jpa.findByRoleType(roleType, Pages.byId(page, size)), this::toDomain);
+    }
+
+    @Override
+    public CursorResponse<Role> findAllPaged(CursorRequest request) {
+        return KEYSET.fetch(em, request, null, this::toDomain);
+    }
+
+    @Override
+    public CursorResponse<Role> findByRoleTypePaged(RoleType roleType, CursorRequest request) {
+        return KEYSET.fetch(em, request, (cb, root) -> cb.equal(root.get("roleType"), roleType), this::toDomain);
+    }
+
+    private List<Role> toDomain(List<RoleEntity> entities) {
+        DomainHydrator.Hydration hydration = hydrator.start();
+        return entities.stream().map(hydration::role).toList();
+    }
+}
@@ -0,0 +1,131 @@
+package com.jikkosoft.library.infrastructure.persistence.adapter;
+
+import com.jikkosoft.library.application.common.PagedResponse;
+import com.jikkosoft.library.application.dto.author.dto.AuthorSummaryDto;
+import com.jikkosoft.library.application.dto.book.dto.BookSummaryDto;
+import com.jikkosoft.library.application.dto.bookcopy.dto.BookCopySummaryDto;
+import com.jikkosoft.library.application.dto.category.dto.CategorySummaryDto;
+import com.jikkosoft.library.application.dto.library.dto.LibrarySummaryDto;
+import com.jikkosoft.library.application.dto.loan.dto.LoanSummaryDto;
+import com.jikkosoft.library.application.dto.member.dto.MemberSummaryDto;
+import com.jikkosoft.library.application.dto.reservation.dto.ReservationSummaryDto;
+import com.jikkosoft.library.application.port.persistence.SummaryQueryRepository;
+import com.jikkosoft.library.domain.enums.LoanStatus;
+import com.jikkosoft.library.domain.enums.ReservationStatus;
+import com.jikkosoft.library.infrastructure.persistence.Pages;
+import com.jikkosoft.library.infrastructure.persistence.projection.BookAuthorRow;
+import com.jikkosoft.library.infrastructure.persistence.projection.BookSummaryRow;
+import com.jikkosoft.library.infrastructure.persistence.projection.ReservationSummaryRow;
+import com.jikkosoft.library.infrastructure.persistence.repository.BookCopyJpaRepository;
+import com.jikkosoft.library.infrastructure.persistence.repository.BookJpaRepository;
+import com.jikkosoft.library.infrastructure.persistence.repository.CategoryJpaRepository;
+import com.jikkosoft.library.infrastructure.persistence.repository.LibraryJpaRepository;
+import com.jikkosoft.library.infrastructure.persistence.repository.LoanJpaRepository;
+import com.jikkosoft.library.infrastructure.persistence.repository.MemberJpaRepository;
+import com.jikkosoft.library.infrastructure.persistence.repository.ReservationJpaRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * JPA adapter for {@link SummaryQueryRepository}.
+ *
+ * Notes:
+ * - Each query selects only the summary columns through a JPQL constructor expression; no entity is
+ *   loaded into the persistence context and no domain object is built.
+ * - A book page costs two statements (plus the count): the book/category rows and the author rows
+ *   of the whole page.
+ */
+@Repository
+@Transactional(readOnly = true)
+public class SummaryQueryRepositoryAdapter implements SummaryQueryRepository {
+
+    private final BookJpaRepository bookJpa;
+    private final BookCopyJpaRepository bookCopyJpa;
+    private final CategoryJpaRepository categoryJpa;
+    private final LibraryJpaRepository libraryJpa;
+    private final LoanJpaRepository loanJpa;
+    private final MemberJpaRepository memberJpa;
+    private final ReservationJpaRepository reservationJpa;
+
+    public SummaryQueryRepositoryAdapter(BookJpaRepository bookJpa, BookCopyJpaRepository bookCopyJpa,
+                                         CategoryJpaRepository categoryJpa, LibraryJpaRepository libraryJpa,
+                                         LoanJpaRepository loanJpa, MemberJpaRepository memberJpa,
+                                         ReservationJpaRepository reservationJpa) {
+        this.bookJpa = bookJpa;
+        this.bookCopyJpa = bookCopyJpa;
+        this.categoryJpa = categoryJpa;
+        this.libraryJpa = libraryJpa;
+        this.loanJpa = loanJpa;
+        this.memberJpa = memberJpa;
+        this.reservationJpa = reservationJpa;
+    }
+
+    @Override
+    public PagedResponse<BookSummaryDto> findBookSummaries(int page, int size) {
+        return Pages.toPagedResponse(bookJpa.findSummaries(Pages.byId(page, size)), this::withAuthors);
+    }
+
+    @Override
+    public PagedResponse<BookSummaryDto> findBookSummariesByTitle(String text, int page, int size) {
+        return Pages.toPagedResponse(bookJpa.findSummariesByTitle(text, Pages.byId(page, size)), this::withAuthors);
+    }
+
+    @Override
+    public PagedResponse<BookCopySummaryDto> findBookCopySummariesByLibrary(Long libraryId, int page, int size) {
+        return asIs(bookCopyJpa.findSummariesByLibraryId(libraryId, Pages.byId(page, size)));
+    }
+
+    @Override
+    public PagedResponse<CategorySummaryDto> findCategorySummaries(int page, int size) {
+        return asIs(categoryJpa.findSummaries(Pages.byId(page, size)));
+    }
+
+    @Override
+    public PagedResponse<LibrarySummaryDto> findLibrarySummaries(int page, int size) {
+        return asIs(libraryJpa.findSummaries(Pages.byId(page, size)));
+    }
+
+    @Override
+    public PagedResponse<LoanSummaryDto> findLoanSummariesByMember(Long memberId, LoanStatus status, int page, int size) {
+        return asIs(loanJpa.findSummariesByMemberIdAndStatus(memberId, status, Pages.byId(page, size)));
+    }
+
+    @Override
+    public PagedResponse<MemberSummaryDto> findMemberSummaries(int page, int size) {
+        return asIs(memberJpa.findSummaries(Pages.byId(page, size)));
+    }
+
+    @Override
+    public PagedResponse<MemberSummaryDto> findMemberSummariesByLibrary(Long libraryId, int page, int size) {
+        return asIs(memberJpa.findSummariesByLibraryId(libraryId, Pages.byId(page, size)));
+    }
+
+    @Override
+    public PagedResponse<ReservationSummaryDto> findReservationSummariesByStatus(ReservationStatus status, int page, int size) {
+        return Pages.toPagedResponse(reservationJpa.findSummariesByStatus(status, Pages.byId(page, size)),
+                rows -> rows.stream().map(ReservationSummaryRow::toDto).toList());
+    }
+
+    /** Attaches the authors of a whole page of books, read with one query. */
+    private List<BookSummaryDto> withAuthors(List<BookSummaryRow> rows) {
+        if (rows.isEmpty()) return List.of();
+        Map<Long, List<AuthorSummaryDto>> authorsByBook = new HashMap<>();
+        for (BookAuthorRow author : bookJpa.findAuthorRows(rows.stream().map(BookSummaryRow::id).toList())) {
+            authorsByBook.computeIfAbsent(author.bookId(), id -> new ArrayList<>()).add(author.toDto());
+        }
+        return rows.stream()
+                .map(row -> row.toDto(List.copyOf(authorsByBook.getOrDefault(row.id(), List.of()))))
+                .toList();
+    }
+
+    private static <D> PagedResponse<D> asIs(Page<D> page) {
+        return Pages.toPagedResponse(page, Function.identity());
+    }
+}
@@ -0,0 +1,111 @@
+package com.jikkosoft.library.infrastructure.persistence.adapter;
+
+import com.jikkosoft.library.application.common.CursorRequest;
+import com.jikkosoft.library.application.common.CursorResponse;
+import com.jikkosoft.library.application.common.PagedResponse;
+import com.jikkosoft.library.application.port.persistence.UserRepository;
+import com.jikkosoft.library.domain.model.Role;
+import com.jikkosoft.library.domain.model.User;
+import com.jikkosoft.library.infrastructure.persistence.DomainHydrator;
+import com.jikkosoft.library.infrastructure.persistence.KeysetQuery;
+import com.jikkosoft.library.infrastructure.persistence.Pages;
+import com.jikkosoft.library.infrastructure.persistence.entity.UserEntity;
+import com.jikkosoft.library.infrastructure.persistence.repository.RoleJpaRepository;
+import com.jikkosoft.library.infrastructure.persistence.repository.UserJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * JPA adapter for {@link UserRepository}.
+ *
+ * Notes:
+ * - Single-user reads fetch roles in the same statement; listings batch-fetch them.
+ */
+@Repository
+@Transactional(readOnly = true)
+public class UserRepositoryAdapter implements UserRepository {
+
+    private static final KeysetQuery<UserEntity> KEYSET = new KeysetQuery<>(UserEntity.class, Map.of(
+            "id", UserEntity::getId,
+            "email", UserEntity::getEmail
+    ), UserEntity::getId, null);
+
+    private final UserJpaRepository jpa;
+    private final RoleJpaRepository roleJpa;
+    private final DomainHydrator hydrator;
+    private final EntityManager em;
+
+    public UserRepositoryAdapter(UserJpaRepository jpa, RoleJpaRepository roleJpa,
+                                 DomainHydrator hydrator, EntityManager em) {
+        this.jpa = jpa;
+        this.roleJpa = roleJpa;
+        this.hydrator = hydrator;
+        this.em = em;
+    }
+
+    @Override
+    public Optional<User> findById(Long id) {
+        return jpa.findWithRolesById(id).map(hydrator.start()::user);
+    }
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        return jpa.findByEmailIgnoreCase(email).map(hydrator.start()::user);
+    }
+
+    @Override
+    @Transactional
+    public User save(User user) {
+        UserEntity entity = user.getId() == null ? new UserEntity()
+                : jpa.findById(user.getId()).orElseThrow(() -> new IllegalArgumentException("User not found: " + user.getId()));
+        entity.setEmail(user.getEmail());
+        entity.setPassword(user.getPassword());
+        entity.setActive(user.isActive());
+        List<Long> roleIds = user.getRoles().stream().map(Role::getId).toList();
+        if (roleIds.contains(null)) {
+            throw new IllegalArgumentException("Role must be persisted first");
+        }
+        entity.getRoles().clear();
+        entity.getRoles().addAll(roleJpa.findAllById(roleIds));
+        return hydrator.start().user(jpa.save(entity));
+    }
+
+    @Override
+    @Transactional
+    public void logicalDeleteById(Long id) {
+        jpa.markDeleted(id, LocalDateTime.now());
+    }
+
+    @Override
+    public PagedResponse<User> findAllPaged(int page, int size) {
+        return Pages.toPagedResponse(jpa.findAll(Pages.byId(page, size)), this::toDomain);
+    }
+
+    @Override
+    public PagedResponse<User> findByEmailPaged(String email, int page, int size) {
+        return Pages.toPagedResponse(jpa.findByEmailContainingIgnoreCase(email, Pages.byId(page, size)), this::toDomain);
+    }
+
+    @Override
+    public CursorResponse<User> findAllPaged(CursorRequest request) {
+        return KEYSET.fetch(em, request, null, this::toDomain);
+    }
+
+    @Override
+    public CursorResponse<User> findByEmailPaged(String email, CursorRequest request) {
+        String pattern = "%" + email.toLowerCase(Locale.ROOT) + "%";
+        return KEYSET.fetch(em, request, (cb, root) -> cb.like(cb.lower(root.get("email")), pattern), this::toDomain);
+    }
+
+    private List<User> toDomain(List<UserEntity> entities) {
+        DomainHydrator.Hydration hydration = hydrator.start();
+        return entities.stream().map(hydration::user).toList();
+    }
+}
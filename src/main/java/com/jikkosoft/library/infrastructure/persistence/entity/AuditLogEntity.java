@@ -0,0 +1,79 @@
+package com.jikkosoft.library.infrastructure.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * JPA mapping of the {@code audit_logs} table.
+ *
+ * Notes:
+ * - Columns match the multi-row inserts of {@code AuditBatchWriter}; the identity column lets
+ *   those inserts omit the id.
+ * - Audit rows are append-only and never logically deleted.
+ * - Snapshots and metadata are plain {@code text} columns, not LOBs, since the batch inserts
+ *   bind them as strings.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "audit_logs", indexes = @Index(name = "ix_audit_logs_action_user", columnList = "action, performed_by_id"))
+@NamedEntityGraph(name = AuditLogEntity.WITH_ACTOR, attributeNodes = @NamedAttributeNode("performedBy"))
+public class AuditLogEntity {
+
+    /** Fetches the acting user; roles are batch-fetched. */
+    public static final String WITH_ACTOR = "AuditLog.withActor";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "performed_by_id")
+    private UserEntity performedBy;
+
+    @Column(nullable = false, length = 40)
+    private String action;
+
+    @Column(name = "entity_type", nullable = false)
+    private String entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private String entityId;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    @Column(nullable = false)
+    private boolean success;
+
+    @Column(length = 4000)
+    private String message;
+
+    @Column(name = "correlation_id")
+    private String correlationId;
+
+    @Column(name = "before_snapshot", columnDefinition = "text")
+    private String beforeSnapshot;
+
+    @Column(name = "after_snapshot", columnDefinition = "text")
+    private String afterSnapshot;
+
+    @Column(columnDefinition = "text")
+    private String metadata;
+}
@@ -0,0 +1,44 @@
+package com.jikkosoft.library.infrastructure.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Audit columns shared by every table, mirroring {@code BaseEntity} in the domain.
+ *
+ * Notes:
+ * - createdAt/updatedAt are maintained by JPA callbacks; deletedAt marks a logical deletion.
+ * - Entities declare {@code @SQLRestriction("deleted_at IS NULL")}, so deleted rows are
+ *   invisible to every query.
+ */
+@Getter
+@Setter
+@MappedSuperclass
+public abstract class AuditableEntity {
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
+    @PrePersist
+    void onPersist() {
+        createdAt = LocalDateTime.now();
+        updatedAt = createdAt;
+    }
+
+    @PreUpdate
+    void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
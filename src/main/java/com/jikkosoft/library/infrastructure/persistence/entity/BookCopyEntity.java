@@ -0,0 +1,80 @@
+package com.jikkosoft.library.infrastructure.persistence.entity;
+
+import com.jikkosoft.library.domain.enums.BookStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.SQLRestriction;
+
+/**
+ * JPA mapping of the {@code book_copies} table.
+ *
+ * Notes:
+ * - {@code version} drives optimistic locking; it is the version exposed by the domain BookCopy.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "book_copies", indexes = {
+        @Index(name = "ix_book_copies_book_library_status", columnList = "book_id, library_id, status"),
+        @Index(name = "ix_book_copies_library", columnList = "library_id")
+})
+@SQLRestriction("deleted_at IS NULL")
+@NamedEntityGraph(name = BookCopyEntity.DETAIL,
+        attributeNodes = {
+                @NamedAttributeNode(value = "book", subgraph = "book"),
+                @NamedAttributeNode("library")
+        },
+        subgraphs = @NamedSubgraph(name = "book", attributeNodes = @NamedAttributeNode("category")))
+public class BookCopyEntity extends AuditableEntity {
+
+    /** Fetches book, category and library; authors stay lazy. */
+    public static final String DETAIL = "BookCopy.detail";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "book_copy_seq")
+    @SequenceGenerator(name = "book_copy_seq", sequenceName = "book_copy_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "book_id", nullable = false)
+    private BookEntity book;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "library_id", nullable = false)
+    private LibraryEntity library;
+
+    @Column(name = "copy_number", nullable = false)
+    private int copyNumber;
+
+    @Column(nullable = false, unique = true)
+    private String barcode;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private BookStatus status;
+
+    @Column(name = "shelf_location", nullable = false)
+    private String shelfLocation;
+
+    @Version
+    private long version;
+}
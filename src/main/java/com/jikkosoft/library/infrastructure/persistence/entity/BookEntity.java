@@ -0,0 +1,80 @@
+package com.jikkosoft.library.infrastructure.persistence.entity;
+
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.JoinTable;
+import jakarta.persistence.ManyToMany;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.OrderColumn;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.SQLRestriction;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JPA mapping of the {@code books} table and its {@code book_authors} join table.
+ *
+ * Notes:
+ * - Both associations are lazy; queries choose a fetch plan through the entity graphs below.
+ * - Authors are batch-fetched, so touching the authors of a page of books costs one query
+ *   per {@value #AUTHOR_BATCH} books instead of one per book.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "books")
+@SQLRestriction("deleted_at IS NULL")
+@NamedEntityGraph(name = BookEntity.WITH_CATEGORY, attributeNodes = @NamedAttributeNode("category"))
+@NamedEntityGraph(name = BookEntity.DETAIL, attributeNodes = {
+        @NamedAttributeNode("category"),
+        @NamedAttributeNode("authors")
+})
+public class BookEntity extends AuditableEntity {
+
+    /** Fetches the category only (listings). */
+    public static final String WITH_CATEGORY = "Book.withCategory";
+    /** Fetches category and authors (single-book reads). */
+    public static final String DETAIL = "Book.detail";
+    static final int AUTHOR_BATCH = 50;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "book_seq")
+    @SequenceGenerator(name = "book_seq", sequenceName = "book_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 13)
+    private String isbn;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(name = "publication_year", nullable = false)
+    private int publicationYear;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "category_id", nullable = false)
+    private CategoryEntity category;
+
+    @ManyToMany(fetch = FetchType.LAZY, cascade = CascadeType.PERSIST)
+    @JoinTable(name = "book_authors",
+            joinColumns = @JoinColumn(name = "book_id"),
+            inverseJoinColumns = @JoinColumn(name = "author_id"))
+    @OrderColumn(name = "position")
+    @BatchSize(size = AUTHOR_BATCH)
+    private List<AuthorEntity> authors = new ArrayList<>();
+}
@@ -0,0 +1,39 @@
+package com.jikkosoft.library.infrastructure.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.SQLRestriction;
+
+/**
+ * JPA mapping of the {@code categories} table.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "categories")
+@SQLRestriction("deleted_at IS NULL")
+public class CategoryEntity extends AuditableEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "category_seq")
+    @SequenceGenerator(name = "category_seq", sequenceName = "category_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private String name;
+
+    @Column(name = "max_loan_days", nullable = false)
+    private int maxLoanDays;
+
+    @Column(name = "penalty_per_day", nullable = false)
+    private int penaltyPerDay;
+}
@@ -0,0 +1,51 @@
+package com.jikkosoft.library.infrastructure.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * JPA mapping of the {@code idempotency_keys} table.
+ *
+ * Notes:
+ * - Rows are read and written through JDBC by {@code JdbcIdempotencyRepository}; the mapping only
+ *   defines the schema.
+ * - The primary key on the client's key is what makes concurrent reservations exclusive.
+ * - {@code success} is {@code null} while the command runs.
+ * - {@code data} holds the JSON result as {@code text}, not a LOB, since it is bound and read as a string.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "idempotency_keys", indexes = @Index(name = "ix_idempotency_keys_expires_at", columnList = "expires_at"))
+public class IdempotencyKeyEntity {
+
+    @Id
+    @Column(name = "idempotency_key", length = 100)
+    private String key;
+
+    @Column(nullable = false, length = 64)
+    private String fingerprint;
+
+    private Boolean success;
+
+    @Column(length = 1000)
+    private String message;
+
+    @Column(columnDefinition = "text")
+    private String data;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
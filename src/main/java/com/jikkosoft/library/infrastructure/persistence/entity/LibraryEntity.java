@@ -0,0 +1,46 @@
+package com.jikkosoft.library.infrastructure.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.SQLRestriction;
+
+/**
+ * JPA mapping of the {@code libraries} table.
+ *
+ * Notes:
+ * - member_count and book_copy_count are maintained by the member and copy adapters, so a
+ *   Library is hydrated with its counts from this row alone.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "libraries")
+@SQLRestriction("deleted_at IS NULL")
+public class LibraryEntity extends AuditableEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "library_seq")
+    @SequenceGenerator(name = "library_seq", sequenceName = "library_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(nullable = false)
+    private String address;
+
+    @Column(name = "member_count", nullable = false)
+    private long memberCount;
+
+    @Column(name = "book_copy_count", nullable = false)
+    private long bookCopyCount;
+}
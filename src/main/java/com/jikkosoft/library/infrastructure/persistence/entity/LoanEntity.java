@@ -0,0 +1,88 @@
+package com.jikkosoft.library.infrastructure.persistence.entity;
+
+import com.jikkosoft.library.domain.enums.LoanStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.SQLRestriction;
+
+import java.time.LocalDate;
+
+/**
+ * JPA mapping of the {@code loans} table.
+ *
+ * Notes:
+ * - penalty_days stores the penalty computed when the loan was saved, so a member's historical
+ *   penalty total is a single SUM.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "loans", indexes = {
+        @Index(name = "ix_loans_member_status", columnList = "member_id, status"),
+        @Index(name = "ix_loans_status_due_date", columnList = "status, due_date")
+})
+@SQLRestriction("deleted_at IS NULL")
+@NamedEntityGraph(name = LoanEntity.SUMMARY,
+        attributeNodes = {
+                @NamedAttributeNode(value = "bookCopy", subgraph = "copy"),
+                @NamedAttributeNode("member")
+        },
+        subgraphs = {
+                @NamedSubgraph(name = "copy", attributeNodes = {
+                        @NamedAttributeNode(value = "book", subgraph = "book"),
+                        @NamedAttributeNode("library")
+                }),
+                @NamedSubgraph(name = "book", attributeNodes = @NamedAttributeNode("category"))
+        })
+public class LoanEntity extends AuditableEntity {
+
+    /** Fetches copy, book, category, library and member in one statement; authors stay lazy. */
+    public static final String SUMMARY = "Loan.summary";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "loan_seq")
+    @SequenceGenerator(name = "loan_seq", sequenceName = "loan_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "book_copy_id", nullable = false)
+    private BookCopyEntity bookCopy;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "member_id", nullable = false)
+    private MemberEntity member;
+
+    @Column(name = "loan_date", nullable = false)
+    private LocalDate loanDate;
+
+    @Column(name = "due_date", nullable = false)
+    private LocalDate dueDate;
+
+    @Column(name = "return_date")
+    private LocalDate returnDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private LoanStatus status;
+
+    @Column(name = "penalty_days", nullable = false)
+    private int penaltyDays;
+}
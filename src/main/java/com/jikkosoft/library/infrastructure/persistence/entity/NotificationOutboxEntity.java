@@ -0,0 +1,76 @@
+package com.jikkosoft.library.infrastructure.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * JPA mapping of the {@code notification_outbox} table.
+ *
+ * Notes:
+ * - Rows are written and drained through JDBC by {@code NotificationOutbox}; the mapping only
+ *   defines the schema.
+ * - {@code member_id} is not a foreign key: outbox rows may outlive the member they address.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "notification_outbox", indexes = {
+        @Index(name = "ix_notification_outbox_status_member", columnList = "status, member_id"),
+        @Index(name = "ix_notification_outbox_claim", columnList = "claim_token")
+})
+public class NotificationOutboxEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Column(name = "recipient_name")
+    private String recipientName;
+
+    @Column(nullable = false)
+    private String subject;
+
+    @Column(nullable = false, length = 4000)
+    private String body;
+
+    @Column(nullable = false, length = 20)
+    private String status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+}
@@ -0,0 +1,81 @@
+package com.jikkosoft.library.infrastructure.persistence.entity;
+
+import com.jikkosoft.library.domain.enums.ReservationStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.SQLRestriction;
+
+import java.time.LocalDate;
+
+/**
+ * JPA mapping of the {@code reservations} table.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "reservations", indexes = @Index(name = "ix_reservations_status", columnList = "status"))
+@SQLRestriction("deleted_at IS NULL")
+@NamedEntityGraph(name = ReservationEntity.DETAIL,
+        attributeNodes = {
+                @NamedAttributeNode(value = "bookCopy", subgraph = "copy"),
+                @NamedAttributeNode(value = "heldCopy", subgraph = "copy"),
+                @NamedAttributeNode("member")
+        },
+        subgraphs = {
+                @NamedSubgraph(name = "copy", attributeNodes = {
+                        @NamedAttributeNode(value = "book", subgraph = "book"),
+                        @NamedAttributeNode("library")
+                }),
+                @NamedSubgraph(name = "book", attributeNodes = @NamedAttributeNode("category"))
+        })
+public class ReservationEntity extends AuditableEntity {
+
+    /** Fetches copy, held copy, book, category, library and member; authors stay lazy. */
+    public static final String DETAIL = "Reservation.detail";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reservation_seq")
+    @SequenceGenerator(name = "reservation_seq", sequenceName = "reservation_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "book_copy_id", nullable = false)
+    private BookCopyEntity bookCopy;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "member_id", nullable = false)
+    private MemberEntity member;
+
+    /** Copy set aside for the member, while the reservation waits for pickup. */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "held_copy_id")
+    private BookCopyEntity heldCopy;
+
+    @Column(name = "reserved_at", nullable = false)
+    private LocalDate reservedAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDate expiresAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ReservationStatus status;
+}
@@ -0,0 +1,37 @@
+package com.jikkosoft.library.infrastructure.persistence.entity;
+
+import com.jikkosoft.library.domain.enums.RoleType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.SQLRestriction;
+
+/**
+ * JPA mapping of the {@code roles} table.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "roles")
+@SQLRestriction("deleted_at IS NULL")
+public class RoleEntity extends AuditableEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "role_seq")
+    @SequenceGenerator(name = "role_seq", sequenceName = "role_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "role_type", nullable = false, unique = true, length = 30)
+    private RoleType roleType;
+}
@@ -0,0 +1,27 @@
+package com.jikkosoft.library.infrastructure.persistence.projection;
+
+import com.jikkosoft.library.application.dto.author.dto.AuthorSummaryDto;
+
+import java.time.LocalDate;
+
+/**
+ * One author of one book, with the author's book count, for {@link BookSummaryRow}s.
+ */
+public record BookAuthorRow(
+        Long bookId,
+        Long id,
+        String firstName,
+        String lastName,
+        String nationality,
+        LocalDate dateOfBirth,
+        String email,
+        String affiliation,
+        String website,
+        long bookCount
+) {
+
+    public AuthorSummaryDto toDto() {
+        return new AuthorSummaryDto(id, firstName + " " + lastName, nationality, dateOfBirth,
+                email, affiliation, website, (int) bookCount);
+    }
+}
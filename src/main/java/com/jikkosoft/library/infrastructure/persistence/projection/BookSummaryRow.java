@@ -0,0 +1,27 @@
+package com.jikkosoft.library.infrastructure.persistence.projection;
+
+import com.jikkosoft.library.application.dto.author.dto.AuthorSummaryDto;
+import com.jikkosoft.library.application.dto.book.dto.BookSummaryDto;
+import com.jikkosoft.library.application.dto.category.dto.CategorySummaryDto;
+
+import java.util.List;
+
+/**
+ * Book and category columns of a {@link BookSummaryDto}, selected with a JPQL constructor expression.
+ */
+public record BookSummaryRow(
+        Long id,
+        String title,
+        int publicationYear,
+        String isbn,
+        Long categoryId,
+        String categoryName,
+        int maxLoanDays,
+        int penaltyPerDay
+) {
+
+    public BookSummaryDto toDto(List<AuthorSummaryDto> authors) {
+        return new BookSummaryDto(id, title, publicationYear, isbn, authors,
+                new CategorySummaryDto(categoryId, categoryName, maxLoanDays, penaltyPerDay));
+    }
+}
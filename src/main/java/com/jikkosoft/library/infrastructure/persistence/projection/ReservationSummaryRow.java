@@ -0,0 +1,25 @@
+package com.jikkosoft.library.infrastructure.persistence.projection;
+
+import com.jikkosoft.library.application.dto.reservation.dto.ReservationSummaryDto;
+import com.jikkosoft.library.domain.enums.ReservationStatus;
+
+import java.time.LocalDate;
+
+/**
+ * Columns of a {@link ReservationSummaryDto}; reservation dates are stored as dates and
+ * exposed at the start of the day.
+ */
+public record ReservationSummaryRow(
+        Long id,
+        Long memberId,
+        Long bookId,
+        ReservationStatus status,
+        LocalDate reservedAt,
+        LocalDate expiresAt
+) {
+
+    public ReservationSummaryDto toDto() {
+        return new ReservationSummaryDto(id, memberId, bookId, status.name(),
+                reservedAt.atStartOfDay(), expiresAt.atStartOfDay());
+    }
+}
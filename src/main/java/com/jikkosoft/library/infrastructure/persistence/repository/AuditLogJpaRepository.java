@@ -0,0 +1,24 @@
+package com.jikkosoft.library.infrastructure.persistence.repository;
+
+import com.jikkosoft.library.infrastructure.persistence.entity.AuditLogEntity;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+/**
+ * Spring Data repository for {@link AuditLogEntity}; backs the audit log port.
+ */
+public interface AuditLogJpaRepository extends JpaRepository<AuditLogEntity, Long> {
+
+    @EntityGraph(AuditLogEntity.WITH_ACTOR)
+    Optional<AuditLogEntity> findWithActorById(Long id);
+
+    @EntityGraph(AuditLogEntity.WITH_ACTOR)
+    Page<AuditLogEntity> findAllBy(Pageable pageable);
+
+    @EntityGraph(AuditLogEntity.WITH_ACTOR)
+    Page<AuditLogEntity> findByActionAndPerformedById(String action, Long performedById, Pageable pageable);
+}
@@ -0,0 +1,10 @@
+package com.jikkosoft.library.infrastructure.persistence.repository;
+
+import com.jikkosoft.library.infrastructure.persistence.entity.AuthorEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * Spring Data repository for {@link AuthorEntity}; authors are resolved in bulk when books are saved.
+ */
+public interface AuthorJpaRepository extends JpaRepository<AuthorEntity, Long> {
+}
@@ -0,0 +1,62 @@
+package com.jikkosoft.library.infrastructure.persistence.repository;
+
+import com.jikkosoft.library.application.dto.bookcopy.dto.BookCopySummaryDto;
+import com.jikkosoft.library.domain.enums.BookStatus;
+import com.jikkosoft.library.infrastructure.persistence.entity.BookCopyEntity;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Spring Data repository for {@link BookCopyEntity}.
+ *
+ * Notes:
+ * - Finders fetch the book, its category and the library through the {@code BookCopy.detail} graph.
+ */
+public interface BookCopyJpaRepository extends JpaRepository<BookCopyEntity, Long> {
+
+    @EntityGraph(BookCopyEntity.DETAIL)
+    Optional<BookCopyEntity> findDetailById(Long id);
+
+    @EntityGraph(BookCopyEntity.DETAIL)
+    List<BookCopyEntity> findByIdIn(Collection<Long> ids);
+
+    @EntityGraph(BookCopyEntity.DETAIL)
+    Page<BookCopyEntity> findByBookIdAndLibraryIdAndStatus(Long bookId, Long libraryId, BookStatus status, Pageable pageable);
+
+    @EntityGraph(BookCopyEntity.DETAIL)
+    Page<BookCopyEntity> findByBookId(Long bookId, Pageable pageable);
+
+    @EntityGraph(BookCopyEntity.DETAIL)
+    Page<BookCopyEntity> findByBookIdAndStatus(Long bookId, BookStatus status, Pageable pageable);
+
+    @EntityGraph(BookCopyEntity.DETAIL)
+    Page<BookCopyEntity> findByLibraryId(Long libraryId, Pageable pageable);
+
+    @Query("select c.id as copyId, c.book.id as bookId, c.library.id as libraryId, c.status as status from BookCopyEntity c")
+    Stream<StatusRowView> streamStatusRows();
+
+    interface StatusRowView {
+        Long getCopyId();
+        Long getBookId();
+        Long getLibraryId();
+        BookStatus getStatus();
+    }
+
+    @Query(value = """
+            select new com.jikkosoft.library.application.dto.bookcopy.dto.BookCopySummaryDto(
+                c.id, c.barcode, cast(c.status as String), c.shelfLocation, c.copyNumber,
+                b.id, b.title, b.isbn, l.id, l.name)
+            from BookCopyEntity c join c.book b join c.library l
+            where l.id = :libraryId
+            """,
+            countQuery = "select count(c) from BookCopyEntity c join c.book b join c.library l where l.id = :libraryId")
+    Page<BookCopySummaryDto> findSummariesByLibraryId(Long libraryId, Pageable pageable);
+}
@@ -0,0 +1,75 @@
+package com.jikkosoft.library.infrastructure.persistence.repository;
+
+import com.jikkosoft.library.infrastructure.persistence.entity.BookEntity;
+import com.jikkosoft.library.infrastructure.persistence.projection.BookAuthorRow;
+import com.jikkosoft.library.infrastructure.persistence.projection.BookSummaryRow;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Spring Data repository for {@link BookEntity}.
+ *
+ * Notes:
+ * - Finders join the category; authors are batch-fetched when the adapter initializes them.
+ */
+public interface BookJpaRepository extends JpaRepository<BookEntity, Long> {
+
+    @EntityGraph(BookEntity.DETAIL)
+    Optional<BookEntity> findWithAuthorsById(Long id);
+
+    @EntityGraph(BookEntity.DETAIL)
+    Optional<BookEntity> findByIsbn(String isbn);
+
+    @EntityGraph(BookEntity.WITH_CATEGORY)
+    Page<BookEntity> findByTitleContainingIgnoreCase(String text, Pageable pageable);
+
+    @EntityGraph(BookEntity.WITH_CATEGORY)
+    Page<BookEntity> findAllBy(Pageable pageable);
+
+    @EntityGraph(BookEntity.WITH_CATEGORY)
+    List<BookEntity> findByIdIn(Collection<Long> ids);
+
+    @Modifying
+    @Query("update BookEntity b set b.deletedAt = :at where b.id = :id")
+    int markDeleted(Long id, LocalDateTime at);
+
+    @Query(value = """
+            select new com.jikkosoft.library.infrastructure.persistence.projection.BookSummaryRow(
+                b.id, b.title, b.publicationYear, b.isbn, c.id, c.name, c.maxLoanDays, c.penaltyPerDay)
+            from BookEntity b join b.category c
+            """,
+            countQuery = "select count(b) from BookEntity b join b.category c")
+    Page<BookSummaryRow> findSummaries(Pageable pageable);
+
+    @Query(value = """
+            select new com.jikkosoft.library.infrastructure.persistence.projection.BookSummaryRow(
+                b.id, b.title, b.publicationYear, b.isbn, c.id, c.name, c.maxLoanDays, c.penaltyPerDay)
+            from BookEntity b join b.category c
+            where lower(b.title) like lower(concat('%', :text, '%'))
+            """,
+            countQuery = """
+            select count(b) from BookEntity b join b.category c
+            where lower(b.title) like lower(concat('%', :text, '%'))
+            """)
+    Page<BookSummaryRow> findSummariesByTitle(String text, Pageable pageable);
+
+    /** Authors of several books in their stored order, each with the number of books they wrote. */
+    @Query("""
+            select new com.jikkosoft.library.infrastructure.persistence.projection.BookAuthorRow(
+                b.id, a.id, a.firstName, a.lastName, a.nationality, a.dateOfBirth, a.email, a.affiliation, a.website,
+                (select count(o) from BookEntity o join o.authors oa where oa.id = a.id))
+            from BookEntity b join b.authors a
+            where b.id in :bookIds
+            order by b.id, index(a)
+            """)
+    List<BookAuthorRow> findAuthorRows(Collection<Long> bookIds);
+}
@@ -0,0 +1,26 @@
+package com.jikkosoft.library.infrastructure.persistence.repository;
+
+import com.jikkosoft.library.application.dto.category.dto.CategorySummaryDto;
+import com.jikkosoft.library.infrastructure.persistence.entity.CategoryEntity;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Optional;
+
+/**
+ * Spring Data repository for {@link CategoryEntity}.
+ */
+public interface CategoryJpaRepository extends JpaRepository<CategoryEntity, Long> {
+
+    Optional<CategoryEntity> findByNameIgnoreCase(String name);
+
+    @Query(value = """
+            select new com.jikkosoft.library.application.dto.category.dto.CategorySummaryDto(
+                c.id, c.name, c.maxLoanDays, c.penaltyPerDay)
+            from CategoryEntity c
+            """,
+            countQuery = "select count(c) from CategoryEntity c")
+    Page<CategorySummaryDto> findSummaries(Pageable pageable);
+}
@@ -0,0 +1,42 @@
+package com.jikkosoft.library.infrastructure.persistence.repository;
+
+import com.jikkosoft.library.application.dto.library.dto.LibrarySummaryDto;
+import com.jikkosoft.library.infrastructure.persistence.entity.LibraryEntity;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Spring Data repository for {@link LibraryEntity}.
+ *
+ * Notes:
+ * - Member and copy counters are adjusted in place, without loading the library.
+ */
+public interface LibraryJpaRepository extends JpaRepository<LibraryEntity, Long> {
+
+    Optional<LibraryEntity> findFirstByNameIgnoreCase(String name);
+
+    @Modifying
+    @Query("update LibraryEntity l set l.memberCount = l.memberCount + :delta where l.id = :id")
+    int adjustMemberCount(Long id, long delta);
+
+    @Modifying
+    @Query("update LibraryEntity l set l.bookCopyCount = l.bookCopyCount + :delta where l.id = :id")
+    int adjustBookCopyCount(Long id, long delta);
+
+    @Modifying
+    @Query("update LibraryEntity l set l.deletedAt = :at where l.id = :id")
+    int markDeleted(Long id, LocalDateTime at);
+
+    @Query(value = """
+            select new com.jikkosoft.library.application.dto.library.dto.LibrarySummaryDto(l.id, l.name, l.address)
+            from LibraryEntity l
+            """,
+            countQuery = "select count(l) from LibraryEntity l")
+    Page<LibrarySummaryDto> findSummaries(Pageable pageable);
+}
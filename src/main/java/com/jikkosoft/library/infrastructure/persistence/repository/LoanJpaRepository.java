@@ -0,0 +1,92 @@
+package com.jikkosoft.library.infrastructure.persistence.repository;
+
+import com.jikkosoft.library.application.dto.loan.dto.LoanSummaryDto;
+import com.jikkosoft.library.domain.enums.LoanStatus;
+import com.jikkosoft.library.infrastructure.persistence.entity.LoanEntity;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Spring Data repository for {@link LoanEntity}.
+ *
+ * Notes:
+ * - Finders fetch copy, book, category, library and member through the {@code Loan.summary} graph.
+ * - Aggregates (returned totals, counts per book/member) are computed in the database.
+ */
+public interface LoanJpaRepository extends JpaRepository<LoanEntity, Long> {
+
+    @EntityGraph(LoanEntity.SUMMARY)
+    Optional<LoanEntity> findSummaryById(Long id);
+
+    @EntityGraph(LoanEntity.SUMMARY)
+    List<LoanEntity> findByIdIn(Collection<Long> ids);
+
+    @EntityGraph(LoanEntity.SUMMARY)
+    List<LoanEntity> findByMemberIdAndStatus(Long memberId, LoanStatus status);
+
+    @EntityGraph(LoanEntity.SUMMARY)
+    Page<LoanEntity> findByMemberIdAndStatus(Long memberId, LoanStatus status, Pageable pageable);
+
+    /** Open (ACTIVE/OVERDUE) loans of several members, for member hydration. */
+    @EntityGraph(LoanEntity.SUMMARY)
+    List<LoanEntity> findByMemberIdInAndStatusIn(Collection<Long> memberIds, Collection<LoanStatus> statuses);
+
+    /** Number and penalty total of the RETURNED loans of several members. */
+    @Query("""
+            select l.member.id as memberId, count(l) as returnedLoans, coalesce(sum(l.penaltyDays), 0) as penaltyDays
+            from LoanEntity l
+            where l.member.id in :memberIds and l.status = com.jikkosoft.library.domain.enums.LoanStatus.RETURNED
+            group by l.member.id
+            """)
+    List<ReturnedTotals> sumReturnedByMemberIds(Collection<Long> memberIds);
+
+    @Query("select l.bookCopy.book.id, count(l) from LoanEntity l group by l.bookCopy.book.id")
+    List<Object[]> countGroupedByBook();
+
+    @Query("select l.member.id, count(l) from LoanEntity l group by l.member.id")
+    List<Object[]> countGroupedByMember();
+
+    @Query("""
+            select l.id as loanId, l.dueDate as dueDate from LoanEntity l
+            where l.status = com.jikkosoft.library.domain.enums.LoanStatus.ACTIVE
+            """)
+    Stream<DueDateView> streamActiveDueDates();
+
+    @Modifying
+    @Query("update LoanEntity l set l.deletedAt = :at where l.id = :id")
+    int markDeleted(Long id, LocalDateTime at);
+
+    interface ReturnedTotals {
+        Long getMemberId();
+        long getReturnedLoans();
+        long getPenaltyDays();
+    }
+
+    interface DueDateView {
+        Long getLoanId();
+        LocalDate getDueDate();
+    }
+
+    @Query(value = """
+            select new com.jikkosoft.library.application.dto.loan.dto.LoanSummaryDto(
+                l.id, concat(m.firstName, ' ', m.lastName), b.title, cast(l.status as String), l.loanDate, l.dueDate)
+            from LoanEntity l join l.member m join l.bookCopy c join c.book b
+            where m.id = :memberId and l.status = :status
+            """,
+            countQuery = """
+            select count(l) from LoanEntity l join l.member m join l.bookCopy c join c.book b
+            where m.id = :memberId and l.status = :status
+            """)
+    Page<LoanSummaryDto> findSummariesByMemberIdAndStatus(Long memberId, LoanStatus status, Pageable pageable);
+}
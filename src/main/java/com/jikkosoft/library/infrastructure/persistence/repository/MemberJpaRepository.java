@@ -0,0 +1,58 @@
+package com.jikkosoft.library.infrastructure.persistence.repository;
+
+import com.jikkosoft.library.application.dto.member.dto.MemberSummaryDto;
+import com.jikkosoft.library.infrastructure.persistence.entity.MemberEntity;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Spring Data repository for {@link MemberEntity}; library membership is queried through the join table.
+ */
+public interface MemberJpaRepository extends JpaRepository<MemberEntity, Long> {
+
+    @Query("select m from MemberEntity m join m.libraries l where lower(m.email) = lower(:email) and l.id = :libraryId")
+    Optional<MemberEntity> findByEmailInLibrary(String email, Long libraryId);
+
+    @Query("""
+            select m from MemberEntity m
+            where lower(m.firstName) like lower(concat('%', :name, '%'))
+               or lower(m.lastName) like lower(concat('%', :name, '%'))
+            """)
+    Page<MemberEntity> findByName(String name, Pageable pageable);
+
+    @Query(value = "select m from MemberEntity m join m.libraries l where l.id = :libraryId",
+            countQuery = "select count(m) from MemberEntity m join m.libraries l where l.id = :libraryId")
+    Page<MemberEntity> findByLibraryId(Long libraryId, Pageable pageable);
+
+    @Query("select count(m) > 0 from MemberEntity m join m.libraries l where m.id = :memberId and l.id = :libraryId")
+    boolean isInLibrary(Long memberId, Long libraryId);
+
+    @Modifying
+    @Query("update MemberEntity m set m.deletedAt = :at where m.id = :id")
+    int markDeleted(Long id, LocalDateTime at);
+
+    @Query(value = """
+            select new com.jikkosoft.library.application.dto.member.dto.MemberSummaryDto(
+                m.id, concat(m.firstName, ' ', m.lastName), m.email, true,
+                cast(coalesce((select sum(l.penaltyDays) from LoanEntity l where l.member.id = m.id), 0) as Integer))
+            from MemberEntity m
+            """,
+            countQuery = "select count(m) from MemberEntity m")
+    Page<MemberSummaryDto> findSummaries(Pageable pageable);
+
+    @Query(value = """
+            select new com.jikkosoft.library.application.dto.member.dto.MemberSummaryDto(
+                m.id, concat(m.firstName, ' ', m.lastName), m.email, true,
+                cast(coalesce((select sum(l.penaltyDays) from LoanEntity l where l.member.id = m.id), 0) as Integer))
+            from MemberEntity m join m.libraries lib
+            where lib.id = :libraryId
+            """,
+            countQuery = "select count(m) from MemberEntity m join m.libraries lib where lib.id = :libraryId")
+    Page<MemberSummaryDto> findSummariesByLibraryId(Long libraryId, Pageable pageable);
+}
@@ -0,0 +1,57 @@
+package com.jikkosoft.library.infrastructure.persistence.repository;
+
+import com.jikkosoft.library.domain.enums.ReservationStatus;
+import com.jikkosoft.library.infrastructure.persistence.entity.ReservationEntity;
+import com.jikkosoft.library.infrastructure.persistence.projection.ReservationSummaryRow;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Spring Data repository for {@link ReservationEntity}.
+ */
+public interface ReservationJpaRepository extends JpaRepository<ReservationEntity, Long> {
+
+    @EntityGraph(ReservationEntity.DETAIL)
+    Optional<ReservationEntity> findDetailById(Long id);
+
+    @EntityGraph(ReservationEntity.DETAIL)
+    List<ReservationEntity> findByIdIn(Collection<Long> ids);
+
+    @EntityGraph(ReservationEntity.DETAIL)
+    List<ReservationEntity> findByBookCopyBookIdAndStatusOrderByReservedAtAscIdAsc(Long bookId, ReservationStatus status);
+
+    @EntityGraph(ReservationEntity.DETAIL)
+    Optional<ReservationEntity> findFirstByHeldCopyIdAndStatus(Long heldCopyId, ReservationStatus status);
+
+    @EntityGraph(ReservationEntity.DETAIL)
+    List<ReservationEntity> findByStatusAndReservedAtBefore(ReservationStatus status, LocalDate threshold);
+
+    @EntityGraph(ReservationEntity.DETAIL)
+    Page<ReservationEntity> findAllBy(Pageable pageable);
+
+    @EntityGraph(ReservationEntity.DETAIL)
+    Page<ReservationEntity> findByStatus(ReservationStatus status, Pageable pageable);
+
+    @Modifying
+    @Query("update ReservationEntity r set r.deletedAt = :at where r.id = :id")
+    int markDeleted(Long id, LocalDateTime at);
+
+    @Query(value = """
+            select new com.jikkosoft.library.infrastructure.persistence.projection.ReservationSummaryRow(
+                r.id, r.member.id, c.book.id, r.status, r.reservedAt, r.expiresAt)
+            from ReservationEntity r join r.bookCopy c
+            where r.status = :status
+            """,
+            countQuery = "select count(r) from ReservationEntity r join r.bookCopy c where r.status = :status")
+    Page<ReservationSummaryRow> findSummariesByStatus(ReservationStatus status, Pageable pageable);
+}
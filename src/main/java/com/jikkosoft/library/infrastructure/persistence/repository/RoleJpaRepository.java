@@ -0,0 +1,26 @@
+package com.jikkosoft.library.infrastructure.persistence.repository;
+
+import com.jikkosoft.library.infrastructure.persistence.entity.RoleEntity;
+import com.jikkosoft.library.domain.enums.RoleType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Spring Data repository for {@link RoleEntity}.
+ */
+public interface RoleJpaRepository extends JpaRepository<RoleEntity, Long> {
+
+    Optional<RoleEntity> findByRoleType(RoleType roleType);
+
+    Page<RoleEntity> findByRoleType(RoleType roleType, Pageable pageable);
+
+    @Modifying
+    @Query("update RoleEntity r set r.deletedAt = :at where r.id = :id")
+    int markDeleted(Long id, LocalDateTime at);
+}
@@ -0,0 +1,30 @@
+package com.jikkosoft.library.infrastructure.persistence.repository;
+
+import com.jikkosoft.library.infrastructure.persistence.entity.UserEntity;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Spring Data repository for {@link UserEntity}; roles are fetched with the {@code User.withRoles} graph.
+ */
+public interface UserJpaRepository extends JpaRepository<UserEntity, Long> {
+
+    @EntityGraph(UserEntity.WITH_ROLES)
+    Optional<UserEntity> findWithRolesById(Long id);
+
+    @EntityGraph(UserEntity.WITH_ROLES)
+    Optional<UserEntity> findByEmailIgnoreCase(String email);
+
+    Page<UserEntity> findByEmailContainingIgnoreCase(String email, Pageable pageable);
+
+    @Modifying
+    @Query("update UserEntity u set u.deletedAt = :at where u.id = :id")
+    int markDeleted(Long id, LocalDateTime at);
+}
@@ -0,0 +1,90 @@
+package com.jikkosoft.library.infrastructure.popularity;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Count-min sketch over 64-bit hashed keys.
+ *
+ * Notes:
+ * - {@code depth} rows of {@code width} counters; row indexes are derived from one 64-bit hash by
+ *   double hashing. With n counted events an estimate exceeds the true count by at most
+ *   {@code e * n / width} with probability {@code 1 - e^-depth}.
+ * - Updates are conservative (only the counters at the current minimum are raised), which keeps
+ *   estimates upper bounds while cutting the overestimation of rare keys.
+ * - Not thread-safe.
+ */
+final class CountMinSketch {
+
+    private final int width;
+    private final int depth;
+    private final int[] counters;
+
+    CountMinSketch(int width, int depth) {
+        if (width <= 0 || Integer.bitCount(width) != 1) {
+            throw new IllegalArgumentException("Sketch width must be a power of two");
+        }
+        if (depth <= 0) throw new IllegalArgumentException("Sketch depth must be greater than zero");
+        this.width = width;
+        this.depth = depth;
+        this.counters = new int[width * depth];
+    }
+
+    /**
+     * Counts a key.
+     *
+     * @return the estimate of the key after the update
+     */
+    int add(long hash, int count) {
+        int estimate = estimate(hash) + count;
+        for (int row = 0; row < depth; row++) {
+            int i = index(row, hash);
+            if (counters[i] < estimate) counters[i] = estimate;
+        }
+        return estimate;
+    }
+
+    /** Upper bound of the number of times the key was counted. */
+    int estimate(long hash) {
+        int min = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, counters[index(row, hash)]);
+        }
+        return min;
+    }
+
+    void writeTo(DataOutput out) throws IOException {
+        for (int counter : counters) out.writeInt(counter);
+    }
+
+    static CountMinSketch readFrom(DataInput in, int width, int depth) throws IOException {
+        CountMinSketch sketch = new CountMinSketch(width, depth);
+        for (int i = 0; i < sketch.counters.length; i++) sketch.counters[i] = in.readInt();
+        return sketch;
+    }
+
+    private int index(int row, long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        return row * width + ((h1 + row * h2) & (width - 1));
+    }
+
+    /** Mixes the parts of a key into a well-distributed 64-bit hash (MurmurHash3 finalizer). */
+    static long hash(long... parts) {
+        long h = 0x9E3779B97F4A7C15L;
+        for (long part : parts) {
+            h = mix(h ^ part);
+        }
+        return h;
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,10 @@
+package com.jikkosoft.library.infrastructure.popularity;
+
+/**
+ * A book and its estimated number of loans within the queried window.
+ *
+ * @param bookId unique identifier of the Book
+ * @param loans  estimated loans (an upper bound of the true count)
+ */
+public record PopularBook(long bookId, long loans) {
+}
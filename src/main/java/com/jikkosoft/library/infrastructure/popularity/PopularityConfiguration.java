@@ -0,0 +1,47 @@
+package com.jikkosoft.library.infrastructure.popularity;
+
+import com.jikkosoft.library.application.port.persistence.LoanRepository;
+import com.jikkosoft.library.application.port.service.ClockPort;
+import com.jikkosoft.library.application.port.tx.TransactionalPort;
+import com.jikkosoft.library.infrastructure.config.PortDecoratorPostProcessor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Wires the popular-books rankings when {@code library.popularity.enabled=true}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "library.popularity", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(PopularityProperties.class)
+public class PopularityConfiguration {
+
+    @Bean
+    public PopularityTracker popularityTracker(PopularityProperties properties) {
+        return new PopularityTracker(properties.bucket(), properties.retention(), properties.sketchWidth(),
+                properties.sketchDepth(), properties.candidates());
+    }
+
+    @Bean
+    public PopularitySnapshotStore popularitySnapshotStore(PopularityProperties properties) {
+        return new PopularitySnapshotStore(properties.snapshotPath());
+    }
+
+    @Bean
+    public PopularityService popularityService(PopularityTracker tracker, PopularitySnapshotStore store,
+                                               ClockPort clock) {
+        return new PopularityService(tracker, store, clock);
+    }
+
+    @Bean
+    public static PortDecoratorPostProcessor<LoanRepository> popularityLoanDecorator(
+            ObjectProvider<PopularityService> popularity, ObjectProvider<TransactionalPort> transactionalPort) {
+        return new PortDecoratorPostProcessor<>(LoanRepository.class,
+                delegate -> new PopularityLoanRepository(delegate, popularity.getObject(),
+                        transactionalPort.getObject()),
+                Ordered.HIGHEST_PRECEDENCE + 900);
+    }
+}
@@ -0,0 +1,38 @@
+package com.jikkosoft.library.infrastructure.popularity;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Serves "most borrowed" rankings when {@code library.popularity.enabled=true}.
+ *
+ * Notes:
+ * - {@code window} is an ISO-8601 duration (default {@code P7D}, the last seven days).
+ * - Loan counts are estimates: they never undercount, and may slightly overcount rare books.
+ */
+@RestController
+@RequestMapping("/api/popularity")
+@ConditionalOnProperty(prefix = "library.popularity", name = "enabled", havingValue = "true")
+public class PopularityController {
+
+    private final PopularityService popularityService;
+
+    public PopularityController(PopularityService popularityService) {
+        this.popularityService = popularityService;
+    }
+
+    @GetMapping("/libraries/{libraryId}/books")
+    public List<PopularBook> topBooks(@PathVariable Long libraryId,
+                                      @RequestParam(required = false) Long categoryId,
+                                      @RequestParam(defaultValue = "P7D") Duration window,
+                                      @RequestParam(defaultValue = "10") int limit) {
+        return popularityService.topBooks(libraryId, categoryId, limit, window);
+    }
+}
@@ -0,0 +1,50 @@
+package com.jikkosoft.library.infrastructure.popularity;
+
+import com.jikkosoft.library.application.port.persistence.LoanRepository;
+import com.jikkosoft.library.application.port.tx.TransactionalPort;
+import com.jikkosoft.library.domain.model.Loan;
+import com.jikkosoft.library.infrastructure.config.ForwardingLoanRepository;
+
+import java.util.List;
+
+/**
+ * LoanRepository decorator that feeds newly persisted loans to the {@link PopularityService}.
+ *
+ * Notes:
+ * - Loans are counted only once the transaction that inserted them commits, so checkout
+ *   retries and rolled-back bulk checkouts are never counted.
+ */
+public class PopularityLoanRepository extends ForwardingLoanRepository {
+
+    private final PopularityService popularity;
+    private final TransactionalPort transactionalPort;
+
+    public PopularityLoanRepository(LoanRepository delegate, PopularityService popularity,
+                                    TransactionalPort transactionalPort) {
+        super(delegate);
+        this.popularity = popularity;
+        this.transactionalPort = transactionalPort;
+    }
+
+    @Override
+    public Loan save(Loan loan) {
+        boolean created = loan.getId() == null;
+        Loan saved = delegate.save(loan);
+        if (created) countAfterCommit(List.of(loan));
+        return saved;
+    }
+
+    @Override
+    public List<Loan> saveAll(List<Loan> loans) {
+        List<Loan> created = loans.stream().filter(loan -> loan.getId() == null).toList();
+        List<Loan> saved = delegate.saveAll(loans);
+        if (!created.isEmpty()) countAfterCommit(created);
+        return saved;
+    }
+
+    /** Resolves the counted IDs now, while the loans' associations are still loadable. */
+    private void countAfterCommit(List<Loan> loans) {
+        List<PopularityService.LoanedBook> books = loans.stream().map(PopularityService.LoanedBook::of).toList();
+        transactionalPort.afterCommit(() -> books.forEach(popularity::recordLoan));
+    }
+}
@@ -0,0 +1,41 @@
+package com.jikkosoft.library.infrastructure.popularity;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuration of the popular-books rankings ({@code library.popularity.*}).
+ *
+ * @param enabled          whether loans are tracked and rankings are served
+ * @param bucket           granularity of the sliding windows
+ * @param retention        longest window that can be queried
+ * @param sketchWidth      counters per sketch row (power of two); bounds the overestimation
+ * @param sketchDepth      sketch rows; bounds the probability of overestimating
+ * @param candidates       books tracked per library/category and bucket; the largest query limit
+ * @param snapshotPath     file holding the persisted rankings
+ * @param snapshotInterval how often changed rankings are written back to disk
+ */
+@ConfigurationProperties(prefix = "library.popularity")
+public record PopularityProperties(
+        boolean enabled,
+        Duration bucket,
+        Duration retention,
+        Integer sketchWidth,
+        Integer sketchDepth,
+        Integer candidates,
+        Path snapshotPath,
+        Duration snapshotInterval
+) {
+
+    public PopularityProperties {
+        bucket = bucket != null ? bucket : Duration.ofHours(1);
+        retention = retention != null ? retention : Duration.ofDays(7);
+        sketchWidth = sketchWidth != null ? sketchWidth : 4096;
+        sketchDepth = sketchDepth != null ? sketchDepth : 4;
+        candidates = candidates != null ? candidates : 50;
+        snapshotPath = snapshotPath != null ? snapshotPath : Path.of("data", "popularity", "popularity.snap");
+        snapshotInterval = snapshotInterval != null ? snapshotInterval : Duration.ofMinutes(5);
+    }
+}
@@ -0,0 +1,91 @@
+package com.jikkosoft.library.infrastructure.popularity;
+
+import com.jikkosoft.library.application.port.service.ClockPort;
+import com.jikkosoft.library.domain.model.Book;
+import com.jikkosoft.library.domain.model.Loan;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Feeds loans into the {@link PopularityTracker} and answers "most borrowed" queries from memory.
+ *
+ * Responsibilities:
+ * - Restores the last snapshot on startup, before any loan is recorded, so none is overwritten.
+ * - Counts the loans handed over by {@link PopularityLoanRepository} once their transaction commits.
+ * - Periodically writes the tracker back when it changed, and once more on shutdown.
+ *
+ * Notes:
+ * - Loans recorded while the application was down are not replayed; rankings are a
+ *   best-effort view, the loans table remains the source of truth.
+ */
+@Slf4j
+public class PopularityService {
+
+    private final PopularityTracker tracker;
+    private final PopularitySnapshotStore store;
+    private final ClockPort clock;
+
+    public PopularityService(PopularityTracker tracker, PopularitySnapshotStore store, ClockPort clock) {
+        this.tracker = tracker;
+        this.store = store;
+        this.clock = clock;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (store.load(tracker, clock.now())) {
+            log.info("Popularity rankings restored from snapshot");
+        }
+    }
+
+    /**
+     * Counts one committed loan of a book, now.
+     *
+     * @param loaned book, category and library of the loan
+     */
+    public void recordLoan(LoanedBook loaned) {
+        if (loaned.libraryId() == null || loaned.bookId() == null) return;
+        tracker.record(loaned.libraryId(), loaned.categoryId(), loaned.bookId(), clock.now());
+    }
+
+    /**
+     * Returns the most borrowed books of a library, optionally within one category.
+     *
+     * @param libraryId  library to rank
+     * @param categoryId category to rank (null for the whole library)
+     * @param limit      maximum number of books
+     * @param window     how far back loans are counted
+     * @return books, most borrowed first
+     */
+    public List<PopularBook> topBooks(Long libraryId, Long categoryId, int limit, Duration window) {
+        if (libraryId == null) throw new IllegalArgumentException("Library ID is required");
+        return tracker.top(libraryId, categoryId, limit, window, clock.now());
+    }
+
+    @Scheduled(fixedDelayString = "${library.popularity.snapshot-interval:PT5M}")
+    public void snapshotIfDirty() {
+        if (tracker.isDirty()) {
+            store.save(tracker);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        snapshotIfDirty();
+    }
+
+    /** The ranked identifiers of a loan, captured while its associations are still loadable. */
+    public record LoanedBook(Long libraryId, Long categoryId, Long bookId) {
+
+        public static LoanedBook of(Loan loan) {
+            Book book = loan.getBookCopy().getBook();
+            return new LoanedBook(loan.getBookCopy().getLibrary().getId(),
+                    book.getCategory() != null ? book.getCategory().getId() : null, book.getId());
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.jikkosoft.library.infrastructure.popularity;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+
+/**
+ * Persists a {@link PopularityTracker} so rankings survive restarts.
+ *
+ * Format (big-endian):
+ * - int magic, int version
+ * - long bucketSeconds, int width, int depth, int candidates
+ * - int bucketCount, then bucketCount x (long index, depth x width int counters,
+ *   int groupCount, groupCount x (long libraryId, long categoryId, int n, n x (long bookId, long count)))
+ *
+ * Notes:
+ * - Snapshots are written to a temporary file and atomically moved into place, so a crash
+ *   while writing never corrupts the previous snapshot.
+ * - A missing, truncated or foreign file, or one taken with other sketch dimensions, is reported
+ *   as "not loaded" and rankings start empty.
+ */
+@Slf4j
+public class PopularitySnapshotStore {
+
+    private static final int MAGIC = 0x4C42504F; // "LBPO"
+    private static final int VERSION = 1;
+
+    private final Path snapshot;
+
+    public PopularitySnapshotStore(Path snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * Writes the tracker to disk.
+     *
+     * @param tracker tracker to snapshot
+     */
+    public void save(PopularityTracker tracker) {
+        try {
+            Files.createDirectories(snapshot.toAbsolutePath().getParent());
+            Path tmp = snapshot.resolveSibling(snapshot.getFileName() + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                tracker.writeTo(out);
+            }
+            Files.move(tmp, snapshot, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Popularity snapshot cannot be written to " + snapshot, e);
+        }
+    }
+
+    /**
+     * Loads the snapshot into the tracker, if a valid one exists.
+     *
+     * @param tracker tracker to restore
+     * @param now     current time, buckets older than the retention are dropped
+     * @return true if the snapshot was loaded
+     */
+    public boolean load(PopularityTracker tracker, LocalDateTime now) {
+        if (!Files.exists(snapshot)) {
+            return false;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshot)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                log.warn("Ignoring popularity snapshot with unknown format: {}", snapshot);
+                return false;
+            }
+            if (!tracker.readFrom(in, now)) {
+                log.warn("Ignoring popularity snapshot {} taken with other sketch dimensions", snapshot);
+                return false;
+            }
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Popularity snapshot {} is unreadable, rankings start empty: {}", snapshot, e.getMessage());
+            return false;
+        }
+    }
+}
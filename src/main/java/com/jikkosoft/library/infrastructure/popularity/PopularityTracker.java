@@ -0,0 +1,235 @@
+package com.jikkosoft.library.infrastructure.popularity;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Sliding-window heavy hitters: the most borrowed books per library and per (library, category).
+ *
+ * Responsibilities:
+ * - Splits time into fixed buckets kept in a ring that covers the retention period; a slot is
+ *   reset when time wraps around to it, so old loans age out without any sweep.
+ * - Each bucket holds one {@link CountMinSketch} shared by all groups (keys hash library,
+ *   category and book) and one {@link TopKHeap} of candidate books per group.
+ * - A window query unions the candidates of the buckets it covers and sums their per-bucket
+ *   estimates, which stays an upper bound of the true loan count.
+ *
+ * Notes:
+ * - Every loan is counted twice: in its category and in the library-wide group
+ *   ({@link #ALL_CATEGORIES}).
+ * - A book that never reaches the candidates of any single bucket is not reported, even if
+ *   its loans add up over the window; size candidates well above the largest requested limit.
+ * - Methods are {@code synchronized}: updates are a few array writes and queries touch at
+ *   most one bucket per slot.
+ */
+public class PopularityTracker {
+
+    /** Group key used for library-wide rankings. Category IDs are identity values, never zero. */
+    public static final long ALL_CATEGORIES = 0L;
+
+    private final long bucketSeconds;
+    private final int width;
+    private final int depth;
+    private final int candidates;
+    private final Bucket[] ring;
+    private boolean dirty;
+
+    /**
+     * @param bucket     granularity of the sliding windows
+     * @param retention  longest window that can be queried
+     * @param width      counters per sketch row (power of two)
+     * @param depth      sketch rows
+     * @param candidates books tracked per group and bucket
+     */
+    public PopularityTracker(Duration bucket, Duration retention, int width, int depth, int candidates) {
+        if (bucket.getSeconds() <= 0) throw new IllegalArgumentException("Bucket must be at least one second");
+        if (retention.compareTo(bucket) < 0) throw new IllegalArgumentException("Retention must cover at least one bucket");
+        if (candidates <= 0) throw new IllegalArgumentException("Candidates must be greater than zero");
+        if (width <= 0 || Integer.bitCount(width) != 1) throw new IllegalArgumentException("Sketch width must be a power of two");
+        if (depth <= 0) throw new IllegalArgumentException("Sketch depth must be greater than zero");
+        this.bucketSeconds = bucket.getSeconds();
+        this.width = width;
+        this.depth = depth;
+        this.candidates = candidates;
+        this.ring = new Bucket[bucketsIn(retention)];
+    }
+
+    /**
+     * Counts one loan.
+     *
+     * @param libraryId  library that lent the copy
+     * @param categoryId category of the book (may be null: only library-wide rankings are updated)
+     * @param bookId     borrowed book
+     * @param at         when the loan happened
+     */
+    public synchronized void record(long libraryId, Long categoryId, long bookId, LocalDateTime at) {
+        Bucket bucket = bucketFor(bucketIndex(at));
+        if (bucket == null) return;
+        bucket.count(new Group(libraryId, ALL_CATEGORIES), bookId);
+        if (categoryId != null) bucket.count(new Group(libraryId, categoryId), bookId);
+        dirty = true;
+    }
+
+    /**
+     * Returns the most borrowed books of a group within a window ending now.
+     *
+     * @param libraryId  library to rank
+     * @param categoryId category to rank (null for the whole library)
+     * @param limit      maximum number of books (at most the configured candidates)
+     * @param window     how far back loans are counted (at most the retention)
+     * @param now        end of the window
+     * @return books, most borrowed first
+     */
+    public synchronized List<PopularBook> top(long libraryId, Long categoryId, int limit, Duration window,
+                                              LocalDateTime now) {
+        if (limit <= 0 || limit > candidates) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + candidates);
+        }
+        if (window.isNegative() || window.isZero() || bucketsIn(window) > ring.length) {
+            throw new IllegalArgumentException("Window must be positive and at most " + retention());
+        }
+        Group group = new Group(libraryId, categoryId != null ? categoryId : ALL_CATEGORIES);
+        long current = bucketIndex(now);
+        List<Bucket> covered = new ArrayList<>();
+        Set<Long> books = new HashSet<>();
+        for (long index = current - bucketsIn(window) + 1; index <= current; index++) {
+            Bucket bucket = ring[slot(index)];
+            if (bucket == null || bucket.index != index) continue;
+            covered.add(bucket);
+            TopKHeap heap = bucket.heaps.get(group);
+            if (heap != null) heap.forEachId(books::add);
+        }
+        List<PopularBook> ranked = new ArrayList<>(books.size());
+        for (long bookId : books) {
+            long hash = group.hash(bookId);
+            long loans = 0;
+            for (Bucket bucket : covered) loans += bucket.sketch.estimate(hash);
+            ranked.add(new PopularBook(bookId, loans));
+        }
+        ranked.sort(Comparator.comparingLong(PopularBook::loans).reversed().thenComparingLong(PopularBook::bookId));
+        return ranked.size() > limit ? List.copyOf(ranked.subList(0, limit)) : ranked;
+    }
+
+    public Duration retention() {
+        return Duration.ofSeconds(bucketSeconds * ring.length);
+    }
+
+    public synchronized boolean isDirty() {
+        return dirty;
+    }
+
+    /**
+     * Writes the live buckets and clears the dirty flag.
+     */
+    synchronized void writeTo(DataOutput out) throws IOException {
+        out.writeLong(bucketSeconds);
+        out.writeInt(width);
+        out.writeInt(depth);
+        out.writeInt(candidates);
+        List<Bucket> live = new ArrayList<>();
+        for (Bucket bucket : ring) {
+            if (bucket != null) live.add(bucket);
+        }
+        out.writeInt(live.size());
+        for (Bucket bucket : live) {
+            out.writeLong(bucket.index);
+            bucket.sketch.writeTo(out);
+            out.writeInt(bucket.heaps.size());
+            for (Map.Entry<Group, TopKHeap> entry : bucket.heaps.entrySet()) {
+                out.writeLong(entry.getKey().libraryId());
+                out.writeLong(entry.getKey().categoryId());
+                entry.getValue().writeTo(out);
+            }
+        }
+        dirty = false;
+    }
+
+    /**
+     * Replaces the state with a snapshot, dropping buckets that already left the retention.
+     *
+     * @return false (and the state untouched) when the snapshot was taken with other dimensions
+     */
+    synchronized boolean readFrom(DataInput in, LocalDateTime now) throws IOException {
+        if (in.readLong() != bucketSeconds || in.readInt() != width || in.readInt() != depth
+                || in.readInt() != candidates) {
+            return false;
+        }
+        int count = in.readInt();
+        List<Bucket> restored = new ArrayList<>(count);
+        for (int b = 0; b < count; b++) {
+            Bucket bucket = new Bucket(in.readLong(), CountMinSketch.readFrom(in, width, depth));
+            int groups = in.readInt();
+            for (int g = 0; g < groups; g++) {
+                Group group = new Group(in.readLong(), in.readLong());
+                bucket.heaps.put(group, TopKHeap.readFrom(in, candidates));
+            }
+            restored.add(bucket);
+        }
+        long current = bucketIndex(now);
+        Arrays.fill(ring, null);
+        for (Bucket bucket : restored) {
+            if (bucket.index > current - ring.length && bucket.index <= current) ring[slot(bucket.index)] = bucket;
+        }
+        dirty = false;
+        return true;
+    }
+
+    /** Bucket of an index, recycling the slot when it holds an older bucket; null if the index is too old. */
+    private Bucket bucketFor(long index) {
+        int slot = slot(index);
+        Bucket bucket = ring[slot];
+        if (bucket != null && bucket.index == index) return bucket;
+        if (bucket != null && bucket.index > index) return null;
+        bucket = new Bucket(index, new CountMinSketch(width, depth));
+        ring[slot] = bucket;
+        return bucket;
+    }
+
+    private long bucketIndex(LocalDateTime at) {
+        return Math.floorDiv(at.toEpochSecond(ZoneOffset.UTC), bucketSeconds);
+    }
+
+    private int slot(long index) {
+        return (int) Math.floorMod(index, (long) ring.length);
+    }
+
+    private int bucketsIn(Duration duration) {
+        return (int) Math.max(1, -Math.floorDiv(-duration.getSeconds(), bucketSeconds));
+    }
+
+    private record Group(long libraryId, long categoryId) {
+
+        long hash(long bookId) {
+            return CountMinSketch.hash(libraryId, categoryId, bookId);
+        }
+    }
+
+    private final class Bucket {
+
+        private final long index;
+        private final CountMinSketch sketch;
+        private final Map<Group, TopKHeap> heaps = new HashMap<>();
+
+        private Bucket(long index, CountMinSketch sketch) {
+            this.index = index;
+            this.sketch = sketch;
+        }
+
+        private void count(Group group, long bookId) {
+            int estimate = sketch.add(group.hash(bookId), 1);
+            heaps.computeIfAbsent(group, g -> new TopKHeap(candidates)).offer(bookId, estimate);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.jikkosoft.library.infrastructure.popularity;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongConsumer;
+
+/**
+ * Bounded min-heap of the keys with the highest counts seen so far.
+ *
+ * Notes:
+ * - The root holds the smallest retained count: a new key is admitted only when it beats it.
+ * - Keys are indexed by position, so raising the count of a retained key is O(log capacity).
+ * - Counts only grow (they come from a count-min sketch); a retained key only sinks.
+ * - Not thread-safe.
+ */
+final class TopKHeap {
+
+    private final long[] ids;
+    private final long[] counts;
+    private final Map<Long, Integer> positions;
+    private int size;
+
+    TopKHeap(int capacity) {
+        if (capacity <= 0) throw new IllegalArgumentException("Heap capacity must be greater than zero");
+        this.ids = new long[capacity];
+        this.counts = new long[capacity];
+        this.positions = new HashMap<>(capacity * 2);
+    }
+
+    /**
+     * Records the current count of a key.
+     */
+    void offer(long id, long count) {
+        Integer position = positions.get(id);
+        if (position != null) {
+            counts[position] = Math.max(counts[position], count);
+            siftDown(position);
+        } else if (size < ids.length) {
+            place(size, id, count);
+            siftUp(size++);
+        } else if (count > counts[0]) {
+            positions.remove(ids[0]);
+            place(0, id, count);
+            siftDown(0);
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    void forEachId(LongConsumer action) {
+        for (int i = 0; i < size; i++) action.accept(ids[i]);
+    }
+
+    void writeTo(DataOutput out) throws IOException {
+        out.writeInt(size);
+        for (int i = 0; i < size; i++) {
+            out.writeLong(ids[i]);
+            out.writeLong(counts[i]);
+        }
+    }
+
+    static TopKHeap readFrom(DataInput in, int capacity) throws IOException {
+        TopKHeap heap = new TopKHeap(capacity);
+        int size = in.readInt();
+        for (int i = 0; i < size; i++) heap.offer(in.readLong(), in.readLong());
+        return heap;
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (counts[parent] <= counts[i]) return;
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i) {
+        while (true) {
+            int left = 2 * i + 1;
+            if (left >= size) return;
+            int smallest = left + 1 < size && counts[left + 1] < counts[left] ? left + 1 : left;
+            if (counts[i] <= counts[smallest]) return;
+            swap(i, smallest);
+            i = smallest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        long id = ids[a];
+        long count = counts[a];
+        place(a, ids[b], counts[b]);
+        place(b, id, count);
+    }
+
+    private void place(int i, long id, long count) {
+        ids[i] = id;
+        counts[i] = count;
+        positions.put(id, i);
+    }
+}
@@ -0,0 +1,56 @@
+package com.jikkosoft.library.infrastructure.reservation;
+
+import com.jikkosoft.library.application.port.persistence.BookCopyRepository;
+import com.jikkosoft.library.application.port.persistence.ReservationRepository;
+import com.jikkosoft.library.application.port.service.NotificationPort;
+import com.jikkosoft.library.application.port.tx.TransactionalPort;
+import com.jikkosoft.library.application.service.reservation.HoldQueueService;
+import com.jikkosoft.library.infrastructure.config.PortDecoratorPostProcessor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+
+/**
+ * Wires the hold queues when {@code library.hold-queue.enabled=true}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "library.hold-queue", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(HoldQueueProperties.class)
+public class HoldQueueConfiguration {
+
+    private final ObjectProvider<HoldQueueService> holdQueueService;
+
+    public HoldQueueConfiguration(ObjectProvider<HoldQueueService> holdQueueService) {
+        this.holdQueueService = holdQueueService;
+    }
+
+    @Bean
+    public HoldQueueService holdQueueService(@Lazy ReservationRepository reservationRepository,
+                                             @Lazy BookCopyRepository bookCopyRepository,
+                                             ObjectProvider<NotificationPort> notificationPort,
+                                             TransactionalPort transactionalPort) {
+        NotificationPort notifier = (member, subject, message) -> notificationPort.ifAvailable(
+                port -> port.notifyMember(member, subject, message));
+        return new HoldQueueService(reservationRepository, bookCopyRepository, notifier, transactionalPort);
+    }
+
+    @Bean
+    public static PortDecoratorPostProcessor<ReservationRepository> holdQueueReservationDecorator(
+            ObjectProvider<HoldQueueService> holdQueueService, ObjectProvider<TransactionalPort> transactionalPort) {
+        return new PortDecoratorPostProcessor<>(ReservationRepository.class,
+                delegate -> new HoldQueueReservationRepository(delegate, holdQueueService.getObject(),
+                        transactionalPort.getObject()),
+                Ordered.HIGHEST_PRECEDENCE + 600);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rehydrate() {
+        holdQueueService.getObject().rehydrate();
+    }
+}
@@ -0,0 +1,12 @@
+package com.jikkosoft.library.infrastructure.reservation;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for the in-memory hold queues ({@code library.hold-queue.*}).
+ *
+ * @param enabled whether returned copies are handed to the next reservation in line
+ */
+@ConfigurationProperties(prefix = "library.hold-queue")
+public record HoldQueueProperties(boolean enabled) {
+}
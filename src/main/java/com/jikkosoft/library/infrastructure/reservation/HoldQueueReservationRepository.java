@@ -0,0 +1,105 @@
+package com.jikkosoft.library.infrastructure.reservation;
+
+import com.jikkosoft.library.application.common.CursorRequest;
+import com.jikkosoft.library.application.common.CursorResponse;
+import com.jikkosoft.library.application.common.PagedResponse;
+import com.jikkosoft.library.application.port.persistence.ReservationRepository;
+import com.jikkosoft.library.application.port.tx.TransactionalPort;
+import com.jikkosoft.library.application.service.reservation.HoldQueueService;
+import com.jikkosoft.library.domain.enums.ReservationStatus;
+import com.jikkosoft.library.domain.model.BookCopy;
+import com.jikkosoft.library.domain.model.Reservation;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * ReservationRepository decorator that keeps the hold queues in sync with committed reservations.
+ *
+ * Notes:
+ * - Deleting a reservation reads it first, so the copy it held can be released once the delete commits.
+ */
+public class HoldQueueReservationRepository implements ReservationRepository {
+
+    private final ReservationRepository delegate;
+    private final HoldQueueService holdQueueService;
+    private final TransactionalPort transactionalPort;
+
+    public HoldQueueReservationRepository(ReservationRepository delegate, HoldQueueService holdQueueService,
+                                          TransactionalPort transactionalPort) {
+        this.delegate = delegate;
+        this.holdQueueService = holdQueueService;
+        this.transactionalPort = transactionalPort;
+    }
+
+    @Override
+    public Reservation save(Reservation reservation) {
+        Reservation saved = delegate.save(reservation);
+        transactionalPort.afterCommit(() -> holdQueueService.track(saved));
+        return saved;
+    }
+
+    @Override
+    public List<Reservation> saveAll(List<Reservation> reservations) {
+        List<Reservation> saved = delegate.saveAll(reservations);
+        transactionalPort.afterCommit(() -> saved.forEach(holdQueueService::track));
+        return saved;
+    }
+
+    @Override
+    public void logicalDeleteById(Long id) {
+        Long heldCopyId = delegate.findById(id).map(Reservation::getHeldCopy).map(BookCopy::getId).orElse(null);
+        delegate.logicalDeleteById(id);
+        transactionalPort.afterCommit(() -> {
+            holdQueueService.untrack(id);
+            if (heldCopyId != null) holdQueueService.releaseHold(heldCopyId);
+        });
+    }
+
+    @Override
+    public Optional<Reservation> findById(Long id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public List<Reservation> findActiveByBookIdOrderByReservedAt(Long bookId) {
+        return delegate.findActiveByBookIdOrderByReservedAt(bookId);
+    }
+
+    @Override
+    public Optional<Reservation> findActiveByHeldCopyId(Long copyId) {
+        return delegate.findActiveByHeldCopyId(copyId);
+    }
+
+    @Override
+    public List<Reservation> findByStatusAndReservedAtBefore(ReservationStatus status, LocalDateTime threshold) {
+        return delegate.findByStatusAndReservedAtBefore(status, threshold);
+    }
+
+    @Override
+    public PagedResponse<Reservation> findAllPaged(int page, int size) {
+        return delegate.findAllPaged(page, size);
+    }
+
+    @Override
+    public PagedResponse<Reservation> findByStatusPaged(ReservationStatus status, int page, int size) {
+        return delegate.findByStatusPaged(status, page, size);
+    }
+
+    @Override
+    public CursorResponse<Reservation> findAllPaged(CursorRequest request) {
+        return delegate.findAllPaged(request);
+    }
+
+    @Override
+    public CursorResponse<Reservation> findByStatusPaged(ReservationStatus status, CursorRequest request) {
+        return delegate.findByStatusPaged(status, request);
+    }
+
+    @Override
+    public List<Reservation> findAllByIds(Collection<Long> ids) {
+        return delegate.findAllByIds(ids);
+    }
+}
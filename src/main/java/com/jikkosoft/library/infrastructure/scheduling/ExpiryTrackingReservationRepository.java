@@ -0,0 +1,97 @@
+package com.jikkosoft.library.infrastructure.scheduling;
+
+import com.jikkosoft.library.application.common.CursorRequest;
+import com.jikkosoft.library.application.common.CursorResponse;
+import com.jikkosoft.library.application.common.PagedResponse;
+import com.jikkosoft.library.application.port.persistence.ReservationRepository;
+import com.jikkosoft.library.application.port.tx.TransactionalPort;
+import com.jikkosoft.library.application.service.reservation.ReservationExpiryService;
+import com.jikkosoft.library.domain.enums.ReservationStatus;
+import com.jikkosoft.library.domain.model.Reservation;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * ReservationRepository decorator that keeps the expiry schedule in sync with committed reservations.
+ */
+public class ExpiryTrackingReservationRepository implements ReservationRepository {
+
+    private final ReservationRepository delegate;
+    private final ReservationExpiryService expiryService;
+    private final TransactionalPort transactionalPort;
+
+    public ExpiryTrackingReservationRepository(ReservationRepository delegate, ReservationExpiryService expiryService,
+                                               TransactionalPort transactionalPort) {
+        this.delegate = delegate;
+        this.expiryService = expiryService;
+        this.transactionalPort = transactionalPort;
+    }
+
+    @Override
+    public Reservation save(Reservation reservation) {
+        Reservation saved = delegate.save(reservation);
+        transactionalPort.afterCommit(() -> expiryService.track(saved));
+        return saved;
+    }
+
+    @Override
+    public List<Reservation> saveAll(List<Reservation> reservations) {
+        List<Reservation> saved = delegate.saveAll(reservations);
+        transactionalPort.afterCommit(() -> saved.forEach(expiryService::track));
+        return saved;
+    }
+
+    @Override
+    public void logicalDeleteById(Long id) {
+        delegate.logicalDeleteById(id);
+        transactionalPort.afterCommit(() -> expiryService.untrack(id));
+    }
+
+    @Override
+    public Optional<Reservation> findById(Long id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public List<Reservation> findActiveByBookIdOrderByReservedAt(Long bookId) {
+        return delegate.findActiveByBookIdOrderByReservedAt(bookId);
+    }
+
+    @Override
+    public Optional<Reservation> findActiveByHeldCopyId(Long copyId) {
+        return delegate.findActiveByHeldCopyId(copyId);
+    }
+
+    @Override
+    public List<Reservation> findByStatusAndReservedAtBefore(ReservationStatus status, LocalDateTime threshold) {
+        return delegate.findByStatusAndReservedAtBefore(status, threshold);
+    }
+
+    @Override
+    public PagedResponse<Reservation> findAllPaged(int page, int size) {
+        return delegate.findAllPaged(page, size);
+    }
+
+    @Override
+    public PagedResponse<Reservation> findByStatusPaged(ReservationStatus status, int page, int size) {
+        return delegate.findByStatusPaged(status, page, size);
+    }
+
+    @Override
+    public CursorResponse<Reservation> findAllPaged(CursorRequest request) {
+        return delegate.findAllPaged(request);
+    }
+
+    @Override
+    public CursorResponse<Reservation> findByStatusPaged(ReservationStatus status, CursorRequest request) {
+        return delegate.findByStatusPaged(status, request);
+    }
+
+    @Override
+    public List<Reservation> findAllByIds(Collection<Long> ids) {
+        return delegate.findAllByIds(ids);
+    }
+}
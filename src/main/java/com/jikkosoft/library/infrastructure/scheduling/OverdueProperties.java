@@ -0,0 +1,26 @@
+package com.jikkosoft.library.infrastructure.scheduling;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for the overdue sweep ({@code library.overdue.*}).
+ *
+ * @param enabled   whether loans are tracked and swept
+ * @param cron      when the sweep runs (default: every day at 00:05)
+ * @param wheelDays days covered by the timing wheel before due dates spill to overflow
+ * @param batchSize loans loaded and persisted per transaction
+ */
+@ConfigurationProperties(prefix = "library.overdue")
+public record OverdueProperties(
+        boolean enabled,
+        String cron,
+        Integer wheelDays,
+        Integer batchSize
+) {
+
+    public OverdueProperties {
+        cron = cron != null ? cron : "0 5 0 * * *";
+        wheelDays = wheelDays != null ? wheelDays : 366;
+        batchSize = batchSize != null ? batchSize : 500;
+    }
+}
@@ -0,0 +1,58 @@
+package com.jikkosoft.library.infrastructure.scheduling;
+
+import com.jikkosoft.library.application.port.persistence.LoanRepository;
+import com.jikkosoft.library.application.port.service.ClockPort;
+import com.jikkosoft.library.application.port.tx.TransactionalPort;
+import com.jikkosoft.library.application.service.loan.OverdueSweepService;
+import com.jikkosoft.library.infrastructure.config.PortDecoratorPostProcessor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Wires the overdue sweep when {@code library.overdue.enabled=true}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "library.overdue", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(OverdueProperties.class)
+public class OverdueSweepConfiguration {
+
+    private final ObjectProvider<OverdueSweepService> sweepService;
+
+    public OverdueSweepConfiguration(ObjectProvider<OverdueSweepService> sweepService) {
+        this.sweepService = sweepService;
+    }
+
+    @Bean
+    public OverdueSweepService overdueSweepService(@Lazy LoanRepository loanRepository, ClockPort clock,
+                                                   TransactionalPort transactionalPort, OverdueProperties properties) {
+        return new OverdueSweepService(loanRepository, clock, transactionalPort,
+                properties.wheelDays(), properties.batchSize());
+    }
+
+    @Bean
+    public static PortDecoratorPostProcessor<LoanRepository> overdueTrackingLoanDecorator(
+            ObjectProvider<OverdueSweepService> sweepService, ObjectProvider<TransactionalPort> transactionalPort) {
+        return new PortDecoratorPostProcessor<>(LoanRepository.class,
+                delegate -> new OverdueTrackingLoanRepository(delegate, sweepService.getObject(),
+                        transactionalPort.getObject()),
+                Ordered.HIGHEST_PRECEDENCE + 400);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rehydrate() {
+        sweepService.getObject().rehydrate();
+    }
+
+    @Scheduled(cron = "${library.overdue.cron:0 5 0 * * *}")
+    public void sweep() {
+        sweepService.getObject().sweep();
+    }
+}
@@ -0,0 +1,45 @@
+package com.jikkosoft.library.infrastructure.scheduling;
+
+import com.jikkosoft.library.application.port.persistence.LoanRepository;
+import com.jikkosoft.library.application.port.tx.TransactionalPort;
+import com.jikkosoft.library.application.service.loan.OverdueSweepService;
+import com.jikkosoft.library.domain.model.Loan;
+import com.jikkosoft.library.infrastructure.config.ForwardingLoanRepository;
+
+import java.util.List;
+
+/**
+ * LoanRepository decorator that keeps the overdue schedule in sync with committed loans.
+ */
+public class OverdueTrackingLoanRepository extends ForwardingLoanRepository {
+
+    private final OverdueSweepService sweepService;
+    private final TransactionalPort transactionalPort;
+
+    public OverdueTrackingLoanRepository(LoanRepository delegate, OverdueSweepService sweepService,
+                                         TransactionalPort transactionalPort) {
+        super(delegate);
+        this.sweepService = sweepService;
+        this.transactionalPort = transactionalPort;
+    }
+
+    @Override
+    public Loan save(Loan loan) {
+        Loan saved = delegate.save(loan);
+        transactionalPort.afterCommit(() -> sweepService.track(saved));
+        return saved;
+    }
+
+    @Override
+    public List<Loan> saveAll(List<Loan> loans) {
+        List<Loan> saved = delegate.saveAll(loans);
+        transactionalPort.afterCommit(() -> saved.forEach(sweepService::track));
+        return saved;
+    }
+
+    @Override
+    public void logicalDeleteById(Long id) {
+        delegate.logicalDeleteById(id);
+        transactionalPort.afterCommit(() -> sweepService.untrack(id));
+    }
+}
@@ -0,0 +1,58 @@
+package com.jikkosoft.library.infrastructure.scheduling;
+
+import com.jikkosoft.library.application.port.persistence.ReservationRepository;
+import com.jikkosoft.library.application.port.service.ClockPort;
+import com.jikkosoft.library.application.port.tx.TransactionalPort;
+import com.jikkosoft.library.application.service.reservation.ReservationExpiryService;
+import com.jikkosoft.library.infrastructure.config.PortDecoratorPostProcessor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Wires reservation expiry when {@code library.reservation-expiry.enabled=true}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "library.reservation-expiry", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ReservationExpiryProperties.class)
+public class ReservationExpiryConfiguration {
+
+    private final ObjectProvider<ReservationExpiryService> expiryService;
+
+    public ReservationExpiryConfiguration(ObjectProvider<ReservationExpiryService> expiryService) {
+        this.expiryService = expiryService;
+    }
+
+    @Bean
+    public ReservationExpiryService reservationExpiryService(@Lazy ReservationRepository reservationRepository,
+                                                             ClockPort clock, TransactionalPort transactionalPort,
+                                                             ReservationExpiryProperties properties) {
+        return new ReservationExpiryService(reservationRepository, clock, transactionalPort, properties.batchSize());
+    }
+
+    @Bean
+    public static PortDecoratorPostProcessor<ReservationRepository> expiryTrackingReservationDecorator(
+            ObjectProvider<ReservationExpiryService> expiryService, ObjectProvider<TransactionalPort> transactionalPort) {
+        return new PortDecoratorPostProcessor<>(ReservationRepository.class,
+                delegate -> new ExpiryTrackingReservationRepository(delegate, expiryService.getObject(),
+                        transactionalPort.getObject()),
+                Ordered.HIGHEST_PRECEDENCE + 500);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rehydrate() {
+        expiryService.getObject().rehydrate();
+    }
+
+    @Scheduled(cron = "${library.reservation-expiry.cron:0 10 0 * * *}")
+    public void expire() {
+        expiryService.getObject().expireDue();
+    }
+}
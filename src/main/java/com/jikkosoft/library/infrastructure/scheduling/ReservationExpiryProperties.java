@@ -0,0 +1,23 @@
+package com.jikkosoft.library.infrastructure.scheduling;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for reservation expiry ({@code library.reservation-expiry.*}).
+ *
+ * @param enabled   whether reservations are tracked and expired
+ * @param cron      when expired reservations are processed (default: every day at 00:10)
+ * @param batchSize reservations loaded and persisted per transaction
+ */
+@ConfigurationProperties(prefix = "library.reservation-expiry")
+public record ReservationExpiryProperties(
+        boolean enabled,
+        String cron,
+        Integer batchSize
+) {
+
+    public ReservationExpiryProperties {
+        cron = cron != null ? cron : "0 10 0 * * *";
+        batchSize = batchSize != null ? batchSize : 500;
+    }
+}
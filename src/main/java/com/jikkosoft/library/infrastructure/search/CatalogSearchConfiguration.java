@@ -0,0 +1,44 @@
+package com.jikkosoft.library.infrastructure.search;
+
+import com.jikkosoft.library.application.port.persistence.BookRepository;
+import com.jikkosoft.library.application.port.tx.TransactionalPort;
+import com.jikkosoft.library.infrastructure.config.PortDecoratorPostProcessor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Wires the catalog search engine when {@code library.search.enabled=true}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "library.search", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(SearchProperties.class)
+public class CatalogSearchConfiguration {
+
+    @Bean
+    public CatalogSearchIndex catalogSearchIndex() {
+        return new CatalogSearchIndex();
+    }
+
+    @Bean
+    public SearchSegmentStore searchSegmentStore(SearchProperties properties) {
+        return new SearchSegmentStore(properties.segmentPath());
+    }
+
+    @Bean
+    public CatalogSearchLifecycle catalogSearchLifecycle(CatalogSearchIndex index, SearchSegmentStore store,
+                                                         BookRepository bookRepository) {
+        return new CatalogSearchLifecycle(index, store, bookRepository);
+    }
+
+    @Bean
+    public static PortDecoratorPostProcessor<BookRepository> searchIndexedBookDecorator(
+            ObjectProvider<CatalogSearchIndex> index, ObjectProvider<TransactionalPort> transactionalPort) {
+        return new PortDecoratorPostProcessor<>(BookRepository.class,
+                delegate -> new SearchIndexedBookRepository(delegate, index.getObject(), transactionalPort.getObject()),
+                Ordered.HIGHEST_PRECEDENCE + 200);
+    }
+}
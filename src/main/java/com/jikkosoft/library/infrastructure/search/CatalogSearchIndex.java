@@ -0,0 +1,264 @@
+package com.jikkosoft.library.infrastructure.search;
+
+import com.jikkosoft.library.application.common.PagedResponse;
+import com.jikkosoft.library.application.port.persistence.BookRepository.CatalogWatermark;
+import com.jikkosoft.library.domain.model.Author;
+import com.jikkosoft.library.domain.model.Book;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Inverted index over book titles and author names.
+ *
+ * Responsibilities:
+ * - Tokenizes and normalizes {@code Book.title} plus every author's first and last name.
+ * - Maintains one {@link PostingList} per term, updated incrementally on save and delete.
+ * - Answers ranked multi-term queries (BM25, any-term match) with pagination.
+ *
+ * Notes:
+ * - Title terms weigh more than author terms ({@link #TITLE_WEIGHT}).
+ * - Readers share a read lock; updates take the write lock briefly per book.
+ * - The index can be exported to and restored from a {@link SearchSegmentStore}.
+ * - It tracks the highest book ID and latest update it has seen, so a restored segment can be
+ *   checked against the database ({@link #watermark()}).
+ */
+public class CatalogSearchIndex {
+
+    static final int TITLE_WEIGHT = 2;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<Long, Map<String, Integer>> forward = new HashMap<>();
+    private final Map<Long, Integer> lengths = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private long totalLength;
+    private Long maxId;
+    private LocalDateTime lastUpdatedAt;
+    private volatile boolean dirty;
+
+    /**
+     * Adds or replaces the terms of a book.
+     *
+     * @param book persisted book (books without ID are ignored)
+     */
+    public void index(Book book) {
+        if (book.getId() == null) return;
+        if (book.isDeleted()) {
+            remove(book.getId());
+            return;
+        }
+        Map<String, Integer> terms = new HashMap<>();
+        for (String term : TextNormalizer.tokenize(book.getTitle())) {
+            terms.merge(term, TITLE_WEIGHT, Integer::sum);
+        }
+        for (Author author : book.getAuthors()) {
+            for (String term : TextNormalizer.tokenize(author.getFirstName() + " " + author.getLastName())) {
+                terms.merge(term, 1, Integer::sum);
+            }
+        }
+        lock.writeLock().lock();
+        try {
+            removeLocked(book.getId());
+            terms.forEach((term, freq) -> postings.computeIfAbsent(term, t -> new PostingList()).put(book.getId(), freq));
+            int length = terms.values().stream().mapToInt(Integer::intValue).sum();
+            forward.put(book.getId(), terms);
+            lengths.put(book.getId(), length);
+            totalLength += length;
+            seen(book.getId(), book.getUpdatedAt());
+            dirty = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a book from the index.
+     *
+     * @param bookId identifier of the book
+     */
+    public void remove(Long bookId) {
+        lock.writeLock().lock();
+        try {
+            if (removeLocked(bookId)) dirty = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ranked search: books matching any query term, best BM25 score first.
+     *
+     * @param query free text (normalized like indexed text)
+     * @param page  zero-based page index
+     * @param size  number of items per page
+     * @return paginated book IDs in rank order
+     */
+    public PagedResponse<Long> search(String query, int page, int size) {
+        Set<String> terms = new LinkedHashSet<>(TextNormalizer.tokenize(query));
+        Map<Long, Double> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            int docCount = lengths.size();
+            double avgLength = docCount == 0 ? 0 : (double) totalLength / docCount;
+            for (String term : terms) {
+                PostingList list = postings.get(term);
+                if (list == null) continue;
+                double idf = Math.log(1 + (docCount - list.size() + 0.5) / (list.size() + 0.5));
+                for (int i = 0; i < list.size(); i++) {
+                    long doc = list.doc(i);
+                    int tf = list.freq(i);
+                    double norm = K1 * (1 - B + B * lengths.get(doc) / avgLength);
+                    scores.merge(doc, idf * tf * (K1 + 1) / (tf + norm), Double::sum);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return page(scores, page, size);
+    }
+
+    /** @return number of indexed books. */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return lengths.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return number of indexed books, highest book ID and latest book update indexed so far
+     */
+    public CatalogWatermark watermark() {
+        lock.readLock().lock();
+        try {
+            return new CatalogWatermark(lengths.size(), maxId, lastUpdatedAt);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Empties the index, e.g. before a full rebuild.
+     */
+    void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            forward.clear();
+            lengths.clear();
+            totalLength = 0;
+            maxId = null;
+            lastUpdatedAt = null;
+            dirty = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** @return true if the index changed since the last snapshot. */
+    boolean isDirty() {
+        return dirty;
+    }
+
+    /**
+     * Writes a consistent snapshot of the index.
+     */
+    void exportTo(SegmentWriter writer) {
+        lock.readLock().lock();
+        try {
+            writer.write(lengths, postings, new CatalogWatermark(lengths.size(), maxId, lastUpdatedAt));
+            dirty = false;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces the whole index content with a loaded segment.
+     */
+    void restore(Map<Long, Integer> docLengths, Map<String, PostingList> termPostings, CatalogWatermark watermark) {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            forward.clear();
+            lengths.clear();
+            postings.putAll(termPostings);
+            lengths.putAll(docLengths);
+            totalLength = docLengths.values().stream().mapToLong(Integer::longValue).sum();
+            maxId = watermark.maxId();
+            lastUpdatedAt = watermark.lastUpdatedAt();
+            termPostings.forEach((term, list) -> {
+                for (int i = 0; i < list.size(); i++) {
+                    forward.computeIfAbsent(list.doc(i), d -> new HashMap<>()).put(term, list.freq(i));
+                }
+            });
+            dirty = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void seen(Long bookId, LocalDateTime updatedAt) {
+        if (maxId == null || bookId > maxId) maxId = bookId;
+        if (updatedAt != null && (lastUpdatedAt == null || updatedAt.isAfter(lastUpdatedAt))) lastUpdatedAt = updatedAt;
+    }
+
+    private boolean removeLocked(Long bookId) {
+        Map<String, Integer> previous = forward.remove(bookId);
+        if (previous == null) return false;
+        previous.keySet().forEach(term -> {
+            PostingList list = postings.get(term);
+            list.remove(bookId);
+            if (list.size() == 0) postings.remove(term);
+        });
+        totalLength -= lengths.remove(bookId);
+        return true;
+    }
+
+    private static PagedResponse<Long> page(Map<Long, Double> scores, int page, int size) {
+        int limit = (page + 1) * size;
+        Comparator<Map.Entry<Long, Double>> rank = Map.Entry.<Long, Double>comparingByValue()
+                .reversed()
+                .thenComparing(Map.Entry.comparingByKey());
+        PriorityQueue<Map.Entry<Long, Double>> top = new PriorityQueue<>(rank.reversed());
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            top.offer(entry);
+            if (top.size() > limit) top.poll();
+        }
+        List<Map.Entry<Long, Double>> ranked = new ArrayList<>(top);
+        ranked.sort(rank);
+        List<Long> items = ranked.stream().skip((long) page * size).map(Map.Entry::getKey).toList();
+        long total = scores.size();
+        int totalPages = (int) Math.ceil((double) total / size);
+        return PagedResponse.<Long>builder()
+                .items(items)
+                .page(page)
+                .size(size)
+                .totalElements(total)
+                .totalPages(totalPages)
+                .hasNext(page + 1 < totalPages)
+                .hasPrevious(page > 0)
+                .build();
+    }
+
+    /**
+     * Callback receiving the index content during {@link #exportTo}.
+     */
+    @FunctionalInterface
+    interface SegmentWriter {
+        void write(Map<Long, Integer> docLengths, Map<String, PostingList> termPostings, CatalogWatermark watermark);
+    }
+}
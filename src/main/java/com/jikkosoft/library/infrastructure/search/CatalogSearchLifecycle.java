@@ -0,0 +1,93 @@
+package com.jikkosoft.library.infrastructure.search;
+
+import com.jikkosoft.library.application.common.CursorRequest;
+import com.jikkosoft.library.application.common.CursorResponse;
+import com.jikkosoft.library.application.port.persistence.BookRepository;
+import com.jikkosoft.library.application.port.persistence.BookRepository.CatalogWatermark;
+import com.jikkosoft.library.domain.model.Book;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Loads, rebuilds and snapshots the {@link CatalogSearchIndex}.
+ *
+ * Responsibilities:
+ * - On startup, restores the on-disk segment and checks it against the catalog's
+ *   watermark; when the segment is missing, unreadable or stale, the catalog is
+ *   re-tokenized, walking books with keyset pagination.
+ * - Periodically writes the segment back when the index changed.
+ * - Writes a final snapshot on shutdown.
+ */
+@Slf4j
+public class CatalogSearchLifecycle {
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final CatalogSearchIndex index;
+    private final SearchSegmentStore store;
+    private final BookRepository bookRepository;
+
+    public CatalogSearchLifecycle(CatalogSearchIndex index, SearchSegmentStore store, BookRepository bookRepository) {
+        this.index = index;
+        this.store = store;
+        this.bookRepository = bookRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (store.load(index)) {
+            if (isCurrent(index.watermark(), bookRepository.watermark())) {
+                log.info("Catalog search index restored from segment with {} books", index.size());
+                return;
+            }
+            log.info("Catalog search segment is stale; rebuilding");
+            index.clear();
+        }
+        rebuild();
+        store.save(index);
+    }
+
+    /**
+     * Re-tokenizes the whole catalog.
+     */
+    public void rebuild() {
+        CursorRequest request = CursorRequest.first(REBUILD_BATCH_SIZE);
+        CursorResponse<Book> window;
+        do {
+            window = bookRepository.findAll(request);
+            window.items().forEach(index::index);
+            request = request.next(window);
+        } while (window.hasNext());
+        log.info("Catalog search index rebuilt with {} books", index.size());
+    }
+
+    /**
+     * A segment is current when it holds as many books as the catalog, and no book was
+     * created or updated after the segment last saw one.
+     */
+    static boolean isCurrent(CatalogWatermark segment, CatalogWatermark catalog) {
+        if (segment.count() != catalog.count()) {
+            return false;
+        }
+        if (catalog.maxId() != null && (segment.maxId() == null || catalog.maxId() > segment.maxId())) {
+            return false;
+        }
+        return catalog.lastUpdatedAt() == null
+                || (segment.lastUpdatedAt() != null && !catalog.lastUpdatedAt().isAfter(segment.lastUpdatedAt()));
+    }
+
+    @Scheduled(fixedDelayString = "${library.search.snapshot-interval:PT5M}")
+    public void snapshotIfDirty() {
+        if (index.isDirty()) {
+            store.save(index);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        snapshotIfDirty();
+    }
+}
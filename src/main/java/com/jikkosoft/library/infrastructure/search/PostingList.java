@@ -0,0 +1,57 @@
+package com.jikkosoft.library.infrastructure.search;
+
+import java.util.Arrays;
+
+/**
+ * Sorted list of (document ID, term frequency) pairs for one term.
+ *
+ * Notes:
+ * - Document IDs are kept sorted so the list can be delta-encoded on disk.
+ * - Not thread-safe: guarded by the owning index lock.
+ */
+final class PostingList {
+
+    private long[] docs;
+    private int[] freqs;
+    private int size;
+
+    PostingList() {
+        this(new long[2], new int[2], 0);
+    }
+
+    PostingList(long[] docs, int[] freqs, int size) {
+        this.docs = docs;
+        this.freqs = freqs;
+        this.size = size;
+    }
+
+    void put(long doc, int freq) {
+        int i = Arrays.binarySearch(docs, 0, size, doc);
+        if (i >= 0) {
+            freqs[i] = freq;
+            return;
+        }
+        int at = -i - 1;
+        if (size == docs.length) {
+            docs = Arrays.copyOf(docs, size * 2);
+            freqs = Arrays.copyOf(freqs, size * 2);
+        }
+        System.arraycopy(docs, at, docs, at + 1, size - at);
+        System.arraycopy(freqs, at, freqs, at + 1, size - at);
+        docs[at] = doc;
+        freqs[at] = freq;
+        size++;
+    }
+
+    void remove(long doc) {
+        int i = Arrays.binarySearch(docs, 0, size, doc);
+        if (i < 0) return;
+        System.arraycopy(docs, i + 1, docs, i, size - i - 1);
+        System.arraycopy(freqs, i + 1, freqs, i, size - i - 1);
+        size--;
+    }
+
+    int size() { return size; }
+    long doc(int i) { return docs[i]; }
+    int freq(int i) { return freqs[i]; }
+}
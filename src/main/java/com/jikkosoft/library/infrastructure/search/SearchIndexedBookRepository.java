@@ -0,0 +1,110 @@
+package com.jikkosoft.library.infrastructure.search;
+
+import com.jikkosoft.library.application.common.CursorRequest;
+import com.jikkosoft.library.application.common.CursorResponse;
+import com.jikkosoft.library.application.common.PagedResponse;
+import com.jikkosoft.library.application.port.persistence.BookRepository;
+import com.jikkosoft.library.application.port.tx.TransactionalPort;
+import com.jikkosoft.library.domain.model.Book;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * BookRepository decorator that serves catalog searches from the {@link CatalogSearchIndex}.
+ *
+ * Responsibilities:
+ * - {@code searchCatalog} ranks matches in memory and loads only the requested page.
+ * - {@code save} and {@code logicalDeleteById} update the index incrementally, once the
+ *   surrounding transaction has committed.
+ * - Every other operation, including the {@code findByTitleLike} substring matches, is
+ *   delegated unchanged.
+ */
+public class SearchIndexedBookRepository implements BookRepository {
+
+    private final BookRepository delegate;
+    private final CatalogSearchIndex index;
+    private final TransactionalPort transactionalPort;
+
+    public SearchIndexedBookRepository(BookRepository delegate, CatalogSearchIndex index,
+                                       TransactionalPort transactionalPort) {
+        this.delegate = delegate;
+        this.index = index;
+        this.transactionalPort = transactionalPort;
+    }
+
+    @Override
+    public PagedResponse<Book> searchCatalog(String text, int page, int size) {
+        PagedResponse<Long> ranked = index.search(text, page, size);
+        Map<Long, Book> loaded = delegate.findAllByIds(ranked.items()).stream()
+                .collect(Collectors.toMap(Book::getId, Function.identity()));
+        List<Book> items = ranked.items().stream().map(loaded::get).filter(Objects::nonNull).toList();
+        return PagedResponse.<Book>builder()
+                .items(items)
+                .page(ranked.page())
+                .size(ranked.size())
+                .totalElements(ranked.totalElements())
+                .totalPages(ranked.totalPages())
+                .hasNext(ranked.hasNext())
+                .hasPrevious(ranked.hasPrevious())
+                .build();
+    }
+
+    @Override
+    public Book save(Book book) {
+        Book saved = delegate.save(book);
+        transactionalPort.afterCommit(() -> index.index(saved));
+        return saved;
+    }
+
+    @Override
+    public void logicalDeleteById(Long id) {
+        delegate.logicalDeleteById(id);
+        transactionalPort.afterCommit(() -> index.remove(id));
+    }
+
+    @Override
+    public PagedResponse<Book> findByTitleLike(String text, int page, int size) {
+        return delegate.findByTitleLike(text, page, size);
+    }
+
+    @Override
+    public CatalogWatermark watermark() {
+        return delegate.watermark();
+    }
+
+    @Override
+    public Optional<Book> findById(Long id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public Optional<Book> findByIsbn(String isbnRaw) {
+        return delegate.findByIsbn(isbnRaw);
+    }
+
+    @Override
+    public PagedResponse<Book> findAll(int page, int size) {
+        return delegate.findAll(page, size);
+    }
+
+    @Override
+    public CursorResponse<Book> findByTitleLike(String text, CursorRequest request) {
+        return delegate.findByTitleLike(text, request);
+    }
+
+    @Override
+    public CursorResponse<Book> findAll(CursorRequest request) {
+        return delegate.findAll(request);
+    }
+
+    @Override
+    public List<Book> findAllByIds(Collection<Long> ids) {
+        return delegate.findAllByIds(ids);
+    }
+}
@@ -0,0 +1,26 @@
+package com.jikkosoft.library.infrastructure.search;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuration for the catalog search engine ({@code library.search.*}).
+ *
+ * @param enabled          whether title searches are served by the inverted index
+ * @param segmentPath      file holding the persisted index segment
+ * @param snapshotInterval how often a changed index is written back to disk
+ */
+@ConfigurationProperties(prefix = "library.search")
+public record SearchProperties(
+        boolean enabled,
+        Path segmentPath,
+        Duration snapshotInterval
+) {
+
+    public SearchProperties {
+        segmentPath = segmentPath != null ? segmentPath : Path.of("data", "search", "catalog.seg");
+        snapshotInterval = snapshotInterval != null ? snapshotInterval : Duration.ofMinutes(5);
+    }
+}
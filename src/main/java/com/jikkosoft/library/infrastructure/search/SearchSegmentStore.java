@@ -0,0 +1,179 @@
+package com.jikkosoft.library.infrastructure.search;
+
+import com.jikkosoft.library.application.port.persistence.BookRepository.CatalogWatermark;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Persists a {@link CatalogSearchIndex} as a compact on-disk segment.
+ *
+ * Format (big-endian, varints are LEB128):
+ * - int magic, int version
+ * - long maxId (0 when empty), boolean hasUpdate, then long epochSecond, int nano of the latest update (UTC)
+ * - varint docCount, then docCount x (varlong docId delta, varint length), IDs ascending
+ * - varint termCount, then termCount x (UTF term, varint n, n x varlong docId delta, n x varint freq)
+ *
+ * Notes:
+ * - Segments are written to a temporary file and atomically moved into place, so a crash
+ *   while writing never corrupts the previous segment.
+ * - A missing, truncated or foreign file is reported as "not loaded" so callers rebuild.
+ */
+@Slf4j
+public class SearchSegmentStore {
+
+    private static final int MAGIC = 0x4C425358; // "LBSX"
+    private static final int VERSION = 2;
+
+    private final Path segment;
+
+    public SearchSegmentStore(Path segment) {
+        this.segment = segment;
+    }
+
+    /**
+     * Writes the index to disk.
+     *
+     * @param index index to snapshot
+     */
+    public void save(CatalogSearchIndex index) {
+        try {
+            Files.createDirectories(segment.toAbsolutePath().getParent());
+            Path tmp = segment.resolveSibling(segment.getFileName() + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                index.exportTo((lengths, postings, watermark) -> {
+                    try {
+                        writeSegment(out, lengths, postings, watermark);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+            Files.move(tmp, segment, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Search segment cannot be written to " + segment, e);
+        }
+    }
+
+    /**
+     * Loads the segment into the index, if a valid one exists.
+     *
+     * @param index index to restore
+     * @return true if the segment was loaded, false if the caller must rebuild
+     */
+    public boolean load(CatalogSearchIndex index) {
+        if (!Files.exists(segment)) {
+            return false;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(segment)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                log.warn("Ignoring search segment with unknown format: {}", segment);
+                return false;
+            }
+            long maxId = in.readLong();
+            LocalDateTime lastUpdatedAt = in.readBoolean()
+                    ? LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC) : null;
+            int docCount = readVarInt(in);
+            Map<Long, Integer> lengths = new HashMap<>(docCount * 2);
+            long doc = 0;
+            for (int i = 0; i < docCount; i++) {
+                doc += readVarLong(in);
+                lengths.put(doc, readVarInt(in));
+            }
+            int termCount = readVarInt(in);
+            Map<String, PostingList> postings = new HashMap<>(termCount * 2);
+            for (int t = 0; t < termCount; t++) {
+                String term = in.readUTF();
+                int n = readVarInt(in);
+                long[] docs = new long[Math.max(n, 2)];
+                int[] freqs = new int[Math.max(n, 2)];
+                long previous = 0;
+                for (int i = 0; i < n; i++) {
+                    previous += readVarLong(in);
+                    docs[i] = previous;
+                }
+                for (int i = 0; i < n; i++) {
+                    freqs[i] = readVarInt(in);
+                }
+                postings.put(term, new PostingList(docs, freqs, n));
+            }
+            index.restore(lengths, postings, new CatalogWatermark(lengths.size(), maxId == 0 ? null : maxId, lastUpdatedAt));
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Search segment {} is unreadable, index will be rebuilt: {}", segment, e.getMessage());
+            return false;
+        }
+    }
+
+    private static void writeSegment(DataOutputStream out, Map<Long, Integer> lengths,
+                                     Map<String, PostingList> postings, CatalogWatermark watermark) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeLong(watermark.maxId() != null ? watermark.maxId() : 0);
+        out.writeBoolean(watermark.lastUpdatedAt() != null);
+        if (watermark.lastUpdatedAt() != null) {
+            out.writeLong(watermark.lastUpdatedAt().toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(watermark.lastUpdatedAt().getNano());
+        }
+        long[] docs = lengths.keySet().stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(docs);
+        writeVarLong(out, docs.length);
+        long previous = 0;
+        for (long doc : docs) {
+            writeVarLong(out, doc - previous);
+            writeVarLong(out, lengths.get(doc));
+            previous = doc;
+        }
+        writeVarLong(out, postings.size());
+        for (Map.Entry<String, PostingList> entry : postings.entrySet()) {
+            PostingList list = entry.getValue();
+            out.writeUTF(entry.getKey());
+            writeVarLong(out, list.size());
+            previous = 0;
+            for (int i = 0; i < list.size(); i++) {
+                writeVarLong(out, list.doc(i) - previous);
+                previous = list.doc(i);
+            }
+            for (int i = 0; i < list.size(); i++) {
+                writeVarLong(out, list.freq(i));
+            }
+        }
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        return Math.toIntExact(readVarLong(in));
+    }
+}
@@ -0,0 +1,65 @@
+package com.jikkosoft.library.infrastructure.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Normalizes free text into search terms.
+ *
+ * Rules:
+ * - Accents are folded ("García" -> "garcia") via NFD decomposition.
+ * - Text is lowercased with {@link Locale#ROOT}.
+ * - Terms are maximal runs of letters and digits; everything else separates terms.
+ */
+public final class TextNormalizer {
+
+    private TextNormalizer() {
+    }
+
+    /**
+     * Folds accents and lowercases the text, keeping separators.
+     *
+     * @param text raw text (nullable)
+     * @return normalized text, empty for null input
+     */
+    public static String fold(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        StringBuilder folded = new StringBuilder(decomposed.length());
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.getType(c) != Character.NON_SPACING_MARK) {
+                folded.append(c);
+            }
+        }
+        return folded.toString().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Splits text into normalized terms.
+     *
+     * @param text raw text (nullable)
+     * @return terms in order of appearance (duplicates preserved)
+     */
+    public static List<String> tokenize(String text) {
+        String folded = fold(text);
+        List<String> terms = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i < folded.length(); i++) {
+            if (Character.isLetterOrDigit(folded.charAt(i))) {
+                if (start < 0) start = i;
+            } else if (start >= 0) {
+                terms.add(folded.substring(start, i));
+                start = -1;
+            }
+        }
+        if (start >= 0) {
+            terms.add(folded.substring(start));
+        }
+        return terms;
+    }
+}
@@ -0,0 +1,88 @@
+package com.jikkosoft.library.infrastructure.search.autocomplete;
+
+import com.jikkosoft.library.application.common.CursorRequest;
+import com.jikkosoft.library.application.common.CursorResponse;
+import com.jikkosoft.library.application.common.PagedResponse;
+import com.jikkosoft.library.application.port.persistence.BookRepository;
+import com.jikkosoft.library.application.port.tx.TransactionalPort;
+import com.jikkosoft.library.domain.model.Book;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * BookRepository decorator that feeds saved and deleted books to the {@link AutocompleteService}
+ * once the surrounding transaction has committed.
+ */
+public class AutocompleteBookRepository implements BookRepository {
+
+    private final BookRepository delegate;
+    private final AutocompleteService autocomplete;
+    private final TransactionalPort transactionalPort;
+
+    public AutocompleteBookRepository(BookRepository delegate, AutocompleteService autocomplete,
+                                      TransactionalPort transactionalPort) {
+        this.delegate = delegate;
+        this.autocomplete = autocomplete;
+        this.transactionalPort = transactionalPort;
+    }
+
+    @Override
+    public Book save(Book book) {
+        Book saved = delegate.save(book);
+        transactionalPort.afterCommit(() -> autocomplete.indexBook(saved));
+        return saved;
+    }
+
+    @Override
+    public void logicalDeleteById(Long id) {
+        delegate.logicalDeleteById(id);
+        transactionalPort.afterCommit(() -> autocomplete.removeBook(id));
+    }
+
+    @Override
+    public Optional<Book> findById(Long id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public Optional<Book> findByIsbn(String isbnRaw) {
+        return delegate.findByIsbn(isbnRaw);
+    }
+
+    @Override
+    public PagedResponse<Book> findByTitleLike(String text, int page, int size) {
+        return delegate.findByTitleLike(text, page, size);
+    }
+
+    @Override
+    public PagedResponse<Book> findAll(int page, int size) {
+        return delegate.findAll(page, size);
+    }
+
+    @Override
+    public CursorResponse<Book> findByTitleLike(String text, CursorRequest request) {
+        return delegate.findByTitleLike(text, request);
+    }
+
+    @Override
+    public CursorResponse<Book> findAll(CursorRequest request) {
+        return delegate.findAll(request);
+    }
+
+    @Override
+    public List<Book> findAllByIds(Collection<Long> ids) {
+        return delegate.findAllByIds(ids);
+    }
+
+    @Override
+    public PagedResponse<Book> searchCatalog(String text, int page, int size) {
+        return delegate.searchCatalog(text, page, size);
+    }
+
+    @Override
+    public CatalogWatermark watermark() {
+        return delegate.watermark();
+    }
+}
@@ -0,0 +1,58 @@
+package com.jikkosoft.library.infrastructure.search.autocomplete;
+
+import com.jikkosoft.library.application.port.persistence.BookRepository;
+import com.jikkosoft.library.application.port.persistence.LoanRepository;
+import com.jikkosoft.library.application.port.persistence.MemberRepository;
+import com.jikkosoft.library.application.port.tx.TransactionalPort;
+import com.jikkosoft.library.infrastructure.config.PortDecoratorPostProcessor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.Ordered;
+
+/**
+ * Wires typeahead suggestions when {@code library.autocomplete.enabled=true}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "library.autocomplete", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(AutocompleteProperties.class)
+public class AutocompleteConfiguration {
+
+    @Bean
+    public AutocompleteService autocompleteService(AutocompleteProperties properties,
+                                                   @Lazy BookRepository bookRepository,
+                                                   @Lazy MemberRepository memberRepository,
+                                                   LoanRepository loanRepository) {
+        return new AutocompleteService(properties.maxSuggestions(), bookRepository, memberRepository, loanRepository);
+    }
+
+    @Bean
+    public static PortDecoratorPostProcessor<BookRepository> autocompleteBookDecorator(
+            ObjectProvider<AutocompleteService> autocomplete, ObjectProvider<TransactionalPort> transactionalPort) {
+        return new PortDecoratorPostProcessor<>(BookRepository.class,
+                delegate -> new AutocompleteBookRepository(delegate, autocomplete.getObject(),
+                        transactionalPort.getObject()),
+                Ordered.HIGHEST_PRECEDENCE + 300);
+    }
+
+    @Bean
+    public static PortDecoratorPostProcessor<MemberRepository> autocompleteMemberDecorator(
+            ObjectProvider<AutocompleteService> autocomplete, ObjectProvider<TransactionalPort> transactionalPort) {
+        return new PortDecoratorPostProcessor<>(MemberRepository.class,
+                delegate -> new AutocompleteMemberRepository(delegate, autocomplete.getObject(),
+                        transactionalPort.getObject()),
+                Ordered.HIGHEST_PRECEDENCE + 300);
+    }
+
+    @Bean
+    public static PortDecoratorPostProcessor<LoanRepository> autocompleteLoanDecorator(
+            ObjectProvider<AutocompleteService> autocomplete, ObjectProvider<TransactionalPort> transactionalPort) {
+        return new PortDecoratorPostProcessor<>(LoanRepository.class,
+                delegate -> new AutocompleteLoanRepository(delegate, autocomplete.getObject(),
+                        transactionalPort.getObject()),
+                Ordered.HIGHEST_PRECEDENCE + 300);
+    }
+}
@@ -0,0 +1,50 @@
+package com.jikkosoft.library.infrastructure.search.autocomplete;
+
+import com.jikkosoft.library.application.port.persistence.LoanRepository;
+import com.jikkosoft.library.application.port.tx.TransactionalPort;
+import com.jikkosoft.library.domain.model.Loan;
+import com.jikkosoft.library.infrastructure.config.ForwardingLoanRepository;
+
+import java.util.List;
+
+/**
+ * LoanRepository decorator that feeds newly persisted loans to the {@link AutocompleteService}.
+ *
+ * Notes:
+ * - Popularity is bumped only once the transaction that inserted the loan commits, so
+ *   rolled-back and retried checkouts are never counted.
+ */
+public class AutocompleteLoanRepository extends ForwardingLoanRepository {
+
+    private final AutocompleteService autocomplete;
+    private final TransactionalPort transactionalPort;
+
+    public AutocompleteLoanRepository(LoanRepository delegate, AutocompleteService autocomplete,
+                                      TransactionalPort transactionalPort) {
+        super(delegate);
+        this.autocomplete = autocomplete;
+        this.transactionalPort = transactionalPort;
+    }
+
+    @Override
+    public Loan save(Loan loan) {
+        boolean created = loan.getId() == null;
+        Loan saved = delegate.save(loan);
+        if (created) countAfterCommit(List.of(loan));
+        return saved;
+    }
+
+    @Override
+    public List<Loan> saveAll(List<Loan> loans) {
+        List<Loan> created = loans.stream().filter(loan -> loan.getId() == null).toList();
+        List<Loan> saved = delegate.saveAll(loans);
+        if (!created.isEmpty()) countAfterCommit(created);
+        return saved;
+    }
+
+    /** Resolves the counted IDs now, while the loans' associations are still loadable. */
+    private void countAfterCommit(List<Loan> loans) {
+        List<AutocompleteService.LoanedItems> items = loans.stream().map(AutocompleteService.LoanedItems::of).toList();
+        transactionalPort.afterCommit(() -> items.forEach(autocomplete::recordLoan));
+    }
+}
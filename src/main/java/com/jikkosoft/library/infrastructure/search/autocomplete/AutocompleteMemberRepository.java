@@ -0,0 +1,88 @@
+package com.jikkosoft.library.infrastructure.search.autocomplete;
+
+import com.jikkosoft.library.application.common.CursorRequest;
+import com.jikkosoft.library.application.common.CursorResponse;
+import com.jikkosoft.library.application.common.PagedResponse;
+import com.jikkosoft.library.application.port.persistence.MemberRepository;
+import com.jikkosoft.library.application.port.tx.TransactionalPort;
+import com.jikkosoft.library.domain.model.Member;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * MemberRepository decorator that feeds saved and deleted members to the {@link AutocompleteService}
+ * once the surrounding transaction has committed.
+ */
+public class AutocompleteMemberRepository implements MemberRepository {
+
+    private final MemberRepository delegate;
+    private final AutocompleteService autocomplete;
+    private final TransactionalPort transactionalPort;
+
+    public AutocompleteMemberRepository(MemberRepository delegate, AutocompleteService autocomplete,
+                                        TransactionalPort transactionalPort) {
+        this.delegate = delegate;
+        this.autocomplete = autocomplete;
+        this.transactionalPort = transactionalPort;
+    }
+
+    @Override
+    public Member save(Member member) {
+        Member saved = delegate.save(member);
+        transactionalPort.afterCommit(() -> autocomplete.indexMember(saved));
+        return saved;
+    }
+
+    @Override
+    public void logicalDeleteById(Long id) {
+        delegate.logicalDeleteById(id);
+        transactionalPort.afterCommit(() -> autocomplete.removeMember(id));
+    }
+
+    @Override
+    public Optional<Member> findById(Long id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public Optional<Member> findByEmailInLibrary(String email, Long libraryId) {
+        return delegate.findByEmailInLibrary(email, libraryId);
+    }
+
+    @Override
+    public PagedResponse<Member> findAllPaged(int page, int size) {
+        return delegate.findAllPaged(page, size);
+    }
+
+    @Override
+    public PagedResponse<Member> findByNamePaged(String name, int page, int size) {
+        return delegate.findByNamePaged(name, page, size);
+    }
+
+    @Override
+    public CursorResponse<Member> findAllPaged(CursorRequest request) {
+        return delegate.findAllPaged(request);
+    }
+
+    @Override
+    public CursorResponse<Member> findByNamePaged(String name, CursorRequest request) {
+        return delegate.findByNamePaged(name, request);
+    }
+
+    @Override
+    public List<Member> findAllByIds(Collection<Long> ids) {
+        return delegate.findAllByIds(ids);
+    }
+
+    @Override
+    public PagedResponse<Member> findByLibraryIdPaged(Long libraryId, int page, int size) {
+        return delegate.findByLibraryIdPaged(libraryId, page, size);
+    }
+
+    @Override
+    public boolean addToLibrary(Long libraryId, Member member) {
+        return delegate.addToLibrary(libraryId, member);
+    }
+}
@@ -0,0 +1,21 @@
+package com.jikkosoft.library.infrastructure.search.autocomplete;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for typeahead suggestions ({@code library.autocomplete.*}).
+ *
+ * @param enabled        whether the autocomplete tries are built and maintained
+ * @param maxSuggestions number of completions cached per prefix (upper bound for queries)
+ */
+@ConfigurationProperties(prefix = "library.autocomplete")
+public record AutocompleteProperties(
+        boolean enabled,
+        Integer maxSuggestions
+) {
+
+    public AutocompleteProperties {
+        maxSuggestions = maxSuggestions != null ? maxSuggestions : 10;
+        if (maxSuggestions <= 0) throw new IllegalArgumentException("maxSuggestions must be greater than zero");
+    }
+}
@@ -0,0 +1,181 @@
+package com.jikkosoft.library.infrastructure.search.autocomplete;
+
+import com.jikkosoft.library.application.common.CursorRequest;
+import com.jikkosoft.library.application.common.CursorResponse;
+import com.jikkosoft.library.application.port.persistence.BookRepository;
+import com.jikkosoft.library.application.port.persistence.LoanRepository;
+import com.jikkosoft.library.application.port.persistence.MemberRepository;
+import com.jikkosoft.library.domain.model.Author;
+import com.jikkosoft.library.domain.model.Book;
+import com.jikkosoft.library.domain.model.Loan;
+import com.jikkosoft.library.domain.model.Member;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Typeahead over book titles, author names and member names, ranked by loan popularity.
+ *
+ * Responsibilities:
+ * - Keeps one {@link CompletionTrie} per {@link CompletionKind}.
+ * - Loads every book, author and member on startup, seeding popularity from loan counts.
+ * - Applies live updates from the save paths (see the repository decorators), once the
+ *   saving transaction has committed; new loans bump popularity the same way.
+ *
+ * Notes:
+ * - Author popularity is the sum of the loans of their books.
+ * - Queries only walk the prefix and copy cached top-k lists.
+ */
+@Slf4j
+public class AutocompleteService {
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    private final Map<CompletionKind, CompletionTrie> tries = new EnumMap<>(CompletionKind.class);
+    private final BookRepository bookRepository;
+    private final MemberRepository memberRepository;
+    private final LoanRepository loanRepository;
+
+    public AutocompleteService(int maxSuggestions, BookRepository bookRepository,
+                               MemberRepository memberRepository, LoanRepository loanRepository) {
+        for (CompletionKind kind : CompletionKind.values()) {
+            tries.put(kind, new CompletionTrie(maxSuggestions));
+        }
+        this.bookRepository = bookRepository;
+        this.memberRepository = memberRepository;
+        this.loanRepository = loanRepository;
+    }
+
+    /**
+     * Populates all tries from the repositories.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        Map<Long, Long> loansByBook = loanRepository.countLoansByBook();
+        Map<Long, Long> loansByMember = loanRepository.countLoansByMember();
+
+        CursorRequest books = CursorRequest.first(LOAD_BATCH_SIZE);
+        CursorResponse<Book> bookWindow;
+        do {
+            bookWindow = bookRepository.findAll(books);
+            for (Book book : bookWindow.items()) {
+                indexBook(book);
+                long loans = loansByBook.getOrDefault(book.getId(), 0L);
+                if (loans > 0) addBookScore(book.getId(), authorIdsOf(book), loans);
+            }
+            books = books.next(bookWindow);
+        } while (bookWindow.hasNext());
+
+        CursorRequest members = CursorRequest.first(LOAD_BATCH_SIZE);
+        CursorResponse<Member> memberWindow;
+        do {
+            memberWindow = memberRepository.findAllPaged(members);
+            for (Member member : memberWindow.items()) {
+                indexMember(member);
+                long loans = loansByMember.getOrDefault(member.getId(), 0L);
+                if (loans > 0) tries.get(CompletionKind.MEMBER).addScore(member.getId(), loans);
+            }
+            members = members.next(memberWindow);
+        } while (memberWindow.hasNext());
+
+        log.info("Autocomplete loaded: {} books, {} authors, {} members",
+                tries.get(CompletionKind.BOOK).size(),
+                tries.get(CompletionKind.AUTHOR).size(),
+                tries.get(CompletionKind.MEMBER).size());
+    }
+
+    /**
+     * Returns the most popular completions of a prefix across the requested kinds.
+     *
+     * @param prefix text typed so far
+     * @param limit  maximum number of suggestions
+     * @param kinds  kinds to include (all kinds when null or empty)
+     * @return suggestions, most popular first
+     */
+    public List<Completion> complete(String prefix, int limit, Set<CompletionKind> kinds) {
+        Set<CompletionKind> selected = kinds == null || kinds.isEmpty() ? EnumSet.allOf(CompletionKind.class) : kinds;
+        List<Completion> merged = new ArrayList<>();
+        for (CompletionKind kind : selected) {
+            merged.addAll(tries.get(kind).complete(prefix, limit, kind));
+        }
+        if (selected.size() > 1) {
+            merged.sort(Comparator.comparingLong(Completion::score).reversed().thenComparing(Completion::label));
+        }
+        return merged.size() > limit ? List.copyOf(merged.subList(0, limit)) : merged;
+    }
+
+    /** Adds or refreshes a book and its authors. */
+    public void indexBook(Book book) {
+        if (book.getId() == null) return;
+        if (book.isDeleted()) {
+            removeBook(book.getId());
+            return;
+        }
+        tries.get(CompletionKind.BOOK).upsert(book.getId(), book.getTitle());
+        for (Author author : book.getAuthors()) {
+            if (author.getId() != null) {
+                tries.get(CompletionKind.AUTHOR).upsert(author.getId(), author.getFirstName() + " " + author.getLastName());
+            }
+        }
+    }
+
+    /** Removes a book (its authors remain, they may have other books). */
+    public void removeBook(Long bookId) {
+        tries.get(CompletionKind.BOOK).remove(bookId);
+    }
+
+    /** Adds or refreshes a member. */
+    public void indexMember(Member member) {
+        if (member.getId() == null) return;
+        if (member.isDeleted()) {
+            removeMember(member.getId());
+            return;
+        }
+        tries.get(CompletionKind.MEMBER).upsert(member.getId(), member.getFirstName() + " " + member.getLastName());
+    }
+
+    /** Removes a member. */
+    public void removeMember(Long memberId) {
+        tries.get(CompletionKind.MEMBER).remove(memberId);
+    }
+
+    /** Bumps the popularity of the book, authors and member of one committed loan. */
+    public void recordLoan(LoanedItems items) {
+        if (items.bookId() != null) addBookScore(items.bookId(), items.authorIds(), 1);
+        if (items.memberId() != null) tries.get(CompletionKind.MEMBER).addScore(items.memberId(), 1);
+    }
+
+    private void addBookScore(Long bookId, List<Long> authorIds, long delta) {
+        tries.get(CompletionKind.BOOK).addScore(bookId, delta);
+        for (Long authorId : authorIds) {
+            if (authorId != null) tries.get(CompletionKind.AUTHOR).addScore(authorId, delta);
+        }
+    }
+
+    private static List<Long> authorIdsOf(Book book) {
+        return book.getAuthors().stream().map(Author::getId).toList();
+    }
+
+    /**
+     * IDs a loan adds popularity to.
+     *
+     * @param bookId    lent book
+     * @param authorIds authors of the lent book
+     * @param memberId  borrowing member
+     */
+    public record LoanedItems(Long bookId, List<Long> authorIds, Long memberId) {
+
+        public static LoanedItems of(Loan loan) {
+            Book book = loan.getBookCopy().getBook();
+            return new LoanedItems(book.getId(), authorIdsOf(book), loan.getMember().getId());
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.jikkosoft.library.infrastructure.search.autocomplete;
+
+/**
+ * A typeahead suggestion.
+ *
+ * @param kind  kind of entity suggested
+ * @param id    identifier of the entity
+ * @param label display text (book title, author or member full name)
+ * @param score loan popularity used for ranking
+ */
+public record Completion(
+        CompletionKind kind,
+        Long id,
+        String label,
+        long score
+) {}
@@ -0,0 +1,10 @@
+package com.jikkosoft.library.infrastructure.search.autocomplete;
+
+/**
+ * Kind of entity a typeahead suggestion points to.
+ */
+public enum CompletionKind {
+    BOOK,
+    AUTHOR,
+    MEMBER
+}
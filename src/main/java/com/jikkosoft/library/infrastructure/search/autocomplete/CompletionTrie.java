@@ -0,0 +1,274 @@
+package com.jikkosoft.library.infrastructure.search.autocomplete;
+
+import com.jikkosoft.library.infrastructure.search.TextNormalizer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Prefix trie where every node caches its top-k entries by score.
+ *
+ * Responsibilities:
+ * - Indexes each entry under every word start of its label, so "sol" completes
+ *   "Cien años de soledad" as well as "Soledad".
+ * - Answers "top-k completions of prefix p" by walking |p| nodes and copying a
+ *   precomputed list: no subtree scan at query time.
+ * - Keeps the cached lists current when an entry's score grows.
+ *
+ * Notes:
+ * - Children are stored as sorted char arrays to keep nodes compact.
+ * - The root keeps no list: an empty prefix yields no suggestions.
+ * - Scores only grow during normal operation; removals (rename/delete) refill the
+ *   affected nodes from their subtree, which is rare.
+ * - A single read/write lock guards the trie; updates are short.
+ */
+final class CompletionTrie {
+
+    private static final Comparator<Entry> RANK = Comparator.<Entry>comparingLong(e -> e.score).reversed()
+            .thenComparing(e -> e.label)
+            .thenComparing(e -> e.id);
+
+    private final int k;
+    private final Node root = new Node();
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    CompletionTrie(int k) {
+        this.k = k;
+    }
+
+    /**
+     * Adds or relabels an entry, keeping its current score.
+     */
+    void upsert(Long id, String label) {
+        lock.writeLock().lock();
+        try {
+            Entry existing = entries.get(id);
+            if (existing != null) {
+                if (existing.label.equals(label)) return;
+                removeLocked(existing);
+            }
+            Entry entry = new Entry(id, label, existing != null ? existing.score : 0);
+            entries.put(id, entry);
+            for (String key : keysOf(label)) {
+                Node node = root;
+                for (int i = 0; i < key.length(); i++) {
+                    node = node.childOrCreate(key.charAt(i));
+                    node.offer(entry, k);
+                }
+                node.terminals.add(entry);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes an entry.
+     */
+    void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            Entry entry = entries.remove(id);
+            if (entry != null) removeLocked(entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds to an entry's score and promotes it in every cached list along its paths.
+     */
+    void addScore(Long id, long delta) {
+        lock.writeLock().lock();
+        try {
+            Entry entry = entries.get(id);
+            if (entry == null) return;
+            entry.score += delta;
+            for (String key : keysOf(entry.label)) {
+                Node node = root;
+                for (int i = 0; i < key.length() && node != null; i++) {
+                    node = node.child(key.charAt(i));
+                    if (node != null) node.offer(entry, k);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the best completions for a prefix.
+     */
+    List<Completion> complete(String prefix, int limit, CompletionKind kind) {
+        String key = normalizeKey(prefix);
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.child(key.charAt(i));
+            }
+            if (node == null) return List.of();
+            List<Completion> result = new ArrayList<>(Math.min(limit, node.topSize));
+            for (int i = 0; i < node.topSize && i < limit; i++) {
+                Entry e = node.top[i];
+                result.add(new Completion(kind, e.id, e.label, e.score));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeLocked(Entry entry) {
+        for (String key : keysOf(entry.label)) {
+            List<Node> path = new ArrayList<>(key.length() + 1);
+            Node node = root;
+            path.add(node);
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.child(key.charAt(i));
+                if (node != null) path.add(node);
+            }
+            if (node != null && path.size() == key.length() + 1) {
+                node.terminals.remove(entry);
+            }
+            for (Node n : path.subList(1, path.size())) {
+                if (n.removeFromTop(entry)) n.refill(k);
+            }
+        }
+    }
+
+    /** Word-start suffixes of the normalized label, e.g. "garcia marquez" and "marquez". */
+    static List<String> keysOf(String label) {
+        List<String> words = TextNormalizer.tokenize(label);
+        List<String> keys = new ArrayList<>(words.size());
+        for (int i = 0; i < words.size(); i++) {
+            keys.add(String.join(" ", words.subList(i, words.size())));
+        }
+        return keys;
+    }
+
+    static String normalizeKey(String prefix) {
+        String key = String.join(" ", TextNormalizer.tokenize(prefix));
+        // keep a trailing space so "gabriel " only matches the next word
+        return prefix != null && !key.isEmpty() && Character.isWhitespace(prefix.charAt(prefix.length() - 1)) ? key + " " : key;
+    }
+
+    private static final class Entry {
+        final Long id;
+        final String label;
+        long score;
+
+        Entry(Long id, String label, long score) {
+            this.id = id;
+            this.label = label;
+            this.score = score;
+        }
+    }
+
+    private static final class Node {
+        private static final char[] NO_LABELS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+        private static final Entry[] NO_TOP = new Entry[0];
+
+        char[] labels = NO_LABELS;
+        Node[] children = NO_CHILDREN;
+        Entry[] top = NO_TOP;
+        int topSize;
+        final List<Entry> terminals = new ArrayList<>(1);
+
+        Node child(char c) {
+            int i = Arrays.binarySearch(labels, c);
+            return i >= 0 ? children[i] : null;
+        }
+
+        Node childOrCreate(char c) {
+            int i = Arrays.binarySearch(labels, c);
+            if (i >= 0) return children[i];
+            int at = -i - 1;
+            char[] newLabels = new char[labels.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(labels, 0, newLabels, 0, at);
+            System.arraycopy(children, 0, newChildren, 0, at);
+            System.arraycopy(labels, at, newLabels, at + 1, labels.length - at);
+            System.arraycopy(children, at, newChildren, at + 1, children.length - at);
+            Node node = new Node();
+            newLabels[at] = c;
+            newChildren[at] = node;
+            labels = newLabels;
+            children = newChildren;
+            return node;
+        }
+
+        void offer(Entry entry, int k) {
+            int at = indexOf(entry);
+            if (at < 0) {
+                if (topSize == k) {
+                    if (RANK.compare(entry, top[k - 1]) >= 0) return;
+                    at = k - 1;
+                } else {
+                    if (top.length == topSize) top = Arrays.copyOf(top, Math.min(k, Math.max(2, topSize * 2)));
+                    at = topSize++;
+                }
+                top[at] = entry;
+            }
+            while (at > 0 && RANK.compare(top[at], top[at - 1]) < 0) {
+                Entry tmp = top[at - 1];
+                top[at - 1] = top[at];
+                top[at] = tmp;
+                at--;
+            }
+        }
+
+        boolean removeFromTop(Entry entry) {
+            int at = indexOf(entry);
+            if (at < 0) return false;
+            System.arraycopy(top, at + 1, top, at, topSize - at - 1);
+            top[--topSize] = null;
+            return true;
+        }
+
+        void refill(int k) {
+            PriorityQueue<Entry> best = new PriorityQueue<>(RANK.reversed());
+            collect(this, best, k);
+            topSize = 0;
+            top = NO_TOP;
+            List<Entry> sorted = new ArrayList<>(best);
+            sorted.sort(RANK);
+            for (Entry e : sorted) offer(e, k);
+        }
+
+        private static void collect(Node node, PriorityQueue<Entry> best, int k) {
+            for (Entry e : node.terminals) {
+                if (!best.contains(e)) {
+                    best.offer(e);
+                    if (best.size() > k) best.poll();
+                }
+            }
+            for (Node child : node.children) collect(child, best, k);
+        }
+
+        private int indexOf(Entry entry) {
+            for (int i = 0; i < topSize; i++) {
+                if (top[i] == entry) return i;
+            }
+            return -1;
+        }
+    }
+}
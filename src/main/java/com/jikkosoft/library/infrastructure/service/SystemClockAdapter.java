@@ -0,0 +1,35 @@
+package com.jikkosoft.library.infrastructure.service;
+
+import com.jikkosoft.library.application.port.service.ClockPort;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * ClockPort adapter backed by a {@link Clock} (system default zone).
+ */
+@Component
+public class SystemClockAdapter implements ClockPort {
+
+    private final Clock clock;
+
+    public SystemClockAdapter() {
+        this(Clock.systemDefaultZone());
+    }
+
+    public SystemClockAdapter(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public LocalDate today() {
+        return LocalDate.now(clock);
+    }
+
+    @Override
+    public LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+}
@@ -0,0 +1,124 @@
+package com.jikkosoft.library.infrastructure.threading;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * {@link DataSource} that lets at most {@code permits} connections be open at once.
+ *
+ * Responsibilities:
+ * - Makes callers wait on a fair semaphore before they reach the pool, so thousands of virtual
+ *   threads queue in arrival order instead of stampeding the pool's own hand-off.
+ * - Releases the permit when the connection is closed (once, however often close is called).
+ * - Fails with {@link SQLTransientConnectionException} when no permit frees up within the
+ *   acquire timeout, like the pool does when it runs dry.
+ *
+ * Notes:
+ * - Sized to the pool by default; a smaller value keeps connections free for platform-thread
+ *   work such as the audit drainer.
+ * - A thread opening a second connection while holding one takes a second permit, exactly as it
+ *   takes a second pooled connection.
+ */
+public class ConnectionLimitingDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final int maxPermits;
+    private final long acquireTimeoutNanos;
+
+    public ConnectionLimitingDataSource(DataSource target, int permits, Duration acquireTimeout) {
+        super(target);
+        if (permits <= 0) throw new IllegalArgumentException("Connection permits must be greater than zero");
+        if (acquireTimeout.isNegative()) throw new IllegalArgumentException("Acquire timeout must not be negative");
+        this.permits = new Semaphore(permits, true);
+        this.maxPermits = permits;
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return permitted(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return permitted(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /** Connections currently open through this data source. */
+    public int inUse() {
+        return maxPermits - permits.availablePermits();
+    }
+
+    /** Threads waiting for a permit (an estimate). */
+    public int waiting() {
+        return permits.getQueueLength();
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                throw new SQLTransientConnectionException("No database connection permit available after "
+                        + TimeUnit.NANOSECONDS.toMillis(acquireTimeoutNanos) + " ms (" + maxPermits + " in use, "
+                        + permits.getQueueLength() + " waiting)");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database connection permit", e);
+        }
+    }
+
+    private Connection permitted(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(ConnectionLimitingDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "close" -> {
+                            try {
+                                connection.close();
+                            } finally {
+                                if (released.compareAndSet(false, true)) permits.release();
+                            }
+                            return null;
+                        }
+                        case "equals" -> {
+                            return proxy == args[0];
+                        }
+                        case "hashCode" -> {
+                            return System.identityHashCode(proxy);
+                        }
+                        case "toString" -> {
+                            return "Permitted(" + connection + ")";
+                        }
+                        default -> {
+                            try {
+                                return method.invoke(connection, args);
+                            } catch (InvocationTargetException e) {
+                                throw e.getCause();
+                            }
+                        }
+                    }
+                });
+    }
+}
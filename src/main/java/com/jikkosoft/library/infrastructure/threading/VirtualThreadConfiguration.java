@@ -0,0 +1,57 @@
+package com.jikkosoft.library.infrastructure.threading;
+
+import com.jikkosoft.library.infrastructure.config.PortDecoratorPostProcessor;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Virtual-thread mode, active when {@code spring.threads.virtual.enabled=true} on Java 21+.
+ *
+ * Spring Boot itself moves Tomcat request handling, {@code @Scheduled} jobs and {@code @Async}
+ * tasks onto virtual threads, so {@code TransactionalPort} blocks and the blocking port calls
+ * they make run on virtual threads too. This configuration adds what the application needs on
+ * top of that:
+ * - the {@link DataSource} is wrapped in a {@link ConnectionLimitingDataSource} sized to the pool,
+ *   so an unbounded number of virtual threads queues fairly for connections;
+ * - the notification outbox delivers each batch concurrently on virtual threads
+ *   (see {@code NotificationOutboxConfiguration}).
+ */
+@Slf4j
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+@EnableConfigurationProperties(VirtualThreadProperties.class)
+public class VirtualThreadConfiguration {
+
+    @Bean
+    public static PortDecoratorPostProcessor<DataSource> connectionLimitingDataSourceDecorator(
+            ObjectProvider<VirtualThreadProperties> properties) {
+        return new PortDecoratorPostProcessor<>(DataSource.class,
+                dataSource -> limit(dataSource, properties.getObject()),
+                Ordered.LOWEST_PRECEDENCE);
+    }
+
+    static ConnectionLimitingDataSource limit(DataSource dataSource, VirtualThreadProperties properties) {
+        HikariDataSource pool = dataSource instanceof HikariDataSource hikari ? hikari : null;
+        Integer permits = properties.connectionPermits() != null ? properties.connectionPermits()
+                : pool != null ? Integer.valueOf(pool.getMaximumPoolSize()) : null;
+        if (permits == null) {
+            throw new IllegalStateException("Set library.virtual-threads.connection-permits for "
+                    + dataSource.getClass().getName());
+        }
+        Duration timeout = properties.acquireTimeout() != null ? properties.acquireTimeout()
+                : pool != null ? Duration.ofMillis(pool.getConnectionTimeout()) : Duration.ofSeconds(30);
+        log.info("Virtual-thread mode: at most {} open database connections, {} ms acquire timeout",
+                permits, timeout.toMillis());
+        return new ConnectionLimitingDataSource(dataSource, permits, timeout);
+    }
+}
@@ -0,0 +1,26 @@
+package com.jikkosoft.library.infrastructure.threading;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the virtual-thread mode ({@code library.virtual-threads.*}).
+ *
+ * The mode itself is switched with Spring Boot's {@code spring.threads.virtual.enabled}.
+ *
+ * @param connectionPermits connections that may be open at once (default: the pool's maximum size)
+ * @param acquireTimeout    how long a thread waits for a connection permit (default: the pool's connection timeout)
+ */
+@ConfigurationProperties(prefix = "library.virtual-threads")
+public record VirtualThreadProperties(
+        Integer connectionPermits,
+        Duration acquireTimeout
+) {
+
+    public VirtualThreadProperties {
+        if (connectionPermits != null && connectionPermits <= 0) {
+            throw new IllegalArgumentException("Connection permits must be greater than zero");
+        }
+    }
+}
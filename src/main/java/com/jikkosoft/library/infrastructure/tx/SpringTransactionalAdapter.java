@@ -0,0 +1,73 @@
+package com.jikkosoft.library.infrastructure.tx;
+
+import com.jikkosoft.library.application.port.tx.TransactionalPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * TransactionalPort adapter backed by Spring's {@link TransactionTemplate}.
+ *
+ * Notes:
+ * - Uses REQUIRED propagation: nested calls join the caller's transaction, except for
+ *   {@code inNewTransactionReturning}, which uses REQUIRES_NEW.
+ * - Runtime exceptions roll the transaction back and propagate unchanged.
+ * - After-commit actions are logged, not propagated, when they fail: the work they follow
+ *   is already committed and the caller must not report it as failed.
+ */
+@Slf4j
+@Component
+public class SpringTransactionalAdapter implements TransactionalPort {
+
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate newTransactionTemplate;
+
+    public SpringTransactionalAdapter(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.newTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.newTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public void inTransaction(Runnable runnable) {
+        transactionTemplate.executeWithoutResult(status -> runnable.run());
+    }
+
+    @Override
+    public <T> T inTransactionReturning(Supplier<T> supplier) {
+        return transactionTemplate.execute(status -> supplier.get());
+    }
+
+    @Override
+    public <T> T inNewTransactionReturning(Supplier<T> supplier) {
+        return newTransactionTemplate.execute(status -> supplier.get());
+    }
+
+    @Override
+    public void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runAfterCommit(action);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runAfterCommit(action);
+            }
+        });
+    }
+
+    private static void runAfterCommit(Runnable action) {
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            log.error("After-commit action failed", e);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.jikkosoft.library.application.service.availability;
+
+import com.jikkosoft.library.application.port.persistence.BookCopyRepository;
+import com.jikkosoft.library.application.port.persistence.BookCopyRepository.StatusRow;
+import com.jikkosoft.library.domain.enums.BookStatus;
+import com.jikkosoft.library.domain.model.Author;
+import com.jikkosoft.library.domain.model.Book;
+import com.jikkosoft.library.domain.model.BookCopy;
+import com.jikkosoft.library.domain.model.Category;
+import com.jikkosoft.library.domain.model.Library;
+import com.jikkosoft.library.domain.vo.CopyNumber;
+import com.jikkosoft.library.infrastructure.availability.AvailabilityTrackingBookCopyRepository;
+import com.jikkosoft.library.infrastructure.tx.SpringTransactionalAdapter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Rebuild, live updates and commit visibility of {@link BookAvailabilityIndex}.
+ */
+class BookAvailabilityIndexTest {
+
+	private static final long BOOK = 1L;
+	private static final long LIBRARY = 1L;
+
+	private final BookCopyRepository repository = mock(BookCopyRepository.class);
+	private final BookAvailabilityIndex index = new BookAvailabilityIndex(repository);
+	private final Book book = book();
+	private final Library library = new Library.Builder().id(LIBRARY).name("Central").address("Main St 1").build();
+	private EmbeddedDatabase database;
+
+	@AfterEach
+	void tearDown() {
+		if (database != null) database.shutdown();
+	}
+
+	@Test
+	void rebuildCountsCopiesPerStatusAndPicksAFreeOne() {
+		rows(new StatusRow(1L, BOOK, LIBRARY, BookStatus.AVAILABLE), new StatusRow(2L, BOOK, LIBRARY, BookStatus.ON_LOAN),
+				new StatusRow(3L, BOOK, LIBRARY, BookStatus.AVAILABLE), new StatusRow(4L, BOOK, 2L, BookStatus.ON_LOAN));
+
+		index.rebuild();
+
+		assertThat(index.count(BOOK, LIBRARY, BookStatus.AVAILABLE)).isEqualTo(2);
+		assertThat(index.copyIds(BOOK, LIBRARY, BookStatus.AVAILABLE)).containsExactlyInAnyOrder(1L, 3L);
+		assertThat(index.pickAvailable(BOOK, LIBRARY).getAsLong()).isIn(1L, 3L);
+		assertThat(index.isAvailable(BOOK, 2L)).isFalse();
+
+		index.upsert(copy(1L, BookStatus.ON_LOAN));
+		index.upsert(copy(3L, BookStatus.ON_LOAN));
+		index.remove(copy(2L, BookStatus.ON_LOAN));
+		assertThat(index.isAvailable(BOOK, LIBRARY)).isFalse();
+		assertThat(index.copyIds(BOOK, LIBRARY, BookStatus.ON_LOAN)).containsExactlyInAnyOrder(1L, 3L);
+	}
+
+	@Test
+	void updatesArrivingDuringARebuildSurviveTheSwap() {
+		doAnswer(invocation -> {
+			Consumer<StatusRow> consumer = invocation.getArgument(0);
+			consumer.accept(new StatusRow(1L, BOOK, LIBRARY, BookStatus.AVAILABLE));
+			index.upsert(copy(1L, BookStatus.ON_LOAN));
+			index.upsert(copy(5L, BookStatus.AVAILABLE));
+			consumer.accept(new StatusRow(2L, BOOK, LIBRARY, BookStatus.AVAILABLE));
+			return null;
+		}).when(repository).forEachStatusRow(any());
+
+		index.rebuild();
+
+		assertThat(index.copyIds(BOOK, LIBRARY, BookStatus.AVAILABLE)).containsExactlyInAnyOrder(2L, 5L);
+		assertThat(index.copyIds(BOOK, LIBRARY, BookStatus.ON_LOAN)).containsExactly(1L);
+	}
+
+	@Test
+	void onlyCommittedSavesReachTheIndex() {
+		database = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).generateUniqueName(true).build();
+		SpringTransactionalAdapter tx = new SpringTransactionalAdapter(new DataSourceTransactionManager(database));
+		when(repository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+		BookCopyRepository tracked = new AvailabilityTrackingBookCopyRepository(repository, index, tx);
+
+		assertThatThrownBy(() -> tx.inTransaction(() -> {
+			tracked.save(copy(1L, BookStatus.AVAILABLE));
+			throw new IllegalStateException("rolled back");
+		})).hasMessage("rolled back");
+		assertThat(index.isAvailable(BOOK, LIBRARY)).isFalse();
+
+		tx.inTransaction(() -> {
+			tracked.save(copy(1L, BookStatus.AVAILABLE));
+			assertThat(index.isAvailable(BOOK, LIBRARY)).as("visible before commit").isFalse();
+		});
+		assertThat(index.isAvailable(BOOK, LIBRARY)).isTrue();
+
+		BookCopy unsaved = copy(2L, BookStatus.AVAILABLE);
+		unsaved.changeStatus(BookStatus.ON_LOAN);
+		assertThat(index.count(BOOK, LIBRARY, BookStatus.ON_LOAN)).isZero();
+	}
+
+	private void rows(StatusRow... rows) {
+		doAnswer(invocation -> {
+			Consumer<StatusRow> consumer = invocation.getArgument(0);
+			List.of(rows).forEach(consumer);
+			return null;
+		}).when(repository).forEachStatusRow(any());
+	}
+
+	private BookCopy copy(long id, BookStatus status) {
+		return new BookCopy.Builder().id(id).book(book).library(library).copyNumber(new CopyNumber((int) id))
+				.barcode("BC-" + id).shelfLocation("A1").status(status).build();
+	}
+
+	private static Book book() {
+		Category category = new Category.Builder().id(1L).name("Fiction").maxLoanDays(14).penaltyPerDay(1).build();
+		Author author = new Author.Builder().id(1L).firstName("Ursula").lastName("Le Guin").nationality("US").build();
+		return new Book.Builder().id(BOOK).isbnValue("9780306406157").title("The Dispossessed")
+				.authors(List.of(author)).publicationYear(2010).category(category).build();
+	}
+}
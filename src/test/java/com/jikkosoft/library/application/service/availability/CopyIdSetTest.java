@@ -0,0 +1,66 @@
+package com.jikkosoft.library.application.service.availability;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link CopyIdSet} against a {@link HashSet} reference, including deletes inside probe chains.
+ */
+class CopyIdSetTest {
+
+	@Test
+	void matchesAReferenceSetUnderRandomAddsAndRemoves() {
+		Random random = new Random(7);
+		CopyIdSet set = new CopyIdSet();
+		Set<Long> reference = new HashSet<>();
+
+		for (int i = 0; i < 50_000; i++) {
+			long id = random.nextInt(300);
+			if (random.nextInt(3) == 0) {
+				assertThat(set.remove(id)).isEqualTo(reference.remove(id));
+			} else {
+				assertThat(set.add(id)).isEqualTo(reference.add(id));
+			}
+			assertThat(set.size()).isEqualTo(reference.size());
+		}
+		for (long id = 0; id < 300; id++) {
+			assertThat(set.contains(id)).as("contains %d", id).isEqualTo(reference.contains(id));
+		}
+		assertThat(Arrays.stream(set.toArray()).boxed().toList()).containsExactlyInAnyOrderElementsOf(reference);
+	}
+
+	@Test
+	void removingFromTheMiddleOfAProbeChainKeepsLaterKeysReachable() {
+		CopyIdSet set = new CopyIdSet();
+		for (long id = 1; id <= 64; id++) set.add(id * 1024);
+
+		for (long id = 2; id <= 64; id += 2) {
+			assertThat(set.remove(id * 1024)).isTrue();
+		}
+
+		for (long id = 1; id <= 64; id++) {
+			assertThat(set.contains(id * 1024)).as("contains %d", id * 1024).isEqualTo(id % 2 == 1);
+		}
+		assertThat(set.size()).isEqualTo(32);
+		assertThat(set.any() % 2048).isEqualTo(1024);
+	}
+
+	@Test
+	void emptiedSetReportsEmpty() {
+		CopyIdSet set = new CopyIdSet();
+		set.add(5);
+		set.add(9);
+		set.remove(5);
+		set.remove(9);
+
+		assertThat(set.isEmpty()).isTrue();
+		assertThat(set.remove(9)).isFalse();
+		assertThat(set.toArray()).isEmpty();
+	}
+}
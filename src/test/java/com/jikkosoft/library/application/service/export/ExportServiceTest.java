@@ -0,0 +1,174 @@
+package com.jikkosoft.library.application.service.export;
+
+import com.jikkosoft.library.application.dto.auditlog.dto.AuditLogExportRow;
+import com.jikkosoft.library.application.dto.auditlog.query.GetAllAuditLogsQuery;
+import com.jikkosoft.library.application.dto.loan.dto.LoanExportRow;
+import com.jikkosoft.library.application.dto.loan.query.GetAllLoansQuery;
+import com.jikkosoft.library.application.dto.reservation.dto.ReservationExportRow;
+import com.jikkosoft.library.application.dto.reservation.query.GetAllReservationsQuery;
+import com.jikkosoft.library.application.port.persistence.ExportRepository;
+import com.jikkosoft.library.domain.enums.LoanStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Output format, gzip and file handling of {@link ExportService}, over a generated row source.
+ */
+class ExportServiceTest {
+
+	private static final LocalDate TODAY = LocalDate.of(2025, 3, 1);
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void csvQuotesOnlyFieldsThatNeedIt() throws IOException {
+		ExportService service = new ExportService(new GeneratedRows(1, "Dune, \"Deluxe\""));
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		assertThat(service.exportLoans(new GetAllLoansQuery(), ExportFormat.CSV, false, out)).isEqualTo(1);
+
+		assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+				String.join(",", LoanExportRow.COLUMNS) + "\r\n"
+						+ "1,7,Ada Lovelace,11,BC-1,3,\"Dune, \"\"Deluxe\"\"\",1,RETURNED,2025-02-01,2025-02-15,,0\r\n");
+	}
+
+	@Test
+	void ndjsonEscapesStringsAndKeepsNumbersAndNulls() throws IOException {
+		ExportService service = new ExportService(new GeneratedRows(1, "Line\n\"two\"\\"));
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		service.exportLoans(new GetAllLoansQuery(), ExportFormat.NDJSON, false, out);
+
+		assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("{\"loan_id\":1,\"member_id\":7,"
+				+ "\"member_name\":\"Ada Lovelace\",\"book_copy_id\":11,\"barcode\":\"BC-1\",\"book_id\":3,"
+				+ "\"book_title\":\"Line\\n\\\"two\\\"\\\\\",\"library_id\":1,\"status\":\"RETURNED\","
+				+ "\"loan_date\":\"2025-02-01\",\"due_date\":\"2025-02-15\",\"return_date\":null,\"penalty_days\":0}\n");
+	}
+
+	@Test
+	void gzippedFileExportHoldsEveryRow() throws IOException {
+		int rows = 200_000;
+		ExportService service = new ExportService(new GeneratedRows(rows, "Title"));
+		Path file = dir.resolve("loans.csv.gz");
+
+		long written = service.exportToFile(file,
+				out -> service.exportLoans(new GetAllLoansQuery(), ExportFormat.CSV, true, out));
+
+		assertThat(written).isEqualTo(rows);
+		assertThat(Files.exists(dir.resolve("loans.csv.gz.part"))).isFalse();
+		try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+			long lines = new String(in.readAllBytes(), StandardCharsets.UTF_8).lines().count();
+			assertThat(lines).isEqualTo(rows + 1);
+		}
+		assertThat(Files.size(file)).isLessThan(rows * 20L);
+	}
+
+	@Test
+	void failedFileExportLeavesNoFileBehind() {
+		ExportService service = new ExportService(new GeneratedRows(10, "Title"));
+		Path file = dir.resolve("loans.csv");
+
+		assertThatThrownBy(() -> service.exportToFile(file, out -> {
+			service.exportLoans(new GetAllLoansQuery(), ExportFormat.CSV, false, out);
+			throw new IOException("disk full");
+		})).hasMessage("disk full");
+		assertThat(dir).isEmptyDirectory();
+	}
+
+	@Test
+	void writeFailuresAbortTheStream() {
+		GeneratedRows source = new GeneratedRows(1_000_000, "Title");
+		ExportService service = new ExportService(source);
+		OutputStream broken = new OutputStream() {
+			@Override
+			public void write(int b) throws IOException {
+				throw new IOException("client gone");
+			}
+
+			@Override
+			public void write(byte[] b, int off, int len) throws IOException {
+				throw new IOException("client gone");
+			}
+		};
+
+		assertThatThrownBy(() -> service.exportLoans(new GetAllLoansQuery(), ExportFormat.CSV, false, broken))
+				.isInstanceOf(IOException.class)
+				.hasMessage("client gone");
+		assertThat(source.produced.get()).isLessThan(1_000_000);
+	}
+
+	@Test
+	void gzippedWriteFailuresPropagateWithoutClosingTheTarget() {
+		ExportService service = new ExportService(new GeneratedRows(1_000_000, "Title"));
+		boolean[] closed = {false};
+		OutputStream failsAfterHeader = new ByteArrayOutputStream() {
+			@Override
+			public synchronized void write(byte[] b, int off, int len) {
+				if (count > 0) throw new UncheckedIOException(new IOException("client gone"));
+				super.write(b, off, len);
+			}
+
+			@Override
+			public void close() {
+				closed[0] = true;
+			}
+		};
+
+		assertThatThrownBy(() -> service.exportLoans(new GetAllLoansQuery(), ExportFormat.CSV, true, failsAfterHeader))
+				.hasMessage("client gone");
+		assertThat(closed[0]).isFalse();
+	}
+
+	/** Generates loan rows on demand, like a cursor would. */
+	private static final class GeneratedRows implements ExportRepository {
+
+		private final int rows;
+		private final String title;
+		private final AtomicLong produced = new AtomicLong();
+
+		private GeneratedRows(int rows, String title) {
+			this.rows = rows;
+			this.title = title;
+		}
+
+		@Override
+		public long streamLoans(GetAllLoansQuery filter, Consumer<? super LoanExportRow> sink) {
+			for (long i = 1; i <= rows; i++) {
+				produced.incrementAndGet();
+				sink.accept(new LoanExportRow(i, 7L, "Ada Lovelace", 10 + i, "BC-" + i, 3L, title, 1L,
+						LoanStatus.RETURNED, TODAY.minusDays(28), TODAY.minusDays(14), null, 0));
+			}
+			return rows;
+		}
+
+		@Override
+		public long streamReservations(GetAllReservationsQuery filter, Consumer<? super ReservationExportRow> sink) {
+			return 0;
+		}
+
+		@Override
+		public long streamAuditLogs(GetAllAuditLogsQuery filter, Consumer<? super AuditLogExportRow> sink) {
+			sink.accept(new AuditLogExportRow(1L, LocalDateTime.of(2025, 3, 1, 9, 0), null, null, "LOGIN",
+					"User", "1", true, null, null));
+			return 1;
+		}
+	}
+}
@@ -0,0 +1,183 @@
+package com.jikkosoft.library.application.service.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jikkosoft.library.application.common.Result;
+import com.jikkosoft.library.application.dto.loan.command.CreateLoanCommand;
+import com.jikkosoft.library.application.dto.reservation.command.CreateReservationCommand;
+import com.jikkosoft.library.application.port.persistence.IdempotencyRepository;
+import com.jikkosoft.library.application.port.service.ClockPort;
+import com.jikkosoft.library.infrastructure.idempotency.CachingIdempotencyRepository;
+import com.jikkosoft.library.infrastructure.idempotency.JdbcIdempotencyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Replay, concurrency and expiry behaviour of {@link IdempotencyService} over the JDBC store
+ * (H2) with its in-memory tier.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class IdempotencyServiceTest {
+
+	private static final LocalDateTime T0 = LocalDateTime.of(2025, 3, 1, 9, 0);
+	private static final Duration TTL = Duration.ofHours(24);
+
+	@Autowired
+	private DataSource dataSource;
+
+	private final MutableClock clock = new MutableClock();
+	private final AtomicInteger executions = new AtomicInteger();
+	private JdbcTemplate jdbcTemplate;
+	private IdempotencyRepository store;
+	private IdempotencyService service;
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.update("DELETE FROM idempotency_keys");
+		store = new JdbcIdempotencyRepository(jdbcTemplate, new ObjectMapper());
+		service = new IdempotencyService(new CachingIdempotencyRepository(store, 100, TTL), clock, TTL,
+				Duration.ofMinutes(2));
+		clock.now = T0;
+	}
+
+	@Test
+	void replayedKeyReturnsTheStoredResultWithoutRunningTheCommand() {
+		CreateLoanCommand command = loan(7L);
+
+		Result<Long> first = service.execute("kiosk-1", command, Long.class, this::createLoan);
+		Result<Long> retry = service.execute("kiosk-1", loan(7L), Long.class, this::createLoan);
+		IdempotencyService otherInstance = new IdempotencyService(store, clock, TTL, Duration.ofMinutes(2));
+		Result<Long> elsewhere = otherInstance.execute("kiosk-1", loan(7L), Long.class, this::createLoan);
+
+		assertThat(executions).hasValue(1);
+		assertThat(retry).isEqualTo(first).isEqualTo(elsewhere).isEqualTo(Result.success(1L));
+	}
+
+	@Test
+	void businessFailuresAreReplayedButExceptionsReleaseTheKey() {
+		Result<Long> refused = service.execute("kiosk-2", loan(7L), Long.class,
+				() -> Result.failure("Book copy 7 is not available"));
+		assertThat(service.execute("kiosk-2", loan(7L), Long.class, this::createLoan)).isEqualTo(refused);
+
+		assertThatThrownBy(() -> service.execute("kiosk-3", loan(8L), Long.class, () -> {
+			throw new IllegalStateException("connection reset");
+		})).hasMessage("connection reset");
+		assertThat(service.execute("kiosk-3", loan(8L), Long.class, this::createLoan).success()).isTrue();
+		assertThat(executions).hasValue(1);
+	}
+
+	@Test
+	void keyReusedForAnotherCommandIsRejected() {
+		service.execute("kiosk-4", loan(7L), Long.class, this::createLoan);
+
+		assertThatThrownBy(() -> service.execute("kiosk-4", loan(8L), Long.class, this::createLoan))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("different request");
+		assertThatThrownBy(() -> service.execute("kiosk-4", CreateReservationCommand.builder().memberId(1L).bookId(7L)
+				.build(), Long.class, this::createLoan))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void concurrentDuplicatesRunTheCommandOnce() throws Exception {
+		int clients = 16;
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService threads = Executors.newFixedThreadPool(clients);
+		List<Future<Result<Long>>> results = new ArrayList<>();
+		try {
+			for (int i = 0; i < clients; i++) {
+				results.add(threads.submit(() -> {
+					start.await();
+					return service.execute("kiosk-5", loan(7L), Long.class, () -> {
+						sleep(50);
+						return createLoan();
+					});
+				}));
+			}
+			start.countDown();
+			for (Future<Result<Long>> result : results) {
+				assertThat(result.get()).isEqualTo(Result.success(1L));
+			}
+		} finally {
+			threads.shutdownNow();
+		}
+		assertThat(executions).hasValue(1);
+	}
+
+	@Test
+	void keyReservedByAnotherInstanceIsReportedAsInProgressUntilItLapses() {
+		store.reserve("kiosk-6", IdempotencyService.fingerprint(loan(7L)), T0.plusMinutes(2), T0);
+
+		Result<Long> busy = service.execute("kiosk-6", loan(7L), Long.class, this::createLoan);
+		assertThat(busy.success()).isFalse();
+		assertThat(busy.message()).contains("still being processed");
+
+		clock.now = T0.plusMinutes(2);
+		assertThat(service.execute("kiosk-6", loan(7L), Long.class, this::createLoan)).isEqualTo(Result.success(1L));
+	}
+
+	@Test
+	void expiredKeysRunAgainAndArePurged() {
+		service.execute("kiosk-7", loan(7L), Long.class, this::createLoan);
+
+		clock.now = T0.plus(TTL).plusSeconds(1);
+		assertThat(service.execute("kiosk-7", loan(7L), Long.class, this::createLoan)).isEqualTo(Result.success(2L));
+
+		clock.now = clock.now.plus(TTL).plusSeconds(1);
+		assertThat(service.purgeExpired()).isEqualTo(1);
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM idempotency_keys", Long.class)).isZero();
+	}
+
+	private Result<Long> createLoan() {
+		return Result.success((long) executions.incrementAndGet());
+	}
+
+	private static CreateLoanCommand loan(Long bookCopyId) {
+		return CreateLoanCommand.builder().memberId(1L).bookCopyId(bookCopyId)
+				.loanDate(LocalDate.of(2025, 3, 1)).dueDate(LocalDate.of(2025, 3, 15)).build();
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static final class MutableClock implements ClockPort {
+
+		private volatile LocalDateTime now;
+
+		@Override
+		public LocalDate today() {
+			return now.toLocalDate();
+		}
+
+		@Override
+		public LocalDateTime now() {
+			return now;
+		}
+	}
+}
@@ -0,0 +1,121 @@
+package com.jikkosoft.library.application.service.library;
+
+import com.jikkosoft.library.application.common.PagedResponse;
+import com.jikkosoft.library.application.port.persistence.BookCopyRepository;
+import com.jikkosoft.library.application.port.persistence.MemberRepository;
+import com.jikkosoft.library.domain.enums.BookStatus;
+import com.jikkosoft.library.domain.model.Author;
+import com.jikkosoft.library.domain.model.Book;
+import com.jikkosoft.library.domain.model.BookCopy;
+import com.jikkosoft.library.domain.model.Category;
+import com.jikkosoft.library.domain.model.Library;
+import com.jikkosoft.library.domain.model.LibraryCollection;
+import com.jikkosoft.library.domain.model.Member;
+import com.jikkosoft.library.domain.vo.CopyNumber;
+import com.jikkosoft.library.domain.vo.Email;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Write-through counters and windowed streaming of repository-backed library collections.
+ */
+class LibraryCollectionsTest {
+
+	private static final long LIBRARY_ID = 1L;
+
+	private final Set<Long> memberIds = new LinkedHashSet<>();
+	private final List<Integer> requestedPages = new ArrayList<>();
+	private final List<BookCopy> savedCopies = new ArrayList<>();
+	private LibraryCollections collections;
+
+	@BeforeEach
+	void setUp() {
+		MemberRepository members = mock(MemberRepository.class);
+		when(members.addToLibrary(eq(LIBRARY_ID), any())).thenAnswer(invocation ->
+				memberIds.add(invocation.<Member>getArgument(1).getId()));
+		when(members.findByLibraryIdPaged(eq(LIBRARY_ID), anyInt(), anyInt())).thenAnswer(invocation -> {
+			int page = invocation.getArgument(1);
+			int size = invocation.getArgument(2);
+			requestedPages.add(page);
+			List<Member> items = memberIds.stream().skip((long) page * size).limit(size).map(this::member).toList();
+			return PagedResponse.<Member>builder().items(items).build();
+		});
+		BookCopyRepository copies = mock(BookCopyRepository.class);
+		when(copies.save(any())).thenAnswer(invocation -> {
+			savedCopies.add(invocation.getArgument(0));
+			return invocation.getArgument(0);
+		});
+		collections = new LibraryCollections(members, copies);
+	}
+
+	@Test
+	void addingAnExistingElementLeavesTheCountersAlone() {
+		memberIds.add(1L);
+		Library library = hydrate(1, 1);
+		assertThat(library.getMemberCount()).isEqualTo(1);
+		assertThat(library.getBookCopyCount()).isEqualTo(1);
+
+		library.addMember(member(1L));
+		library.addMember(member(2L));
+		library.addMember(member(2L));
+		assertThat(library.getMemberCount()).isEqualTo(2);
+
+		library.addBookCopy(copy(library, 7L));
+		library.addBookCopy(copy(library, null));
+		assertThat(library.getBookCopyCount()).isEqualTo(2);
+		assertThat(savedCopies).hasSize(2);
+
+		Library other = new Library.Builder().id(2L).name("Branch").address("Side St 2").build();
+		assertThatThrownBy(() -> library.addBookCopy(copy(other, null))).isInstanceOf(IllegalArgumentException.class);
+		assertThat(library.getBookCopyCount()).isEqualTo(2);
+	}
+
+	@Test
+	void streamingLoadsOneWindowAtATime() {
+		LongStream.rangeClosed(1, 2L * LibraryCollection.DEFAULT_WINDOW + 50).forEach(memberIds::add);
+		Library library = hydrate(memberIds.size(), 0);
+
+		assertThat(library.streamMembers().limit(5).map(Member::getId)).containsExactly(1L, 2L, 3L, 4L, 5L);
+		assertThat(requestedPages).containsExactly(0);
+
+		requestedPages.clear();
+		assertThat(library.streamMembers().count()).isEqualTo(memberIds.size());
+		assertThat(requestedPages).containsExactly(0, 1, 2);
+	}
+
+	/** Builds the library the way the persistence hydrator does, with counters read from the library row. */
+	private Library hydrate(long memberCount, long bookCopyCount) {
+		return new Library.Builder().id(LIBRARY_ID).name("Central").address("Main St 1")
+				.members(collections.members(), memberCount)
+				.bookCopies(collections.bookCopies(), bookCopyCount)
+				.build();
+	}
+
+	private Member member(Long id) {
+		return new Member.Builder().id(id).firstName("Member").lastName("No" + id)
+				.email(new Email("member" + id + "@example.com")).build();
+	}
+
+	private static BookCopy copy(Library library, Long id) {
+		Category category = new Category.Builder().id(1L).name("Fiction").maxLoanDays(14).penaltyPerDay(1).build();
+		Author author = new Author.Builder().id(1L).firstName("Frank").lastName("Herbert").nationality("US").build();
+		Book book = new Book.Builder().id(1L).isbnValue("9780306406157").title("Dune")
+				.authors(List.of(author)).publicationYear(2010).category(category).build();
+		return new BookCopy.Builder().id(id).book(book).library(library).copyNumber(new CopyNumber(1))
+				.barcode("BC-" + id).shelfLocation("A1").status(BookStatus.AVAILABLE).version(0L).build();
+	}
+}
@@ -0,0 +1,218 @@
+package com.jikkosoft.library.application.service.loan;
+
+import com.jikkosoft.library.application.common.Result;
+import com.jikkosoft.library.application.dto.loan.command.BulkCreateLoansCommand;
+import com.jikkosoft.library.application.dto.loan.command.BulkReturnLoansCommand;
+import com.jikkosoft.library.application.dto.loan.command.CreateLoanCommand;
+import com.jikkosoft.library.application.port.persistence.BookCopyRepository;
+import com.jikkosoft.library.application.port.persistence.LoanRepository;
+import com.jikkosoft.library.application.port.persistence.MemberRepository;
+import com.jikkosoft.library.application.port.tx.TransactionalPort;
+import com.jikkosoft.library.domain.enums.BookStatus;
+import com.jikkosoft.library.domain.enums.LoanStatus;
+import com.jikkosoft.library.domain.event.DomainEventPublisher;
+import com.jikkosoft.library.domain.event.LoanReturned;
+import com.jikkosoft.library.domain.exception.ConcurrencyConflictException;
+import com.jikkosoft.library.domain.model.Author;
+import com.jikkosoft.library.domain.model.Book;
+import com.jikkosoft.library.domain.model.BookCopy;
+import com.jikkosoft.library.domain.model.Category;
+import com.jikkosoft.library.domain.model.Library;
+import com.jikkosoft.library.domain.model.Loan;
+import com.jikkosoft.library.domain.model.Member;
+import com.jikkosoft.library.domain.vo.CopyNumber;
+import com.jikkosoft.library.domain.vo.Email;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Per-item outcomes, request order and conflict retries of bulk checkouts and returns.
+ */
+class BulkLoanServiceTest {
+
+	private static final LocalDate D0 = LocalDate.of(2025, 3, 3);
+
+	private final Book book = book();
+	private final Library library = new Library.Builder().id(1L).name("Central").address("Main St 1").build();
+	private final Member member = new Member.Builder().id(1L).firstName("Ada").lastName("Lovelace")
+			.email(new Email("ada@example.com")).build();
+	private final Map<Long, BookStatus> copyStatus = new HashMap<>();
+	private final Map<Long, LoanStatus> loanStatus = new HashMap<>();
+	private final Map<Long, LocalDate> loanDates = new HashMap<>();
+	private int pendingConflicts;
+	private int reads;
+	private Runnable betweenAttempts = () -> { };
+	private BulkLoanService service;
+
+	@BeforeEach
+	void setUp() {
+		BookCopyRepository copies = mock(BookCopyRepository.class);
+		when(copies.findAllByIds(any())).thenAnswer(invocation -> {
+			reads++;
+			Collection<Long> ids = invocation.getArgument(0);
+			return ids.stream().filter(copyStatus::containsKey).map(id -> copy(id, copyStatus.get(id))).toList();
+		});
+		when(copies.saveAll(anyList())).thenAnswer(invocation -> {
+			if (pendingConflicts > 0) {
+				pendingConflicts--;
+				betweenAttempts.run();
+				throw new ConcurrencyConflictException("Book copy was modified concurrently");
+			}
+			List<BookCopy> batch = invocation.getArgument(0);
+			batch.forEach(copy -> copyStatus.put(copy.getId(), copy.getStatus()));
+			return batch;
+		});
+		MemberRepository members = mock(MemberRepository.class);
+		when(members.findAllByIds(any())).thenReturn(List.of(member));
+		LoanRepository loans = mock(LoanRepository.class);
+		when(loans.findAllByIds(any())).thenAnswer(invocation -> {
+			reads++;
+			Collection<Long> ids = invocation.getArgument(0);
+			return ids.stream().filter(loanStatus::containsKey).map(this::loan).toList();
+		});
+		long[] nextId = {100};
+		when(loans.saveAll(anyList())).thenAnswer(invocation -> {
+			List<Loan> batch = invocation.getArgument(0);
+			return batch.stream().map(loan -> {
+				Long id = loan.getId() != null ? loan.getId() : nextId[0]++;
+				loanStatus.put(id, loan.getStatus());
+				return new Loan.Builder().id(id).bookCopy(loan.getBookCopy()).member(loan.getMember())
+						.loanDate(loan.getLoanDate()).dueDate(loan.getDueDate()).status(loan.getStatus())
+						.returnDate(loan.getReturnDate()).build();
+			}).toList();
+		});
+		service = new BulkLoanService(copies, members, loans, new DirectTransactionalPort());
+	}
+
+	@Test
+	void returnsReportOneOutcomePerItemInRequestOrder() {
+		activeLoan(1L, D0);
+		activeLoan(2L, D0);
+		loanStatus.put(2L, LoanStatus.RETURNED);
+		activeLoan(3L, D0);
+		activeLoan(4L, D0.plusDays(10));
+		activeLoan(5L, D0);
+
+		List<Result<Long>> results;
+		try (DomainEventPublisher.Subscription ignored = DomainEventPublisher.subscribe(LoanReturned.class, event -> {
+			if (Objects.equals(event.loanId(), 5L)) throw new IllegalStateException("Hold hand-off failed");
+		})) {
+			results = service.returnLoans(BulkReturnLoansCommand.builder()
+					.loanIds(List.of(3L, 99L, 1L, 3L, 2L, 4L, 5L)).returnDate(D0.plusDays(5)).build());
+		}
+
+		assertThat(results).extracting(r -> r.success(), Result::message, Result::data).containsExactly(
+				tuple(true, null, 3L),
+				tuple(false, "Loan not found: 99", null),
+				tuple(true, null, 1L),
+				tuple(false, "Loan 3 is listed more than once", null),
+				tuple(false, "Loan 2 was already returned", null),
+				tuple(false, "Return date cannot be before the loan date.", null),
+				tuple(false, "Hold hand-off failed", null));
+		assertThat(loanStatus).containsEntry(1L, LoanStatus.RETURNED).containsEntry(3L, LoanStatus.RETURNED)
+				.containsEntry(4L, LoanStatus.ACTIVE).containsEntry(5L, LoanStatus.ACTIVE);
+		assertThat(copyStatus).containsEntry(1L, BookStatus.AVAILABLE).containsEntry(3L, BookStatus.AVAILABLE)
+				.containsEntry(4L, BookStatus.ON_LOAN).containsEntry(5L, BookStatus.ON_LOAN);
+	}
+
+	@Test
+	void checkoutsRetryAVersionConflictAgainstFreshRows() {
+		for (long id = 1; id <= 3; id++) copyStatus.put(id, BookStatus.AVAILABLE);
+		pendingConflicts = 1;
+		betweenAttempts = () -> copyStatus.put(2L, BookStatus.ON_LOAN);
+
+		List<Result<Long>> results = service.createLoans(BulkCreateLoansCommand.builder()
+				.loans(List.of(checkout(3L), checkout(2L), checkout(3L), checkout(1L))).build());
+
+		assertThat(reads).isEqualTo(2);
+		assertThat(results).extracting(r -> r.success(), Result::message).containsExactly(
+				tuple(true, null),
+				tuple(false, "Book copy 2 is not available (ON_LOAN)"),
+				tuple(false, "Book copy 3 is requested more than once"),
+				tuple(true, null));
+		assertThat(results.get(0).data()).isNotEqualTo(results.get(3).data());
+		assertThat(copyStatus).containsEntry(1L, BookStatus.ON_LOAN).containsEntry(3L, BookStatus.ON_LOAN);
+	}
+
+	@Test
+	void conflictsBeyondTheRetryBudgetPropagate() {
+		activeLoan(1L, D0);
+		pendingConflicts = CheckoutService.MAX_ATTEMPTS;
+
+		assertThatThrownBy(() -> service.returnLoans(BulkReturnLoansCommand.builder()
+				.loanIds(List.of(1L)).returnDate(D0.plusDays(5)).build()))
+				.isInstanceOf(ConcurrencyConflictException.class);
+
+		assertThat(reads).isEqualTo(CheckoutService.MAX_ATTEMPTS);
+		assertThat(loanStatus).containsEntry(1L, LoanStatus.ACTIVE);
+	}
+
+	private void activeLoan(long id, LocalDate loanDate) {
+		loanStatus.put(id, LoanStatus.ACTIVE);
+		loanDates.put(id, loanDate);
+		copyStatus.put(id, BookStatus.ON_LOAN);
+	}
+
+	private Loan loan(Long id) {
+		LoanStatus status = loanStatus.get(id);
+		return new Loan.Builder().id(id).bookCopy(copy(id, copyStatus.get(id))).member(member)
+				.loanDate(loanDates.get(id)).dueDate(loanDates.get(id).plusDays(14)).status(status)
+				.returnDate(status == LoanStatus.RETURNED ? loanDates.get(id).plusDays(1) : null).build();
+	}
+
+	private CreateLoanCommand checkout(long copyId) {
+		return CreateLoanCommand.builder().memberId(member.getId()).bookCopyId(copyId)
+				.loanDate(D0).dueDate(D0.plusDays(14)).build();
+	}
+
+	private BookCopy copy(Long id, BookStatus status) {
+		return new BookCopy.Builder().id(id).book(book).library(library).copyNumber(new CopyNumber(id.intValue()))
+				.barcode("BC-" + id).shelfLocation("A1").status(status).version(0L).build();
+	}
+
+	private static Book book() {
+		Category category = new Category.Builder().id(1L).name("Fiction").maxLoanDays(14).penaltyPerDay(1).build();
+		Author author = new Author.Builder().id(1L).firstName("Frank").lastName("Herbert").nationality("US").build();
+		return new Book.Builder().id(1L).isbnValue("9780306406157").title("Dune")
+				.authors(List.of(author)).publicationYear(2010).category(category).build();
+	}
+
+	private static final class DirectTransactionalPort implements TransactionalPort {
+
+		@Override
+		public void inTransaction(Runnable runnable) {
+			runnable.run();
+		}
+
+		@Override
+		public <T> T inTransactionReturning(Supplier<T> supplier) {
+			return supplier.get();
+		}
+
+		@Override
+		public <T> T inNewTransactionReturning(Supplier<T> supplier) {
+			return supplier.get();
+		}
+
+		@Override
+		public void afterCommit(Runnable action) {
+			action.run();
+		}
+	}
+}
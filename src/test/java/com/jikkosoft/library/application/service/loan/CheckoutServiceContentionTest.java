@@ -0,0 +1,355 @@
+package com.jikkosoft.library.application.service.loan;
+
+import com.jikkosoft.library.application.port.persistence.BookCopyRepository;
+import com.jikkosoft.library.application.port.persistence.LoanRepository;
+import com.jikkosoft.library.application.port.persistence.MemberRepository;
+import com.jikkosoft.library.application.port.persistence.ReservationRepository;
+import com.jikkosoft.library.application.port.service.ClockPort;
+import com.jikkosoft.library.application.port.tx.TransactionalPort;
+import com.jikkosoft.library.domain.enums.BookStatus;
+import com.jikkosoft.library.domain.enums.LoanStatus;
+import com.jikkosoft.library.domain.enums.ReservationStatus;
+import com.jikkosoft.library.domain.exception.BusinessException;
+import com.jikkosoft.library.domain.exception.ConcurrencyConflictException;
+import com.jikkosoft.library.domain.model.Author;
+import com.jikkosoft.library.domain.model.Book;
+import com.jikkosoft.library.domain.model.BookCopy;
+import com.jikkosoft.library.domain.model.Category;
+import com.jikkosoft.library.domain.model.Library;
+import com.jikkosoft.library.domain.model.Loan;
+import com.jikkosoft.library.domain.model.Member;
+import com.jikkosoft.library.domain.model.Reservation;
+import com.jikkosoft.library.domain.vo.CopyNumber;
+import com.jikkosoft.library.domain.vo.Email;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Contention behaviour of {@link CheckoutService}: desks hammer a hot set and a spread set of copies
+ * through an in-memory store that enforces optimistic versions like the persistence adapter does.
+ */
+class CheckoutServiceContentionTest {
+
+	private static final LocalDate TODAY = LocalDate.of(2025, 3, 1);
+	private static final long RUN_MILLIS = 500;
+
+	@Test
+	void hotCopiesAreNeverLentTwice() throws InterruptedException {
+		Result result = run(4);
+
+		assertThat(result.doubleLoans).isZero();
+		assertThat(result.versionConflicts).isZero();
+		assertThat(result.checkouts).isPositive();
+	}
+
+	@Test
+	void spreadCopiesAreNeverLentTwice() throws InterruptedException {
+		Result result = run(4096);
+
+		assertThat(result.doubleLoans).isZero();
+		assertThat(result.versionConflicts).isZero();
+		assertThat(result.checkouts).isPositive();
+	}
+
+	@Test
+	void checkoutsOfDifferentCopiesOverlap() throws Exception {
+		InMemoryStore store = new InMemoryStore(2);
+		CyclicBarrier bothInside = new CyclicBarrier(2);
+		store.onRead = copyId -> {
+			try {
+				bothInside.await(5, TimeUnit.SECONDS);
+			} catch (Exception e) {
+				throw new IllegalStateException("Checkout of copy " + copyId + " ran alone", e);
+			}
+		};
+		CheckoutService service = store.checkoutService();
+		ExecutorService desks = Executors.newFixedThreadPool(2);
+		try {
+			Future<Loan> first = desks.submit(() -> service.checkout(1L, 1L, TODAY.plusDays(14)));
+			Future<Loan> second = desks.submit(() -> service.checkout(2L, 1L, TODAY.plusDays(14)));
+
+			assertThat(first.get(10, TimeUnit.SECONDS).getBookCopy().getId()).isEqualTo(1L);
+			assertThat(second.get(10, TimeUnit.SECONDS).getBookCopy().getId()).isEqualTo(2L);
+		} finally {
+			desks.shutdownNow();
+		}
+	}
+
+	@Test
+	void versionConflictsAreRetriedAndReturnedLoansCarryTheStoredVersion() {
+		InMemoryStore store = new InMemoryStore(1);
+		CheckoutService service = store.checkoutService();
+		store.pendingConflicts = CheckoutService.MAX_ATTEMPTS - 1;
+
+		Loan loan = service.checkout(1L, 1L, TODAY.plusDays(14));
+
+		assertThat(store.reads).hasValue(CheckoutService.MAX_ATTEMPTS);
+		assertThat(loan.getBookCopy().getVersion()).isEqualTo(store.copies.get(1L).getVersion()).isEqualTo(1L);
+		assertThat(loan.getBookCopy().getStatus()).isEqualTo(BookStatus.ON_LOAN);
+
+		Loan returned = service.returnLoan(loan.getId());
+		assertThat(returned.getStatus()).isEqualTo(LoanStatus.RETURNED);
+		assertThat(returned.getBookCopy().getVersion()).isEqualTo(2L);
+		assertThat(returned.getBookCopy().getStatus()).isEqualTo(BookStatus.AVAILABLE);
+	}
+
+	@Test
+	void conflictsBeyondTheRetryBudgetPropagateAndLeaveTheCopyUntouched() {
+		InMemoryStore store = new InMemoryStore(1);
+		CheckoutService service = store.checkoutService();
+		store.pendingConflicts = CheckoutService.MAX_ATTEMPTS;
+
+		assertThatThrownBy(() -> service.checkout(1L, 1L, TODAY.plusDays(14)))
+				.isInstanceOf(ConcurrencyConflictException.class);
+
+		assertThat(store.reads).hasValue(CheckoutService.MAX_ATTEMPTS);
+		assertThat(store.copies.get(1L).getStatus()).isEqualTo(BookStatus.AVAILABLE);
+		assertThat(store.copies.get(1L).getVersion()).isZero();
+		assertThat(store.loans).isEmpty();
+	}
+
+	@Test
+	void heldCopiesAreLentOnlyToTheMemberTheyAreHeldFor() {
+		InMemoryStore store = new InMemoryStore(2);
+		Reservation reservation = store.holdFor(1L, 2L);
+		CheckoutService service = store.checkoutService();
+
+		assertThatThrownBy(() -> service.checkout(1L, 1L, TODAY.plusDays(14)))
+				.isInstanceOf(BusinessException.class)
+				.hasMessage("Book copy 1 is not available (ON_HOLD)");
+		assertThat(store.savedReservations).isEmpty();
+
+		Loan loan = service.checkout(1L, 2L, TODAY.plusDays(14));
+		assertThat(loan.getMember().getId()).isEqualTo(2L);
+		assertThat(loan.getBookCopy().getStatus()).isEqualTo(BookStatus.ON_LOAN);
+		assertThat(reservation.getStatus()).isEqualTo(ReservationStatus.FULFILLED);
+		assertThat(store.savedReservations).containsExactly(reservation);
+	}
+
+	private Result run(int copyCount) throws InterruptedException {
+		InMemoryStore store = new InMemoryStore(copyCount);
+		CheckoutService service = store.checkoutService();
+		Result result = new Result();
+		int threads = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+		CountDownLatch start = new CountDownLatch(1);
+		long deadline = System.nanoTime() + RUN_MILLIS * 1_000_000;
+
+		Thread[] desks = new Thread[threads];
+		for (int t = 0; t < threads; t++) {
+			desks[t] = new Thread(() -> {
+				awaitQuietly(start);
+				ThreadLocalRandom random = ThreadLocalRandom.current();
+				while (System.nanoTime() < deadline) {
+					long copyId = 1 + random.nextInt(copyCount);
+					Loan loan;
+					try {
+						loan = service.checkout(copyId, 1L, TODAY.plusDays(14));
+					} catch (ConcurrencyConflictException e) {
+						result.versionConflicts.increment();
+						continue;
+					} catch (BusinessException e) {
+						result.unavailable.increment();
+						continue;
+					}
+					if (store.lentCopies.merge(copyId, 1, Integer::sum) > 1) result.doubleLoans.increment();
+					result.checkouts.increment();
+					store.lentCopies.merge(copyId, -1, Integer::sum);
+					service.returnLoan(loan.getId());
+				}
+			});
+			desks[t].start();
+		}
+		start.countDown();
+		for (Thread desk : desks) desk.join();
+		return result;
+	}
+
+	private static void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static final class Result {
+		final LongAdder checkouts = new LongAdder();
+		final LongAdder unavailable = new LongAdder();
+		final LongAdder versionConflicts = new LongAdder();
+		final LongAdder doubleLoans = new LongAdder();
+	}
+
+	/**
+	 * Rows are rebuilt on every read and save, like an adapter mapping entities to fresh domain objects.
+	 * Copy saves can be made to fail with a version conflict a given number of times.
+	 */
+	private static final class InMemoryStore {
+
+		private final Map<Long, BookCopy> copies = new ConcurrentHashMap<>();
+		private final Map<Long, Loan> loans = new ConcurrentHashMap<>();
+		private final Map<Long, Integer> lentCopies = new ConcurrentHashMap<>();
+		private final AtomicLong loanIds = new AtomicLong();
+		private final AtomicInteger reads = new AtomicInteger();
+		private final Map<Long, Reservation> holds = new ConcurrentHashMap<>();
+		private final List<Reservation> savedReservations = new ArrayList<>();
+		private volatile LongConsumer onRead = copyId -> { };
+		private volatile int pendingConflicts;
+
+		InMemoryStore(int copyCount) {
+			Category category = new Category.Builder().id(1L).name("Fiction").maxLoanDays(14).penaltyPerDay(1).build();
+			Author author = new Author.Builder().id(1L).firstName("Ursula").lastName("Le Guin")
+					.nationality("US").build();
+			Book book = new Book.Builder().id(1L).isbnValue("9780306406157").title("The Dispossessed")
+					.authors(List.of(author)).publicationYear(2010).category(category).build();
+			Library library = new Library.Builder().id(1L).name("Central").address("Main St 1").build();
+			for (long id = 1; id <= copyCount; id++) {
+				copies.put(id, new BookCopy.Builder().id(id).book(book).library(library)
+						.copyNumber(new CopyNumber((int) id)).barcode("BC-" + id).shelfLocation("A1").build());
+			}
+		}
+
+		/** Puts a copy ON_HOLD for a member's reservation of another copy of the same book. */
+		Reservation holdFor(long copyId, long memberId) {
+			BookCopy held = copies.computeIfPresent(copyId, (id, copy) -> rebuild(copy, BookStatus.ON_HOLD, 0L));
+			Reservation reservation = new Reservation.Builder().id(copyId).bookCopy(copy(copyId % copies.size() + 1))
+					.member(member(memberId)).reservedAt(TODAY.minusDays(3)).expiresAt(TODAY.plusDays(4)).build();
+			reservation.hold(held);
+			holds.put(copyId, reservation);
+			return reservation;
+		}
+
+		CheckoutService checkoutService() {
+			BookCopyRepository copyRepository = fake(BookCopyRepository.class, (method, args) -> switch (method) {
+				case "findById" -> {
+					reads.incrementAndGet();
+					onRead.accept((Long) args[0]);
+					yield Optional.of(copy((Long) args[0]));
+				}
+				case "save" -> saveCopy((BookCopy) args[0]);
+				default -> throw new UnsupportedOperationException(method);
+			});
+			MemberRepository memberRepository = fake(MemberRepository.class, (method, args) -> switch (method) {
+				case "findById" -> Optional.of(member((Long) args[0]));
+				default -> throw new UnsupportedOperationException(method);
+			});
+			LoanRepository loanRepository = fake(LoanRepository.class, (method, args) -> switch (method) {
+				case "findById" -> Optional.ofNullable(loans.get((Long) args[0]))
+						.map(loan -> loan.getStatus() == LoanStatus.RETURNED ? loan : rehydrate(loan));
+				case "save" -> saveLoan((Loan) args[0]);
+				default -> throw new UnsupportedOperationException(method);
+			});
+			ReservationRepository reservationRepository = fake(ReservationRepository.class, (method, args) -> switch (method) {
+				case "findActiveByHeldCopyId" -> Optional.ofNullable(holds.get((Long) args[0]))
+						.filter(reservation -> reservation.getStatus() == ReservationStatus.ACTIVE);
+				case "save" -> {
+					savedReservations.add((Reservation) args[0]);
+					yield args[0];
+				}
+				default -> throw new UnsupportedOperationException(method);
+			});
+			TransactionalPort tx = new TransactionalPort() {
+				@Override
+				public void inTransaction(Runnable runnable) {
+					runnable.run();
+				}
+
+				@Override
+				public <T> T inTransactionReturning(Supplier<T> supplier) {
+					return supplier.get();
+				}
+
+				@Override
+				public <T> T inNewTransactionReturning(Supplier<T> supplier) {
+					return supplier.get();
+				}
+
+				@Override
+				public void afterCommit(Runnable action) {
+					action.run();
+				}
+			};
+			ClockPort clock = fake(ClockPort.class, (method, args) -> switch (method) {
+				case "today" -> TODAY;
+				default -> throw new UnsupportedOperationException(method);
+			});
+			return new CheckoutService(copyRepository, memberRepository, loanRepository, reservationRepository, tx,
+					clock, 1024);
+		}
+
+		@SuppressWarnings("unchecked")
+		private static <T> T fake(Class<T> port, BiFunction<String, Object[], Object> handler) {
+			return (T) Proxy.newProxyInstance(port.getClassLoader(), new Class<?>[]{port},
+					(proxy, method, args) -> handler.apply(method.getName(), args));
+		}
+
+		private static Member member(long id) {
+			return new Member.Builder().id(id).firstName("Member").lastName("No" + id)
+					.email(new Email("member" + id + "@example.com")).build();
+		}
+
+		private BookCopy copy(long id) {
+			return rebuild(copies.get(id), copies.get(id).getStatus(), copies.get(id).getVersion());
+		}
+
+		private BookCopy saveCopy(BookCopy copy) {
+			if (pendingConflicts > 0) {
+				pendingConflicts--;
+				throw new ConcurrencyConflictException("Book copy " + copy.getId() + " was modified concurrently");
+			}
+			BookCopy[] saved = new BookCopy[1];
+			copies.compute(copy.getId(), (id, stored) -> {
+				if (stored.getVersion() != copy.getVersion()) {
+					throw new ConcurrencyConflictException("Book copy " + id + " was modified concurrently");
+				}
+				saved[0] = rebuild(copy, copy.getStatus(), copy.getVersion() + 1);
+				return saved[0];
+			});
+			return saved[0];
+		}
+
+		private Loan saveLoan(Loan loan) {
+			if (loan.getId() != null) {
+				loans.put(loan.getId(), loan);
+				return loan;
+			}
+			Loan saved = new Loan.Builder().id(loanIds.incrementAndGet()).bookCopy(copy(loan.getBookCopy().getId()))
+					.member(loan.getMember()).loanDate(loan.getLoanDate()).dueDate(loan.getDueDate()).build();
+			loans.put(saved.getId(), saved);
+			return saved;
+		}
+
+		private Loan rehydrate(Loan loan) {
+			return new Loan.Builder().id(loan.getId()).bookCopy(copy(loan.getBookCopy().getId()))
+					.member(loan.getMember()).loanDate(loan.getLoanDate()).dueDate(loan.getDueDate()).build();
+		}
+
+		private static BookCopy rebuild(BookCopy copy, BookStatus status, long version) {
+			return new BookCopy.Builder().id(copy.getId()).book(copy.getBook()).library(copy.getLibrary())
+					.copyNumber(copy.getCopyNumber()).barcode(copy.getBarcode())
+					.shelfLocation(copy.getShelfLocation()).status(status).version(version).build();
+		}
+	}
+}
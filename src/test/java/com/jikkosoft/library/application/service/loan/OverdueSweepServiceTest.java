@@ -0,0 +1,226 @@
+package com.jikkosoft.library.application.service.loan;
+
+import com.jikkosoft.library.application.common.CursorRequest;
+import com.jikkosoft.library.application.common.CursorResponse;
+import com.jikkosoft.library.application.common.PagedResponse;
+import com.jikkosoft.library.application.port.persistence.LoanRepository;
+import com.jikkosoft.library.application.port.service.ClockPort;
+import com.jikkosoft.library.application.port.tx.TransactionalPort;
+import com.jikkosoft.library.domain.enums.BookStatus;
+import com.jikkosoft.library.domain.enums.LoanStatus;
+import com.jikkosoft.library.domain.model.Author;
+import com.jikkosoft.library.domain.model.Book;
+import com.jikkosoft.library.domain.model.BookCopy;
+import com.jikkosoft.library.domain.model.Category;
+import com.jikkosoft.library.domain.model.Library;
+import com.jikkosoft.library.domain.model.Loan;
+import com.jikkosoft.library.domain.model.Member;
+import com.jikkosoft.library.domain.vo.CopyNumber;
+import com.jikkosoft.library.domain.vo.Email;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Due-date bookkeeping of the timing wheel and failure handling of the overdue sweep.
+ */
+class OverdueSweepServiceTest {
+
+	private static final LocalDate D0 = LocalDate.of(2025, 3, 3);
+
+	@Test
+	void wheelReturnsEachLoanOnceTheDayAfterItIsDue() {
+		DueDateTimingWheel wheel = new DueDateTimingWheel(7, D0.minusDays(1));
+		wheel.schedule(1L, D0);
+		wheel.schedule(2L, D0.plusDays(2));
+		wheel.schedule(3L, D0.plusDays(30));
+		wheel.schedule(4L, D0.minusDays(5));
+		wheel.schedule(5L, D0.plusDays(1));
+		wheel.cancel(5L);
+
+		assertThat(wheel.advance(D0)).containsExactly(4L);
+		assertThat(wheel.advance(D0.plusDays(1))).containsExactly(1L);
+		assertThat(wheel.advance(D0.plusDays(1))).isEmpty();
+		assertThat(wheel.advance(D0.plusDays(10))).containsExactly(2L);
+
+		wheel.schedule(3L, D0.plusDays(12));
+		assertThat(wheel.advance(D0.plusDays(30))).containsExactly(3L);
+		assertThat(wheel.advance(D0.plusDays(60))).isEmpty();
+		assertThat(wheel.size()).isZero();
+	}
+
+	@Test
+	void requeuedLoansComeBackUnlessRescheduledOrCancelled() {
+		DueDateTimingWheel wheel = new DueDateTimingWheel(7, D0.minusDays(1));
+		wheel.schedule(1L, D0);
+		wheel.schedule(2L, D0);
+		wheel.schedule(3L, D0);
+		assertThat(wheel.advance(D0.plusDays(1))).containsExactlyInAnyOrder(1L, 2L, 3L);
+
+		wheel.schedule(2L, D0.plusDays(5));
+		wheel.requeue(List.of(1L, 2L, 3L));
+		wheel.cancel(3L);
+		assertThat(wheel.size()).isEqualTo(2);
+		assertThat(wheel.advance(D0.plusDays(1))).containsExactly(1L);
+		assertThat(wheel.advance(D0.plusDays(6))).containsExactly(2L);
+	}
+
+	@Test
+	void failedBatchIsRetriedByTheNextSweep() {
+		MutableClock clock = new MutableClock(D0);
+		FakeLoanRepository loans = new FakeLoanRepository();
+		Member member = member();
+		for (long id = 1; id <= 5; id++) loans.add(activeLoan(id, member, D0));
+		OverdueSweepService service = new OverdueSweepService(loans, clock, new DirectTransactionalPort(), 7, 2);
+		service.rehydrate();
+
+		clock.today = D0.plusDays(1);
+		loans.failingSaves = 1;
+		assertThat(service.sweep()).isEqualTo(3);
+		assertThat(loans.overdueIds()).hasSize(3);
+
+		assertThat(service.sweep()).isEqualTo(2);
+		assertThat(loans.overdueIds()).containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 5L);
+		assertThat(service.sweep()).isZero();
+	}
+
+	private static Loan activeLoan(long id, Member member, LocalDate dueDate) {
+		Category category = new Category.Builder().id(1L).name("Fiction").maxLoanDays(14).penaltyPerDay(1).build();
+		Author author = new Author.Builder().id(1L).firstName("Frank").lastName("Herbert").nationality("US").build();
+		Book book = new Book.Builder().id(1L).isbnValue("9780306406157").title("Dune")
+				.authors(List.of(author)).publicationYear(2010).category(category).build();
+		Library library = new Library.Builder().id(1L).name("Central").address("Main St 1").build();
+		BookCopy copy = new BookCopy.Builder().id(id).book(book).library(library).copyNumber(new CopyNumber((int) id))
+				.barcode("BC-" + id).shelfLocation("A1").status(BookStatus.ON_LOAN).version(0L).build();
+		return new Loan.Builder().id(id).bookCopy(copy).member(member).loanDate(dueDate.minusDays(14))
+				.dueDate(dueDate).status(LoanStatus.ACTIVE).build();
+	}
+
+	private static Member member() {
+		return new Member.Builder().id(1L).firstName("Ada").lastName("Lovelace")
+				.email(new Email("ada@example.com")).build();
+	}
+
+	/** In-memory loans whose saveAll fails a configurable number of times. */
+	private static final class FakeLoanRepository implements LoanRepository {
+
+		private final Map<Long, Loan> loans = new HashMap<>();
+		private final Map<Long, LoanStatus> stored = new HashMap<>();
+		private int failingSaves;
+
+		void add(Loan loan) {
+			loans.put(loan.getId(), loan);
+			stored.put(loan.getId(), loan.getStatus());
+		}
+
+		List<Long> overdueIds() {
+			return stored.entrySet().stream().filter(e -> e.getValue() == LoanStatus.OVERDUE)
+					.map(Map.Entry::getKey).toList();
+		}
+
+		@Override
+		public List<Loan> findAllByIds(Collection<Long> ids) {
+			return ids.stream().map(loans::get).map(loan -> new Loan.Builder().id(loan.getId())
+					.bookCopy(loan.getBookCopy()).member(loan.getMember()).loanDate(loan.getLoanDate())
+					.dueDate(loan.getDueDate()).status(stored.get(loan.getId())).build()).toList();
+		}
+
+		@Override
+		public List<Loan> saveAll(List<Loan> batch) {
+			if (failingSaves > 0) {
+				failingSaves--;
+				throw new IllegalStateException("database down");
+			}
+			batch.forEach(loan -> stored.put(loan.getId(), loan.getStatus()));
+			return batch;
+		}
+
+		@Override
+		public void forEachActiveDueDate(Consumer<DueDateRow> consumer) {
+			loans.values().forEach(loan -> consumer.accept(new DueDateRow(loan.getId(), loan.getDueDate())));
+		}
+
+		@Override
+		public Optional<Loan> findById(Long id) {
+			return Optional.ofNullable(loans.get(id));
+		}
+
+		@Override
+		public Loan save(Loan loan) {
+			return saveAll(List.of(loan)).get(0);
+		}
+
+		@Override
+		public List<Loan> findByMemberIdAndStatus(Long memberId, LoanStatus status) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void logicalDeleteById(Long id) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public PagedResponse<Loan> findByMemberIdAndStatusPaged(Long memberId, LoanStatus status, int page, int size) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public CursorResponse<Loan> findByMemberIdAndStatusPaged(Long memberId, LoanStatus status,
+				CursorRequest request) {
+			throw new UnsupportedOperationException();
+		}
+	}
+
+	private static final class DirectTransactionalPort implements TransactionalPort {
+
+		@Override
+		public void inTransaction(Runnable runnable) {
+			runnable.run();
+		}
+
+		@Override
+		public <T> T inTransactionReturning(Supplier<T> supplier) {
+			return supplier.get();
+		}
+
+		@Override
+		public <T> T inNewTransactionReturning(Supplier<T> supplier) {
+			return supplier.get();
+		}
+
+		@Override
+		public void afterCommit(Runnable action) {
+			action.run();
+		}
+	}
+
+	private static final class MutableClock implements ClockPort {
+
+		private LocalDate today;
+
+		private MutableClock(LocalDate today) {
+			this.today = today;
+		}
+
+		@Override
+		public LocalDate today() {
+			return today;
+		}
+
+		@Override
+		public LocalDateTime now() {
+			return today.atStartOfDay();
+		}
+	}
+}
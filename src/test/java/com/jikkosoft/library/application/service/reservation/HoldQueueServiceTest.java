@@ -0,0 +1,282 @@
+package com.jikkosoft.library.application.service.reservation;
+
+import com.jikkosoft.library.application.port.persistence.BookCopyRepository;
+import com.jikkosoft.library.application.port.persistence.ReservationRepository;
+import com.jikkosoft.library.application.port.tx.TransactionalPort;
+import com.jikkosoft.library.domain.enums.BookStatus;
+import com.jikkosoft.library.domain.enums.ReservationStatus;
+import com.jikkosoft.library.domain.event.DomainEventPublisher;
+import com.jikkosoft.library.domain.event.LoanReturned;
+import com.jikkosoft.library.domain.model.Author;
+import com.jikkosoft.library.domain.model.Book;
+import com.jikkosoft.library.domain.model.BookCopy;
+import com.jikkosoft.library.domain.model.Category;
+import com.jikkosoft.library.domain.model.Library;
+import com.jikkosoft.library.domain.model.Member;
+import com.jikkosoft.library.domain.model.Reservation;
+import com.jikkosoft.library.domain.vo.CopyNumber;
+import com.jikkosoft.library.domain.vo.Email;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Queue order, library scoping, commit coupling and copy status of the hold hand-off and release.
+ */
+class HoldQueueServiceTest {
+
+	private static final LocalDate D0 = LocalDate.of(2025, 3, 3);
+
+	private final Book book = book();
+	private final Library library = new Library.Builder().id(1L).name("Central").address("Main St 1").build();
+	private final Library branch = new Library.Builder().id(2L).name("Branch").address("Side St 2").build();
+	private final Map<Long, Library> copyLibrary = new HashMap<>();
+	private final Map<Long, Long> heldCopies = new HashMap<>();
+	private final Map<Long, BookStatus> copyStatus = new HashMap<>();
+	private final Map<Long, ReservationStatus> reservationStatus = new HashMap<>();
+	private final Map<Long, Reservation> reservations = new HashMap<>();
+	private final List<String> notified = new ArrayList<>();
+	private final DeferredTransactionalPort tx = new DeferredTransactionalPort();
+	private boolean failCopySaves;
+	private HoldQueueService service;
+
+	@BeforeEach
+	void setUp() {
+		BookCopyRepository copies = mock(BookCopyRepository.class);
+		when(copies.findById(any())).thenAnswer(invocation -> {
+			Long id = invocation.getArgument(0);
+			return Optional.ofNullable(copyStatus.get(id)).map(status -> copy(id, status));
+		});
+		when(copies.save(any())).thenAnswer(invocation -> {
+			if (failCopySaves) throw new IllegalStateException("database down");
+			BookCopy copy = invocation.getArgument(0);
+			copyStatus.put(copy.getId(), copy.getStatus());
+			return copy;
+		});
+		ReservationRepository repository = mock(ReservationRepository.class);
+		when(repository.findById(any())).thenAnswer(invocation -> {
+			Long id = invocation.getArgument(0);
+			return Optional.ofNullable(reservations.get(id)).map(this::stored);
+		});
+		when(repository.save(any())).thenAnswer(invocation -> {
+			Reservation reservation = invocation.getArgument(0);
+			reservationStatus.put(reservation.getId(), reservation.getStatus());
+			if (reservation.getHeldCopy() != null) heldCopies.put(reservation.getId(), reservation.getHeldCopy().getId());
+			return reservation;
+		});
+		service = new HoldQueueService(repository, copies,
+				(member, subject, message) -> notified.add(member.getFirstName()), tx);
+		service.subscribe();
+	}
+
+	@AfterEach
+	void tearDown() {
+		service.unsubscribe();
+	}
+
+	@Test
+	void returnedCopiesAreHeldForWaitingMembersInReservationOrder() {
+		reserve(3L, "Carol", D0.plusDays(1));
+		reserve(2L, "Bob", D0);
+		reserve(1L, "Ann", D0);
+		reserve(4L, "Dan", D0.plusDays(2));
+		reservationStatus.put(4L, ReservationStatus.CANCELLED);
+		for (long copyId = 10; copyId <= 13; copyId++) copyStatus.put(copyId, BookStatus.AVAILABLE);
+
+		for (long copyId = 10; copyId <= 13; copyId++) {
+			returned(copyId);
+			tx.commit();
+		}
+
+		assertThat(notified).containsExactly("Ann", "Bob", "Carol");
+		assertThat(heldCopies).containsEntry(1L, 10L).containsEntry(2L, 11L).containsEntry(3L, 12L)
+				.doesNotContainKey(4L);
+		assertThat(reservationStatus).containsEntry(1L, ReservationStatus.ACTIVE)
+				.containsEntry(4L, ReservationStatus.CANCELLED);
+		assertThat(copyStatus).containsEntry(10L, BookStatus.ON_HOLD)
+				.containsEntry(11L, BookStatus.ON_HOLD)
+				.containsEntry(12L, BookStatus.ON_HOLD)
+				.containsEntry(13L, BookStatus.AVAILABLE);
+
+		assertThat(service.releaseHold(10L).getStatus()).isEqualTo(BookStatus.AVAILABLE);
+		assertThatThrownBy(() -> service.releaseHold(13L)).isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void copiesAreOnlyHeldForReservationsInTheLibraryTheyWereReturnedTo() {
+		reserve(1L, "Ann", D0, branch);
+		reserve(2L, "Bob", D0.plusDays(1));
+		copyStatus.put(10L, BookStatus.AVAILABLE);
+		copyStatus.put(20L, BookStatus.AVAILABLE);
+		copyLibrary.put(20L, branch);
+
+		returned(10L);
+		tx.commit();
+		assertThat(heldCopies).containsOnly(Map.entry(2L, 10L));
+
+		returned(20L);
+		tx.commit();
+		assertThat(heldCopies).containsEntry(1L, 20L);
+		assertThat(notified).containsExactly("Bob", "Ann");
+		assertThatThrownBy(() -> stored(reservations.get(2L)).hold(copy(20L, BookStatus.AVAILABLE)))
+				.isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void cancellingOrExpiringAHoldingReservationPassesTheCopyOn() {
+		reserve(1L, "Ann", D0);
+		reserve(2L, "Bob", D0.plusDays(1));
+		copyStatus.put(10L, BookStatus.AVAILABLE);
+		returned(10L);
+		tx.commit();
+		Reservation holding = stored(reservations.get(1L));
+		assertThat(holding.getHeldCopy().getId()).isEqualTo(10L);
+		service.track(holding);
+		assertThat(service.nextInLine(library.getId(), book.getId())).map(HoldQueue.Hold::reservationId).contains(2L);
+
+		holding.cancel();
+		service.track(holding);
+		assertThat(heldCopies).containsEntry(2L, 10L);
+		assertThat(copyStatus.get(10L)).isEqualTo(BookStatus.ON_HOLD);
+		assertThat(notified).containsExactly("Ann", "Bob");
+
+		Reservation next = stored(reservations.get(2L));
+		next.expireIfPast(next.getExpiresAt().plusDays(1));
+		service.track(next);
+		assertThat(copyStatus.get(10L)).isEqualTo(BookStatus.AVAILABLE);
+
+		Reservation fulfilled = stored(reservations.get(2L));
+		fulfilled.markFulfilled();
+		copyStatus.put(10L, BookStatus.ON_LOAN);
+		service.track(fulfilled);
+		assertThat(copyStatus.get(10L)).isEqualTo(BookStatus.ON_LOAN);
+	}
+
+	@Test
+	void rolledBackReturnHandsNothingOff() {
+		reserve(1L, "Ann", D0);
+		copyStatus.put(10L, BookStatus.AVAILABLE);
+
+		returned(10L);
+		assertThat(notified).isEmpty();
+		tx.rollback();
+
+		assertThat(notified).isEmpty();
+		assertThat(reservationStatus.get(1L)).isEqualTo(ReservationStatus.ACTIVE);
+		assertThat(copyStatus.get(10L)).isEqualTo(BookStatus.AVAILABLE);
+		assertThat(service.nextInLine(library.getId(), book.getId())).map(HoldQueue.Hold::reservationId).contains(1L);
+	}
+
+	@Test
+	void failedOrOutpacedHandOffKeepsTheMemberFirstInLine() {
+		reserve(1L, "Ann", D0);
+		reserve(2L, "Bob", D0.plusDays(1));
+		copyStatus.put(10L, BookStatus.AVAILABLE);
+
+		failCopySaves = true;
+		assertThatThrownBy(() -> service.handOff(library.getId(), book.getId(), 10L)).hasMessage("database down");
+		failCopySaves = false;
+		assertThat(service.nextInLine(library.getId(), book.getId())).map(HoldQueue.Hold::reservationId).contains(1L);
+
+		copyStatus.put(10L, BookStatus.ON_LOAN);
+		assertThat(service.handOff(library.getId(), book.getId(), 10L)).isEmpty();
+		assertThat(service.nextInLine(library.getId(), book.getId())).map(HoldQueue.Hold::reservationId).contains(1L);
+
+		copyStatus.put(10L, BookStatus.AVAILABLE);
+		assertThat(service.handOff(library.getId(), book.getId(), 10L)).map(Reservation::getId).contains(1L);
+		assertThat(copyStatus.get(10L)).isEqualTo(BookStatus.ON_HOLD);
+		assertThat(notified).containsExactly("Ann");
+	}
+
+	private void reserve(long id, String firstName, LocalDate reservedAt) {
+		reserve(id, firstName, reservedAt, library);
+	}
+
+	private void reserve(long id, String firstName, LocalDate reservedAt, Library at) {
+		Member member = new Member.Builder().id(id).firstName(firstName).lastName("Reader")
+				.email(new Email(firstName.toLowerCase() + "@example.com")).build();
+		copyLibrary.put(90L + id, at);
+		Reservation reservation = new Reservation.Builder().id(id).bookCopy(copy(90L + id, BookStatus.ON_LOAN))
+				.member(member).reservedAt(reservedAt).expiresAt(reservedAt.plusDays(30)).build();
+		reservations.put(id, reservation);
+		reservationStatus.put(id, ReservationStatus.ACTIVE);
+		service.track(reservation);
+	}
+
+	private void returned(long copyId) {
+		DomainEventPublisher.publish(new LoanReturned(copyId, copyId, book.getId(),
+				copyLibrary.getOrDefault(copyId, library).getId(), 1L, D0.plusDays(5), BookStatus.AVAILABLE));
+	}
+
+	/** Reads a reservation back as the store holds it now. */
+	private Reservation stored(Reservation reservation) {
+		Long id = reservation.getId();
+		Long heldCopyId = heldCopies.get(id);
+		return new Reservation.Builder().id(id).bookCopy(reservation.getBookCopy()).member(reservation.getMember())
+				.reservedAt(reservation.getReservedAt()).expiresAt(reservation.getExpiresAt())
+				.status(reservationStatus.get(id))
+				.heldCopy(heldCopyId != null ? copy(heldCopyId, copyStatus.get(heldCopyId)) : null).build();
+	}
+
+	private BookCopy copy(Long id, BookStatus status) {
+		return new BookCopy.Builder().id(id).book(book).library(copyLibrary.getOrDefault(id, library)).copyNumber(new CopyNumber(id.intValue()))
+				.barcode("BC-" + id).shelfLocation("A1").status(status).version(0L).build();
+	}
+
+	private static Book book() {
+		Category category = new Category.Builder().id(1L).name("Fiction").maxLoanDays(14).penaltyPerDay(1).build();
+		Author author = new Author.Builder().id(1L).firstName("Frank").lastName("Herbert").nationality("US").build();
+		return new Book.Builder().id(1L).isbnValue("9780306406157").title("Dune")
+				.authors(List.of(author)).publicationYear(2010).category(category).build();
+	}
+
+	/** Holds after-commit actions until the test commits or rolls back; new transactions run inline. */
+	private static final class DeferredTransactionalPort implements TransactionalPort {
+
+		private final List<Runnable> pending = new ArrayList<>();
+
+		@Override
+		public void inTransaction(Runnable runnable) {
+			runnable.run();
+		}
+
+		@Override
+		public <T> T inTransactionReturning(Supplier<T> supplier) {
+			return supplier.get();
+		}
+
+		@Override
+		public <T> T inNewTransactionReturning(Supplier<T> supplier) {
+			return supplier.get();
+		}
+
+		@Override
+		public void afterCommit(Runnable action) {
+			pending.add(action);
+		}
+
+		void commit() {
+			List<Runnable> actions = List.copyOf(pending);
+			pending.clear();
+			actions.forEach(Runnable::run);
+		}
+
+		void rollback() {
+			pending.clear();
+		}
+	}
+}
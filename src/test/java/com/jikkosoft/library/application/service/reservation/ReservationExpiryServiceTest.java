@@ -0,0 +1,197 @@
+package com.jikkosoft.library.application.service.reservation;
+
+import com.jikkosoft.library.application.common.CursorRequest;
+import com.jikkosoft.library.application.common.CursorResponse;
+import com.jikkosoft.library.application.port.persistence.ReservationRepository;
+import com.jikkosoft.library.application.port.service.ClockPort;
+import com.jikkosoft.library.application.port.tx.TransactionalPort;
+import com.jikkosoft.library.domain.enums.BookStatus;
+import com.jikkosoft.library.domain.enums.ReservationStatus;
+import com.jikkosoft.library.domain.model.Author;
+import com.jikkosoft.library.domain.model.Book;
+import com.jikkosoft.library.domain.model.BookCopy;
+import com.jikkosoft.library.domain.model.Category;
+import com.jikkosoft.library.domain.model.Library;
+import com.jikkosoft.library.domain.model.Member;
+import com.jikkosoft.library.domain.model.Reservation;
+import com.jikkosoft.library.domain.vo.CopyNumber;
+import com.jikkosoft.library.domain.vo.Email;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Cascading of the hierarchical expiry wheel and failure handling of the expiry run.
+ */
+class ReservationExpiryServiceTest {
+
+	private static final LocalDate D0 = LocalDate.of(2025, 3, 3);
+
+	@Test
+	void wheelExpiresEachIdTheDayAfterItsExpiryAcrossAllLevels() {
+		ExpiryTimingWheel wheel = new ExpiryTimingWheel(D0.minusDays(1));
+		long[] offsets = {0, 1, 62, 63, 64, 65, 4_095, 4_096, 4_097, 262_144, 300_000, 16_777_216, 20_000_000};
+		for (int i = 0; i < offsets.length; i++) {
+			wheel.schedule((long) i, D0.plusDays(offsets[i]));
+		}
+		wheel.schedule(100L, D0.minusDays(10));
+		assertThat(wheel.advance(D0)).containsExactly(100L);
+
+		for (int i = 0; i < offsets.length; i++) {
+			LocalDate expiresAt = D0.plusDays(offsets[i]);
+			assertThat(wheel.advance(expiresAt)).as("offset %d", offsets[i]).doesNotContain((long) i);
+			assertThat(wheel.advance(expiresAt.plusDays(1))).as("offset %d", offsets[i]).containsExactly((long) i);
+		}
+		assertThat(wheel.size()).isZero();
+	}
+
+	@Test
+	void wheelMatchesANaiveScheduleUnderRandomOperations() {
+		Random random = new Random(7);
+		ExpiryTimingWheel wheel = new ExpiryTimingWheel(D0.minusDays(1));
+		Map<Long, LocalDate> expected = new HashMap<>();
+		LocalDate today = D0;
+		for (int step = 0; step < 2_000; step++) {
+			long id = random.nextInt(300);
+			switch (random.nextInt(4)) {
+				case 0, 1 -> {
+					LocalDate expiresAt = today.plusDays(random.nextInt(10_000) - 5);
+					wheel.schedule(id, expiresAt);
+					expected.put(id, expiresAt);
+				}
+				case 2 -> {
+					wheel.cancel(id);
+					expected.remove(id);
+				}
+				default -> {
+					today = today.plusDays(random.nextInt(random.nextBoolean() ? 3 : 700));
+					LocalDate now = today;
+					List<Long> due = expected.entrySet().stream()
+							.filter(e -> e.getValue().isBefore(now)).map(Map.Entry::getKey).toList();
+					assertThat(wheel.advance(today)).containsExactlyInAnyOrderElementsOf(due);
+					due.forEach(expected::remove);
+				}
+			}
+			assertThat(wheel.size()).isEqualTo(expected.size());
+		}
+	}
+
+	@Test
+	void requeuedIdsComeBackUnlessRescheduledOrCancelled() {
+		ExpiryTimingWheel wheel = new ExpiryTimingWheel(D0.minusDays(1));
+		wheel.schedule(1L, D0);
+		wheel.schedule(2L, D0);
+		wheel.schedule(3L, D0);
+		assertThat(wheel.advance(D0.plusDays(1))).containsExactlyInAnyOrder(1L, 2L, 3L);
+
+		wheel.schedule(2L, D0.plusDays(100));
+		wheel.requeue(List.of(1L, 2L, 3L));
+		wheel.cancel(3L);
+		assertThat(wheel.advance(D0.plusDays(1))).containsExactly(1L);
+		assertThat(wheel.advance(D0.plusDays(101))).containsExactly(2L);
+	}
+
+	@Test
+	void failedBatchIsRetriedByTheNextRun() {
+		MutableClock clock = new MutableClock(D0);
+		TreeMap<Long, ReservationStatus> stored = new TreeMap<>();
+		List<Reservation> all = new ArrayList<>();
+		Member member = new Member.Builder().id(1L).firstName("Ada").lastName("Lovelace")
+				.email(new Email("ada@example.com")).build();
+		BookCopy copy = copy();
+		for (long id = 1; id <= 5; id++) {
+			all.add(new Reservation.Builder().id(id).bookCopy(copy).member(member)
+					.reservedAt(D0.minusDays(3)).expiresAt(D0).build());
+			stored.put(id, ReservationStatus.ACTIVE);
+		}
+		int[] failures = {1};
+		ReservationRepository repository = mock(ReservationRepository.class);
+		when(repository.findByStatusPaged(any(ReservationStatus.class), any(CursorRequest.class)))
+				.thenReturn(CursorResponse.<Reservation>builder().items(all).hasNext(false).build());
+		when(repository.findAllByIds(any())).thenAnswer(invocation -> {
+			List<Long> ids = new ArrayList<>(invocation.getArgument(0));
+			return ids.stream().map(id -> new Reservation.Builder().id(id).bookCopy(copy).member(member)
+					.reservedAt(D0.minusDays(3)).expiresAt(D0).status(stored.get(id)).build()).toList();
+		});
+		when(repository.saveAll(anyList())).thenAnswer(invocation -> {
+			if (failures[0]-- > 0) throw new IllegalStateException("database down");
+			List<Reservation> batch = invocation.getArgument(0);
+			batch.forEach(r -> stored.put(r.getId(), r.getStatus()));
+			return batch;
+		});
+		ReservationExpiryService service = new ReservationExpiryService(repository, clock, new DirectTransactionalPort(), 2);
+		service.rehydrate();
+
+		clock.today = D0.plusDays(1);
+		assertThat(service.expireDue()).isEqualTo(3);
+		assertThat(service.expireDue()).isEqualTo(2);
+		assertThat(stored.values()).containsOnly(ReservationStatus.EXPIRED);
+		assertThat(service.expireDue()).isZero();
+	}
+
+	private static BookCopy copy() {
+		Category category = new Category.Builder().id(1L).name("Fiction").maxLoanDays(14).penaltyPerDay(1).build();
+		Author author = new Author.Builder().id(1L).firstName("Frank").lastName("Herbert").nationality("US").build();
+		Book book = new Book.Builder().id(1L).isbnValue("9780306406157").title("Dune")
+				.authors(List.of(author)).publicationYear(2010).category(category).build();
+		Library library = new Library.Builder().id(1L).name("Central").address("Main St 1").build();
+		return new BookCopy.Builder().id(1L).book(book).library(library).copyNumber(new CopyNumber(1))
+				.barcode("BC-1").shelfLocation("A1").status(BookStatus.ON_LOAN).version(0L).build();
+	}
+
+	private static final class DirectTransactionalPort implements TransactionalPort {
+
+		@Override
+		public void inTransaction(Runnable runnable) {
+			runnable.run();
+		}
+
+		@Override
+		public <T> T inTransactionReturning(Supplier<T> supplier) {
+			return supplier.get();
+		}
+
+		@Override
+		public <T> T inNewTransactionReturning(Supplier<T> supplier) {
+			return supplier.get();
+		}
+
+		@Override
+		public void afterCommit(Runnable action) {
+			action.run();
+		}
+	}
+
+	private static final class MutableClock implements ClockPort {
+
+		private LocalDate today;
+
+		private MutableClock(LocalDate today) {
+			this.today = today;
+		}
+
+		@Override
+		public LocalDate today() {
+			return today;
+		}
+
+		@Override
+		public LocalDateTime now() {
+			return today.atStartOfDay();
+		}
+	}
+}
@@ -0,0 +1,103 @@
+package com.jikkosoft.library.domain.model;
+
+import com.jikkosoft.library.domain.enums.BookStatus;
+import com.jikkosoft.library.domain.enums.LoanStatus;
+import com.jikkosoft.library.domain.vo.CopyNumber;
+import com.jikkosoft.library.domain.vo.Email;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Loan counters of a member and keyset iteration of its loan history.
+ */
+class MemberLoansTest {
+
+	private static final LocalDate D0 = LocalDate.of(2025, 3, 3);
+
+	private final Book book = book();
+	private final Library library = new Library.Builder().id(1L).name("Central").address("Main St 1").build();
+
+	@Test
+	void everyCountedLoanIsCountedOnce() {
+		Member member = member(1L, null);
+		Loan returned = loan(1L, member);
+		returned.returnBook(D0.plusDays(17));
+		Loan open = loan(2L, member);
+
+		member.addLoan(returned);
+		member.addLoan(returned);
+		member.addLoan(open);
+		member.addLoan(open);
+		assertThat(member.countLoans(LoanStatus.RETURNED)).isEqualTo(1);
+		assertThat(member.countLoans(LoanStatus.ACTIVE)).isEqualTo(1);
+		assertThat(member.calculateTotalPenaltyDays()).isEqualTo(3);
+
+		open.returnBook(D0.plusDays(16));
+		member.addLoan(open);
+		assertThat(member.countLoans(LoanStatus.RETURNED)).isEqualTo(2);
+		assertThat(member.countLoans(LoanStatus.ACTIVE)).isZero();
+		assertThat(member.getLoans()).isEmpty();
+		assertThat(member.calculateTotalPenaltyDays()).isEqualTo(5);
+	}
+
+	@Test
+	void historyIsReadByKeysetSoLoansReturnedMeanwhileDoNotShiftIt() {
+		List<Loan> stored = new ArrayList<>();
+		Comparator<Loan> mostRecentFirst = Comparator.comparing(Loan::getReturnDate)
+				.thenComparing(Loan::getId).reversed();
+		List<Loan> loadedAfter = new ArrayList<>();
+		Member member = member(1L, (memberId, after, size) -> {
+			loadedAfter.add(after);
+			return stored.stream().sorted(mostRecentFirst)
+					.filter(loan -> after == null || mostRecentFirst.compare(loan, after) > 0)
+					.limit(size).toList();
+		});
+		Member borrower = member(2L, null);
+		for (long id = 1; id <= 120; id++) {
+			Loan loan = loan(id, borrower);
+			loan.returnBook(D0.plusDays(id % 7));
+			stored.add(loan);
+		}
+
+		List<Long> seen = new ArrayList<>();
+		long nextId = 1_000;
+		for (Loan loan : member.getLoanHistory()) {
+			seen.add(loan.getId());
+			Loan recent = loan(nextId++, borrower);
+			recent.returnBook(D0.plusDays(30));
+			stored.add(recent);
+		}
+
+		assertThat(seen).hasSize(120).doesNotHaveDuplicates().allMatch(id -> id <= 120);
+		assertThat(loadedAfter).hasSize(3).first().isNull();
+		assertThatThrownBy(() -> member.getLoanHistory().window(loan(5_000L, borrower), 10))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThat(member(null, (memberId, after, size) -> stored).getLoanHistory()).isEmpty();
+	}
+
+	private Member member(Long id, LoanHistory.Source history) {
+		return new Member.Builder().id(id).firstName("Ada").lastName("Lovelace")
+				.email(new Email("ada@example.com")).loanHistorySource(history).build();
+	}
+
+	private Loan loan(Long id, Member member) {
+		BookCopy copy = new BookCopy.Builder().id(id).book(book).library(library)
+				.copyNumber(new CopyNumber(id.intValue())).barcode("BC-" + id).shelfLocation("A1")
+				.status(BookStatus.AVAILABLE).version(0L).build();
+		return new Loan.Builder().id(id).bookCopy(copy).member(member).loanDate(D0).dueDate(D0.plusDays(14)).build();
+	}
+
+	private static Book book() {
+		Category category = new Category.Builder().id(1L).name("Fiction").maxLoanDays(14).penaltyPerDay(1).build();
+		Author author = new Author.Builder().id(1L).firstName("Frank").lastName("Herbert").nationality("US").build();
+		return new Book.Builder().id(1L).isbnValue("9780306406157").title("Dune")
+				.authors(List.of(author)).publicationYear(2010).category(category).build();
+	}
+}
@@ -0,0 +1,53 @@
+package com.jikkosoft.library.domain.vo;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FormatRulesTest {
+
+	@Test
+	void acceptsWellFormedEmails() {
+		assertThat(FormatRules.isEmail("john.doe+loans@example.co")).isTrue();
+		assertThat(FormatRules.isEmail("a_b%c@mail-server.example.org")).isTrue();
+	}
+
+	@Test
+	void rejectsMalformedEmails() {
+		assertThat(FormatRules.isEmail("")).isFalse();
+		assertThat(FormatRules.isEmail("@example.com")).isFalse();
+		assertThat(FormatRules.isEmail("john@")).isFalse();
+		assertThat(FormatRules.isEmail("john@.com")).isFalse();
+		assertThat(FormatRules.isEmail("john@example.c")).isFalse();
+		assertThat(FormatRules.isEmail("john@example.c0m")).isFalse();
+		assertThat(FormatRules.isEmail("john@@example.com")).isFalse();
+		assertThat(FormatRules.isEmail("john doe@example.com")).isFalse();
+	}
+
+	@Test
+	void checksIsbnCheckDigits() {
+		assertThat(FormatRules.isIsbn10("0306406152")).isTrue();
+		assertThat(FormatRules.isIsbn10("080442957X")).isTrue();
+		assertThat(FormatRules.isIsbn10("0306406153")).isFalse();
+		assertThat(FormatRules.isIsbn10("03064X6152")).isFalse();
+		assertThat(FormatRules.isIsbn13("9780306406157")).isTrue();
+		assertThat(FormatRules.isIsbn13("9780306406158")).isFalse();
+		assertThat(FormatRules.isIsbn13("978030640615X")).isFalse();
+	}
+
+	@Test
+	void isbnRejectsBadChecksumButTrustedHydrationDoesNot() {
+		assertThatThrownBy(() -> new ISBN("9781234567890", 2010))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("check digit");
+		assertThat(ISBN.trusted("9781234567890").getValue()).isEqualTo("9781234567890");
+	}
+
+	@Test
+	void emailIsNormalizedButTrustedHydrationKeepsValue() {
+		assertThat(new Email("  John.Doe@Example.COM ").getValue()).isEqualTo("john.doe@example.com");
+		assertThat(Email.trusted("john.doe@example.com")).isEqualTo(new Email("John.Doe@example.com"));
+		assertThatThrownBy(() -> Email.trusted(null)).isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,163 @@
+package com.jikkosoft.library.infrastructure.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.jikkosoft.library.domain.enums.AuditAction;
+import com.jikkosoft.library.shared.common.AuditLog;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Backpressure, spill replay and failure handling of the asynchronous audit pipeline,
+ * over a stub batch writer.
+ */
+class AuditPipelineTest {
+
+	private static final LocalDateTime T0 = LocalDateTime.of(2025, 3, 1, 9, 0);
+
+	@TempDir
+	Path dir;
+
+	private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+	@Test
+	void fullBufferDropsOldestOrSpillsToDisk() {
+		AuditSpillFile spillFile = new AuditSpillFile(dir, objectMapper);
+		AuditRingBuffer dropping = new AuditRingBuffer(2, BackpressurePolicy.DROP_OLDEST, spillFile);
+		for (int i = 1; i <= 3; i++) dropping.publish(record(i));
+		List<AuditRecord> kept = new ArrayList<>();
+		dropping.drainAll(kept);
+		assertThat(kept).extracting(AuditRecord::message).containsExactly("2", "3");
+		assertThat(dropping.droppedCount()).isEqualTo(1);
+
+		AuditRingBuffer spilling = new AuditRingBuffer(1, BackpressurePolicy.SPILL_TO_DISK, spillFile);
+		for (int i = 1; i <= 3; i++) spilling.publish(record(i));
+		List<AuditRecord> replayed = new ArrayList<>();
+		spillFile.replay(10, replayed::addAll);
+		assertThat(spilling.spilledCount()).isEqualTo(2);
+		assertThat(replayed).extracting(AuditRecord::message).containsExactly("2", "3");
+		assertThat(spillFile.hasPending()).isFalse();
+	}
+
+	@Test
+	void failedReplayResumesAfterTheLastAcceptedBatch() {
+		AuditSpillFile spillFile = new AuditSpillFile(dir, objectMapper);
+		spillFile.append(List.of(record(1), record(2), record(3), record(4), record(5)));
+		List<String> inserted = new ArrayList<>();
+
+		assertThatThrownBy(() -> spillFile.replay(2, batch -> {
+			if (!inserted.isEmpty()) throw new IllegalStateException("database down");
+			batch.forEach(r -> inserted.add(r.message()));
+		})).hasMessage("database down");
+		assertThat(spillFile.hasPending()).isTrue();
+
+		spillFile.append(List.of(record(6)));
+		spillFile.replay(2, batch -> batch.forEach(r -> inserted.add(r.message())));
+		assertThat(inserted).containsExactly("1", "2", "3", "4", "5");
+		spillFile.replay(2, batch -> batch.forEach(r -> inserted.add(r.message())));
+		assertThat(inserted).containsExactly("1", "2", "3", "4", "5", "6");
+		assertThat(spillFile.hasPending()).isFalse();
+	}
+
+	@Test
+	void malformedLinesAreSetAsideAndDoNotBlockTheReplay() throws IOException {
+		AuditSpillFile spillFile = new AuditSpillFile(dir, objectMapper);
+		spillFile.append(List.of(record(1)));
+		Files.writeString(dir.resolve("audit-spill.ndjson"), "{\"action\":\"LOAN_CRE\n", StandardOpenOption.APPEND);
+		spillFile.append(List.of(record(2), record(3)));
+		List<String> inserted = new ArrayList<>();
+
+		spillFile.replay(2, batch -> batch.forEach(r -> inserted.add(r.message())));
+
+		assertThat(inserted).containsExactly("1", "2", "3");
+		assertThat(spillFile.hasPending()).isFalse();
+		assertThat(Files.readAllLines(dir.resolve("audit-spill.rejected.ndjson")))
+				.containsExactly("{\"action\":\"LOAN_CRE");
+
+		Files.writeString(dir.resolve("audit-spill.replaying.offset"), "not a number");
+		spillFile.append(List.of(record(4)));
+		assertThatThrownBy(() -> spillFile.replay(2, batch -> { }))
+				.isInstanceOf(UncheckedIOException.class);
+		assertThat(spillFile.hasPending()).isTrue();
+	}
+
+	@Test
+	void drainerSurvivesADatabaseOutageAndWritesEveryRecordOnce() throws InterruptedException {
+		AuditSpillFile spillFile = new AuditSpillFile(dir, objectMapper);
+		AuditRingBuffer buffer = new AuditRingBuffer(4, BackpressurePolicy.BLOCK, spillFile);
+		StubWriter writer = new StubWriter();
+		writer.failing = true;
+		AuditDrainer drainer = new AuditDrainer(buffer, writer, spillFile, 2, Duration.ofMillis(10));
+		drainer.start();
+		try {
+			for (int i = 1; i <= 20; i++) buffer.publish(record(i));
+			awaitUntil(() -> writer.attempts > 3 && spillFile.hasPending());
+
+			writer.failing = false;
+			awaitUntil(() -> drainer.writtenCount() == 20);
+			assertThat(drainer.isRunning()).isTrue();
+			buffer.publish(record(21));
+		} finally {
+			drainer.stop();
+		}
+		assertThat(writer.messages).hasSize(21).doesNotHaveDuplicates();
+		assertThat(spillFile.hasPending()).isFalse();
+	}
+
+	@Test
+	void auditLogWithoutActorIsRecordedWithNullActor() {
+		AuditLog log = mock(AuditLog.class);
+		when(log.getAction()).thenReturn(AuditAction.DELETE);
+		when(log.getTimestamp()).thenReturn(T0);
+
+		assertThat(AuditRecord.of(log).performedById()).isNull();
+	}
+
+	private static AuditRecord record(int n) {
+		return AuditRecord.of(1L, "CREATE", String.valueOf(n), T0);
+	}
+
+	private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (!condition.getAsBoolean()) {
+			assertThat(System.nanoTime() - deadline).as("condition not met in time").isNegative();
+			Thread.sleep(5);
+		}
+	}
+
+	private static final class StubWriter extends AuditBatchWriter {
+
+		private final List<String> messages = new CopyOnWriteArrayList<>();
+		private volatile boolean failing;
+		private volatile int attempts;
+
+		private StubWriter() {
+			super(null, null, 2);
+		}
+
+		@Override
+		public void write(List<AuditRecord> records) {
+			attempts++;
+			if (failing) throw new IllegalStateException("database down");
+			records.forEach(r -> messages.add(r.message()));
+		}
+	}
+}
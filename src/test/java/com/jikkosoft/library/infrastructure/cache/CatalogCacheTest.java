@@ -0,0 +1,198 @@
+package com.jikkosoft.library.infrastructure.cache;
+
+import com.jikkosoft.library.application.port.persistence.BookRepository;
+import com.jikkosoft.library.application.port.persistence.CategoryRepository;
+import com.jikkosoft.library.application.port.tx.TransactionalPort;
+import com.jikkosoft.library.domain.model.Author;
+import com.jikkosoft.library.domain.model.Book;
+import com.jikkosoft.library.domain.model.Category;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Invalidation, negative ISBN caching and metrics of the catalog cache decorators.
+ */
+class CatalogCacheTest {
+
+	private static final String ISBN = "9780306406157";
+
+	private final Map<Long, Book> storedBooks = new HashMap<>();
+	private final Map<Long, Category> storedCategories = new HashMap<>();
+	private final AtomicInteger bookLoads = new AtomicInteger();
+	private final AtomicInteger isbnLoads = new AtomicInteger();
+	private final DeferredTransactionalPort tx = new DeferredTransactionalPort();
+	private final CatalogCaches caches = new CatalogCaches(
+			new CatalogCacheProperties(true, 100, Duration.ofMinutes(10), Duration.ofMinutes(1)));
+	private CachingBookRepository books;
+	private CachingCategoryRepository categories;
+
+	@BeforeEach
+	void setUp() {
+		BookRepository bookDelegate = mock(BookRepository.class);
+		when(bookDelegate.findById(any())).thenAnswer(invocation -> {
+			bookLoads.incrementAndGet();
+			return Optional.ofNullable(storedBooks.get(invocation.<Long>getArgument(0)));
+		});
+		when(bookDelegate.findByIsbn(any())).thenAnswer(invocation -> {
+			isbnLoads.incrementAndGet();
+			String isbn = invocation.getArgument(0);
+			return storedBooks.values().stream().filter(b -> b.getIsbn().getValue().equals(isbn)).findFirst();
+		});
+		when(bookDelegate.save(any())).thenAnswer(invocation -> {
+			Book book = invocation.getArgument(0);
+			storedBooks.put(book.getId(), book);
+			return book;
+		});
+		CategoryRepository categoryDelegate = mock(CategoryRepository.class);
+		when(categoryDelegate.findById(any())).thenAnswer(invocation ->
+				Optional.ofNullable(storedCategories.get(invocation.<Long>getArgument(0))));
+		when(categoryDelegate.save(any())).thenAnswer(invocation -> {
+			Category category = invocation.getArgument(0);
+			storedCategories.put(category.getId(), category);
+			return category;
+		});
+		books = new CachingBookRepository(bookDelegate, caches, tx);
+		categories = new CachingCategoryRepository(categoryDelegate, caches, tx);
+	}
+
+	@Test
+	void missingIsbnsAreRememberedUntilABookTakesThem() {
+		assertThat(books.findByIsbn(ISBN)).isEmpty();
+		assertThat(books.findByIsbn(ISBN)).isEmpty();
+		assertThat(isbnLoads).hasValue(1);
+
+		books.save(book(1L, "Dune", category(1)));
+		assertThat(books.findByIsbn(ISBN)).map(Book::getTitle).contains("Dune");
+		assertThat(books.findByIsbn(ISBN)).map(Book::getTitle).contains("Dune");
+		assertThat(isbnLoads).hasValue(2);
+	}
+
+	@Test
+	void savedBooksAreEvictedAgainAfterCommit() {
+		storedBooks.put(1L, book(1L, "Dune", category(1)));
+		assertThat(books.findById(1L)).map(Book::getTitle).contains("Dune");
+
+		Book renamed = book(1L, "Dune Messiah", category(1));
+		books.save(renamed);
+		storedBooks.put(1L, book(1L, "Dune", category(1)));
+		assertThat(books.findById(1L)).as("reloaded before commit").map(Book::getTitle).contains("Dune");
+
+		storedBooks.put(1L, renamed);
+		tx.commit();
+		assertThat(books.findById(1L)).map(Book::getTitle).contains("Dune Messiah");
+		assertThat(bookLoads).hasValue(3);
+		assertThat(books.findById(1L)).map(Book::getTitle).contains("Dune Messiah");
+		assertThat(bookLoads).hasValue(3);
+
+		books.logicalDeleteById(1L);
+		storedBooks.remove(1L);
+		tx.commit();
+		assertThat(books.findById(1L)).isEmpty();
+	}
+
+	@Test
+	void unsavedChangesToAReturnedBookStayWithTheCaller() {
+		storedBooks.put(1L, book(1L, "Dune", category(1)));
+		books.findById(1L);
+		books.findByIsbn(ISBN);
+
+		books.findById(1L).orElseThrow().setTitle("Scribbled");
+		books.findByIsbn(ISBN).orElseThrow().setTitle("Scribbled again");
+		books.findAllByIds(List.of(1L)).get(0).setTitle("And again");
+
+		assertThat(books.findById(1L)).map(Book::getTitle).contains("Dune");
+		assertThat(books.findByIsbn(ISBN)).map(Book::getTitle).contains("Dune");
+		assertThat(bookLoads).hasValue(1);
+		assertThat(isbnLoads).hasValue(1);
+	}
+
+	@Test
+	void savingACategoryEvictsTheBooksThatEmbedIt() {
+		storedBooks.put(1L, book(1L, "Dune", category(1)));
+		storedBooks.put(2L, book(2L, "Solaris", new Category.Builder().id(2L).name("Science").maxLoanDays(14)
+				.penaltyPerDay(1).build()));
+		books.findById(1L);
+		books.findById(2L);
+
+		Category stricter = category(5);
+		categories.save(stricter);
+		storedBooks.put(1L, book(1L, "Dune", stricter));
+		tx.commit();
+
+		assertThat(books.findById(1L)).map(b -> b.getCategory().getPenaltyPerDay()).contains(5);
+		assertThat(bookLoads).hasValue(3);
+		books.findById(2L);
+		assertThat(bookLoads).hasValue(3);
+	}
+
+	@Test
+	void cacheStatisticsArePublishedAsMeters() {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		caches.bindTo(registry);
+		storedBooks.put(1L, book(1L, "Dune", category(1)));
+		books.findById(1L);
+		books.findById(1L);
+
+		assertThat(registry.get("cache.gets").tag("cache", CatalogCaches.BOOKS).tag("result", "hit")
+				.functionCounter().count()).isEqualTo(1.0);
+		assertThat(registry.get("cache.size").tag("cache", CatalogCaches.MISSING_ISBNS).gauge()).isNotNull();
+	}
+
+	private static Category category(int penaltyPerDay) {
+		return new Category.Builder().id(1L).name("Fiction").maxLoanDays(14).penaltyPerDay(penaltyPerDay).build();
+	}
+
+	private static Book book(Long id, String title, Category category) {
+		Author author = new Author.Builder().id(1L).firstName("Frank").lastName("Herbert").nationality("US").build();
+		String isbn = id == 1L ? ISBN : "9780306406164";
+		return new Book.Builder().id(id).isbnValue(isbn).title(title)
+				.authors(List.of(author)).publicationYear(2010).category(category).build();
+	}
+
+	/** Holds after-commit actions until the test commits. */
+	private static final class DeferredTransactionalPort implements TransactionalPort {
+
+		private final List<Runnable> pending = new ArrayList<>();
+
+		@Override
+		public void inTransaction(Runnable runnable) {
+			runnable.run();
+		}
+
+		@Override
+		public <T> T inTransactionReturning(Supplier<T> supplier) {
+			return supplier.get();
+		}
+
+		@Override
+		public <T> T inNewTransactionReturning(Supplier<T> supplier) {
+			return supplier.get();
+		}
+
+		@Override
+		public void afterCommit(Runnable action) {
+			pending.add(action);
+		}
+
+		void commit() {
+			List<Runnable> actions = List.copyOf(pending);
+			pending.clear();
+			actions.forEach(Runnable::run);
+		}
+	}
+}
@@ -0,0 +1,60 @@
+package com.jikkosoft.library.infrastructure.export;
+
+import com.jikkosoft.library.application.dto.loan.query.GetAllLoansQuery;
+import com.jikkosoft.library.application.dto.reservation.query.GetAllReservationsQuery;
+import com.jikkosoft.library.application.service.export.ExportFormat;
+import com.jikkosoft.library.application.service.export.ExportService;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Filter checks {@link ExportController} makes before any response headers are written.
+ */
+class ExportControllerTest {
+
+	private final ExportService exportService = mock(ExportService.class);
+	private final ExportController controller = new ExportController(exportService);
+
+	@Test
+	void unknownStatusIsRejectedBeforeTheResponseStarts() {
+		GetAllLoansQuery query = new GetAllLoansQuery();
+		query.setStatus("lost");
+
+		assertThatThrownBy(() -> controller.loans(query, ExportFormat.CSV, false))
+				.isInstanceOfSatisfying(ResponseStatusException.class,
+						e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST))
+				.hasMessageContaining("Unknown LoanStatus: lost");
+		verifyNoInteractions(exportService);
+	}
+
+	@Test
+	void invertedDateRangeIsRejected() {
+		GetAllReservationsQuery query = new GetAllReservationsQuery();
+		query.setReservedFrom(LocalDateTime.of(2025, 3, 2, 0, 0));
+		query.setReservedTo(LocalDateTime.of(2025, 3, 1, 0, 0));
+
+		assertThatThrownBy(() -> controller.reservations(query, ExportFormat.CSV, false))
+				.isInstanceOf(ResponseStatusException.class)
+				.hasMessageContaining("reservedFrom must not be after reservedTo");
+	}
+
+	@Test
+	void validFiltersAreAcceptedCaseInsensitively() {
+		GetAllLoansQuery query = new GetAllLoansQuery();
+		query.setStatus(" overdue ");
+		query.setLoanDateFrom(LocalDate.of(2025, 3, 1));
+		query.setLoanDateTo(LocalDate.of(2025, 3, 1));
+
+		assertThat(controller.loans(query, ExportFormat.NDJSON, true).getStatusCode()).isEqualTo(HttpStatus.OK);
+		verifyNoInteractions(exportService);
+	}
+}
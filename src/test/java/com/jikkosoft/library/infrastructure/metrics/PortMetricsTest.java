@@ -0,0 +1,92 @@
+package com.jikkosoft.library.infrastructure.metrics;
+
+import com.jikkosoft.library.application.common.CursorRequest;
+import com.jikkosoft.library.application.common.CursorResponse;
+import com.jikkosoft.library.application.common.PagedResponse;
+import com.jikkosoft.library.application.port.persistence.ExportRepository;
+import com.jikkosoft.library.application.port.persistence.LoanRepository;
+import com.jikkosoft.library.application.port.persistence.MemberRepository;
+import com.jikkosoft.library.application.port.persistence.SummaryQueryRepository;
+import com.jikkosoft.library.application.port.service.NotificationPort;
+import com.jikkosoft.library.application.port.tx.TransactionalPort;
+import com.jikkosoft.library.domain.model.Member;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Meters recorded by {@link InstrumentedPort}, over a stubbed {@link MemberRepository}.
+ */
+class PortMetricsTest {
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	private final PortMetrics metrics = new PortMetrics(registry, new PortMetricsProperties(true, null, false));
+
+	@Test
+	void instrumentsEveryPersistencePortAndTheServicePorts() {
+		assertThat(PortMetricsConfiguration.instrumentedPorts())
+				.contains(MemberRepository.class, LoanRepository.class, SummaryQueryRepository.class,
+						ExportRepository.class, NotificationPort.class, TransactionalPort.class)
+				.hasSize(15);
+	}
+
+	@Test
+	void recordsLatencyAndResultSizePerOverload() {
+		MemberRepository port = InstrumentedPort.wrap(MemberRepository.class, stub(), metrics);
+
+		for (int i = 0; i < 3; i++) port.findAllPaged(0, 20);
+		port.findAllPaged(new CursorRequest(null, 5, "id", "ASC"));
+
+		assertThat(registry.get(PortMetrics.CALLS).tags("port", "MemberRepository", "method", "findAllPaged(int,int)")
+				.timer().count()).isEqualTo(3);
+		assertThat(registry.get(PortMetrics.RESULT_SIZE).tags("method", "findAllPaged(int,int)")
+				.summary().mean()).isEqualTo(20);
+		assertThat(registry.get(PortMetrics.RESULT_SIZE).tags("method", "findAllPaged(CursorRequest)")
+				.summary().mean()).isZero();
+		assertThat(metrics.snapshot()).first().satisfies(stats -> {
+			assertThat(stats.calls()).isPositive();
+			assertThat(stats.percentiles()).containsOnlyKeys("p50", "p99", "p999");
+		});
+	}
+
+	@Test
+	void countsErrorsAndRethrowsThemUnchanged() {
+		MemberRepository port = InstrumentedPort.wrap(MemberRepository.class, stub(), metrics);
+
+		assertThatThrownBy(() -> port.findById(1L)).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+
+		assertThat(registry.get(PortMetrics.ERRORS).tags("method", "findById", "exception", "IllegalStateException")
+				.counter().count()).isEqualTo(1);
+		assertThat(metrics.snapshot()).singleElement().satisfies(stats -> assertThat(stats.errors()).isEqualTo(1));
+	}
+
+	@Test
+	void objectMethodsAreNotTimed() {
+		MemberRepository port = InstrumentedPort.wrap(MemberRepository.class, stub(), metrics);
+
+		assertThat(port).isEqualTo(port);
+		assertThat(port.toString()).startsWith("Instrumented(");
+		assertThat(metrics.snapshot()).isEmpty();
+	}
+
+	private static MemberRepository stub() {
+		return (MemberRepository) Proxy.newProxyInstance(MemberRepository.class.getClassLoader(),
+				new Class<?>[]{MemberRepository.class}, (proxy, method, args) -> switch (method.getName()) {
+					case "findAllPaged" -> args[0] instanceof CursorRequest
+							? new CursorResponse<Member>(List.of(), 5, null, false)
+							: PagedResponse.<Member>builder().items(Collections.nCopies(20, null)).build();
+					case "findById" -> throw new IllegalStateException("boom");
+					case "toString" -> "stub";
+					case "hashCode" -> 0;
+					case "equals" -> proxy == args[0];
+					default -> Map.of();
+				});
+	}
+}
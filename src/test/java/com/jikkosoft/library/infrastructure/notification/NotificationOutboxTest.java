@@ -0,0 +1,188 @@
+package com.jikkosoft.library.infrastructure.notification;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.jikkosoft.library.application.port.service.ClockPort;
+import com.jikkosoft.library.domain.model.Member;
+import com.jikkosoft.library.domain.vo.Email;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Outbox writes, coalescing and retries of {@link OutboxDispatcher}, delivering to a local
+ * GreenMail SMTP server over an H2 outbox table.
+ */
+@DataJpaTest
+class NotificationOutboxTest {
+
+	private static final LocalDateTime T0 = LocalDateTime.of(2025, 3, 1, 9, 0);
+
+	@RegisterExtension
+	static GreenMailExtension smtp = new GreenMailExtension(ServerSetupTest.SMTP);
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private final MutableClock clock = new MutableClock();
+	private JdbcTemplate jdbcTemplate;
+	private OutboxNotificationPort port;
+	private FlakySender sender;
+	private OutboxDispatcher dispatcher;
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		NotificationOutbox outbox = new NotificationOutbox(jdbcTemplate);
+		JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+		mailSender.setHost("localhost");
+		mailSender.setPort(ServerSetupTest.SMTP.getPort());
+		sender = new FlakySender(new MailNotificationSender(mailSender, "library@localhost"));
+		NotificationOutboxProperties properties = new NotificationOutboxProperties(true, null, null,
+				Duration.ofSeconds(30), 2, 3, Duration.ofSeconds(10), Duration.ofMinutes(1), null, null, null);
+		port = new OutboxNotificationPort(outbox, clock);
+		dispatcher = new OutboxDispatcher(outbox, sender, clock, properties);
+		clock.now = T0;
+	}
+
+	@Test
+	void messagesWithinTheWindowAreCoalescedIntoOneMailPerMember() throws Exception {
+		Member ada = member(1L, "Ada", "Lovelace");
+		port.notifyMember(ada, "Book ready for pickup", "Dune is waiting for you.");
+		port.notifyMember(member(2L, "Alan", "Turing"), "Loan overdue", "Please return Neuromancer.");
+		clock.now = T0.plusSeconds(20);
+		port.notifyMember(ada, "Loan overdue", "Please return Solaris.");
+
+		clock.now = T0.plusSeconds(29);
+		assertThat(dispatcher.dispatch()).isZero();
+
+		clock.now = T0.plusSeconds(30);
+		assertThat(dispatcher.dispatch()).isEqualTo(2);
+
+		MimeMessage[] mails = smtp.getReceivedMessages();
+		assertThat(mails).hasSize(2);
+		MimeMessage toAda = mails[0];
+		assertThat(toAda.getAllRecipients()[0].toString()).isEqualTo("Ada Lovelace <ada@example.com>");
+		assertThat(toAda.getSubject()).isEqualTo("Book ready for pickup (+1 more)");
+		assertThat(toAda.getContent().toString()).contains("Dune is waiting for you.", "Please return Solaris.");
+		assertThat(mails[1].getSubject()).isEqualTo("Loan overdue");
+		assertThat(statuses()).containsOnlyKeys("SENT");
+
+		clock.now = T0.plusMinutes(5);
+		assertThat(dispatcher.dispatch()).isZero();
+	}
+
+	@Test
+	void failedDeliveriesAreRetriedWithBackoffAndThenGivenUp() {
+		port.notifyMember(member(1L, "Ada", "Lovelace"), "Loan overdue", "Please return Solaris.");
+		sender.failures = 1;
+
+		clock.now = T0.plusSeconds(30);
+		assertThat(dispatcher.dispatch()).isEqualTo(1);
+		assertThat(statuses()).containsEntry("PENDING", 1L);
+
+		clock.now = T0.plusSeconds(39);
+		assertThat(dispatcher.dispatch()).isZero();
+
+		clock.now = T0.plusSeconds(40);
+		assertThat(dispatcher.dispatch()).isEqualTo(1);
+		assertThat(smtp.getReceivedMessages()).hasSize(1);
+		assertThat(statuses()).containsOnlyKeys("SENT");
+
+		port.notifyMember(member(2L, "Alan", "Turing"), "Loan overdue", "Please return Neuromancer.");
+		sender.failures = Integer.MAX_VALUE;
+		for (int i = 0; i < 3; i++) {
+			clock.now = clock.now.plusMinutes(1);
+			assertThat(dispatcher.dispatch()).isEqualTo(1);
+		}
+		clock.now = clock.now.plusMinutes(1);
+		assertThat(dispatcher.dispatch()).isZero();
+		assertThat(statuses()).containsEntry("FAILED", 1L);
+		assertThat(jdbcTemplate.queryForObject("SELECT last_error FROM notification_outbox WHERE status = 'FAILED'",
+				String.class)).isEqualTo("MailSendException: SMTP unavailable");
+	}
+
+	@Test
+	void notificationsOfARolledBackTransactionAreNeverSent() {
+		TransactionTemplate requiresNew = new TransactionTemplate(transactionManager);
+		requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+		requiresNew.executeWithoutResult(status -> {
+			port.notifyMember(member(1L, "Ada", "Lovelace"), "Loan created", "Enjoy Dune.");
+			status.setRollbackOnly();
+		});
+
+		clock.now = T0.plusMinutes(1);
+		assertThat(dispatcher.dispatch()).isZero();
+		assertThat(statuses()).isEmpty();
+		assertThat(smtp.getReceivedMessages()).isEmpty();
+	}
+
+	private Map<String, Long> statuses() {
+		Map<String, Long> counts = new TreeMap<>();
+		jdbcTemplate.query("SELECT status, COUNT(*) FROM notification_outbox GROUP BY status",
+				rs -> { counts.put(rs.getString(1), rs.getLong(2)); });
+		return counts;
+	}
+
+	private static Member member(Long id, String firstName, String lastName) {
+		return new Member.Builder().id(id).firstName(firstName).lastName(lastName)
+				.email(new Email(firstName.toLowerCase() + "@example.com")).build();
+	}
+
+	private static final class MutableClock implements ClockPort {
+
+		private LocalDateTime now;
+
+		@Override
+		public LocalDate today() {
+			return now.toLocalDate();
+		}
+
+		@Override
+		public LocalDateTime now() {
+			return now;
+		}
+	}
+
+	/** Fails the next {@code failures} deliveries, then delegates. */
+	private static final class FlakySender implements NotificationSender {
+
+		private final NotificationSender delegate;
+		private int failures;
+
+		private FlakySender(NotificationSender delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public void send(String recipient, String recipientName, String subject, String body) {
+			if (failures > 0) {
+				failures--;
+				throw new MailSendException("SMTP unavailable");
+			}
+			delegate.send(recipient, recipientName, subject, body);
+		}
+	}
+}
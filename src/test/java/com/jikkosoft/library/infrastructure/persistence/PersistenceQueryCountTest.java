@@ -0,0 +1,372 @@
+package com.jikkosoft.library.infrastructure.persistence;
+
+import com.jikkosoft.library.application.common.PagedResponse;
+import com.jikkosoft.library.application.dto.auditlog.dto.AuditLogExportRow;
+import com.jikkosoft.library.application.dto.auditlog.query.GetAllAuditLogsQuery;
+import com.jikkosoft.library.application.dto.book.dto.BookSummaryDto;
+import com.jikkosoft.library.application.dto.loan.dto.LoanExportRow;
+import com.jikkosoft.library.application.dto.loan.query.GetAllLoansQuery;
+import com.jikkosoft.library.application.dto.member.dto.MemberSummaryDto;
+import com.jikkosoft.library.application.dto.reservation.dto.ReservationExportRow;
+import com.jikkosoft.library.application.dto.reservation.query.GetAllReservationsQuery;
+import com.jikkosoft.library.application.port.persistence.BookCopyRepository;
+import com.jikkosoft.library.application.port.persistence.BookRepository;
+import com.jikkosoft.library.application.port.persistence.ExportRepository;
+import com.jikkosoft.library.application.port.persistence.LoanRepository;
+import com.jikkosoft.library.application.port.persistence.MemberRepository;
+import com.jikkosoft.library.application.port.persistence.SummaryQueryRepository;
+import com.jikkosoft.library.application.service.library.LibraryCollections;
+import com.jikkosoft.library.application.service.loan.LoanHistoryLoader;
+import com.jikkosoft.library.domain.enums.AuditAction;
+import com.jikkosoft.library.domain.enums.BookStatus;
+import com.jikkosoft.library.domain.enums.LoanStatus;
+import com.jikkosoft.library.domain.enums.ReservationStatus;
+import com.jikkosoft.library.domain.model.Book;
+import com.jikkosoft.library.domain.model.BookCopy;
+import com.jikkosoft.library.domain.model.Loan;
+import com.jikkosoft.library.domain.model.Member;
+import com.jikkosoft.library.infrastructure.persistence.adapter.BookCopyRepositoryAdapter;
+import com.jikkosoft.library.infrastructure.persistence.adapter.BookRepositoryAdapter;
+import com.jikkosoft.library.infrastructure.persistence.adapter.CategoryRepositoryAdapter;
+import com.jikkosoft.library.infrastructure.persistence.adapter.ExportRepositoryAdapter;
+import com.jikkosoft.library.infrastructure.persistence.adapter.LibraryRepositoryAdapter;
+import com.jikkosoft.library.infrastructure.persistence.adapter.LoanRepositoryAdapter;
+import com.jikkosoft.library.infrastructure.persistence.adapter.MemberRepositoryAdapter;
+import com.jikkosoft.library.infrastructure.persistence.adapter.SummaryQueryRepositoryAdapter;
+import com.jikkosoft.library.infrastructure.persistence.entity.AuditLogEntity;
+import com.jikkosoft.library.infrastructure.persistence.entity.AuthorEntity;
+import com.jikkosoft.library.infrastructure.persistence.entity.BookCopyEntity;
+import com.jikkosoft.library.infrastructure.persistence.entity.BookEntity;
+import com.jikkosoft.library.infrastructure.persistence.entity.CategoryEntity;
+import com.jikkosoft.library.infrastructure.persistence.entity.LibraryEntity;
+import com.jikkosoft.library.infrastructure.persistence.entity.LoanEntity;
+import com.jikkosoft.library.infrastructure.persistence.entity.MemberEntity;
+import com.jikkosoft.library.infrastructure.persistence.entity.ReservationEntity;
+import com.jikkosoft.library.infrastructure.persistence.entity.UserEntity;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Counts the statements issued by the JPA adapters' list reads, so an N+1 regression in a fetch
+ * plan fails here instead of in production.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({BookRepositoryAdapter.class, CategoryRepositoryAdapter.class, LibraryRepositoryAdapter.class,
+		BookCopyRepositoryAdapter.class, MemberRepositoryAdapter.class, LoanRepositoryAdapter.class,
+		SummaryQueryRepositoryAdapter.class, ExportRepositoryAdapter.class, DomainHydrator.class, LoanHistoryLoader.class, LibraryCollections.class})
+class PersistenceQueryCountTest {
+
+	private static final int BOOKS = 30;
+	private static final int MEMBERS = 10;
+	private static final LocalDate TODAY = LocalDate.of(2025, 3, 1);
+
+	@Autowired
+	private EntityManager em;
+
+	@Autowired
+	private BookRepository bookRepository;
+
+	@Autowired
+	private BookCopyRepository bookCopyRepository;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private LoanRepository loanRepository;
+
+	@Autowired
+	private SummaryQueryRepository summaryQueryRepository;
+
+	@Autowired
+	private ExportRepository exportRepository;
+
+	@Autowired
+	private LoanHistoryLoader loanHistoryLoader;
+
+	private Statistics statistics;
+	private LibraryEntity library;
+	private MemberEntity firstMember;
+
+	@BeforeEach
+	void seed() {
+		CategoryEntity category = new CategoryEntity();
+		category.setName("Fiction");
+		category.setMaxLoanDays(14);
+		category.setPenaltyPerDay(1);
+		em.persist(category);
+
+		List<AuthorEntity> authors = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			AuthorEntity author = new AuthorEntity();
+			author.setFirstName("Author");
+			author.setLastName("No" + i);
+			author.setNationality("CO");
+			em.persist(author);
+			authors.add(author);
+		}
+
+		library = new LibraryEntity();
+		library.setName("Central");
+		library.setAddress("Main St 1");
+		library.setBookCopyCount(BOOKS);
+		library.setMemberCount(MEMBERS);
+		em.persist(library);
+
+		List<MemberEntity> members = new ArrayList<>();
+		for (int i = 0; i < MEMBERS; i++) {
+			MemberEntity member = new MemberEntity();
+			member.setFirstName("Member");
+			member.setLastName("No" + i);
+			member.setEmail("member" + i + "@example.com");
+			member.getLibraries().add(library);
+			em.persist(member);
+			members.add(member);
+		}
+		firstMember = members.get(0);
+
+		for (int i = 0; i < BOOKS; i++) {
+			BookEntity book = new BookEntity();
+			book.setIsbn(String.format("978%010d", i));
+			book.setTitle("Book " + i);
+			book.setPublicationYear(2010);
+			book.setCategory(category);
+			book.getAuthors().add(authors.get(i % authors.size()));
+			book.getAuthors().add(authors.get((i + 1) % authors.size()));
+			em.persist(book);
+
+			BookCopyEntity copy = new BookCopyEntity();
+			copy.setBook(book);
+			copy.setLibrary(library);
+			copy.setCopyNumber(1);
+			copy.setBarcode("BC-" + i);
+			copy.setShelfLocation("A" + i);
+			copy.setStatus(i % 2 == 0 ? BookStatus.ON_LOAN : BookStatus.AVAILABLE);
+			em.persist(copy);
+
+			LoanEntity loan = new LoanEntity();
+			loan.setBookCopy(copy);
+			loan.setMember(i % 3 == 0 ? firstMember : members.get(i % MEMBERS));
+			loan.setLoanDate(TODAY.minusDays(20));
+			loan.setDueDate(TODAY.minusDays(6));
+			if (i % 2 == 0) {
+				loan.setStatus(LoanStatus.ACTIVE);
+			} else {
+				loan.setStatus(LoanStatus.RETURNED);
+				loan.setReturnDate(TODAY.minusDays(3));
+				loan.setPenaltyDays(3);
+			}
+			em.persist(loan);
+		}
+
+		em.flush();
+		em.clear();
+		statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@Test
+	void bookPageLoadsAuthorsInOneBatch() {
+		PagedResponse<Book> page = bookRepository.findAll(0, BOOKS);
+
+		assertThat(page.items()).hasSize(BOOKS);
+		assertThat(page.items()).allSatisfy(book -> assertThat(book.getAuthors()).hasSize(2));
+		// page, count, authors batch
+		assertThat(statements()).isLessThanOrEqualTo(3);
+	}
+
+	@Test
+	void copyPageIsOneStatementPlusCount() {
+		BookCopyRepository.PageResult<BookCopy> page = bookCopyRepository.findByLibraryId(library.getId(), 0, BOOKS);
+
+		assertThat(page.getContent()).hasSize(BOOKS);
+		assertThat(page.getContent()).allSatisfy(copy -> assertThat(copy.getBook().getCategory().getName()).isEqualTo("Fiction"));
+		assertThat(statements()).isLessThanOrEqualTo(2);
+	}
+
+	@Test
+	void memberPageHydratesLoansInBulk() {
+		PagedResponse<Member> page = memberRepository.findByLibraryIdPaged(library.getId(), 0, MEMBERS);
+
+		assertThat(page.items()).hasSize(MEMBERS);
+		assertThat(page.items().stream().mapToInt(m -> m.getActiveLoans().size()).sum()).isEqualTo(BOOKS / 2);
+		// page, count, returned totals, open loans
+		assertThat(statements()).isLessThanOrEqualTo(4);
+	}
+
+	@Test
+	void loanHistoryPageDoesNotQueryPerLoan() {
+		PagedResponse<Loan> page = loanRepository.findByMemberIdAndStatusPaged(firstMember.getId(), LoanStatus.RETURNED, 0, BOOKS);
+
+		assertThat(page.items()).isNotEmpty();
+		assertThat(page.items()).allSatisfy(loan -> assertThat(loan.getMember()).isSameAs(page.items().get(0).getMember()));
+		// page, returned totals, open loans
+		assertThat(statements()).isLessThanOrEqualTo(4);
+	}
+
+	@Test
+	void loanHistoryWindowsFollowTheReturnDateKeyset() {
+		List<Long> ids = new ArrayList<>();
+		Loan after = null;
+		List<Loan> window;
+		do {
+			window = loanHistoryLoader.load(firstMember.getId(), after, 2);
+			window.forEach(loan -> ids.add(loan.getId()));
+			after = window.isEmpty() ? null : window.get(window.size() - 1);
+		} while (window.size() == 2);
+
+		assertThat(ids).hasSize(5).doesNotHaveDuplicates().isSortedAccordingTo(Comparator.reverseOrder());
+	}
+
+	@Test
+	void bookSummariesReadAuthorsForTheWholePage() {
+		PagedResponse<BookSummaryDto> page = summaryQueryRepository.findBookSummaries(0, BOOKS);
+
+		assertThat(page.items()).hasSize(BOOKS);
+		assertThat(page.items().get(1).authors()).extracting(a -> a.fullName()).containsExactly("Author No1", "Author No2");
+		assertThat(page.items().get(1).authors().get(0).bookCount()).isEqualTo(16);
+		assertThat(page.items().get(1).category().name()).isEqualTo("Fiction");
+		// rows, count, authors
+		assertThat(statements()).isLessThanOrEqualTo(3);
+		assertThat(statistics.getEntityLoadCount()).isZero();
+	}
+
+	@Test
+	void memberSummariesSumPenaltiesInTheQuery() {
+		PagedResponse<MemberSummaryDto> page = summaryQueryRepository.findMemberSummariesByLibrary(library.getId(), 0, MEMBERS);
+
+		assertThat(page.items()).hasSize(MEMBERS);
+		assertThat(page.items().get(0).fullName()).isEqualTo("Member No0");
+		assertThat(page.items().get(0).totalPenaltyDays()).isEqualTo(15);
+		assertThat(statements()).isLessThanOrEqualTo(2);
+		assertThat(statistics.getEntityLoadCount()).isZero();
+	}
+
+	@Test
+	void flatSummariesAreSingleQueries() {
+		assertThat(summaryQueryRepository.findBookCopySummariesByLibrary(library.getId(), 0, BOOKS).items())
+				.hasSize(BOOKS)
+				.first().satisfies(copy -> assertThat(copy.status()).isEqualTo(BookStatus.ON_LOAN.name()));
+		assertThat(summaryQueryRepository.findLoanSummariesByMember(firstMember.getId(), LoanStatus.ACTIVE, 0, BOOKS).items())
+				.isNotEmpty()
+				.allSatisfy(loan -> assertThat(loan.memberName()).isEqualTo("Member No0"));
+		assertThat(summaryQueryRepository.findCategorySummaries(0, 10).items()).hasSize(1);
+		assertThat(summaryQueryRepository.findLibrarySummaries(0, 10).items()).hasSize(1);
+		assertThat(summaryQueryRepository.findMemberSummaries(0, MEMBERS).totalElements()).isEqualTo(MEMBERS);
+		assertThat(summaryQueryRepository.findBookSummariesByTitle("book 1", 0, BOOKS).items()).hasSize(11);
+		assertThat(summaryQueryRepository.findReservationSummariesByStatus(ReservationStatus.ACTIVE, 0, 10).items()).isEmpty();
+		assertThat(statistics.getEntityLoadCount()).isZero();
+	}
+
+	@Test
+	void exportsStreamFilteredRowsWithoutLoadingEntities() {
+		UserEntity clerk = seedExportFixtures();
+		GetAllLoansQuery returned = new GetAllLoansQuery();
+		returned.setStatus("returned");
+		returned.setMemberId(firstMember.getId());
+		List<LoanExportRow> rows = new ArrayList<>();
+
+		assertThat(exportRepository.streamLoans(returned, rows::add)).isEqualTo(5);
+		assertThat(rows).allSatisfy(row -> {
+			assertThat(row.status()).isEqualTo(LoanStatus.RETURNED);
+			assertThat(row.memberName()).isEqualTo("Member No0");
+			assertThat(row.penaltyDays()).isEqualTo(3);
+		});
+		assertThat(rows).extracting(LoanExportRow::loanId).isSorted();
+		assertThat(exportRepository.streamLoans(new GetAllLoansQuery(), row -> { })).isEqualTo(BOOKS);
+
+		GetAllReservationsQuery activeForFirstMember = new GetAllReservationsQuery();
+		activeForFirstMember.setMemberId(firstMember.getId());
+		activeForFirstMember.setStatus("active");
+		activeForFirstMember.setReservedFrom(TODAY.minusDays(3).atTime(12, 0));
+		activeForFirstMember.setReservedTo(TODAY.atStartOfDay());
+		List<ReservationExportRow> reservations = new ArrayList<>();
+		assertThat(exportRepository.streamReservations(activeForFirstMember, reservations::add)).isEqualTo(2);
+		assertThat(reservations).extracting(ReservationExportRow::reservedAt)
+				.containsExactly(TODAY, TODAY.minusDays(2));
+		assertThat(reservations).allSatisfy(row -> {
+			assertThat(row.memberId()).isEqualTo(firstMember.getId());
+			assertThat(row.status()).isEqualTo(ReservationStatus.ACTIVE);
+		});
+		GetAllReservationsQuery byTitle = new GetAllReservationsQuery();
+		byTitle.setSearchTerm("book 5");
+		assertThat(exportRepository.streamReservations(byTitle, row -> { })).isEqualTo(1);
+
+		GetAllAuditLogsQuery loansByClerk = new GetAllAuditLogsQuery();
+		loansByClerk.setAction(AuditAction.LOAN_CREATED);
+		loansByClerk.setPerformedById(clerk.getId());
+		List<AuditLogExportRow> entries = new ArrayList<>();
+		assertThat(exportRepository.streamAuditLogs(loansByClerk, entries::add)).isEqualTo(2);
+		assertThat(entries).allSatisfy(row -> {
+			assertThat(row.action()).isEqualTo("LOAN_CREATED");
+			assertThat(row.performedByEmail()).isEqualTo("clerk@example.com");
+		});
+		GetAllAuditLogsQuery late = new GetAllAuditLogsQuery();
+		late.setSearchTerm("LATE");
+		assertThat(exportRepository.streamAuditLogs(late, entries::add)).isEqualTo(1);
+		assertThat(entries.get(entries.size() - 1).performedById()).isNull();
+
+		assertThat(statements()).isEqualTo(6);
+		assertThat(statistics.getEntityLoadCount()).isZero();
+	}
+
+	/** Reservations of two members and audit entries with and without an actor, committed before counting. */
+	private UserEntity seedExportFixtures() {
+		List<BookCopyEntity> copies = em.createQuery("select c from BookCopyEntity c order by c.id", BookCopyEntity.class)
+				.getResultList();
+		MemberEntity other = em.createQuery("select m from MemberEntity m where m.id <> :id order by m.id", MemberEntity.class)
+				.setParameter("id", firstMember.getId()).setMaxResults(1).getSingleResult();
+		for (int i = 0; i < 6; i++) {
+			ReservationEntity reservation = new ReservationEntity();
+			reservation.setBookCopy(copies.get(i));
+			reservation.setMember(i % 2 == 0 ? em.find(MemberEntity.class, firstMember.getId()) : other);
+			reservation.setReservedAt(TODAY.minusDays(i));
+			reservation.setExpiresAt(TODAY.minusDays(i).plusDays(7));
+			reservation.setStatus(i < 4 ? ReservationStatus.ACTIVE : ReservationStatus.CANCELLED);
+			em.persist(reservation);
+		}
+
+		UserEntity clerk = new UserEntity();
+		clerk.setEmail("clerk@example.com");
+		clerk.setPassword("secret");
+		clerk.setActive(true);
+		em.persist(clerk);
+		String[][] logs = {
+				{"LOAN_CREATED", "clerk", "Loan 1 created"},
+				{"LOAN_RETURNED", "clerk", "Loan 1 returned"},
+				{"LOAN_CREATED", null, "Loan 2 created late by the night desk"},
+				{"LOAN_CREATED", "clerk", "Loan 3 created"}};
+		for (String[] entry : logs) {
+			AuditLogEntity log = new AuditLogEntity();
+			log.setAction(entry[0]);
+			log.setPerformedBy(entry[1] != null ? clerk : null);
+			log.setEntityType("Loan");
+			log.setEntityId("1");
+			log.setOccurredAt(TODAY.atTime(9, 0));
+			log.setSuccess(true);
+			log.setMessage(entry[2]);
+			em.persist(log);
+		}
+		em.flush();
+		em.clear();
+		statistics.clear();
+		return clerk;
+	}
+
+	private long statements() {
+		return statistics.getPrepareStatementCount();
+	}
+}
@@ -0,0 +1,230 @@
+package com.jikkosoft.library.infrastructure.popularity;
+
+import com.jikkosoft.library.application.port.persistence.LoanRepository;
+import com.jikkosoft.library.application.port.service.ClockPort;
+import com.jikkosoft.library.application.port.tx.TransactionalPort;
+import com.jikkosoft.library.domain.enums.BookStatus;
+import com.jikkosoft.library.domain.model.Author;
+import com.jikkosoft.library.domain.model.Book;
+import com.jikkosoft.library.domain.model.BookCopy;
+import com.jikkosoft.library.domain.model.Category;
+import com.jikkosoft.library.domain.model.Library;
+import com.jikkosoft.library.domain.model.Loan;
+import com.jikkosoft.library.domain.model.Member;
+import com.jikkosoft.library.domain.vo.CopyNumber;
+import com.jikkosoft.library.domain.vo.Email;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Ranking accuracy, window expiry, persistence and after-commit counting of the popular-books tracker.
+ */
+class PopularityTrackerTest {
+
+	private static final LocalDateTime T0 = LocalDateTime.of(2025, 3, 3, 9, 0);
+	private static final Duration WEEK = Duration.ofDays(7);
+
+	@TempDir
+	Path dir;
+
+	private final MutableClock clock = new MutableClock();
+	private PopularityTracker tracker;
+
+	@BeforeEach
+	void setUp() {
+		clock.now = T0;
+		tracker = newTracker();
+	}
+
+	@Test
+	void ranksHeavyHittersPerLibraryAndCategoryDespiteALongTail() {
+		Random random = new Random(42);
+		for (int i = 0; i < 20_000; i++) {
+			tracker.record(1L, 10L, 1_000 + random.nextInt(5_000), T0);
+		}
+		loans(1L, 10L, 7L, 300);
+		loans(1L, 10L, 8L, 200);
+		loans(1L, 20L, 9L, 250);
+		loans(2L, 10L, 6L, 500);
+
+		assertThat(tracker.top(1L, 10L, 2, WEEK, T0)).extracting(PopularBook::bookId).containsExactly(7L, 8L);
+		assertThat(tracker.top(1L, null, 3, WEEK, T0)).extracting(PopularBook::bookId).containsExactly(7L, 9L, 8L);
+		assertThat(tracker.top(1L, 20L, 5, WEEK, T0)).extracting(PopularBook::bookId).containsExactly(9L);
+		assertThat(tracker.top(2L, null, 5, WEEK, T0)).extracting(PopularBook::bookId).containsExactly(6L);
+		// estimates never undercount and stay within the e * N / width error bound
+		assertThat(tracker.top(1L, 10L, 1, WEEK, T0).get(0).loans()).isBetween(300L, 330L);
+		assertThat(tracker.top(1L, 20L, 1, WEEK, T0).get(0).loans()).isBetween(250L, 280L);
+	}
+
+	@Test
+	void loansLeaveTheWindowAsTimeMovesOn() {
+		loans(1L, 10L, 7L, 5);
+		tracker.record(1L, 10L, 8L, T0.plusDays(3));
+		tracker.record(1L, 10L, 8L, T0.plusDays(3));
+
+		assertThat(tracker.top(1L, 10L, 5, WEEK, T0.plusDays(3)))
+				.containsExactly(new PopularBook(7L, 5), new PopularBook(8L, 2));
+		assertThat(tracker.top(1L, 10L, 5, Duration.ofDays(1), T0.plusDays(3)))
+				.containsExactly(new PopularBook(8L, 2));
+		assertThat(tracker.top(1L, 10L, 5, WEEK, T0.plusDays(8))).containsExactly(new PopularBook(8L, 2));
+
+		tracker.record(1L, 10L, 9L, T0.plusDays(14));
+		assertThat(tracker.top(1L, 10L, 5, WEEK, T0.plusDays(14))).containsExactly(new PopularBook(9L, 1));
+		assertThatThrownBy(() -> tracker.top(1L, 10L, 5, Duration.ofDays(8), T0))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> tracker.top(1L, 10L, 51, WEEK, T0))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void snapshotRestoresRankingsAndDropsExpiredBuckets() {
+		PopularitySnapshotStore store = new PopularitySnapshotStore(dir.resolve("popularity.snap"));
+		loans(1L, 10L, 7L, 3);
+		tracker.record(1L, 10L, 8L, T0.plusDays(2));
+		store.save(tracker);
+		assertThat(tracker.isDirty()).isFalse();
+
+		PopularityTracker restored = newTracker();
+		assertThat(store.load(restored, T0.plusDays(2))).isTrue();
+		assertThat(restored.top(1L, null, 5, WEEK, T0.plusDays(2)))
+				.containsExactly(new PopularBook(7L, 3), new PopularBook(8L, 1));
+
+		PopularityTracker later = newTracker();
+		assertThat(store.load(later, T0.plusDays(8))).isTrue();
+		assertThat(later.top(1L, null, 5, WEEK, T0.plusDays(8))).containsExactly(new PopularBook(8L, 1));
+
+		PopularityTracker resized = new PopularityTracker(Duration.ofHours(1), WEEK, 1024, 4, 50);
+		assertThat(store.load(resized, T0)).isFalse();
+		assertThat(new PopularitySnapshotStore(dir.resolve("missing.snap")).load(newTracker(), T0)).isFalse();
+	}
+
+	@Test
+	void countsCommittedLoansAndSnapshotsOnShutdown() {
+		Path file = dir.resolve("popularity.snap");
+		PopularityService service = new PopularityService(tracker, new PopularitySnapshotStore(file), clock);
+		DeferredTransactionalPort tx = new DeferredTransactionalPort();
+		LoanRepository delegate = mock(LoanRepository.class);
+		when(delegate.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+		when(delegate.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+		PopularityLoanRepository loans = new PopularityLoanRepository(delegate, service, tx);
+		service.start();
+		try {
+			loans.save(loan(null, 7L, 10L));
+			loans.saveAll(List.of(loan(null, 7L, 10L), loan(null, 8L, null), loan(5L, 9L, 10L)));
+			assertThat(service.topBooks(1L, null, 5, WEEK)).as("counted before commit").isEmpty();
+			tx.commit();
+
+			loans.save(loan(null, 9L, 10L));
+			loans.saveAll(List.of(loan(null, 9L, 10L), loan(null, 9L, 10L)));
+			tx.rollback();
+		} finally {
+			service.stop();
+		}
+
+		assertThat(service.topBooks(1L, null, 5, WEEK))
+				.containsExactly(new PopularBook(7L, 2), new PopularBook(8L, 1));
+		assertThat(service.topBooks(1L, 10L, 5, WEEK)).containsExactly(new PopularBook(7L, 2));
+
+		PopularityService restarted = new PopularityService(newTracker(), new PopularitySnapshotStore(file), clock);
+		restarted.start();
+		try {
+			assertThat(restarted.topBooks(1L, null, 5, WEEK)).hasSize(2);
+		} finally {
+			restarted.stop();
+		}
+	}
+
+	private void loans(long libraryId, Long categoryId, long bookId, int times) {
+		for (int i = 0; i < times; i++) {
+			tracker.record(libraryId, categoryId, bookId, T0);
+		}
+	}
+
+	private static PopularityTracker newTracker() {
+		return new PopularityTracker(Duration.ofHours(1), WEEK, 4096, 4, 50);
+	}
+
+	private static Loan loan(Long id, long bookId, Long categoryId) {
+		Category category = categoryId != null
+				? new Category.Builder().id(categoryId).name("Fiction").maxLoanDays(14).penaltyPerDay(1).build()
+				: new Category.Builder().name("Fiction").maxLoanDays(14).penaltyPerDay(1).build();
+		Author author = new Author.Builder().id(1L).firstName("Frank").lastName("Herbert").nationality("US").build();
+		Book book = new Book.Builder().id(bookId).isbnValue("9780306406157").title("Dune")
+				.authors(List.of(author)).publicationYear(2010).category(category).build();
+		Library library = new Library.Builder().id(1L).name("Central").address("Main St 1").build();
+		BookCopy copy = new BookCopy.Builder().id(bookId).book(book).library(library).copyNumber(new CopyNumber(1))
+				.barcode("BC-" + bookId).shelfLocation("A1").status(BookStatus.AVAILABLE).version(0L).build();
+		Member member = new Member.Builder().id(1L).firstName("Ada").lastName("Lovelace")
+				.email(new Email("ada@example.com")).build();
+		return new Loan.Builder().id(id).bookCopy(copy).member(member)
+				.loanDate(LocalDate.of(2025, 3, 3)).dueDate(LocalDate.of(2025, 3, 17)).build();
+	}
+
+	/** Holds after-commit actions until the test commits or rolls back. */
+	private static final class DeferredTransactionalPort implements TransactionalPort {
+
+		private final List<Runnable> pending = new ArrayList<>();
+
+		@Override
+		public void inTransaction(Runnable runnable) {
+			runnable.run();
+		}
+
+		@Override
+		public <T> T inTransactionReturning(Supplier<T> supplier) {
+			return supplier.get();
+		}
+
+		@Override
+		public <T> T inNewTransactionReturning(Supplier<T> supplier) {
+			return supplier.get();
+		}
+
+		@Override
+		public void afterCommit(Runnable action) {
+			pending.add(action);
+		}
+
+		void commit() {
+			List<Runnable> actions = List.copyOf(pending);
+			pending.clear();
+			actions.forEach(Runnable::run);
+		}
+
+		void rollback() {
+			pending.clear();
+		}
+	}
+
+	private static final class MutableClock implements ClockPort {
+
+		private volatile LocalDateTime now;
+
+		@Override
+		public LocalDate today() {
+			return now.toLocalDate();
+		}
+
+		@Override
+		public LocalDateTime now() {
+			return now;
+		}
+	}
+}
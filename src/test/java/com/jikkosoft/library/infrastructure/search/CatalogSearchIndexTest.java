@@ -0,0 +1,205 @@
+package com.jikkosoft.library.infrastructure.search;
+
+import com.jikkosoft.library.application.common.CursorRequest;
+import com.jikkosoft.library.application.common.CursorResponse;
+import com.jikkosoft.library.application.common.PagedResponse;
+import com.jikkosoft.library.application.port.persistence.BookRepository;
+import com.jikkosoft.library.application.port.persistence.BookRepository.CatalogWatermark;
+import com.jikkosoft.library.application.port.tx.TransactionalPort;
+import com.jikkosoft.library.domain.model.Author;
+import com.jikkosoft.library.domain.model.Book;
+import com.jikkosoft.library.domain.model.Category;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Ranking, incremental updates and segment persistence of the catalog search index.
+ */
+class CatalogSearchIndexTest {
+
+	private static final Category CATEGORY = new Category.Builder()
+			.id(1L).name("Fiction").maxLoanDays(14).penaltyPerDay(1).build();
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void ranksTitleMatchesAboveAuthorMatchesAndFollowsUpdates() {
+		CatalogSearchIndex index = new CatalogSearchIndex();
+		index.index(book(1L, "The Silent Garden", "Ann", "Rivers"));
+		index.index(book(2L, "Rivers of Time", "Paul", "Stone"));
+		index.index(book(3L, "Cooking Basics", "Mia", "Hart"));
+
+		assertThat(index.search("rivers", 0, 10).items()).containsExactly(2L, 1L);
+		assertThat(index.search("garden cooking", 0, 10).items()).containsExactlyInAnyOrder(1L, 3L);
+		assertThat(index.search("riv", 0, 10).items()).isEmpty();
+
+		index.index(book(2L, "Mountains of Time", "Paul", "Stone"));
+		index.remove(3L);
+		assertThat(index.search("rivers", 0, 10).items()).containsExactly(1L);
+		assertThat(index.search("cooking", 0, 10).items()).isEmpty();
+		assertThat(index.search("mountains", 0, 10).items()).containsExactly(2L);
+		assertThat(index.size()).isEqualTo(2);
+
+		PagedResponse<Long> firstPage = index.search("time garden", 0, 1);
+		assertThat(firstPage.items()).hasSize(1);
+		assertThat(firstPage.totalElements()).isEqualTo(2);
+		assertThat(firstPage.hasNext()).isTrue();
+	}
+
+	@Test
+	void segmentRoundTripsLargeIdsFrequenciesAndWatermark() {
+		CatalogSearchIndex index = new CatalogSearchIndex();
+		long largeId = 5_000_000_000L;
+		index.index(book(1L, "Time after time", "Ann", "Rivers"));
+		index.index(book(300L, "Rivers", "Paul", "Stone"));
+		index.index(book(largeId, "Time Rivers", "Mia", "Hart"));
+		SearchSegmentStore store = new SearchSegmentStore(dir.resolve("catalog.seg"));
+		store.save(index);
+		assertThat(index.isDirty()).isFalse();
+
+		CatalogSearchIndex restored = new CatalogSearchIndex();
+		assertThat(store.load(restored)).isTrue();
+		assertThat(restored.size()).isEqualTo(3);
+		assertThat(restored.watermark()).isEqualTo(index.watermark());
+		assertThat(restored.watermark().maxId()).isEqualTo(largeId);
+		assertThat(restored.search("time", 0, 10).items()).isEqualTo(index.search("time", 0, 10).items());
+		assertThat(restored.search("rivers", 0, 10).items()).isEqualTo(index.search("rivers", 0, 10).items());
+
+		restored.remove(largeId);
+		assertThat(restored.search("hart", 0, 10).items()).isEmpty();
+	}
+
+	@Test
+	void corruptOrMissingSegmentsAreNotLoaded() throws Exception {
+		Path file = dir.resolve("catalog.seg");
+		SearchSegmentStore store = new SearchSegmentStore(file);
+		assertThat(store.load(new CatalogSearchIndex())).isFalse();
+
+		Files.write(file, new byte[]{0x4C, 0x42, 0x53, 0x58, 0, 0, 0, 1});
+		assertThat(store.load(new CatalogSearchIndex())).isFalse();
+
+		CatalogSearchIndex index = new CatalogSearchIndex();
+		index.index(book(1L, "Rivers", "Ann", "Stone"));
+		store.save(index);
+		byte[] bytes = Files.readAllBytes(file);
+		Files.write(file, Arrays.copyOf(bytes, bytes.length - 3));
+		assertThat(store.load(new CatalogSearchIndex())).isFalse();
+	}
+
+	@Test
+	void staleSegmentIsRebuiltFromTheCatalog() {
+		CatalogSearchIndex snapshot = new CatalogSearchIndex();
+		Book rivers = book(1L, "Rivers", "Ann", "Stone");
+		snapshot.index(rivers);
+		SearchSegmentStore store = new SearchSegmentStore(dir.resolve("catalog.seg"));
+		store.save(snapshot);
+		LocalDateTime snapshotTime = snapshot.watermark().lastUpdatedAt();
+
+		Book garden = book(2L, "Garden", "Mia", "Hart");
+		BookRepository repository = mock(BookRepository.class);
+		when(repository.findAll(any(CursorRequest.class))).thenReturn(CursorResponse.<Book>builder()
+				.items(List.of(rivers, garden)).hasNext(false).build());
+
+		when(repository.watermark()).thenReturn(new CatalogWatermark(1, 1L, snapshotTime));
+		CatalogSearchIndex current = new CatalogSearchIndex();
+		new CatalogSearchLifecycle(current, store, repository).start();
+		verify(repository, never()).findAll(any(CursorRequest.class));
+		assertThat(current.size()).isEqualTo(1);
+
+		when(repository.watermark()).thenReturn(new CatalogWatermark(2, 2L, LocalDateTime.now().plusSeconds(1)));
+		CatalogSearchIndex stale = new CatalogSearchIndex();
+		new CatalogSearchLifecycle(stale, store, repository).start();
+		assertThat(stale.search("garden", 0, 10).items()).containsExactly(2L);
+		assertThat(stale.size()).isEqualTo(2);
+
+		assertThat(CatalogSearchLifecycle.isCurrent(
+				new CatalogWatermark(1, 1L, snapshotTime),
+				new CatalogWatermark(1, 1L, snapshotTime.plusNanos(1)))).isFalse();
+		assertThat(CatalogSearchLifecycle.isCurrent(
+				new CatalogWatermark(2, 2L, snapshotTime),
+				new CatalogWatermark(1, 2L, snapshotTime))).isFalse();
+		assertThat(CatalogSearchLifecycle.isCurrent(
+				new CatalogWatermark(0, null, null), new CatalogWatermark(0, null, null))).isTrue();
+	}
+
+	@Test
+	void substringSearchKeepsItsContractAndIndexFollowsCommits() {
+		BookRepository delegate = mock(BookRepository.class);
+		PagedResponse<Book> substring = PagedResponse.<Book>builder().items(List.of()).build();
+		when(delegate.findByTitleLike("harr", 0, 10)).thenReturn(substring);
+		Book rivers = book(1L, "Rivers", "Ann", "Stone");
+		when(delegate.save(rivers)).thenReturn(rivers);
+		when(delegate.findAllByIds(List.of(1L))).thenReturn(List.of(rivers));
+		DeferredTransactionalPort tx = new DeferredTransactionalPort();
+		CatalogSearchIndex index = new CatalogSearchIndex();
+		SearchIndexedBookRepository repository = new SearchIndexedBookRepository(delegate, index, tx);
+
+		assertThat(repository.findByTitleLike("harr", 0, 10)).isSameAs(substring);
+
+		repository.save(rivers);
+		assertThat(repository.searchCatalog("rivers", 0, 10).items()).isEmpty();
+		tx.commit();
+		assertThat(repository.searchCatalog("rivers", 0, 10).items()).containsExactly(rivers);
+
+		repository.logicalDeleteById(1L);
+		tx.rollback();
+		assertThat(index.search("rivers", 0, 10).items()).containsExactly(1L);
+	}
+
+	private static Book book(long id, String title, String firstName, String lastName) {
+		Author author = new Author.Builder().id(id).firstName(firstName).lastName(lastName).nationality("US").build();
+		return new Book.Builder().id(id).isbnValue("9780306406157").title(title)
+				.authors(List.of(author)).publicationYear(2010).category(CATEGORY).build();
+	}
+
+	/** Holds after-commit actions until the test commits or rolls back. */
+	private static final class DeferredTransactionalPort implements TransactionalPort {
+
+		private final List<Runnable> pending = new ArrayList<>();
+
+		@Override
+		public void inTransaction(Runnable runnable) {
+			runnable.run();
+		}
+
+		@Override
+		public <T> T inTransactionReturning(Supplier<T> supplier) {
+			return supplier.get();
+		}
+
+		@Override
+		public <T> T inNewTransactionReturning(Supplier<T> supplier) {
+			return supplier.get();
+		}
+
+		@Override
+		public void afterCommit(Runnable action) {
+			pending.add(action);
+		}
+
+		void commit() {
+			pending.forEach(Runnable::run);
+			pending.clear();
+		}
+
+		void rollback() {
+			pending.clear();
+		}
+	}
+}
@@ -0,0 +1,174 @@
+package com.jikkosoft.library.infrastructure.search.autocomplete;
+
+import com.jikkosoft.library.application.port.persistence.LoanRepository;
+import com.jikkosoft.library.application.port.tx.TransactionalPort;
+import com.jikkosoft.library.domain.enums.BookStatus;
+import com.jikkosoft.library.domain.model.Author;
+import com.jikkosoft.library.domain.model.Book;
+import com.jikkosoft.library.domain.model.BookCopy;
+import com.jikkosoft.library.domain.model.Category;
+import com.jikkosoft.library.domain.model.Library;
+import com.jikkosoft.library.domain.model.Loan;
+import com.jikkosoft.library.domain.model.Member;
+import com.jikkosoft.library.domain.vo.CopyNumber;
+import com.jikkosoft.library.domain.vo.Email;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Prefix matching, top-k ordering and loan popularity of the typeahead.
+ */
+class AutocompleteTest {
+
+	private static final LocalDate TODAY = LocalDate.of(2025, 3, 3);
+
+	@Test
+	void completesEveryWordStartRankedByScoreThenLabel() {
+		CompletionTrie trie = new CompletionTrie(3);
+		trie.upsert(1L, "Cien años de soledad");
+		trie.upsert(2L, "Soledad");
+		trie.upsert(3L, "Solaris");
+		trie.upsert(4L, "Dune");
+
+		assertThat(labels(trie.complete("sol", 10, CompletionKind.BOOK)))
+				.containsExactly("Cien años de soledad", "Solaris", "Soledad");
+		assertThat(labels(trie.complete("años de", 10, CompletionKind.BOOK))).containsExactly("Cien años de soledad");
+		assertThat(trie.complete("", 10, CompletionKind.BOOK)).isEmpty();
+		assertThat(trie.complete("xyz", 10, CompletionKind.BOOK)).isEmpty();
+
+		trie.addScore(2L, 5);
+		trie.addScore(3L, 2);
+		assertThat(trie.complete("sol", 10, CompletionKind.BOOK))
+				.extracting(Completion::id, Completion::score)
+				.containsExactly(tuple(2L, 5L),
+						tuple(3L, 2L),
+						tuple(1L, 0L));
+		assertThat(labels(trie.complete("sol", 2, CompletionKind.BOOK))).containsExactly("Soledad", "Solaris");
+	}
+
+	@Test
+	void cachedTopListsFollowPromotionsRemovalsAndRenames() {
+		CompletionTrie trie = new CompletionTrie(2);
+		trie.upsert(1L, "Atlas");
+		trie.upsert(2L, "Atlantis");
+		trie.upsert(3L, "Atom");
+		trie.addScore(1L, 3);
+		trie.addScore(2L, 2);
+		assertThat(ids(trie.complete("at", 5, CompletionKind.BOOK))).containsExactly(1L, 2L);
+
+		trie.addScore(3L, 10);
+		assertThat(ids(trie.complete("at", 5, CompletionKind.BOOK))).containsExactly(3L, 1L);
+
+		trie.remove(3L);
+		assertThat(ids(trie.complete("at", 5, CompletionKind.BOOK))).containsExactly(1L, 2L);
+
+		trie.upsert(1L, "Mapping the World");
+		assertThat(ids(trie.complete("at", 5, CompletionKind.BOOK))).containsExactly(2L);
+		assertThat(trie.complete("map", 5, CompletionKind.BOOK))
+				.extracting(Completion::score).containsExactly(3L);
+		assertThat(trie.size()).isEqualTo(2);
+	}
+
+	@Test
+	void loansCountOnlyOnceTheirTransactionCommits() {
+		AutocompleteService service = new AutocompleteService(5, null, null, null);
+		Book book = book();
+		service.indexBook(book);
+		Member member = new Member.Builder().id(1L).firstName("Ada").lastName("Lovelace")
+				.email(new Email("ada@example.com")).build();
+		service.indexMember(member);
+
+		LoanRepository delegate = mock(LoanRepository.class);
+		when(delegate.save(any(Loan.class))).thenAnswer(invocation -> invocation.getArgument(0));
+		DeferredTransactionalPort tx = new DeferredTransactionalPort();
+		AutocompleteLoanRepository loans = new AutocompleteLoanRepository(delegate, service, tx);
+
+		loans.save(loan(book, member, null));
+		tx.rollback();
+		assertThat(scores(service, "dune")).containsExactly(0L);
+
+		loans.save(loan(book, member, null));
+		loans.save(loan(book, member, 7L));
+		assertThat(scores(service, "dune")).containsExactly(0L);
+		tx.commit();
+
+		assertThat(scores(service, "dune")).containsExactly(1L);
+		assertThat(service.complete("frank", 5, Set.of(CompletionKind.AUTHOR)))
+				.extracting(Completion::score).containsExactly(1L);
+		assertThat(service.complete("ada", 5, Set.of(CompletionKind.MEMBER)))
+				.extracting(Completion::score).containsExactly(1L);
+	}
+
+	private static List<Long> scores(AutocompleteService service, String prefix) {
+		return service.complete(prefix, 5, Set.of(CompletionKind.BOOK)).stream().map(Completion::score).toList();
+	}
+
+	private static List<String> labels(List<Completion> completions) {
+		return completions.stream().map(Completion::label).toList();
+	}
+
+	private static List<Long> ids(List<Completion> completions) {
+		return completions.stream().map(Completion::id).toList();
+	}
+
+	private static Book book() {
+		Category category = new Category.Builder().id(1L).name("Fiction").maxLoanDays(14).penaltyPerDay(1).build();
+		Author author = new Author.Builder().id(1L).firstName("Frank").lastName("Herbert").nationality("US").build();
+		return new Book.Builder().id(1L).isbnValue("9780306406157").title("Dune")
+				.authors(List.of(author)).publicationYear(2010).category(category).build();
+	}
+
+	private static Loan loan(Book book, Member member, Long id) {
+		Library library = new Library.Builder().id(1L).name("Central").address("Main St 1").build();
+		BookCopy copy = new BookCopy.Builder().id(1L).book(book).library(library).copyNumber(new CopyNumber(1))
+				.barcode("BC-1").shelfLocation("A1").status(BookStatus.AVAILABLE).version(0L).build();
+		return new Loan.Builder().id(id).bookCopy(copy).member(member).loanDate(TODAY).dueDate(TODAY.plusDays(14))
+				.build();
+	}
+
+	/** Holds after-commit actions until the test commits or rolls back. */
+	private static final class DeferredTransactionalPort implements TransactionalPort {
+
+		private final List<Runnable> pending = new ArrayList<>();
+
+		@Override
+		public void inTransaction(Runnable runnable) {
+			runnable.run();
+		}
+
+		@Override
+		public <T> T inTransactionReturning(Supplier<T> supplier) {
+			return supplier.get();
+		}
+
+		@Override
+		public <T> T inNewTransactionReturning(Supplier<T> supplier) {
+			return supplier.get();
+		}
+
+		@Override
+		public void afterCommit(Runnable action) {
+			pending.add(action);
+		}
+
+		void commit() {
+			pending.forEach(Runnable::run);
+			pending.clear();
+		}
+
+		void rollback() {
+			pending.clear();
+		}
+	}
+}
@@ -0,0 +1,116 @@
+package com.jikkosoft.library.infrastructure.threading;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Permit accounting of {@link ConnectionLimitingDataSource}, over a stub data source.
+ */
+class ConnectionLimitingDataSourceTest {
+
+	private final StubDataSource target = new StubDataSource();
+
+	@Test
+	void waitsForAPermitAndTimesOutWhenNoneFreesUp() throws SQLException {
+		ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(target, 2, Duration.ofMillis(50));
+		Connection first = dataSource.getConnection();
+		dataSource.getConnection();
+
+		assertThatThrownBy(dataSource::getConnection)
+				.isInstanceOf(SQLTransientConnectionException.class)
+				.hasMessageContaining("2 in use");
+
+		first.close();
+		assertThat(dataSource.getConnection()).isNotNull();
+		assertThat(dataSource.inUse()).isEqualTo(2);
+	}
+
+	@Test
+	void closingTwiceReleasesOnePermit() throws SQLException {
+		ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(target, 2, Duration.ZERO);
+		Connection connection = dataSource.getConnection();
+		dataSource.getConnection();
+
+		connection.close();
+		connection.close();
+
+		assertThat(dataSource.inUse()).isEqualTo(1);
+		assertThat(target.closed.get()).isEqualTo(2);
+	}
+
+	@Test
+	void failedConnectAttemptsGiveThePermitBack() {
+		ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(target, 1, Duration.ZERO);
+		target.failing = true;
+
+		assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLException.class).hasMessage("database down");
+
+		assertThat(dataSource.inUse()).isZero();
+	}
+
+	@Test
+	void neverHasMoreConnectionsOpenThanPermits() throws Exception {
+		ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(target, 3, Duration.ofSeconds(10));
+		ExecutorService threads = Executors.newFixedThreadPool(32);
+		try {
+			List<Future<?>> sessions = new ArrayList<>();
+			for (int i = 0; i < 200; i++) {
+				sessions.add(threads.submit(() -> {
+					try (Connection ignored = dataSource.getConnection()) {
+						Thread.sleep(1);
+					}
+					return null;
+				}));
+			}
+			for (Future<?> session : sessions) session.get();
+		} finally {
+			threads.shutdownNow();
+		}
+
+		assertThat(target.maxOpen.get()).isEqualTo(3);
+		assertThat(dataSource.inUse()).isZero();
+	}
+
+	/** Hands out stub connections and tracks how many are open at once. */
+	private static final class StubDataSource extends AbstractDataSource {
+
+		private final AtomicInteger open = new AtomicInteger();
+		private final AtomicInteger maxOpen = new AtomicInteger();
+		private final AtomicInteger closed = new AtomicInteger();
+		private volatile boolean failing;
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			if (failing) throw new SQLException("database down");
+			maxOpen.accumulateAndGet(open.incrementAndGet(), Math::max);
+			return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+					new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+						if (method.getName().equals("close")) {
+							open.decrementAndGet();
+							closed.incrementAndGet();
+						}
+						return null;
+					});
+		}
+
+		@Override
+		public Connection getConnection(String username, String password) throws SQLException {
+			return getConnection();
+		}
+	}
+}
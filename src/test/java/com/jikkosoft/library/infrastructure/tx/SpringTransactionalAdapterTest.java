@@ -0,0 +1,68 @@
+package com.jikkosoft.library.infrastructure.tx;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * After-commit actions and independent transactions of the Spring transactional adapter, over H2.
+ */
+class SpringTransactionalAdapterTest {
+
+	private EmbeddedDatabase database;
+	private JdbcTemplate jdbc;
+	private SpringTransactionalAdapter tx;
+
+	@BeforeEach
+	void setUp() {
+		database = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).generateUniqueName(true).build();
+		jdbc = new JdbcTemplate(database);
+		jdbc.execute("create table note (text varchar(20))");
+		tx = new SpringTransactionalAdapter(new DataSourceTransactionManager(database));
+	}
+
+	@AfterEach
+	void tearDown() {
+		database.shutdown();
+	}
+
+	@Test
+	void afterCommitActionsRunOnlyForCommittedWorkAndCanWriteInANewTransaction() {
+		assertThatThrownBy(() -> tx.inTransaction(() -> {
+			insert("outer-1");
+			tx.afterCommit(() -> insert("follow-up-1"));
+			throw new IllegalStateException("rolled back");
+		})).hasMessage("rolled back");
+		assertThat(notes()).isEmpty();
+
+		tx.inTransaction(() -> {
+			insert("outer-2");
+			tx.afterCommit(() -> tx.inNewTransactionReturning(() -> insert("follow-up-2")));
+			tx.afterCommit(() -> tx.inNewTransactionReturning(() -> {
+				insert("follow-up-3");
+				throw new IllegalStateException("follow-up failed");
+			}));
+			assertThat(notes()).as("visible before commit").containsExactly("outer-2");
+		});
+
+		assertThat(notes()).containsExactlyInAnyOrder("outer-2", "follow-up-2");
+	}
+
+	private int insert(String text) {
+		return jdbc.update("insert into note (text) values (?)", text);
+	}
+
+	private List<String> notes() {
+		return jdbc.queryForList("select text from note order by text", String.class);
+	}
+}